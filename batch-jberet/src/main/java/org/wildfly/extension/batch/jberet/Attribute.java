@@ -32,13 +32,19 @@ public enum Attribute {
     DATA_SOURCE("data-source"),
     NAME("name"),
     VALUE("value"),
-    EXECUTION_RECORDS_LIMIT("execution-records-limit");
+    EXECUTION_RECORDS_LIMIT("execution-records-limit"),
+    MAX_COMPLETED_EXECUTIONS("max-completed-executions"),
+    COMPLETED_EXECUTION_MAX_AGE("completed-execution-max-age"),
+    MAX_COALESCED_CHECKPOINTS("max-coalesced-checkpoints");
 
     private static final Map<String, Attribute> MAP = Map.of(
             DATA_SOURCE.name, DATA_SOURCE,
             NAME.name, NAME,
             VALUE.name, VALUE,
-            EXECUTION_RECORDS_LIMIT.name, EXECUTION_RECORDS_LIMIT);
+            EXECUTION_RECORDS_LIMIT.name, EXECUTION_RECORDS_LIMIT,
+            MAX_COMPLETED_EXECUTIONS.name, MAX_COMPLETED_EXECUTIONS,
+            COMPLETED_EXECUTION_MAX_AGE.name, COMPLETED_EXECUTION_MAX_AGE,
+            MAX_COALESCED_CHECKPOINTS.name, MAX_COALESCED_CHECKPOINTS);
 
     private final String name;
 
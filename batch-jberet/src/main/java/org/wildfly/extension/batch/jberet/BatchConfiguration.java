@@ -18,6 +18,7 @@ package org.wildfly.extension.batch.jberet;
 
 import org.jberet.repository.JobRepository;
 import org.jberet.spi.JobExecutor;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
 import org.wildfly.security.auth.server.SecurityDomain;
 
 /**
@@ -55,4 +56,14 @@ public interface BatchConfiguration {
      * @return the security domain or {@code null} if not defined
      */
     SecurityDomain getSecurityDomain();
+
+    /**
+     * Returns the factory of the command dispatchers used to distribute the partitions of partitioned steps across
+     * a cluster, if a partition channel is defined.
+     *
+     * @return the command dispatcher factory or {@code null} if partitions should only execute locally
+     */
+    default CommandDispatcherFactory getPartitionDispatcherFactory() {
+        return null;
+    }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
 import org.wildfly.security.auth.server.SecurityDomain;
 
 import java.util.function.Consumer;
@@ -39,16 +40,19 @@ class BatchConfigurationService implements BatchConfiguration, Service<BatchConf
     private final Supplier<JobRepository> jobRepositorySupplier;
     private final Supplier<JobExecutor> jobExecutorSupplier;
     private final Supplier<SecurityDomain> securityDomainSupplier;
+    private final Supplier<CommandDispatcherFactory> commandDispatcherFactorySupplier;
     private volatile boolean restartOnResume;
 
     BatchConfigurationService(final Consumer<BatchConfiguration> batchConfigurationConsumer,
                               final Supplier<JobRepository> jobRepositorySupplier,
                               final Supplier<JobExecutor> jobExecutorSupplier,
-                              final Supplier<SecurityDomain> securityDomainSupplier) {
+                              final Supplier<SecurityDomain> securityDomainSupplier,
+                              final Supplier<CommandDispatcherFactory> commandDispatcherFactorySupplier) {
         this.batchConfigurationConsumer = batchConfigurationConsumer;
         this.jobRepositorySupplier = jobRepositorySupplier;
         this.jobExecutorSupplier = jobExecutorSupplier;
         this.securityDomainSupplier = securityDomainSupplier;
+        this.commandDispatcherFactorySupplier = commandDispatcherFactorySupplier;
     }
 
     @Override
@@ -75,6 +79,11 @@ class BatchConfigurationService implements BatchConfiguration, Service<BatchConf
         return securityDomainSupplier != null ? securityDomainSupplier.get() : null;
     }
 
+    @Override
+    public CommandDispatcherFactory getPartitionDispatcherFactory() {
+        return commandDispatcherFactorySupplier != null ? commandDispatcherFactorySupplier.get() : null;
+    }
+
     @Override
     public void start(final StartContext context) throws StartException {
         batchConfigurationConsumer.accept(this);
@@ -47,9 +47,21 @@ public class BatchExtensionTransformerRegistration implements ExtensionTransform
     public void registerTransformers(SubsystemTransformerRegistration registration) {
         ChainedTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(registration.getCurrentSubsystemVersion());
 
+        registerV4Transformers(builder.createBuilder(BatchSubsystemExtension.VERSION_4_0_0, BatchSubsystemExtension.VERSION_3_0_0));
         registerV3Transformers(builder.createBuilder(BatchSubsystemExtension.VERSION_3_0_0, BatchSubsystemExtension.VERSION_2_0_0));
 
-        builder.buildAndRegister(registration, new ModelVersion[] {BatchSubsystemExtension.VERSION_1_0_0, BatchSubsystemExtension.VERSION_2_0_0, BatchSubsystemExtension.VERSION_3_0_0});
+        builder.buildAndRegister(registration, new ModelVersion[] {BatchSubsystemExtension.VERSION_1_0_0, BatchSubsystemExtension.VERSION_2_0_0, BatchSubsystemExtension.VERSION_3_0_0, BatchSubsystemExtension.VERSION_4_0_0});
+    }
+
+    private static void registerV4Transformers(ResourceTransformationDescriptionBuilder subsystem) {
+        rejectAttribute(subsystem, BatchSubsystemDefinition.PARTITION_CHANNEL);
+
+        ResourceTransformationDescriptionBuilder inMemoryJobRepository = subsystem.addChildResource(InMemoryJobRepositoryDefinition.PATH);
+        rejectAttribute(inMemoryJobRepository, InMemoryJobRepositoryDefinition.MAX_COMPLETED_EXECUTIONS);
+        rejectAttribute(inMemoryJobRepository, InMemoryJobRepositoryDefinition.COMPLETED_EXECUTION_MAX_AGE);
+
+        ResourceTransformationDescriptionBuilder jdbcJobRepository = subsystem.addChildResource(JdbcJobRepositoryDefinition.PATH);
+        rejectAttribute(jdbcJobRepository, JdbcJobRepositoryDefinition.MAX_COALESCED_CHECKPOINTS);
     }
 
     private static void registerV3Transformers(ResourceTransformationDescriptionBuilder subsystem) {
@@ -57,6 +57,8 @@ import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+import org.wildfly.clustering.server.service.ClusteringRequirement;
 import org.wildfly.extension.batch.jberet._private.Capabilities;
 import org.wildfly.extension.batch.jberet.deployment.BatchAttachments;
 import org.wildfly.extension.batch.jberet.deployment.BatchCleanupProcessor;
@@ -110,6 +112,14 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
             .setAccessConstraints(SensitiveTargetAccessConstraintDefinition.ELYTRON_SECURITY_DOMAIN_REF)
             .build();
 
+    static final SimpleAttributeDefinition PARTITION_CHANNEL = SimpleAttributeDefinitionBuilder.create("partition-channel", ModelType.STRING, true)
+            .setAllowExpression(false)
+            .setAttributeGroup("environment")
+            .setAttributeMarshaller(AttributeMarshallers.NAMED)
+            .setCapabilityReference(ClusteringRequirement.COMMAND_DISPATCHER_FACTORY.getName(), Capabilities.BATCH_CONFIGURATION_CAPABILITY)
+            .setRestartAllServices()
+            .build();
+
     private final boolean registerRuntimeOnly;
 
     BatchSubsystemDefinition(final boolean registerRuntimeOnly) {
@@ -142,10 +152,11 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
     @Override
     public void registerAttributes(final ManagementResourceRegistration resourceRegistration) {
         super.registerAttributes(resourceRegistration);
-        final OperationStepHandler writeHandler = new ReloadRequiredWriteAttributeHandler(DEFAULT_JOB_REPOSITORY, DEFAULT_THREAD_POOL, SECURITY_DOMAIN);
+        final OperationStepHandler writeHandler = new ReloadRequiredWriteAttributeHandler(DEFAULT_JOB_REPOSITORY, DEFAULT_THREAD_POOL, SECURITY_DOMAIN, PARTITION_CHANNEL);
         resourceRegistration.registerReadWriteAttribute(DEFAULT_JOB_REPOSITORY, null, writeHandler);
         resourceRegistration.registerReadWriteAttribute(DEFAULT_THREAD_POOL, null, writeHandler);
         resourceRegistration.registerReadWriteAttribute(SECURITY_DOMAIN, null, writeHandler);
+        resourceRegistration.registerReadWriteAttribute(PARTITION_CHANNEL, null, writeHandler);
         resourceRegistration.registerReadWriteAttribute(RESTART_JOBS_ON_RESUME, null, new AbstractWriteAttributeHandler<Boolean>(RESTART_JOBS_ON_RESUME) {
             @Override
             protected boolean applyUpdateToRuntime(final OperationContext context, final ModelNode operation, final String attributeName, final ModelNode resolvedValue, final ModelNode currentValue, final HandbackHolder<Boolean> handbackHolder) throws OperationFailedException {
@@ -174,7 +185,7 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
         private final ContextClassLoaderJobOperatorContextSelector selector;
 
         private BatchSubsystemAdd() {
-            super(DEFAULT_JOB_REPOSITORY, DEFAULT_THREAD_POOL, RESTART_JOBS_ON_RESUME, SECURITY_DOMAIN);
+            super(DEFAULT_JOB_REPOSITORY, DEFAULT_THREAD_POOL, RESTART_JOBS_ON_RESUME, SECURITY_DOMAIN, PARTITION_CHANNEL);
             selector = new ContextClassLoaderJobOperatorContextSelector(() -> JobOperatorContext.create(DefaultBatchEnvironment.INSTANCE));
             JobOperatorContext.setJobOperatorContextSelector(selector);
         }
@@ -184,6 +195,7 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
                 throws OperationFailedException {
             // Check if the request-controller subsystem exists
             final boolean rcPresent = context.hasOptionalCapability("org.wildfly.request-controller", null, null);
+            final ModelNode partitionChannel = PARTITION_CHANNEL.resolveModelAttribute(context, model);
 
             context.addStep(new AbstractDeploymentChainStep() {
                 public void execute(DeploymentProcessorTarget processorTarget) {
@@ -196,7 +208,7 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
                     processorTarget.addDeploymentProcessor(BatchSubsystemDefinition.NAME,
                             Phase.STRUCTURE, Phase.STRUCTURE_REGISTER_JBOSS_ALL_BATCH, jbossAllProcessor);
                     processorTarget.addDeploymentProcessor(NAME,
-                            Phase.DEPENDENCIES, Phase.DEPENDENCIES_BATCH, new BatchDependencyProcessor());
+                            Phase.DEPENDENCIES, Phase.DEPENDENCIES_BATCH, new BatchDependencyProcessor(partitionChannel.isDefined()));
                     processorTarget.addDeploymentProcessor(NAME,
                             Phase.POST_MODULE, Phase.POST_MODULE_BATCH_ENVIRONMENT, new BatchEnvironmentProcessor(rcPresent, selector));
                     processorTarget.addDeploymentProcessor(NAME,
@@ -223,11 +235,14 @@ public class BatchSubsystemDefinition extends SimpleResourceDefinition {
             final Supplier<SecurityDomain> securityDomainSupplier = securityDomain.isDefined()
                     ? serviceBuilder.requires(context.getCapabilityServiceName(Capabilities.SECURITY_DOMAIN_CAPABILITY, securityDomain.asString(), SecurityDomain.class))
                     : null;
+            final Supplier<CommandDispatcherFactory> commandDispatcherFactorySupplier = partitionChannel.isDefined()
+                    ? serviceBuilder.requires(ClusteringRequirement.COMMAND_DISPATCHER_FACTORY.getServiceName(context, partitionChannel.asString()))
+                    : null;
 
             // Only start this service if there are deployments present, allow it to be stopped as deployments
             // are removed.
             serviceBuilder.setInitialMode(ServiceController.Mode.ON_DEMAND);
-            final BatchConfigurationService service = new BatchConfigurationService(batchConfigurationConsumer, jobRepositorySupplier, jobExecutorSupplier, securityDomainSupplier);
+            final BatchConfigurationService service = new BatchConfigurationService(batchConfigurationConsumer, jobRepositorySupplier, jobExecutorSupplier, securityDomainSupplier, commandDispatcherFactorySupplier);
             service.setRestartOnResume(restartOnResume);
             serviceBuilder.setInstance(service);
             serviceBuilder.install();
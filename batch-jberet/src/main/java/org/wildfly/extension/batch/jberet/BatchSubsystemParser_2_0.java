@@ -17,9 +17,12 @@
 package org.wildfly.extension.batch.jberet;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.xml.stream.XMLStreamConstants;
 
+import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.dmr.ModelNode;
 import org.jboss.staxmapper.XMLElementReader;
 
@@ -29,6 +32,17 @@ import org.jboss.staxmapper.XMLElementReader;
 class BatchSubsystemParser_2_0 extends BatchSubsystemParser_1_0 implements XMLStreamConstants, XMLElementReader<List<ModelNode>> {
 
     public BatchSubsystemParser_2_0() {
-        super(Collections.singletonMap(Element.SECURITY_DOMAIN, BatchSubsystemDefinition.SECURITY_DOMAIN));
+        this(Collections.emptyMap());
+    }
+
+    BatchSubsystemParser_2_0(final Map<Element, SimpleAttributeDefinition> additionalElements) {
+        super(merge(additionalElements, Element.SECURITY_DOMAIN, BatchSubsystemDefinition.SECURITY_DOMAIN));
+    }
+
+    private static Map<Element, SimpleAttributeDefinition> merge(final Map<Element, SimpleAttributeDefinition> additionalElements,
+                                                                final Element element, final SimpleAttributeDefinition attribute) {
+        final Map<Element, SimpleAttributeDefinition> result = new HashMap<>(additionalElements);
+        result.put(element, attribute);
+        return result;
     }
 }
\ No newline at end of file
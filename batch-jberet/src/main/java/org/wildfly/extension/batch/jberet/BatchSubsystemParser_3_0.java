@@ -17,6 +17,7 @@
 package org.wildfly.extension.batch.jberet;
 
 import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.parsing.ParseUtils;
 import org.jboss.dmr.ModelNode;
@@ -41,6 +42,10 @@ class BatchSubsystemParser_3_0 extends BatchSubsystemParser_2_0 implements XMLSt
         super();
     }
 
+    BatchSubsystemParser_3_0(final Map<Element, SimpleAttributeDefinition> additionalElements) {
+        super(additionalElements);
+    }
+
     protected void parseJobRepository(final XMLExtendedStreamReader reader, final PathAddress subsystemAddress, final List<ModelNode> ops) throws XMLStreamException {
         Map<Attribute, String> topLevelAttributes = AttributeParsers.readAttributes(reader,
                 EnumSet.of(Attribute.NAME, Attribute.EXECUTION_RECORDS_LIMIT));
@@ -59,12 +64,12 @@ class BatchSubsystemParser_3_0 extends BatchSubsystemParser_2_0 implements XMLSt
                 if (executionRecordsLimit != null) {
                     CommonAttributes.EXECUTION_RECORDS_LIMIT.parseAndSetParameter(executionRecordsLimit, op, reader);
                 }
+                parseInMemoryJobRepository(reader, op);
                 ops.add(op);
                 ParseUtils.requireNoContent(reader);
             } else if (element == Element.JDBC) {
-                final Map<Attribute, String> attributes = AttributeParsers.readRequiredAttributes(reader, EnumSet.of(Attribute.DATA_SOURCE));
                 final ModelNode op = Util.createAddOperation(subsystemAddress.append(JdbcJobRepositoryDefinition.NAME, name));
-                JdbcJobRepositoryDefinition.DATA_SOURCE.parseAndSetParameter(attributes.get(Attribute.DATA_SOURCE), op, reader);
+                parseJdbcJobRepository(reader, op);
                 if (executionRecordsLimit != null) {
                     CommonAttributes.EXECUTION_RECORDS_LIMIT.parseAndSetParameter(executionRecordsLimit, op, reader);
                 }
@@ -75,4 +80,19 @@ class BatchSubsystemParser_3_0 extends BatchSubsystemParser_2_0 implements XMLSt
             }
         }
     }
+
+    /**
+     * Parses the attributes of an {@code in-memory} element into the specified add operation.
+     * There are no such attributes prior to version 4.0.
+     */
+    protected void parseInMemoryJobRepository(final XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException {
+    }
+
+    /**
+     * Parses the attributes of a {@code jdbc} element into the specified add operation.
+     */
+    protected void parseJdbcJobRepository(final XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException {
+        final Map<Attribute, String> attributes = AttributeParsers.readRequiredAttributes(reader, EnumSet.of(Attribute.DATA_SOURCE));
+        JdbcJobRepositoryDefinition.DATA_SOURCE.parseAndSetParameter(attributes.get(Attribute.DATA_SOURCE), operation, reader);
+    }
 }
\ No newline at end of file
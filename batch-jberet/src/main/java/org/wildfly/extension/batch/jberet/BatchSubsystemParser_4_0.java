@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.as.controller.parsing.ParseUtils;
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+import org.wildfly.extension.batch.jberet.job.repository.InMemoryJobRepositoryDefinition;
+import org.wildfly.extension.batch.jberet.job.repository.JdbcJobRepositoryDefinition;
+
+/**
+ * Parser for version 4.0 of the batch subsystem schema, which adds retention limits to the in-memory job repository
+ * checkpoint coalescing to the JDBC job repository, and the channel used to distribute partitioned steps.
+ * @author agent
+ */
+class BatchSubsystemParser_4_0 extends BatchSubsystemParser_3_0 {
+
+    BatchSubsystemParser_4_0() {
+        super(Collections.singletonMap(Element.PARTITION_CHANNEL, BatchSubsystemDefinition.PARTITION_CHANNEL));
+    }
+
+    @Override
+    protected void parseInMemoryJobRepository(final XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException {
+        final Map<Attribute, String> attributes = AttributeParsers.readAttributes(reader,
+                EnumSet.of(Attribute.MAX_COMPLETED_EXECUTIONS, Attribute.COMPLETED_EXECUTION_MAX_AGE));
+        final String maxCompletedExecutions = attributes.get(Attribute.MAX_COMPLETED_EXECUTIONS);
+        if (maxCompletedExecutions != null) {
+            InMemoryJobRepositoryDefinition.MAX_COMPLETED_EXECUTIONS.parseAndSetParameter(maxCompletedExecutions, operation, reader);
+        }
+        final String completedExecutionMaxAge = attributes.get(Attribute.COMPLETED_EXECUTION_MAX_AGE);
+        if (completedExecutionMaxAge != null) {
+            InMemoryJobRepositoryDefinition.COMPLETED_EXECUTION_MAX_AGE.parseAndSetParameter(completedExecutionMaxAge, operation, reader);
+        }
+    }
+
+    @Override
+    protected void parseJdbcJobRepository(final XMLExtendedStreamReader reader, final ModelNode operation) throws XMLStreamException {
+        final Map<Attribute, String> attributes = AttributeParsers.readRequiredAttributes(reader,
+                EnumSet.of(Attribute.DATA_SOURCE, Attribute.MAX_COALESCED_CHECKPOINTS));
+        final String dataSource = attributes.get(Attribute.DATA_SOURCE);
+        if (dataSource == null) {
+            throw ParseUtils.missingRequired(reader, Attribute.DATA_SOURCE.getLocalName());
+        }
+        JdbcJobRepositoryDefinition.DATA_SOURCE.parseAndSetParameter(dataSource, operation, reader);
+        final String maxCoalescedCheckpoints = attributes.get(Attribute.MAX_COALESCED_CHECKPOINTS);
+        if (maxCoalescedCheckpoints != null) {
+            JdbcJobRepositoryDefinition.MAX_COALESCED_CHECKPOINTS.parseAndSetParameter(maxCoalescedCheckpoints, operation, reader);
+        }
+    }
+}
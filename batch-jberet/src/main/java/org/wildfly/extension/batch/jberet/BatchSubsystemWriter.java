@@ -50,6 +50,7 @@ public class BatchSubsystemWriter implements XMLElementWriter<SubsystemMarshalli
         BatchSubsystemDefinition.DEFAULT_THREAD_POOL.marshallAsElement(model, writer);
         BatchSubsystemDefinition.RESTART_JOBS_ON_RESUME.marshallAsElement(model, writer);
         BatchSubsystemDefinition.SECURITY_DOMAIN.marshallAsElement(model, writer);
+        BatchSubsystemDefinition.PARTITION_CHANNEL.marshallAsElement(model, writer);
 
         // Write the in-memory job repositories
         if (model.hasDefined(InMemoryJobRepositoryDefinition.NAME)) {
@@ -59,6 +60,8 @@ public class BatchSubsystemWriter implements XMLElementWriter<SubsystemMarshalli
                 writeNameAttribute(writer, property.getName());
                 CommonAttributes.EXECUTION_RECORDS_LIMIT.marshallAsAttribute(property.getValue(), writer);
                 writer.writeEmptyElement(Element.IN_MEMORY.getLocalName());
+                InMemoryJobRepositoryDefinition.MAX_COMPLETED_EXECUTIONS.marshallAsAttribute(property.getValue(), writer);
+                InMemoryJobRepositoryDefinition.COMPLETED_EXECUTION_MAX_AGE.marshallAsAttribute(property.getValue(), writer);
                 writer.writeEndElement(); // end job-repository
             }
         }
@@ -72,6 +75,7 @@ public class BatchSubsystemWriter implements XMLElementWriter<SubsystemMarshalli
                 CommonAttributes.EXECUTION_RECORDS_LIMIT.marshallAsAttribute(property.getValue(), writer);
                 writer.writeStartElement(Element.JDBC.getLocalName());
                 JdbcJobRepositoryDefinition.DATA_SOURCE.marshallAsAttribute(property.getValue(), writer);
+                JdbcJobRepositoryDefinition.MAX_COALESCED_CHECKPOINTS.marshallAsAttribute(property.getValue(), writer);
                 writer.writeEndElement();
                 writer.writeEndElement(); // end job-repository
             }
@@ -37,6 +37,7 @@ public enum Element {
     JDBC("jdbc"),
     IN_MEMORY("in-memory"),
     NAMED("named"),
+    PARTITION_CHANNEL("partition-channel"),
     RESTART_JOBS_ON_RESUME("restart-jobs-on-resume"),
     SECURITY_DOMAIN("security-domain"),
     THREAD_FACTORY("thread-factory"),
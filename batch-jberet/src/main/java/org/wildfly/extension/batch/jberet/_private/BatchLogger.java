@@ -215,4 +215,48 @@ public interface BatchLogger extends BasicLogger {
      */
     @Message(id = 20, value = "Permission denied. User %s does not have %s permissions.")
     JobSecurityException unauthorized(String user, Permission permission);
+
+    /**
+     * Logs a warning message indicating that a partition will be resubmitted since its assigned member left the cluster.
+     *
+     * @param partitionId     the partition identifier
+     * @param stepExecutionId the execution id of the partitioned step
+     * @param member          the departed member
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 21, value = "Resubmitting partition %d of step execution %d, previously assigned to departed member %s")
+    void resubmittingPartition(int partitionId, long stepExecutionId, String member);
+
+    /**
+     * Logs a warning message indicating that a partition could not be dispatched to a member and will be reassigned.
+     *
+     * @param cause           the cause of the error
+     * @param partitionId     the partition identifier
+     * @param stepExecutionId the execution id of the partitioned step
+     * @param member          the member to which the partition could not be dispatched
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 22, value = "Failed to dispatch partition %d of step execution %d to member %s")
+    void partitionDispatchFailed(@Cause Throwable cause, int partitionId, long stepExecutionId, String member);
+
+    /**
+     * Logs a warning message indicating that the results of a partition could not be reported to its coordinator.
+     *
+     * @param cause           the cause of the error
+     * @param partitionId     the partition identifier
+     * @param stepExecutionId the execution id of the partitioned step
+     * @param member          the coordinating member
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 23, value = "Failed to report completion of partition %d of step execution %d to member %s")
+    void partitionReportFailed(@Cause Throwable cause, int partitionId, long stepExecutionId, String member);
+
+    /**
+     * Logs a warning message indicating that the partitions of a deployment will only execute locally since its job repository is not shared across the cluster.
+     *
+     * @param deploymentName the name of the deployment
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 24, value = "Partitions of deployment %s will execute locally, since its job repository is not shared across the cluster")
+    void partitionsNotDistributed(String deploymentName);
 }
@@ -31,12 +31,24 @@ import org.jboss.as.server.deployment.module.ModuleDependency;
 import org.jboss.as.server.deployment.module.ModuleSpecification;
 import org.jboss.modules.Module;
 import org.jboss.modules.ModuleLoader;
+import org.jboss.modules.filter.PathFilters;
 
 /**
  * Adds required batch dependencies to deployments.
  */
 public class BatchDependencyProcessor implements DeploymentUnitProcessor {
 
+    private final boolean distributedPartitions;
+
+    /**
+     * Creates a processor adding batch dependencies to deployments.
+     *
+     * @param distributedPartitions {@code true} if a partition channel is configured, {@code false} if partitions only execute locally
+     */
+    public BatchDependencyProcessor(final boolean distributedPartitions) {
+        this.distributedPartitions = distributedPartitions;
+    }
+
     @Override
     public void deploy(final DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
@@ -45,5 +57,29 @@ public class BatchDependencyProcessor implements DeploymentUnitProcessor {
 
         moduleSpecification.addSystemDependency(new ModuleDependency(moduleLoader, "jakarta.batch.api", false, false, false, false));
         moduleSpecification.addSystemDependency(new ModuleDependency(moduleLoader, "org.jberet.jberet-core", false, false, true, false));
+        if (this.distributedPartitions && !hasLocalJobRepository(deploymentUnit)) {
+            // jberet-core loads the partition handler factory via the TCCL
+            // Module import filters are per directory, so the service file lives in a separate module containing nothing else
+            final ModuleDependency partitionDependency = new ModuleDependency(moduleLoader, "org.wildfly.extension.batch.jberet", false, false, false, false);
+            partitionDependency.addImportFilter(PathFilters.is("org/wildfly/extension/batch/jberet/partition"), true);
+            partitionDependency.addImportFilter(PathFilters.rejectAll(), false);
+            moduleSpecification.addSystemDependency(partitionDependency);
+            moduleSpecification.addSystemDependency(new ModuleDependency(moduleLoader, "org.wildfly.extension.batch.jberet.partition", false, false, true, false));
+        }
+    }
+
+    /**
+     * Indicates whether the deployment descriptor of the specified deployment defines an in-memory job repository, which cannot be shared across a cluster.
+     */
+    private static boolean hasLocalJobRepository(final DeploymentUnit deploymentUnit) {
+        BatchEnvironmentMetaData metaData = deploymentUnit.getAttachment(BatchAttachments.BATCH_ENVIRONMENT_META_DATA);
+        if (metaData == null) {
+            // Check the parent
+            final DeploymentUnit parent = deploymentUnit.getParent();
+            if (parent != null) {
+                metaData = parent.getAttachment(BatchAttachments.BATCH_ENVIRONMENT_META_DATA);
+            }
+        }
+        return (metaData != null) && (metaData.getJobRepository() != null);
     }
 }
@@ -158,7 +158,7 @@ public class BatchEnvironmentProcessor implements DeploymentUnitProcessor {
                 final Consumer<JobRepository> jobRepositoryConsumer = jobRepositoryServiceBuilder.provides(jobRepositoryServiceName);
                 final Supplier<ExecutorService> executorSupplier = Services.requireServerExecutor(jobRepositoryServiceBuilder);
                 final Supplier<DataSource> dataSourceSupplier = jobRepositoryServiceBuilder.requires(support.getCapabilityServiceName(Capabilities.DATA_SOURCE_CAPABILITY, dataSourceName));
-                final JdbcJobRepositoryService jdbcJobRepositoryService = new JdbcJobRepositoryService(jobRepositoryConsumer, dataSourceSupplier, executorSupplier, executionRecordsLimit);
+                final JdbcJobRepositoryService jdbcJobRepositoryService = new JdbcJobRepositoryService(jobRepositoryConsumer, dataSourceSupplier, executorSupplier, executionRecordsLimit, null);
                 jobRepositoryServiceBuilder.setInstance(jdbcJobRepositoryService);
                 jobRepositoryServiceBuilder.install();
                 jobRepositorySupplier = serviceBuilder.requires(jobRepositoryServiceName);
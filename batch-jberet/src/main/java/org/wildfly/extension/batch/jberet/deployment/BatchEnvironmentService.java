@@ -27,6 +27,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 import jakarta.transaction.TransactionManager;
 
+import org.jberet.repository.InMemoryRepository;
 import org.jberet.repository.JobRepository;
 import org.jberet.spi.ArtifactFactory;
 import org.jberet.spi.BatchEnvironment;
@@ -40,8 +41,12 @@ import org.jboss.msc.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
 import org.wildfly.extension.batch.jberet.BatchConfiguration;
 import org.wildfly.extension.batch.jberet._private.BatchLogger;
+import org.wildfly.extension.batch.jberet.job.repository.InMemoryJobRepositoryService;
+import org.wildfly.extension.batch.jberet.partition.DistributedBatchEnvironment;
+import org.wildfly.extension.batch.jberet.partition.DistributedPartitionExecutor;
 import org.wildfly.extension.requestcontroller.ControlPoint;
 import org.wildfly.extension.requestcontroller.RequestController;
 import org.wildfly.security.auth.server.SecurityDomain;
@@ -69,6 +74,7 @@ public class BatchEnvironmentService implements Service {
     private final NamespaceContextSelector namespaceContextSelector;
     private SecurityAwareBatchEnvironment batchEnvironment = null;
     private volatile ControlPoint controlPoint;
+    private volatile DistributedPartitionExecutor partitionExecutor;
 
     public BatchEnvironmentService(final Consumer<SecurityAwareBatchEnvironment> batchEnvironmentConsumer,
                                    final Supplier<WildFlyArtifactFactory> artifactFactorySupplier,
@@ -111,6 +117,15 @@ public class BatchEnvironmentService implements Service {
                 jobExecutor, ContextTransactionManager.getInstance(),
                 jobRepository, jobXmlResolver);
 
+        // Distribute partitions across the cluster, if a partition channel was configured
+        // Remote partitions must be able to read and update the job and step executions of the coordinator
+        CommandDispatcherFactory dispatcherFactory = batchConfiguration.getPartitionDispatcherFactory();
+        if (dispatcherFactory != null && (jobRepository instanceof InMemoryJobRepositoryService || jobRepository instanceof InMemoryRepository)) {
+            BatchLogger.LOGGER.partitionsNotDistributed(deploymentName);
+            dispatcherFactory = null;
+        }
+        partitionExecutor = dispatcherFactory != null ? new DistributedPartitionExecutor(dispatcherFactory, deploymentName, classLoader, batchEnvironment) : null;
+
         final RequestController requestController = requestControllerSupplier != null ? requestControllerSupplier.get() : null;
         if (requestController != null) {
             // Create the entry point
@@ -126,12 +141,16 @@ public class BatchEnvironmentService implements Service {
         batchEnvironmentConsumer.accept(null);
         BatchLogger.LOGGER.debugf("Removing batch environment; %s", classLoader);
         batchEnvironment = null;
+        if (partitionExecutor != null) {
+            partitionExecutor.close();
+            partitionExecutor = null;
+        }
         if (controlPoint != null) {
             requestControllerSupplier.get().removeControlPoint(controlPoint);
         }
     }
 
-    private class WildFlyBatchEnvironment implements BatchEnvironment, SecurityAwareBatchEnvironment {
+    private class WildFlyBatchEnvironment implements BatchEnvironment, SecurityAwareBatchEnvironment, DistributedBatchEnvironment {
 
         private final WildFlyArtifactFactory artifactFactory;
         private final JobExecutor jobExecutor;
@@ -223,6 +242,11 @@ public class BatchEnvironmentService implements Service {
             return batchConfigurationSupplier.get().getSecurityDomain();
         }
 
+        @Override
+        public DistributedPartitionExecutor getPartitionExecutor() {
+            return partitionExecutor;
+        }
+
         private ContextHandle createContextHandle() {
             final ClassLoader tccl = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
             // If the TCCL is null, use the deployments ModuleClassLoader
@@ -0,0 +1,319 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.JobInstance;
+import jakarta.batch.runtime.StepExecution;
+
+import org.jberet.job.model.Job;
+import org.jberet.repository.ApplicationAndJobName;
+import org.jberet.repository.JobExecutionSelector;
+import org.jberet.repository.JobRepository;
+import org.jberet.runtime.AbstractStepExecution;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
+
+/**
+ * A job repository decorator that coalesces the metric-only writes of a running step or partition execution.
+ * A write whose checkpoint data, i.e. reader and writer checkpoint info and persistent user data, differs from that of the last issued write
+ * is always issued to the decorated repository, on the calling thread, and thus within the chunk transaction.
+ * A write that only updates step metrics persists nothing that a restart depends on, so only every n-th such write is issued.
+ * Writes of a step or partition execution in a terminal state, or whose job is stopping, are never coalesced,
+ * and pending writes are flushed before any subsequent update to, or query of, persisted step or partition executions.
+ * A stop request issued via this server sets the in-memory status of the job execution, and is thus detected at the next chunk boundary.
+ * A coalesced conditional write does not query the persisted status, however, so a stop request persisted by another server
+ * is only detected by the next issued conditional write.
+ * @author agent
+ */
+class CoalescingJobRepository implements JobRepository {
+
+    private static final Set<BatchStatus> RUNNING = EnumSet.of(BatchStatus.STARTING, BatchStatus.STARTED);
+
+    private final JobRepository repository;
+    private final int maxCoalescedCheckpoints;
+    // Issued and coalesced writes of running step and partition executions, keyed by identity, since partition executions share the identifier of their step execution
+    private final Map<AbstractStepExecution, PendingWrite> pendingWrites = new IdentityHashMap<>();
+
+    /**
+     * Creates a job repository decorator.
+     * @param repository the decorated job repository
+     * @param maxCoalescedCheckpoints the maximum number of successive metric-only writes of a step or partition execution to coalesce into a single write
+     */
+    CoalescingJobRepository(JobRepository repository, int maxCoalescedCheckpoints) {
+        this.repository = repository;
+        this.maxCoalescedCheckpoints = maxCoalescedCheckpoints;
+    }
+
+    @Override
+    public void addJob(ApplicationAndJobName applicationAndJobName, Job job) {
+        this.repository.addJob(applicationAndJobName, job);
+    }
+
+    @Override
+    public void removeJob(String jobId) {
+        this.repository.removeJob(jobId);
+    }
+
+    @Override
+    public Job getJob(ApplicationAndJobName applicationAndJobName) {
+        return this.repository.getJob(applicationAndJobName);
+    }
+
+    @Override
+    public Set<String> getJobNames() {
+        return this.repository.getJobNames();
+    }
+
+    @Override
+    public boolean jobExists(String jobName) {
+        return this.repository.jobExists(jobName);
+    }
+
+    @Override
+    public JobInstanceImpl createJobInstance(Job job, String applicationName, ClassLoader classLoader) {
+        return this.repository.createJobInstance(job, applicationName, classLoader);
+    }
+
+    @Override
+    public void removeJobInstance(long jobInstanceId) {
+        this.repository.removeJobInstance(jobInstanceId);
+    }
+
+    @Override
+    public JobInstance getJobInstance(long jobInstanceId) {
+        return this.repository.getJobInstance(jobInstanceId);
+    }
+
+    @Override
+    public List<JobInstance> getJobInstances(String jobName) {
+        return this.repository.getJobInstances(jobName);
+    }
+
+    @Override
+    public int getJobInstanceCount(String jobName) {
+        return this.repository.getJobInstanceCount(jobName);
+    }
+
+    @Override
+    public JobExecutionImpl createJobExecution(JobInstanceImpl jobInstance, Properties jobParameters) {
+        return this.repository.createJobExecution(jobInstance, jobParameters);
+    }
+
+    @Override
+    public JobExecution getJobExecution(long jobExecutionId) {
+        return this.repository.getJobExecution(jobExecutionId);
+    }
+
+    @Override
+    public List<JobExecution> getJobExecutions(JobInstance jobInstance) {
+        return this.repository.getJobExecutions(jobInstance);
+    }
+
+    @Override
+    public List<Long> getJobExecutionsByJob(String jobName) {
+        return this.repository.getJobExecutionsByJob(jobName);
+    }
+
+    @Override
+    public List<Long> getJobExecutionsByJob(String jobName, Integer limit) {
+        return this.repository.getJobExecutionsByJob(jobName, limit);
+    }
+
+    @Override
+    public void updateJobExecution(JobExecutionImpl jobExecution, boolean fullUpdate, boolean saveJobParameters) {
+        this.flush(jobExecution.getExecutionId());
+        this.repository.updateJobExecution(jobExecution, fullUpdate, saveJobParameters);
+    }
+
+    @Override
+    public void stopJobExecution(JobExecutionImpl jobExecution) {
+        this.flush(jobExecution.getExecutionId());
+        this.repository.stopJobExecution(jobExecution);
+    }
+
+    @Override
+    public List<Long> getRunningExecutions(String jobName) {
+        return this.repository.getRunningExecutions(jobName);
+    }
+
+    @Override
+    public void removeJobExecutions(JobExecutionSelector selector) {
+        this.flush(write -> true);
+        this.repository.removeJobExecutions(selector);
+    }
+
+    @Override
+    public List<StepExecution> getStepExecutions(long jobExecutionId, ClassLoader classLoader) {
+        this.flush(jobExecutionId);
+        return this.repository.getStepExecutions(jobExecutionId, classLoader);
+    }
+
+    @Override
+    public StepExecutionImpl createStepExecution(String stepName) {
+        return this.repository.createStepExecution(stepName);
+    }
+
+    @Override
+    public void addStepExecution(JobExecutionImpl jobExecution, StepExecutionImpl stepExecution) {
+        this.repository.addStepExecution(jobExecution, stepExecution);
+    }
+
+    @Override
+    public void updateStepExecution(StepExecution stepExecution) {
+        // Supersedes any pending write
+        this.discard((AbstractStepExecution) stepExecution);
+        this.repository.updateStepExecution(stepExecution);
+    }
+
+    @Override
+    public StepExecutionImpl findOriginalStepExecutionForRestart(String stepName, JobExecutionImpl jobExecutionToRestart, ClassLoader classLoader) {
+        this.flush(jobExecutionToRestart.getExecutionId());
+        return this.repository.findOriginalStepExecutionForRestart(stepName, jobExecutionToRestart, classLoader);
+    }
+
+    @Override
+    public int countStepStartTimes(String stepName, long jobInstanceId) {
+        return this.repository.countStepStartTimes(stepName, jobInstanceId);
+    }
+
+    @Override
+    public void addPartitionExecution(StepExecutionImpl enclosingStepExecution, PartitionExecutionImpl partitionExecution) {
+        this.repository.addPartitionExecution(enclosingStepExecution, partitionExecution);
+    }
+
+    @Override
+    public List<PartitionExecutionImpl> getPartitionExecutions(long stepExecutionId, StepExecutionImpl stepExecution, boolean notCompletedOnly, ClassLoader classLoader) {
+        this.flush(write -> write.execution.getStepExecutionId() == stepExecutionId);
+        return this.repository.getPartitionExecutions(stepExecutionId, stepExecution, notCompletedOnly, classLoader);
+    }
+
+    @Override
+    public void savePersistentData(JobExecution jobExecution, AbstractStepExecution stepOrPartitionExecution) {
+        if (!this.coalesce(jobExecution, stepOrPartitionExecution)) {
+            this.repository.savePersistentData(jobExecution, stepOrPartitionExecution);
+        }
+    }
+
+    @Override
+    public int savePersistentDataIfNotStopping(JobExecution jobExecution, AbstractStepExecution stepOrPartitionExecution) {
+        if (!this.coalesce(jobExecution, stepOrPartitionExecution)) {
+            return this.repository.savePersistentDataIfNotStopping(jobExecution, stepOrPartitionExecution);
+        }
+        // A coalesced write behaves as if a single row was updated
+        // A stop request persisted by another server is detected by the next issued conditional write
+        return 1;
+    }
+
+    /**
+     * Determines whether to coalesce a write of the specified step or partition execution into a subsequent write.
+     * @return true, if the write should be skipped, false if the write should be issued to the decorated repository
+     */
+    private boolean coalesce(JobExecution jobExecution, AbstractStepExecution execution) {
+        if (!RUNNING.contains(execution.getBatchStatus()) || !RUNNING.contains(jobExecution.getBatchStatus())) {
+            this.discard(execution);
+            return false;
+        }
+        Serializable[] checkpoint = new Serializable[] { execution.getReaderCheckpointInfo(), execution.getWriterCheckpointInfo(), execution.getPersistentUserData() };
+        synchronized (this.pendingWrites) {
+            PendingWrite write = this.pendingWrites.computeIfAbsent(execution, key -> new PendingWrite(jobExecution, execution));
+            // Never coalesce a write that persists new checkpoint data
+            // Checkpoint data whose type does not implement equals(...) is conservatively treated as new
+            if (!Arrays.deepEquals(checkpoint, write.checkpoint)) {
+                write.checkpoint = checkpoint;
+                write.count = 0;
+                return false;
+            }
+            if (++write.count < this.maxCoalescedCheckpoints) {
+                return true;
+            }
+            write.count = 0;
+            return false;
+        }
+    }
+
+    /**
+     * Discards any pending write of the specified step or partition execution.
+     */
+    private void discard(AbstractStepExecution execution) {
+        synchronized (this.pendingWrites) {
+            this.pendingWrites.remove(execution);
+        }
+    }
+
+    /**
+     * Issues the pending writes for the step and partition executions of the specified job execution.
+     */
+    private void flush(long jobExecutionId) {
+        this.flush(write -> write.jobExecution.getExecutionId() == jobExecutionId);
+    }
+
+    /**
+     * Issues the pending writes matching the specified predicate.
+     */
+    private void flush(Predicate<PendingWrite> predicate) {
+        List<PendingWrite> writes = new ArrayList<>();
+        synchronized (this.pendingWrites) {
+            if (this.pendingWrites.isEmpty()) {
+                return;
+            }
+            for (PendingWrite write : this.pendingWrites.values()) {
+                if ((write.count > 0) && predicate.test(write)) {
+                    writes.add(write);
+                    write.count = 0;
+                }
+            }
+        }
+        for (PendingWrite write : writes) {
+            this.repository.savePersistentData(write.jobExecution, write.execution);
+        }
+    }
+
+    private static class PendingWrite {
+        final JobExecution jobExecution;
+        final AbstractStepExecution execution;
+        // Checkpoint data of the last issued write
+        Serializable[] checkpoint;
+        // Number of coalesced writes since the last issued write
+        int count = 0;
+
+        PendingWrite(JobExecution jobExecution, AbstractStepExecution execution) {
+            this.jobExecution = jobExecution;
+            this.execution = execution;
+        }
+    }
+}
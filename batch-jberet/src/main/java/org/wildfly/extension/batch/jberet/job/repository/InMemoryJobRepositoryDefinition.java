@@ -29,14 +29,21 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 import org.wildfly.extension.batch.jberet.BatchResourceDescriptionResolver;
 import org.wildfly.extension.batch.jberet._private.Capabilities;
 
+import java.time.Duration;
 import java.util.function.Consumer;
 
 /**
@@ -50,6 +57,27 @@ public class InMemoryJobRepositoryDefinition extends SimpleResourceDefinition {
     public static final String NAME = "in-memory-job-repository";
     public static final PathElement PATH = PathElement.pathElement(NAME);
 
+    /**
+     * The maximum number of completed job executions retained by the repository, beyond which the least recently
+     * completed job executions are evicted. If undefined, the number of retained job executions is unbounded.
+     */
+    public static final SimpleAttributeDefinition MAX_COMPLETED_EXECUTIONS = SimpleAttributeDefinitionBuilder.create("max-completed-executions", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+            .setRestartAllServices()
+            .build();
+
+    /**
+     * The number of minutes for which a completed job execution is retained by the repository, after which it is
+     * evicted. If undefined, completed job executions do not expire.
+     */
+    public static final SimpleAttributeDefinition COMPLETED_EXECUTION_MAX_AGE = SimpleAttributeDefinitionBuilder.create("completed-execution-max-age", ModelType.LONG, true)
+            .setAllowExpression(true)
+            .setValidator(new LongRangeValidator(1L, Long.MAX_VALUE, true, true))
+            .setMeasurementUnit(MeasurementUnit.MINUTES)
+            .setRestartAllServices()
+            .build();
+
     public InMemoryJobRepositoryDefinition() {
         super(
                 new Parameters(PATH, BatchResourceDescriptionResolver.getResourceDescriptionResolver(NAME))
@@ -64,11 +92,15 @@ public class InMemoryJobRepositoryDefinition extends SimpleResourceDefinition {
         super.registerAttributes(resourceRegistration);
         resourceRegistration.registerReadWriteAttribute(CommonAttributes.EXECUTION_RECORDS_LIMIT, null,
                 new ReloadRequiredWriteAttributeHandler(CommonAttributes.EXECUTION_RECORDS_LIMIT));
+        resourceRegistration.registerReadWriteAttribute(MAX_COMPLETED_EXECUTIONS, null,
+                new ReloadRequiredWriteAttributeHandler(MAX_COMPLETED_EXECUTIONS));
+        resourceRegistration.registerReadWriteAttribute(COMPLETED_EXECUTION_MAX_AGE, null,
+                new ReloadRequiredWriteAttributeHandler(COMPLETED_EXECUTION_MAX_AGE));
     }
 
     private static class InMemoryAddHandler extends AbstractAddStepHandler {
         InMemoryAddHandler() {
-            super(CommonAttributes.EXECUTION_RECORDS_LIMIT);
+            super(CommonAttributes.EXECUTION_RECORDS_LIMIT, MAX_COMPLETED_EXECUTIONS, COMPLETED_EXECUTION_MAX_AGE);
         }
 
         @Override
@@ -76,10 +108,13 @@ public class InMemoryJobRepositoryDefinition extends SimpleResourceDefinition {
             super.performRuntime(context, operation, model);
             final String name = context.getCurrentAddressValue();
             final Integer executionRecordsLimit = CommonAttributes.EXECUTION_RECORDS_LIMIT.resolveModelAttribute(context, model).asIntOrNull();
+            final Integer maxCompletedExecutions = MAX_COMPLETED_EXECUTIONS.resolveModelAttribute(context, model).asIntOrNull();
+            final Long completedExecutionMaxAge = COMPLETED_EXECUTION_MAX_AGE.resolveModelAttribute(context, model).asLongOrNull();
             final ServiceName inMemorySN = context.getCapabilityServiceName(Capabilities.JOB_REPOSITORY_CAPABILITY.getName(), name, JobRepository.class);
             final ServiceBuilder<?> sb = context.getServiceTarget().addService(inMemorySN);
             final Consumer<JobRepository> jobRepositoryConsumer = sb.provides(inMemorySN);
-            sb.setInstance(new InMemoryJobRepositoryService(jobRepositoryConsumer, executionRecordsLimit));
+            sb.setInstance(new InMemoryJobRepositoryService(jobRepositoryConsumer, executionRecordsLimit, maxCompletedExecutions,
+                    (completedExecutionMaxAge != null) ? Duration.ofMinutes(completedExecutionMaxAge) : null));
             sb.install();
         }
     }
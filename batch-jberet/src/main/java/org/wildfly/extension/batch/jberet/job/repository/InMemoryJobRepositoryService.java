@@ -22,13 +22,13 @@
 
 package org.wildfly.extension.batch.jberet.job.repository;
 
-import org.jberet.repository.InMemoryRepository;
 import org.jberet.repository.JobRepository;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 
+import java.time.Duration;
 import java.util.function.Consumer;
 
 /**
@@ -39,15 +39,20 @@ import java.util.function.Consumer;
  */
 public class InMemoryJobRepositoryService extends JobRepositoryService implements Service<JobRepository> {
 
-    private volatile InMemoryRepository repository;
+    private final Integer maxCompletedExecutions;
+    private final Duration completedExecutionMaxAge;
+    private volatile JobRepository repository;
 
-    public InMemoryJobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer, final Integer executionRecordsLimit) {
+    public InMemoryJobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer, final Integer executionRecordsLimit,
+                                        final Integer maxCompletedExecutions, final Duration completedExecutionMaxAge) {
         super(jobRepositoryConsumer, executionRecordsLimit);
+        this.maxCompletedExecutions = maxCompletedExecutions;
+        this.completedExecutionMaxAge = completedExecutionMaxAge;
     }
 
     @Override
     public void startJobRepository(final StartContext context) throws StartException {
-        repository = new InMemoryRepository();
+        repository = new IndexedInMemoryRepository(maxCompletedExecutions, completedExecutionMaxAge);
     }
 
     @Override
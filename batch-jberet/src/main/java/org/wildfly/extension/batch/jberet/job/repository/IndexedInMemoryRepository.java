@@ -0,0 +1,393 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.JobInstance;
+import jakarta.batch.runtime.StepExecution;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.batch.runtime.context.StepContext;
+
+import org.jberet.job.model.Job;
+import org.jberet.repository.ApplicationAndJobName;
+import org.jberet.repository.InMemoryRepository;
+import org.jberet.repository.JobExecutionSelector;
+import org.jberet.repository.JobRepository;
+import org.jberet.runtime.AbstractStepExecution;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
+
+/**
+ * An in-memory job repository that maintains secondary indexes of job executions by job name and by status,
+ * such that listing the executions, or the running executions, of a given job is proportional to the size of the result, rather than the size of the repository.
+ * Job executions that are no longer running are retained subject to an optional count-based and/or age-based limit,
+ * beyond which they are evicted, along with their step and partition executions, in order of completion.
+ * Retention limits are enforced whenever a job execution completes.
+ * @author agent
+ */
+class IndexedInMemoryRepository implements JobRepository {
+
+    private static final Set<BatchStatus> RUNNING = EnumSet.of(BatchStatus.STARTING, BatchStatus.STARTED);
+    private static final Set<BatchStatus> COMPLETED = EnumSet.of(BatchStatus.COMPLETED, BatchStatus.FAILED, BatchStatus.STOPPED, BatchStatus.ABANDONED);
+    private static final Comparator<Long> MOST_RECENT_FIRST = Comparator.reverseOrder();
+
+    private final InMemoryRepository repository = new InMemoryRepository();
+    // Job execution identifiers per job name, ordered most recent first
+    private final Map<String, NavigableSet<Long>> executions = new ConcurrentHashMap<>();
+    // Identifiers of starting or started job executions per job name
+    private final Map<String, Set<Long>> runningExecutions = new ConcurrentHashMap<>();
+    // Completion time of completed job executions, in order of completion
+    private final Map<Long, Instant> completedExecutions = new LinkedHashMap<>();
+    private final Integer maxCompletedExecutions;
+    private final Duration completedExecutionMaxAge;
+
+    /**
+     * Creates an in-memory job repository with the specified retention limits.
+     * @param maxCompletedExecutions the maximum number of completed job executions to retain, or null, if unbounded
+     * @param completedExecutionMaxAge the duration for which a completed job execution is retained, or null, if unbounded
+     */
+    IndexedInMemoryRepository(Integer maxCompletedExecutions, Duration completedExecutionMaxAge) {
+        this.maxCompletedExecutions = maxCompletedExecutions;
+        this.completedExecutionMaxAge = completedExecutionMaxAge;
+    }
+
+    @Override
+    public void addJob(ApplicationAndJobName applicationAndJobName, Job job) {
+        this.repository.addJob(applicationAndJobName, job);
+    }
+
+    @Override
+    public void removeJob(String jobId) {
+        this.repository.removeJob(jobId);
+        this.runningExecutions.remove(jobId);
+        NavigableSet<Long> executions = this.executions.remove(jobId);
+        if (executions != null) {
+            synchronized (this.completedExecutions) {
+                this.completedExecutions.keySet().removeAll(executions);
+            }
+        }
+    }
+
+    @Override
+    public Job getJob(ApplicationAndJobName applicationAndJobName) {
+        return this.repository.getJob(applicationAndJobName);
+    }
+
+    @Override
+    public Set<String> getJobNames() {
+        return this.repository.getJobNames();
+    }
+
+    @Override
+    public boolean jobExists(String jobName) {
+        return this.repository.jobExists(jobName);
+    }
+
+    @Override
+    public JobInstanceImpl createJobInstance(Job job, String applicationName, ClassLoader classLoader) {
+        return this.repository.createJobInstance(job, applicationName, classLoader);
+    }
+
+    @Override
+    public void removeJobInstance(long jobInstanceId) {
+        this.repository.removeJobInstance(jobInstanceId);
+    }
+
+    @Override
+    public JobInstance getJobInstance(long jobInstanceId) {
+        return this.repository.getJobInstance(jobInstanceId);
+    }
+
+    @Override
+    public List<JobInstance> getJobInstances(String jobName) {
+        return this.repository.getJobInstances(jobName);
+    }
+
+    @Override
+    public int getJobInstanceCount(String jobName) {
+        return this.repository.getJobInstanceCount(jobName);
+    }
+
+    @Override
+    public JobExecutionImpl createJobExecution(JobInstanceImpl jobInstance, Properties jobParameters) {
+        JobExecutionImpl execution = this.repository.createJobExecution(jobInstance, jobParameters);
+        String jobName = execution.getJobName();
+        Long id = execution.getExecutionId();
+        this.executions.computeIfAbsent(jobName, key -> new ConcurrentSkipListSet<>(MOST_RECENT_FIRST)).add(id);
+        this.runningExecutions.computeIfAbsent(jobName, key -> ConcurrentHashMap.newKeySet()).add(id);
+        return execution;
+    }
+
+    @Override
+    public JobExecution getJobExecution(long jobExecutionId) {
+        return this.repository.getJobExecution(jobExecutionId);
+    }
+
+    @Override
+    public List<JobExecution> getJobExecutions(JobInstance jobInstance) {
+        return this.repository.getJobExecutions(jobInstance);
+    }
+
+    @Override
+    public List<Long> getJobExecutionsByJob(String jobName) {
+        return this.getJobExecutionsByJob(jobName, null);
+    }
+
+    @Override
+    public List<Long> getJobExecutionsByJob(String jobName, Integer limit) {
+        NavigableSet<Long> executions = this.executions.get(jobName);
+        if (executions == null) {
+            return new ArrayList<>();
+        }
+        Stream<Long> ids = executions.stream();
+        return ((limit != null) ? ids.limit(limit) : ids).collect(Collectors.toList());
+    }
+
+    @Override
+    public void updateJobExecution(JobExecutionImpl jobExecution, boolean fullUpdate, boolean saveJobParameters) {
+        this.repository.updateJobExecution(jobExecution, fullUpdate, saveJobParameters);
+        this.statusChanged(jobExecution);
+    }
+
+    @Override
+    public void stopJobExecution(JobExecutionImpl jobExecution) {
+        this.repository.stopJobExecution(jobExecution);
+        this.statusChanged(jobExecution);
+    }
+
+    @Override
+    public List<Long> getRunningExecutions(String jobName) {
+        Set<Long> executions = this.runningExecutions.get(jobName);
+        if (executions == null) {
+            return new ArrayList<>();
+        }
+        List<Long> result = new ArrayList<>(executions.size());
+        for (Long id : executions) {
+            JobExecutionImpl execution = this.repository.getJobExecution(id);
+            // Status may have changed without a corresponding update
+            if ((execution != null) && RUNNING.contains(execution.getBatchStatus())) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void removeJobExecutions(JobExecutionSelector selector) {
+        this.repository.removeJobExecutions(selector);
+        // Purge index entries of removed job executions
+        List<Long> removed = new ArrayList<>();
+        for (NavigableSet<Long> executions : this.executions.values()) {
+            Iterator<Long> ids = executions.iterator();
+            while (ids.hasNext()) {
+                Long id = ids.next();
+                if (this.repository.getJobExecution(id) == null) {
+                    ids.remove();
+                    removed.add(id);
+                }
+            }
+        }
+        for (Set<Long> executions : this.runningExecutions.values()) {
+            executions.removeAll(removed);
+        }
+        synchronized (this.completedExecutions) {
+            this.completedExecutions.keySet().removeAll(removed);
+        }
+    }
+
+    @Override
+    public List<StepExecution> getStepExecutions(long jobExecutionId, ClassLoader classLoader) {
+        return this.repository.getStepExecutions(jobExecutionId, classLoader);
+    }
+
+    @Override
+    public StepExecutionImpl createStepExecution(String stepName) {
+        return this.repository.createStepExecution(stepName);
+    }
+
+    @Override
+    public void addStepExecution(JobExecutionImpl jobExecution, StepExecutionImpl stepExecution) {
+        this.repository.addStepExecution(jobExecution, stepExecution);
+    }
+
+    @Override
+    public void updateStepExecution(StepExecution stepExecution) {
+        this.repository.updateStepExecution(stepExecution);
+    }
+
+    @Override
+    public StepExecutionImpl findOriginalStepExecutionForRestart(String stepName, JobExecutionImpl jobExecutionToRestart, ClassLoader classLoader) {
+        return this.repository.findOriginalStepExecutionForRestart(stepName, jobExecutionToRestart, classLoader);
+    }
+
+    @Override
+    public int countStepStartTimes(String stepName, long jobInstanceId) {
+        return this.repository.countStepStartTimes(stepName, jobInstanceId);
+    }
+
+    @Override
+    public void addPartitionExecution(StepExecutionImpl enclosingStepExecution, PartitionExecutionImpl partitionExecution) {
+        this.repository.addPartitionExecution(enclosingStepExecution, partitionExecution);
+    }
+
+    @Override
+    public List<PartitionExecutionImpl> getPartitionExecutions(long stepExecutionId, StepExecutionImpl stepExecution, boolean notCompletedOnly, ClassLoader classLoader) {
+        return this.repository.getPartitionExecutions(stepExecutionId, stepExecution, notCompletedOnly, classLoader);
+    }
+
+    @Override
+    public void savePersistentData(JobExecution jobExecution, AbstractStepExecution stepOrPartitionExecution) {
+        this.repository.savePersistentData(jobExecution, stepOrPartitionExecution);
+    }
+
+    @Override
+    public int savePersistentDataIfNotStopping(JobExecution jobExecution, AbstractStepExecution stepOrPartitionExecution) {
+        return this.repository.savePersistentDataIfNotStopping(jobExecution, stepOrPartitionExecution);
+    }
+
+    private void statusChanged(JobExecutionImpl jobExecution) {
+        BatchStatus status = jobExecution.getBatchStatus();
+        if (!RUNNING.contains(status)) {
+            Set<Long> executions = this.runningExecutions.get(jobExecution.getJobName());
+            if (executions != null) {
+                executions.remove(jobExecution.getExecutionId());
+            }
+            if (COMPLETED.contains(status) && (this.maxCompletedExecutions != null || this.completedExecutionMaxAge != null)) {
+                List<JobExecutionImpl> evicted = this.completed(jobExecution);
+                if (!evicted.isEmpty()) {
+                    this.evict(evicted);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the completion of the specified job execution, returning any job executions exceeding the retention limits.
+     */
+    private List<JobExecutionImpl> completed(JobExecutionImpl jobExecution) {
+        Instant now = Instant.now();
+        synchronized (this.completedExecutions) {
+            // A completed execution may be updated more than once, e.g. when abandoned
+            this.completedExecutions.putIfAbsent(jobExecution.getExecutionId(), now);
+            Instant threshold = (this.completedExecutionMaxAge != null) ? now.minus(this.completedExecutionMaxAge) : null;
+            List<JobExecutionImpl> evicted = Collections.emptyList();
+            Iterator<Map.Entry<Long, Instant>> entries = this.completedExecutions.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<Long, Instant> entry = entries.next();
+                boolean exceedsCount = (this.maxCompletedExecutions != null) && (this.completedExecutions.size() > this.maxCompletedExecutions);
+                boolean expired = (threshold != null) && entry.getValue().isBefore(threshold);
+                if (!exceedsCount && !expired) {
+                    break;
+                }
+                entries.remove();
+                JobExecutionImpl execution = this.repository.getJobExecution(entry.getKey());
+                if (execution != null) {
+                    if (evicted.isEmpty()) {
+                        evicted = new ArrayList<>();
+                    }
+                    evicted.add(execution);
+                }
+            }
+            return evicted;
+        }
+    }
+
+    /**
+     * Removes the specified job executions from the repository and its indexes.
+     * A job instance is removed along with its most recent job execution.
+     */
+    private void evict(List<JobExecutionImpl> jobExecutions) {
+        Set<Long> ids = jobExecutions.stream().map(JobExecutionImpl::getExecutionId).collect(Collectors.toSet());
+        // Remove all evicted job executions in a single pass
+        this.repository.removeJobExecutions(new JobExecutionIdSelector(ids));
+        for (JobExecutionImpl execution : jobExecutions) {
+            NavigableSet<Long> executions = this.executions.get(execution.getJobName());
+            if (executions != null) {
+                executions.remove(execution.getExecutionId());
+            }
+            JobInstanceImpl instance = execution.getJobInstance();
+            List<JobExecution> instanceExecutions = instance.getJobExecutions();
+            // Retain the job instance if it was since restarted
+            if (instanceExecutions.isEmpty() || (instanceExecutions.get(instanceExecutions.size() - 1).getExecutionId() == execution.getExecutionId())) {
+                this.repository.removeJobInstance(instance.getInstanceId());
+            }
+        }
+    }
+
+    private static class JobExecutionIdSelector implements JobExecutionSelector {
+        private final Set<Long> ids;
+        private volatile JobContext jobContext;
+        private volatile StepContext stepContext;
+
+        JobExecutionIdSelector(Set<Long> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public boolean select(JobExecution jobExecution, Collection<Long> allJobExecutionIds) {
+            return this.ids.contains(jobExecution.getExecutionId());
+        }
+
+        @Override
+        public JobContext getJobContext() {
+            return this.jobContext;
+        }
+
+        @Override
+        public void setJobContext(JobContext jobContext) {
+            this.jobContext = jobContext;
+        }
+
+        @Override
+        public StepContext getStepContext() {
+            return this.stepContext;
+        }
+
+        @Override
+        public void setStepContext(StepContext stepContext) {
+            this.stepContext = stepContext;
+        }
+    }
+}
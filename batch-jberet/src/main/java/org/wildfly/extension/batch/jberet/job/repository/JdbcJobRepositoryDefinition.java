@@ -34,6 +34,7 @@ import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.server.Services;
 import org.jboss.dmr.ModelNode;
@@ -67,6 +68,17 @@ public class JdbcJobRepositoryDefinition extends SimpleResourceDefinition {
             .setRestartAllServices()
             .build();
 
+    /**
+     * The maximum number of successive metric-only checkpoints of a running step or partition execution that are coalesced
+     * into a single write to the database. Checkpoints with new checkpoint data are always written. If undefined, every
+     * checkpoint is written.
+     */
+    public static final SimpleAttributeDefinition MAX_COALESCED_CHECKPOINTS = SimpleAttributeDefinitionBuilder.create("max-coalesced-checkpoints", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+            .setRestartAllServices()
+            .build();
+
     public JdbcJobRepositoryDefinition() {
         super(
                 new Parameters(PATH, BatchResourceDescriptionResolver.getResourceDescriptionResolver(NAME))
@@ -83,12 +95,14 @@ public class JdbcJobRepositoryDefinition extends SimpleResourceDefinition {
                 new ReloadRequiredWriteAttributeHandler(DATA_SOURCE));
         resourceRegistration.registerReadWriteAttribute(CommonAttributes.EXECUTION_RECORDS_LIMIT, null,
                 new ReloadRequiredWriteAttributeHandler(CommonAttributes.EXECUTION_RECORDS_LIMIT));
+        resourceRegistration.registerReadWriteAttribute(MAX_COALESCED_CHECKPOINTS, null,
+                new ReloadRequiredWriteAttributeHandler(MAX_COALESCED_CHECKPOINTS));
     }
 
     private static class JdbcRepositoryAddHandler extends AbstractAddStepHandler {
 
         JdbcRepositoryAddHandler() {
-            super(DATA_SOURCE, CommonAttributes.EXECUTION_RECORDS_LIMIT);
+            super(DATA_SOURCE, CommonAttributes.EXECUTION_RECORDS_LIMIT, MAX_COALESCED_CHECKPOINTS);
         }
 
         @Override
@@ -97,13 +111,14 @@ public class JdbcJobRepositoryDefinition extends SimpleResourceDefinition {
             final String name = context.getCurrentAddressValue();
             final String dsName = DATA_SOURCE.resolveModelAttribute(context, model).asString();
             final Integer executionRecordsLimit = CommonAttributes.EXECUTION_RECORDS_LIMIT.resolveModelAttribute(context, model).asIntOrNull();
+            final Integer maxCoalescedCheckpoints = MAX_COALESCED_CHECKPOINTS.resolveModelAttribute(context, model).asIntOrNull();
             final ServiceTarget target = context.getServiceTarget();
             final ServiceName sn = context.getCapabilityServiceName(Capabilities.JOB_REPOSITORY_CAPABILITY.getName(), name, JobRepository.class);
             final ServiceBuilder<?> sb = target.addService(sn);
             final Consumer<JobRepository> jobRepositoryConsumer = sb.provides(sn);
             final Supplier<ExecutorService> executorSupplier = Services.requireServerExecutor(sb);
             final Supplier<DataSource> dataSourceSupplier = sb.requires(context.getCapabilityServiceName(Capabilities.DATA_SOURCE_CAPABILITY, dsName, DataSource.class));
-            final JdbcJobRepositoryService service = new JdbcJobRepositoryService(jobRepositoryConsumer, dataSourceSupplier, executorSupplier, executionRecordsLimit);
+            final JdbcJobRepositoryService service = new JdbcJobRepositoryService(jobRepositoryConsumer, dataSourceSupplier, executorSupplier, executionRecordsLimit, maxCoalescedCheckpoints);
             sb.setInstance(service);
             sb.install();
         }
@@ -46,15 +46,18 @@ public class JdbcJobRepositoryService extends JobRepositoryService implements Se
 
     private final Supplier<DataSource> dataSourceSupplier;
     private final Supplier<ExecutorService> executorSupplier;
-    private volatile JdbcRepository jobRepository;
+    private final Integer maxCoalescedCheckpoints;
+    private volatile JobRepository jobRepository;
 
     public JdbcJobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer,
                                     final Supplier<DataSource> dataSourceSupplier,
                                     final Supplier<ExecutorService> executorSupplier,
-                                    final Integer executionRecordsLimit) {
+                                    final Integer executionRecordsLimit,
+                                    final Integer maxCoalescedCheckpoints) {
         super(jobRepositoryConsumer, executionRecordsLimit);
         this.dataSourceSupplier = dataSourceSupplier;
         this.executorSupplier = executorSupplier;
+        this.maxCoalescedCheckpoints = maxCoalescedCheckpoints;
     }
 
     @Override
@@ -63,7 +66,9 @@ public class JdbcJobRepositoryService extends JobRepositoryService implements Se
         final Runnable task = () -> {
             try {
                 // Currently in jBeret tables are created in the constructor which is why this is done asynchronously
-                jobRepository = new JdbcRepository(dataSourceSupplier.get());
+                final DataSource dataSource = dataSourceSupplier.get();
+                final JdbcRepository repository = new JdbcRepository(dataSource);
+                jobRepository = (maxCoalescedCheckpoints != null && maxCoalescedCheckpoints > 1) ? new CoalescingJobRepository(repository, maxCoalescedCheckpoints) : repository;
                 context.complete();
             } catch (Exception e) {
                 context.failed(BatchLogger.LOGGER.failedToCreateJobRepository(e, "JDBC"));
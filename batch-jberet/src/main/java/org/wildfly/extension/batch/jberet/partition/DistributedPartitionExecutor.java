@@ -0,0 +1,250 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.partition;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jberet.job.model.Step;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.context.AbstractContext;
+import org.jberet.runtime.context.JobContextImpl;
+import org.jberet.runtime.context.StepContextImpl;
+import org.jberet.runtime.runner.BatchletRunner;
+import org.jberet.runtime.runner.ChunkRunner;
+import org.jberet.spi.BatchEnvironment;
+import org.jberet.spi.JobTask;
+import org.jberet.spi.PartitionInfo;
+import org.jberet.spi.PartitionWorker;
+import org.wildfly.clustering.Registration;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+import org.wildfly.clustering.group.Group;
+import org.wildfly.clustering.group.GroupListener;
+import org.wildfly.clustering.group.Membership;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+
+/**
+ * Distributes the partitions of partitioned steps of a deployment across the cluster members on which that deployment
+ * is installed.
+ * As a coordinator, dispatches partitions to the members selected by the {@link DistributedPartitionHandler} of a
+ * step, and routes the collector data and completion of those partitions back to that handler.
+ * As a worker, executes partitions on behalf of a coordinating member using the local batch environment.
+ * Partitions of a coordinating member that leaves the cluster are stopped, while the handlers of this member resubmit
+ * partitions assigned to departed members.
+ * @author agent
+ */
+public class DistributedPartitionExecutor implements GroupListener, AutoCloseable {
+
+    private final BatchEnvironment environment;
+    private final Group group;
+    private final CommandDispatcher<DistributedPartitionExecutor> dispatcher;
+    private final Registration registration;
+    // Handlers of partitioned steps coordinated by this member, keyed by step execution id
+    private final Map<Long, DistributedPartitionHandler> handlers = new ConcurrentHashMap<>();
+    // Job executions of partitions executing on this member on behalf of a coordinator
+    private final Map<PartitionKey, JobExecutionImpl> partitions = new ConcurrentHashMap<>();
+    // Responses awaited by partitions executing on this member, mapped to the member from which they are awaited
+    private final Map<CompletableFuture<?>, Node> responses = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a partition executor for a deployment.
+     *
+     * @param factory     a factory for creating the command dispatcher of this executor
+     * @param name        the name of the deployment, which must be the same on all members
+     * @param loader      the class loader of the deployment
+     * @param environment the batch environment of the deployment
+     */
+    public DistributedPartitionExecutor(CommandDispatcherFactory factory, String name, ClassLoader loader, BatchEnvironment environment) {
+        this.environment = environment;
+        this.group = factory.getGroup();
+        this.dispatcher = factory.createCommandDispatcher("batch-jberet/" + name, this, loader);
+        this.registration = this.group.register(this);
+    }
+
+    @Override
+    public void close() {
+        this.registration.close();
+        this.dispatcher.close();
+        // Stop any partitions executing on behalf of other members
+        for (JobExecutionImpl jobExecution : this.partitions.values()) {
+            jobExecution.stop();
+        }
+    }
+
+    @Override
+    public void membershipChanged(Membership previousMembership, Membership membership, boolean merged) {
+        Set<Node> departed = new HashSet<>(previousMembership.getMembers());
+        departed.removeAll(membership.getMembers());
+        if (!departed.isEmpty()) {
+            for (DistributedPartitionHandler handler : this.handlers.values()) {
+                handler.membersDeparted(departed);
+            }
+            // Partitions of a departed coordinator can no longer report their results
+            for (Map.Entry<PartitionKey, JobExecutionImpl> entry : this.partitions.entrySet()) {
+                if (departed.contains(entry.getKey().coordinator)) {
+                    entry.getValue().stop();
+                }
+            }
+            // Responses from departed members will never arrive
+            for (Map.Entry<CompletableFuture<?>, Node> entry : this.responses.entrySet()) {
+                if (departed.contains(entry.getValue())) {
+                    entry.getKey().cancel(false);
+                }
+            }
+        }
+    }
+
+    Node getLocalMember() {
+        return this.group.getLocalMember();
+    }
+
+    List<Node> getMembers() {
+        return this.group.getMembership().getMembers();
+    }
+
+    <R> CompletionStage<R> execute(Command<R, ? super DistributedPartitionExecutor> command, Node member) throws CommandDispatcherException {
+        return this.dispatcher.executeOnMember(command, member);
+    }
+
+    /**
+     * Executes the specified command on the specified member, and waits for its response.
+     *
+     * @param command the command to execute
+     * @param member  the member on which to execute the command
+     * @param timeout the maximum duration to wait for a response
+     * @return the result of the command
+     * @throws CancellationException if the member left the cluster before responding
+     * @throws TimeoutException      if the member did not respond within the specified timeout
+     */
+    <R> R executeAndWait(Command<R, ? super DistributedPartitionExecutor> command, Node member, Duration timeout) throws CommandDispatcherException, InterruptedException, ExecutionException, TimeoutException {
+        CompletableFuture<R> response = this.execute(command, member).toCompletableFuture();
+        this.responses.put(response, member);
+        try {
+            // The member may have departed before the response was registered
+            if (!this.getMembers().contains(member)) {
+                response.cancel(false);
+            }
+            return response.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            response.cancel(false);
+            throw e;
+        } finally {
+            this.responses.remove(response);
+        }
+    }
+
+    void register(long stepExecutionId, DistributedPartitionHandler handler) {
+        this.handlers.put(stepExecutionId, handler);
+    }
+
+    void unregister(long stepExecutionId, DistributedPartitionHandler handler) {
+        this.handlers.remove(stepExecutionId, handler);
+    }
+
+    DistributedPartitionHandler getHandler(long stepExecutionId) {
+        return this.handlers.get(stepExecutionId);
+    }
+
+    /**
+     * Executes the specified partition on behalf of the specified coordinating member.
+     *
+     * @param partition   the partition to execute
+     * @param coordinator the member coordinating the partitioned step
+     */
+    void executePartition(PartitionInfo partition, Node coordinator) {
+        JobExecutionImpl jobExecution = partition.getJobExecution();
+        PartitionExecutionImpl partitionExecution = partition.getPartitionExecution();
+        Step step = partition.getStep();
+        long stepExecutionId = partitionExecution.getStepExecutionId();
+        int partitionId = partitionExecution.getPartitionId();
+
+        JobContextImpl jobContext = new JobContextImpl(jobExecution, null, this.environment.getArtifactFactory(), this.environment.getJobRepository(), this.environment);
+        StepContextImpl stepContext = new StepContextImpl(step, partitionExecution, new AbstractContext[] { jobContext });
+        PartitionWorker worker = new DistributedPartitionWorker(this, coordinator, stepExecutionId, partitionId);
+        JobTask task = (step.getChunk() != null) ? new ChunkRunner(stepContext, null, step.getChunk(), this.environment.getTransactionManager(), worker) : new BatchletRunner(stepContext, null, step.getBatchlet(), worker);
+
+        this.partitions.put(new PartitionKey(coordinator, stepExecutionId, partitionId), jobExecution);
+        this.environment.submitTask(task);
+    }
+
+    /**
+     * Indicates that a partition executing on behalf of the specified coordinating member has completed.
+     */
+    void partitionDone(Node coordinator, long stepExecutionId, int partitionId) {
+        this.partitions.remove(new PartitionKey(coordinator, stepExecutionId, partitionId));
+    }
+
+    /**
+     * Stops all partitions of the specified step executing on behalf of the specified coordinating member.
+     *
+     * @param coordinator     the member coordinating the partitioned step
+     * @param stepExecutionId the execution id of the partitioned step
+     */
+    void stopPartitions(Node coordinator, long stepExecutionId) {
+        for (Map.Entry<PartitionKey, JobExecutionImpl> entry : this.partitions.entrySet()) {
+            PartitionKey key = entry.getKey();
+            if (key.coordinator.equals(coordinator) && (key.stepExecutionId == stepExecutionId)) {
+                entry.getValue().stop();
+            }
+        }
+    }
+
+    private static class PartitionKey {
+        final Node coordinator;
+        final long stepExecutionId;
+        final int partitionId;
+
+        PartitionKey(Node coordinator, long stepExecutionId, int partitionId) {
+            this.coordinator = coordinator;
+            this.stepExecutionId = stepExecutionId;
+            this.partitionId = partitionId;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof PartitionKey)) return false;
+            PartitionKey key = (PartitionKey) object;
+            return this.coordinator.equals(key.coordinator) && (this.stepExecutionId == key.stepExecutionId) && (this.partitionId == key.partitionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.coordinator, this.stepExecutionId, this.partitionId);
+        }
+    }
+}
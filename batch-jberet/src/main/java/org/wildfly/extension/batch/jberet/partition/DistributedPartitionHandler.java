@@ -0,0 +1,239 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.partition;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.runtime.JobStopNotificationListener;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.context.StepContextImpl;
+import org.jberet.spi.PartitionHandler;
+import org.jberet.spi.PartitionInfo;
+import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
+
+/**
+ * Partition handler that assigns the partitions of a step to cluster members in round-robin fashion.
+ * Partitions assigned to the local member are executed by the local thread partition handler.
+ * Partitions assigned to a member that leaves the cluster, or to which the partition could not be dispatched, are
+ * reassigned to another member and execute again from the beginning, i.e. partitions execute at least once.
+ * Collector data and completion are only accepted from the member to which a partition is currently assigned.
+ * @author agent
+ */
+class DistributedPartitionHandler implements PartitionHandler, JobStopNotificationListener {
+
+    private final DistributedPartitionExecutor executor;
+    private final long stepExecutionId;
+    private final PartitionHandler localHandler;
+    // Partitions assigned to remote members, keyed by partition id
+    private final Map<Integer, Assignment> assignments = new ConcurrentHashMap<>();
+    // Members to which partitions could not be dispatched
+    private final Set<Node> unavailableMembers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger counter = new AtomicInteger();
+    private volatile BlockingQueue<Boolean> resourceTracker;
+    private volatile BlockingQueue<Serializable> collectorDataQueue;
+
+    DistributedPartitionHandler(DistributedPartitionExecutor executor, long stepExecutionId, PartitionHandler localHandler) {
+        this.executor = executor;
+        this.stepExecutionId = stepExecutionId;
+        this.localHandler = localHandler;
+        executor.register(stepExecutionId, this);
+    }
+
+    @Override
+    public void setResourceTracker(BlockingQueue<Boolean> resourceTracker) {
+        this.resourceTracker = resourceTracker;
+        this.localHandler.setResourceTracker(resourceTracker);
+    }
+
+    @Override
+    public void setCollectorDataQueue(BlockingQueue<Serializable> collectorDataQueue) {
+        this.collectorDataQueue = collectorDataQueue;
+        this.localHandler.setCollectorDataQueue(collectorDataQueue);
+    }
+
+    @Override
+    public void submitPartitionTask(StepContextImpl partitionContext, int currentIndex, int numOfPartitions) throws Exception {
+        Node member = this.selectMember();
+        if (member == null) {
+            this.localHandler.submitPartitionTask(partitionContext, currentIndex, numOfPartitions);
+        } else {
+            Assignment assignment = new Assignment(partitionContext, currentIndex, numOfPartitions, member);
+            this.assignments.put(assignment.getPartitionId(), assignment);
+            this.dispatch(assignment);
+        }
+    }
+
+    @Override
+    public void close(StepContextImpl stepContext) {
+        this.executor.unregister(this.stepExecutionId, this);
+        this.localHandler.close(stepContext);
+    }
+
+    @Override
+    public void stopRequested(long jobExecutionId) {
+        Set<Node> members = new HashSet<>();
+        for (Assignment assignment : this.assignments.values()) {
+            members.add(assignment.member);
+        }
+        for (Node member : members) {
+            try {
+                this.executor.execute(new StopPartitionsCommand(this.executor.getLocalMember(), this.stepExecutionId), member);
+            } catch (CommandDispatcherException e) {
+                BatchLogger.LOGGER.debugf(e, "Failed to stop partitions of step execution %d on member %s", this.stepExecutionId, member);
+            }
+        }
+    }
+
+    void reportData(int partitionId, Node member, Serializable data) throws InterruptedException {
+        Assignment assignment = this.assignments.get(partitionId);
+        if ((assignment != null) && assignment.member.equals(member)) {
+            this.collectorDataQueue.put(data);
+        }
+    }
+
+    void partitionDone(Node member, PartitionExecutionImpl result) throws InterruptedException {
+        Assignment assignment = this.assignments.get(result.getPartitionId());
+        if ((assignment != null) && assignment.member.equals(member) && this.assignments.remove(result.getPartitionId(), assignment)) {
+            // Apply the results to the partition execution of this member
+            PartitionExecutionImpl partition = assignment.getPartitionExecution();
+            partition.setBatchStatus(result.getBatchStatus());
+            partition.setExitStatus(result.getExitStatus());
+            partition.setException(result.getException());
+            partition.setPersistentUserData(result.getPersistentUserData());
+            partition.setReaderCheckpointInfo(result.getReaderCheckpointInfo());
+            partition.setWriterCheckpointInfo(result.getWriterCheckpointInfo());
+            partition.getStepMetrics().addStepMetrics(result.getStepMetrics());
+            this.partitionDone(partition);
+        }
+    }
+
+    void membersDeparted(Set<Node> members) {
+        for (Assignment assignment : this.assignments.values()) {
+            if (members.contains(assignment.member)) {
+                BatchLogger.LOGGER.resubmittingPartition(assignment.getPartitionId(), this.stepExecutionId, assignment.member.getName());
+                this.reassign(assignment);
+            }
+        }
+    }
+
+    private void partitionDone(PartitionExecutionImpl partition) throws InterruptedException {
+        this.resourceTracker.offer(Boolean.TRUE);
+        this.collectorDataQueue.put(partition);
+    }
+
+    private void dispatch(Assignment assignment) {
+        PartitionInfo partition = new PartitionInfo(assignment.getPartitionExecution(), assignment.context.getStep(), assignment.context.getJobContext().getJobExecution());
+        try {
+            this.executor.execute(new ExecutePartitionCommand(partition, this.executor.getLocalMember()), assignment.member).whenComplete((result, e) -> {
+                if (e != null) {
+                    this.dispatchFailed(assignment, e);
+                }
+            });
+        } catch (CommandDispatcherException e) {
+            this.dispatchFailed(assignment, e);
+        }
+    }
+
+    private void dispatchFailed(Assignment assignment, Throwable cause) {
+        BatchLogger.LOGGER.partitionDispatchFailed(cause, assignment.getPartitionId(), this.stepExecutionId, assignment.member.getName());
+        this.unavailableMembers.add(assignment.member);
+        this.reassign(assignment);
+    }
+
+    private void reassign(Assignment assignment) {
+        Node member = this.selectMember();
+        if (member == null) {
+            if (this.assignments.remove(assignment.getPartitionId(), assignment)) {
+                try {
+                    this.localHandler.submitPartitionTask(assignment.context, assignment.index, assignment.count);
+                } catch (Exception e) {
+                    this.partitionFailed(assignment, e);
+                }
+            }
+        } else {
+            Assignment reassignment = new Assignment(assignment.context, assignment.index, assignment.count, member);
+            if (this.assignments.replace(assignment.getPartitionId(), assignment, reassignment)) {
+                this.dispatch(reassignment);
+            }
+        }
+    }
+
+    private void partitionFailed(Assignment assignment, Exception exception) {
+        PartitionExecutionImpl partition = assignment.getPartitionExecution();
+        partition.setException(exception);
+        partition.setBatchStatus(BatchStatus.FAILED);
+        try {
+            this.partitionDone(partition);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Selects the member to which the next partition will be assigned.
+     *
+     * @return a remote member, or null if the partition should execute locally
+     */
+    private Node selectMember() {
+        List<Node> members = new ArrayList<>(this.executor.getMembers());
+        members.removeAll(this.unavailableMembers);
+        Node localMember = this.executor.getLocalMember();
+        if (members.isEmpty()) return null;
+        Node member = members.get(Math.floorMod(this.counter.getAndIncrement(), members.size()));
+        return !member.equals(localMember) ? member : null;
+    }
+
+    private static class Assignment {
+        final StepContextImpl context;
+        final int index;
+        final int count;
+        final Node member;
+
+        Assignment(StepContextImpl context, int index, int count, Node member) {
+            this.context = context;
+            this.index = index;
+            this.count = count;
+            this.member = member;
+        }
+
+        PartitionExecutionImpl getPartitionExecution() {
+            return (PartitionExecutionImpl) this.context.getStepExecution();
+        }
+
+        int getPartitionId() {
+            return this.getPartitionExecution().getPartitionId();
+        }
+    }
+}
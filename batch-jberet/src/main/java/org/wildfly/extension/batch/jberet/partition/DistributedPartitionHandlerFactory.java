@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.partition;
+
+import java.util.Properties;
+
+import org.jberet.runtime.context.StepContextImpl;
+import org.jberet.runtime.runner.StepExecutionRunner;
+import org.jberet.runtime.runner.ThreadPartitionHandlerFactory;
+import org.jberet.spi.BatchEnvironment;
+import org.jberet.spi.PartitionHandler;
+import org.jberet.spi.PartitionHandlerFactory;
+
+/**
+ * Creates partition handlers that distribute the partitions of a step across the members of a cluster, if the batch
+ * environment of the job defines a partition executor.
+ * Distribution may be disabled for a given job or step via the {@value #DISTRIBUTED} property, in which case, as well
+ * as when the batch environment does not define a partition executor, partitions execute on the local thread pool.
+ * Registered via the org.wildfly.extension.batch.jberet.partition module, which deployments import only when distribution is enabled.
+ * @author agent
+ */
+public class DistributedPartitionHandlerFactory implements PartitionHandlerFactory {
+
+    /**
+     * The name of the job or step property indicating whether or not the partitions of a step should be distributed.
+     */
+    public static final String DISTRIBUTED = "org.wildfly.batch.partition.distributed";
+
+    @Override
+    public PartitionHandler createPartitionHandler(StepContextImpl stepContext, StepExecutionRunner runner) {
+        PartitionHandler localHandler = ThreadPartitionHandlerFactory.getInstance().createPartitionHandler(stepContext, runner);
+        BatchEnvironment environment = stepContext.getJobContext().getBatchEnvironment();
+        if ((environment instanceof DistributedBatchEnvironment) && isDistributed(stepContext)) {
+            DistributedPartitionExecutor executor = ((DistributedBatchEnvironment) environment).getPartitionExecutor();
+            if (executor != null) {
+                return new DistributedPartitionHandler(executor, stepContext.getStepExecutionId(), localHandler);
+            }
+        }
+        return localHandler;
+    }
+
+    private static boolean isDistributed(StepContextImpl stepContext) {
+        // Step properties take precedence over job properties
+        for (Properties properties : new Properties[] { stepContext.getProperties(), stepContext.getJobContext().getProperties() }) {
+            String value = (properties != null) ? properties.getProperty(DISTRIBUTED) : null;
+            if (value != null) {
+                return Boolean.parseBoolean(value.trim());
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.partition;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+import org.jberet.runtime.AbstractStepExecution;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.spi.PartitionWorker;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.extension.batch.jberet._private.BatchLogger;
+
+/**
+ * Partition worker for a partition executing on behalf of a remote coordinating member, to which collector data and
+ * completion are reported.
+ * Reports block until acknowledged by the coordinator, so that collector data is always received before completion.
+ * A report fails if the coordinator does not acknowledge it within {@link #REPORT_TIMEOUT} or leaves the cluster.
+ * @author agent
+ */
+class DistributedPartitionWorker implements PartitionWorker {
+
+    static final Duration REPORT_TIMEOUT = Duration.ofMinutes(1);
+
+    private final DistributedPartitionExecutor executor;
+    private final Node coordinator;
+    private final long stepExecutionId;
+    private final int partitionId;
+
+    DistributedPartitionWorker(DistributedPartitionExecutor executor, Node coordinator, long stepExecutionId, int partitionId) {
+        this.executor = executor;
+        this.coordinator = coordinator;
+        this.stepExecutionId = stepExecutionId;
+        this.partitionId = partitionId;
+    }
+
+    @Override
+    public void reportData(Serializable data, AbstractStepExecution execution) throws Exception {
+        this.executor.executeAndWait(new ReportPartitionDataCommand(this.stepExecutionId, this.partitionId, this.executor.getLocalMember(), data), this.coordinator, REPORT_TIMEOUT);
+    }
+
+    @Override
+    public void partitionDone(AbstractStepExecution execution) {
+        this.executor.partitionDone(this.coordinator, this.stepExecutionId, this.partitionId);
+        try {
+            this.executor.executeAndWait(new PartitionDoneCommand(this.executor.getLocalMember(), (PartitionExecutionImpl) execution), this.coordinator, REPORT_TIMEOUT);
+        } catch (Exception e) {
+            BatchLogger.LOGGER.partitionReportFailed(e, this.partitionId, this.stepExecutionId, this.coordinator.getName());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.partition;
+
+import org.jberet.spi.PartitionInfo;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * Command that executes a partition on the receiving member, on behalf of the coordinating member.
+ * @author agent
+ */
+class ExecutePartitionCommand implements Command<Void, DistributedPartitionExecutor> {
+    private static final long serialVersionUID = 3306934462185735270L;
+
+    private final PartitionInfo partition;
+    private final Node coordinator;
+
+    ExecutePartitionCommand(PartitionInfo partition, Node coordinator) {
+        this.partition = partition;
+        this.coordinator = coordinator;
+    }
+
+    @Override
+    public Void execute(DistributedPartitionExecutor executor) {
+        executor.executePartition(this.partition, this.coordinator);
+        return null;
+    }
+}
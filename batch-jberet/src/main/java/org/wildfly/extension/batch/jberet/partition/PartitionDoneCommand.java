@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.partition;
+
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * Command that reports the completion of a partition to the coordinating member.
+ * @author agent
+ */
+class PartitionDoneCommand implements Command<Void, DistributedPartitionExecutor> {
+    private static final long serialVersionUID = 7418432404349203428L;
+
+    private final Node member;
+    private final PartitionExecutionImpl partition;
+
+    PartitionDoneCommand(Node member, PartitionExecutionImpl partition) {
+        this.member = member;
+        this.partition = partition;
+    }
+
+    @Override
+    public Void execute(DistributedPartitionExecutor executor) throws InterruptedException {
+        DistributedPartitionHandler handler = executor.getHandler(this.partition.getStepExecutionId());
+        if (handler != null) {
+            handler.partitionDone(this.member, this.partition);
+        }
+        return null;
+    }
+}
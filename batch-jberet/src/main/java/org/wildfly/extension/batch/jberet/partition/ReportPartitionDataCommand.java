@@ -0,0 +1,57 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.partition;
+
+import java.io.Serializable;
+
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * Command that reports the collector data of a partition to the coordinating member.
+ * @author agent
+ */
+class ReportPartitionDataCommand implements Command<Void, DistributedPartitionExecutor> {
+    private static final long serialVersionUID = -4296520212440381727L;
+
+    private final long stepExecutionId;
+    private final int partitionId;
+    private final Node member;
+    private final Serializable data;
+
+    ReportPartitionDataCommand(long stepExecutionId, int partitionId, Node member, Serializable data) {
+        this.stepExecutionId = stepExecutionId;
+        this.partitionId = partitionId;
+        this.member = member;
+        this.data = data;
+    }
+
+    @Override
+    public Void execute(DistributedPartitionExecutor executor) throws InterruptedException {
+        DistributedPartitionHandler handler = executor.getHandler(this.stepExecutionId);
+        if (handler != null) {
+            handler.reportData(this.partitionId, this.member, this.data);
+        }
+        return null;
+    }
+}
@@ -71,7 +71,7 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
 
     @Override
     protected String getSubsystemXsdPath() {
-        return "schema/wildfly-batch-jberet_3_0.xsd";
+        return "schema/wildfly-batch-jberet_4_0.xsd";
     }
 
     @Test
@@ -108,6 +108,17 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
         assertEquals("Expecting restart-jobs-on-resume " + expectedRestartOnResume + ", but got " + restartOnResume,
                 expectedRestartOnResume, restartOnResume);
 
+        final ModelNode inMemoryRepository = batchModel.get(InMemoryJobRepositoryDefinition.NAME, "in-memory");
+        final int expectedMaxCompletedExecutions = 1000;
+        final int maxCompletedExecutions = inMemoryRepository.get(InMemoryJobRepositoryDefinition.MAX_COMPLETED_EXECUTIONS.getName()).resolve().asInt();
+        assertEquals("Expecting max-completed-executions " + expectedMaxCompletedExecutions + ", but got " + maxCompletedExecutions,
+                expectedMaxCompletedExecutions, maxCompletedExecutions);
+
+        final long expectedCompletedExecutionMaxAge = 1440;
+        final long completedExecutionMaxAge = inMemoryRepository.get(InMemoryJobRepositoryDefinition.COMPLETED_EXECUTION_MAX_AGE.getName()).resolve().asLong();
+        assertEquals("Expecting completed-execution-max-age " + expectedCompletedExecutionMaxAge + ", but got " + completedExecutionMaxAge,
+                expectedCompletedExecutionMaxAge, completedExecutionMaxAge);
+
         final ModelNode threadPool = batchModel.get("thread-pool").asProperty().getValue();
         final int expectedMaxThreads = 10;
         final int maxThreads = threadPool.get("max-threads").resolve().asInt();
@@ -168,13 +179,19 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
     public void testRejectingTransformersEAP74() throws Exception {
         FailedOperationTransformationConfig transformationConfig = new FailedOperationTransformationConfig();
 
+        PathAddress subsystemAddress = PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH);
+        transformationConfig.addFailedAttribute(subsystemAddress,
+                new FailedOperationTransformationConfig.NewAttributesConfig(BatchSubsystemDefinition.PARTITION_CHANNEL));
+
         PathAddress repositoryAddress = PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH, InMemoryJobRepositoryDefinition.PATH);
         transformationConfig.addFailedAttribute(repositoryAddress,
-                new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT));
+                new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT,
+                        InMemoryJobRepositoryDefinition.MAX_COMPLETED_EXECUTIONS, InMemoryJobRepositoryDefinition.COMPLETED_EXECUTION_MAX_AGE));
 
         PathAddress jdbcRepositoryAddress = PathAddress.pathAddress(BatchSubsystemDefinition.SUBSYSTEM_PATH, JdbcJobRepositoryDefinition.PATH);
         transformationConfig.addFailedAttribute(jdbcRepositoryAddress,
-                new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT));
+                new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.EXECUTION_RECORDS_LIMIT,
+                        JdbcJobRepositoryDefinition.MAX_COALESCED_CHECKPOINTS));
 
         testRejectingTransformers(transformationConfig, ModelTestControllerVersion.EAP_7_4_0);
     }
@@ -203,6 +220,7 @@ public class JBeretSubsystemParsingTestCase extends AbstractBatchTestCase {
     @Override
     protected AdditionalInitialization createAdditionalInitialization() {
         return AdditionalInitialization.withCapabilities(
+                "org.wildfly.clustering.command-dispatcher-factory.ee",
                 "org.wildfly.data-source.ExampleDS",
                 "org.wildfly.security.security-domain.ApplicationDomain",
                 "org.wildfly.transactions.global-default-local-provider");
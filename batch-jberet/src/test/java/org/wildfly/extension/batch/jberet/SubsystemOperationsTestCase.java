@@ -69,6 +69,7 @@ public class SubsystemOperationsTestCase extends AbstractBatchTestCase {
                 super.initializeExtraSubystemsAndModel(extensionRegistry, rootResource, rootRegistration, capabilityRegistry);
                 registerCapabilities(capabilityRegistry,
                         "org.wildfly.batch.thread.pool.new-job-repo",
+                        "org.wildfly.clustering.command-dispatcher-factory.ee",
                         "org.wildfly.transactions.global-default-local-provider",
                         "org.wildfly.data-source.ExampleDS");
             }
@@ -0,0 +1,231 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Properties;
+
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.job.model.Job;
+import org.jberet.repository.InMemoryRepository;
+import org.jberet.repository.JobRepository;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for the coalescing of metric-only checkpoint writes by {@link CoalescingJobRepository}.
+ * @author agent
+ */
+public class CoalescingJobRepositoryTestCase {
+
+    private final JobRepository repository = mock(JobRepository.class);
+    private final StepExecutionImpl stepExecution = new StepExecutionImpl("step");
+    private final CoalescingJobRepository subject = new CoalescingJobRepository(this.repository, 3);
+    private JobExecutionImpl jobExecution;
+    private long jobExecutionId;
+
+    @Before
+    public void init() {
+        InMemoryRepository repository = new InMemoryRepository();
+        JobInstanceImpl jobInstance = repository.createJobInstance(new Job("job"), "app", this.getClass().getClassLoader());
+        this.jobExecution = repository.createJobExecution(jobInstance, new Properties());
+        this.jobExecutionId = this.jobExecution.getExecutionId();
+        this.jobExecution.setBatchStatus(BatchStatus.STARTED);
+        this.stepExecution.setBatchStatus(BatchStatus.STARTED);
+        when(this.repository.savePersistentDataIfNotStopping(any(), any())).thenReturn(1);
+    }
+
+    @Test
+    public void coalesce() {
+        // The initial checkpoint is written
+        assertEquals(1, this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution));
+        verify(this.repository).savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+
+        // Only every 3rd metric-only write is issued
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(1, this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution));
+        }
+        verify(this.repository, times(1)).savePersistentDataIfNotStopping(any(), any());
+
+        assertEquals(1, this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution));
+        verify(this.repository, times(2)).savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+
+        for (int i = 0; i < 2; ++i) {
+            this.subject.savePersistentData(this.jobExecution, this.stepExecution);
+        }
+        verify(this.repository, never()).savePersistentData(any(), any());
+
+        this.subject.savePersistentData(this.jobExecution, this.stepExecution);
+        verify(this.repository).savePersistentData(this.jobExecution, this.stepExecution);
+    }
+
+    @Test
+    public void checkpoint() {
+        // Every write of new checkpoint data is issued
+        for (int i = 0; i < 3; ++i) {
+            this.stepExecution.setReaderCheckpointInfo(i);
+            assertEquals(1, this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution));
+            verify(this.repository, times(i + 1)).savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+        }
+
+        // ... including checkpoint info mutated in place
+        ArrayList<Integer> writerCheckpoint = new ArrayList<>();
+        for (int i = 0; i < 3; ++i) {
+            writerCheckpoint.add(i);
+            this.stepExecution.setWriterCheckpointInfo(writerCheckpoint);
+            this.subject.savePersistentData(this.jobExecution, this.stepExecution);
+            verify(this.repository, times(i + 1)).savePersistentData(this.jobExecution, this.stepExecution);
+        }
+
+        // ... and persistent user data
+        this.stepExecution.setPersistentUserData("data");
+        this.subject.savePersistentData(this.jobExecution, this.stepExecution);
+        verify(this.repository, times(4)).savePersistentData(this.jobExecution, this.stepExecution);
+
+        // A metric-only write following a pending write of new checkpoint data is coalesced
+        this.subject.savePersistentData(this.jobExecution, this.stepExecution);
+        verify(this.repository, times(4)).savePersistentData(this.jobExecution, this.stepExecution);
+    }
+
+    @Test
+    public void coalescePartitions() {
+        // Partition executions share the identifier of their step execution, but are coalesced independently
+        PartitionExecutionImpl partition1 = new PartitionExecutionImpl(this.stepExecution);
+        PartitionExecutionImpl partition2 = new PartitionExecutionImpl(this.stepExecution);
+        partition1.setPartitionId(0);
+        partition2.setPartitionId(1);
+
+        for (int i = 0; i < 4; ++i) {
+            this.subject.savePersistentDataIfNotStopping(this.jobExecution, partition1);
+        }
+        for (int i = 0; i < 2; ++i) {
+            this.subject.savePersistentDataIfNotStopping(this.jobExecution, partition2);
+        }
+
+        verify(this.repository, times(2)).savePersistentDataIfNotStopping(this.jobExecution, partition1);
+        verify(this.repository, times(1)).savePersistentDataIfNotStopping(this.jobExecution, partition2);
+
+        // Pending partition writes are flushed before a query of the partition executions of their step
+        this.subject.getPartitionExecutions(this.stepExecution.getStepExecutionId(), this.stepExecution, false, null);
+
+        verify(this.repository).savePersistentData(this.jobExecution, partition2);
+        verify(this.repository, never()).savePersistentData(this.jobExecution, partition1);
+    }
+
+    @Test
+    public void stepEnd() {
+        this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+        this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+
+        // A write of a completed step is never coalesced, and supersedes the pending write
+        this.stepExecution.setBatchStatus(BatchStatus.COMPLETED);
+        this.subject.savePersistentData(this.jobExecution, this.stepExecution);
+        verify(this.repository).savePersistentData(this.jobExecution, this.stepExecution);
+
+        this.subject.updateStepExecution(this.stepExecution);
+        this.subject.getStepExecutions(this.jobExecutionId, null);
+        verify(this.repository).updateStepExecution(this.stepExecution);
+        verify(this.repository, times(1)).savePersistentData(any(), any());
+    }
+
+    @Test
+    public void flush() {
+        this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+        this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+
+        // Pending writes are flushed before a query of the step executions of their job
+        this.subject.getStepExecutions(this.jobExecutionId + 1, null);
+        verify(this.repository, never()).savePersistentData(any(), any());
+
+        this.subject.getStepExecutions(this.jobExecutionId, null);
+        verify(this.repository).savePersistentData(this.jobExecution, this.stepExecution);
+
+        // Flushed writes are not repeated
+        this.subject.updateJobExecution(this.jobExecution, false, false);
+        verify(this.repository, times(1)).savePersistentData(any(), any());
+
+        // Pending writes are flushed before an update of their job
+        this.subject.savePersistentData(this.jobExecution, this.stepExecution);
+        this.subject.updateJobExecution(this.jobExecution, false, false);
+        verify(this.repository, times(2)).savePersistentData(this.jobExecution, this.stepExecution);
+    }
+
+    @Test
+    public void remoteStop() {
+        this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+
+        // A stop request persisted by another server is not detected by a coalesced write
+        when(this.repository.savePersistentDataIfNotStopping(any(), any())).thenReturn(0);
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(1, this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution));
+        }
+        verify(this.repository, times(1)).savePersistentDataIfNotStopping(any(), any());
+
+        // ... but by the next issued conditional write
+        assertEquals(0, this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution));
+        verify(this.repository, times(2)).savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+
+        // No write remains pending
+        this.subject.getStepExecutions(this.jobExecutionId, null);
+        verify(this.repository, never()).savePersistentData(any(), any());
+    }
+
+    @Test
+    public void localStop() {
+        this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+        this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+
+        // A stop request issued via this server is detected at the next chunk boundary, via the in-memory status of the job execution
+        this.jobExecution.setBatchStatus(BatchStatus.STOPPING);
+        when(this.repository.savePersistentDataIfNotStopping(any(), any())).thenReturn(0);
+        assertEquals(0, this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution));
+        verify(this.repository, times(2)).savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+
+        // The pending write is superseded by the issued write
+        this.subject.getStepExecutions(this.jobExecutionId, null);
+        verify(this.repository, never()).savePersistentData(any(), any());
+    }
+
+    @Test
+    public void stopping() {
+        // Writes of a stopping job are never coalesced
+        this.jobExecution.setBatchStatus(BatchStatus.STOPPING);
+        when(this.repository.savePersistentDataIfNotStopping(any(), any())).thenReturn(0);
+
+        assertEquals(0, this.subject.savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution));
+        verify(this.repository).savePersistentDataIfNotStopping(this.jobExecution, this.stepExecution);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.job.model.Job;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.junit.Test;
+
+/**
+ * Unit test for the indexes and the eviction of completed job executions of {@link IndexedInMemoryRepository}.
+ * @author agent
+ */
+public class IndexedInMemoryRepositoryTestCase {
+
+    private static final String JOB_NAME = "job";
+
+    private final Job job = new Job(JOB_NAME);
+
+    @Test
+    public void unbounded() {
+        IndexedInMemoryRepository repository = new IndexedInMemoryRepository(null, null);
+
+        JobExecutionImpl execution1 = this.start(repository);
+        JobExecutionImpl execution2 = this.start(repository);
+        assertEquals(List.of(execution2.getExecutionId(), execution1.getExecutionId()), repository.getJobExecutionsByJob(JOB_NAME));
+        assertEquals(List.of(execution2.getExecutionId()), repository.getJobExecutionsByJob(JOB_NAME, 1));
+        assertEquals(2, repository.getRunningExecutions(JOB_NAME).size());
+
+        complete(repository, execution1, BatchStatus.COMPLETED);
+        complete(repository, execution2, BatchStatus.FAILED);
+
+        // Completed executions are retained
+        assertEquals(List.of(execution2.getExecutionId(), execution1.getExecutionId()), repository.getJobExecutionsByJob(JOB_NAME));
+        assertEquals(List.of(), repository.getRunningExecutions(JOB_NAME));
+        assertNotNull(repository.getJobExecution(execution1.getExecutionId()));
+        assertEquals(2, repository.getJobInstanceCount(JOB_NAME));
+    }
+
+    @Test
+    public void evictOldestCompleted() {
+        IndexedInMemoryRepository repository = new IndexedInMemoryRepository(2, null);
+
+        JobExecutionImpl execution1 = this.start(repository);
+        JobExecutionImpl execution2 = this.start(repository);
+        JobExecutionImpl execution3 = this.start(repository);
+        JobExecutionImpl execution4 = this.start(repository);
+
+        // Eviction follows order of completion, rather than order of creation
+        complete(repository, execution2, BatchStatus.COMPLETED);
+        complete(repository, execution1, BatchStatus.STOPPED);
+        complete(repository, execution3, BatchStatus.FAILED);
+
+        assertNull(repository.getJobExecution(execution2.getExecutionId()));
+        assertNull(repository.getJobInstance(execution2.getJobInstance().getInstanceId()));
+        assertNotNull(repository.getJobExecution(execution1.getExecutionId()));
+        assertNotNull(repository.getJobExecution(execution3.getExecutionId()));
+
+        // Lookups no longer include evicted executions
+        assertEquals(List.of(execution4.getExecutionId(), execution3.getExecutionId(), execution1.getExecutionId()), repository.getJobExecutionsByJob(JOB_NAME));
+        assertEquals(List.of(execution4.getExecutionId(), execution3.getExecutionId()), repository.getJobExecutionsByJob(JOB_NAME, 2));
+        assertEquals(3, repository.getJobInstanceCount(JOB_NAME));
+
+        // Running executions are never evicted
+        assertEquals(List.of(execution4.getExecutionId()), repository.getRunningExecutions(JOB_NAME));
+
+        complete(repository, execution4, BatchStatus.COMPLETED);
+
+        assertNull(repository.getJobExecution(execution1.getExecutionId()));
+        assertEquals(List.of(execution4.getExecutionId(), execution3.getExecutionId()), repository.getJobExecutionsByJob(JOB_NAME));
+        assertEquals(List.of(), repository.getRunningExecutions(JOB_NAME));
+        assertEquals(2, repository.getJobInstanceCount(JOB_NAME));
+    }
+
+    @Test
+    public void evictExpired() throws InterruptedException {
+        IndexedInMemoryRepository repository = new IndexedInMemoryRepository(null, Duration.ofMillis(50));
+
+        JobExecutionImpl execution1 = this.start(repository);
+        JobExecutionImpl execution2 = this.start(repository);
+
+        complete(repository, execution1, BatchStatus.COMPLETED);
+        Thread.sleep(100);
+        complete(repository, execution2, BatchStatus.COMPLETED);
+
+        assertNull(repository.getJobExecution(execution1.getExecutionId()));
+        assertNotNull(repository.getJobExecution(execution2.getExecutionId()));
+        assertEquals(List.of(execution2.getExecutionId()), repository.getJobExecutionsByJob(JOB_NAME));
+    }
+
+    @Test
+    public void retainRestartedInstance() {
+        IndexedInMemoryRepository repository = new IndexedInMemoryRepository(1, null);
+
+        JobExecutionImpl execution1 = this.start(repository);
+        complete(repository, execution1, BatchStatus.FAILED);
+
+        // Restart the failed job instance
+        JobInstanceImpl instance = execution1.getJobInstance();
+        JobExecutionImpl execution2 = repository.createJobExecution(instance, new Properties());
+        complete(repository, execution2, BatchStatus.COMPLETED);
+
+        // Evicting the original execution retains its restarted job instance
+        assertNull(repository.getJobExecution(execution1.getExecutionId()));
+        assertNotNull(repository.getJobInstance(instance.getInstanceId()));
+        assertEquals(List.of(execution2.getExecutionId()), repository.getJobExecutionsByJob(JOB_NAME));
+    }
+
+    @Test
+    public void abandon() {
+        IndexedInMemoryRepository repository = new IndexedInMemoryRepository(1, null);
+
+        JobExecutionImpl execution1 = this.start(repository);
+        JobExecutionImpl execution2 = this.start(repository);
+        complete(repository, execution1, BatchStatus.FAILED);
+        // Abandoning a completed execution does not count twice towards the retention limit
+        complete(repository, execution1, BatchStatus.ABANDONED);
+
+        assertNotNull(repository.getJobExecution(execution1.getExecutionId()));
+        assertEquals(List.of(execution2.getExecutionId(), execution1.getExecutionId()), repository.getJobExecutionsByJob(JOB_NAME));
+    }
+
+    private JobExecutionImpl start(IndexedInMemoryRepository repository) {
+        JobInstanceImpl instance = repository.createJobInstance(this.job, "app", this.getClass().getClassLoader());
+        JobExecutionImpl execution = repository.createJobExecution(instance, new Properties());
+        execution.setBatchStatus(BatchStatus.STARTED);
+        repository.updateJobExecution(execution, false, false);
+        return execution;
+    }
+
+    private static void complete(IndexedInMemoryRepository repository, JobExecutionImpl execution, BatchStatus status) {
+        execution.setBatchStatus(status);
+        repository.updateJobExecution(execution, false, false);
+    }
+}
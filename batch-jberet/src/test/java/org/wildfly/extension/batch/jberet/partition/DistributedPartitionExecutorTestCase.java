@@ -0,0 +1,199 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.batch.jberet.partition;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jberet.spi.BatchEnvironment;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.clustering.Registration;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.group.Group;
+import org.wildfly.clustering.group.Membership;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+
+/**
+ * Unit test for the command execution and membership handling of {@link DistributedPartitionExecutor}.
+ * @author agent
+ */
+public class DistributedPartitionExecutorTestCase {
+
+    private final CommandDispatcherFactory factory = mock(CommandDispatcherFactory.class);
+    private final Group group = mock(Group.class);
+    @SuppressWarnings("unchecked")
+    private final CommandDispatcher<DistributedPartitionExecutor> dispatcher = mock(CommandDispatcher.class);
+    private final Registration registration = mock(Registration.class);
+    private final Membership membership = mock(Membership.class);
+    private final Node localMember = mock(Node.class);
+    private final Node remoteMember = mock(Node.class);
+    @SuppressWarnings("unchecked")
+    private final Command<String, DistributedPartitionExecutor> command = mock(Command.class);
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private DistributedPartitionExecutor subject;
+
+    @Before
+    public void init() {
+        when(this.factory.getGroup()).thenReturn(this.group);
+        when(this.factory.<DistributedPartitionExecutor>createCommandDispatcher(eq("batch-jberet/test.war"), any(), any())).thenReturn(this.dispatcher);
+        when(this.group.register(any())).thenReturn(this.registration);
+        when(this.group.getLocalMember()).thenReturn(this.localMember);
+        when(this.group.getMembership()).thenReturn(this.membership);
+        when(this.membership.getMembers()).thenReturn(List.of(this.localMember, this.remoteMember));
+        this.subject = new DistributedPartitionExecutor(this.factory, "test.war", this.getClass().getClassLoader(), mock(BatchEnvironment.class));
+        verify(this.group).register(this.subject);
+    }
+
+    @After
+    public void destroy() {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void close() {
+        this.subject.close();
+
+        verify(this.registration).close();
+        verify(this.dispatcher).close();
+    }
+
+    @Test
+    public void handlers() {
+        DistributedPartitionHandler handler = mock(DistributedPartitionHandler.class);
+
+        this.subject.register(1L, handler);
+        assertEquals(handler, this.subject.getHandler(1L));
+
+        this.subject.unregister(1L, mock(DistributedPartitionHandler.class));
+        assertEquals(handler, this.subject.getHandler(1L));
+
+        this.subject.unregister(1L, handler);
+        assertNull(this.subject.getHandler(1L));
+    }
+
+    @Test
+    public void executeAndWait() throws Exception {
+        when(this.dispatcher.executeOnMember(same(this.command), same(this.remoteMember))).thenReturn(CompletableFuture.completedFuture("result"));
+
+        assertEquals("result", this.subject.executeAndWait(this.command, this.remoteMember, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void executeAndWaitFailed() throws Exception {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        response.completeExceptionally(new Exception());
+        when(this.dispatcher.executeOnMember(same(this.command), same(this.remoteMember))).thenReturn(response);
+
+        try {
+            this.subject.executeAndWait(this.command, this.remoteMember, Duration.ofSeconds(1));
+            fail();
+        } catch (ExecutionException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void executeAndWaitTimeout() throws Exception {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        when(this.dispatcher.executeOnMember(same(this.command), same(this.remoteMember))).thenReturn(response);
+
+        try {
+            this.subject.executeAndWait(this.command, this.remoteMember, Duration.ofMillis(10));
+            fail();
+        } catch (TimeoutException e) {
+            assertTrue(response.isCancelled());
+        }
+    }
+
+    @Test
+    public void executeAndWaitAbsentMember() throws Exception {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        when(this.dispatcher.executeOnMember(same(this.command), same(this.remoteMember))).thenReturn(response);
+        when(this.membership.getMembers()).thenReturn(List.of(this.localMember));
+
+        try {
+            this.subject.executeAndWait(this.command, this.remoteMember, Duration.ofMinutes(1));
+            fail();
+        } catch (CancellationException e) {
+            assertTrue(response.isCancelled());
+        }
+    }
+
+    @Test
+    public void executeAndWaitMemberDeparted() throws Exception {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        when(this.dispatcher.executeOnMember(same(this.command), same(this.remoteMember))).thenReturn(response);
+        Membership previousMembership = this.membership;
+        Membership membership = mock(Membership.class);
+        when(membership.getMembers()).thenReturn(List.of(this.localMember));
+
+        Future<String> result = this.executorService.submit(() -> this.subject.executeAndWait(this.command, this.remoteMember, Duration.ofMinutes(1)));
+        verify(this.dispatcher, timeout(1000)).executeOnMember(same(this.command), same(this.remoteMember));
+
+        when(this.group.getMembership()).thenReturn(membership);
+        this.subject.membershipChanged(previousMembership, membership, false);
+
+        try {
+            result.get(1, TimeUnit.MINUTES);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CancellationException);
+        }
+    }
+
+    @Test
+    public void membersDeparted() {
+        DistributedPartitionHandler handler = mock(DistributedPartitionHandler.class);
+        this.subject.register(1L, handler);
+        Membership membership = mock(Membership.class);
+        when(membership.getMembers()).thenReturn(List.of(this.localMember));
+
+        this.subject.membershipChanged(this.membership, membership, false);
+
+        verify(handler).membersDeparted(Set.of(this.remoteMember));
+    }
+}
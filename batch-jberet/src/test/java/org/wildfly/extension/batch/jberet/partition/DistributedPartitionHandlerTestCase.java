@@ -0,0 +1,229 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.batch.jberet.partition;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.context.JobContextImpl;
+import org.jberet.runtime.context.StepContextImpl;
+import org.jberet.spi.PartitionHandler;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * Unit test for the assignment of partitions to cluster members by {@link DistributedPartitionHandler}.
+ * @author agent
+ */
+public class DistributedPartitionHandlerTestCase {
+
+    private static final long STEP_EXECUTION_ID = 1L;
+
+    private final DistributedPartitionExecutor executor = mock(DistributedPartitionExecutor.class);
+    private final PartitionHandler localHandler = mock(PartitionHandler.class);
+    private final Node localMember = mock(Node.class);
+    private final Node remoteMember = mock(Node.class);
+    private final BlockingQueue<Boolean> resourceTracker = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Serializable> collectorDataQueue = new LinkedBlockingQueue<>();
+    private DistributedPartitionHandler subject;
+
+    @Before
+    public void init() throws CommandDispatcherException {
+        when(this.executor.getLocalMember()).thenReturn(this.localMember);
+        when(this.executor.getMembers()).thenReturn(List.of(this.localMember, this.remoteMember));
+        when(this.executor.execute(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(this.remoteMember.getName()).thenReturn("remote");
+        this.subject = new DistributedPartitionHandler(this.executor, STEP_EXECUTION_ID, this.localHandler);
+        this.subject.setResourceTracker(this.resourceTracker);
+        this.subject.setCollectorDataQueue(this.collectorDataQueue);
+        verify(this.executor).register(STEP_EXECUTION_ID, this.subject);
+    }
+
+    @Test
+    public void roundRobin() throws Exception {
+        StepContextImpl local = createPartitionContext(0);
+        StepContextImpl remote = createPartitionContext(1);
+
+        this.subject.submitPartitionTask(local, 0, 2);
+        this.subject.submitPartitionTask(remote, 1, 2);
+
+        verify(this.localHandler).submitPartitionTask(local, 0, 2);
+        verify(this.localHandler, never()).submitPartitionTask(same(remote), eq(1), eq(2));
+        verify(this.executor).execute(any(ExecutePartitionCommand.class), same(this.remoteMember));
+    }
+
+    @Test
+    public void localOnly() throws Exception {
+        when(this.executor.getMembers()).thenReturn(List.of(this.localMember));
+        StepContextImpl context = createPartitionContext(0);
+
+        this.subject.submitPartitionTask(context, 0, 1);
+
+        verify(this.localHandler).submitPartitionTask(context, 0, 1);
+        verify(this.executor, never()).execute(any(), any());
+    }
+
+    @Test
+    public void dispatchFailed() throws Exception {
+        when(this.executor.execute(any(), same(this.remoteMember))).thenThrow(new CommandDispatcherException(new Exception()));
+        this.subject.submitPartitionTask(createPartitionContext(0), 0, 3);
+        StepContextImpl context = createPartitionContext(1);
+
+        this.subject.submitPartitionTask(context, 1, 3);
+
+        // Reassigned to the only remaining member
+        verify(this.localHandler).submitPartitionTask(context, 1, 3);
+
+        // Subsequent partitions are no longer assigned to the unavailable member
+        StepContextImpl next = createPartitionContext(2);
+        this.subject.submitPartitionTask(next, 2, 3);
+        verify(this.localHandler).submitPartitionTask(next, 2, 3);
+        verify(this.executor, times(1)).execute(any(), same(this.remoteMember));
+    }
+
+    @Test
+    public void asyncDispatchFailed() throws Exception {
+        CompletableFuture<Object> response = new CompletableFuture<>();
+        when(this.executor.execute(any(), same(this.remoteMember))).thenReturn(response);
+        this.subject.submitPartitionTask(createPartitionContext(0), 0, 2);
+        StepContextImpl context = createPartitionContext(1);
+        this.subject.submitPartitionTask(context, 1, 2);
+
+        verify(this.localHandler, never()).submitPartitionTask(same(context), eq(1), eq(2));
+
+        response.completeExceptionally(new Exception());
+
+        verify(this.localHandler).submitPartitionTask(context, 1, 2);
+    }
+
+    @Test
+    public void reportData() throws Exception {
+        this.assignRemote(1);
+
+        this.subject.reportData(1, this.remoteMember, "data");
+        // Reports from members to which the partition is not assigned are ignored
+        this.subject.reportData(1, this.localMember, "stale");
+        this.subject.reportData(2, this.remoteMember, "unknown");
+
+        assertEquals(List.of("data"), List.copyOf(this.collectorDataQueue));
+    }
+
+    @Test
+    public void partitionDone() throws Exception {
+        StepContextImpl context = this.assignRemote(1);
+        PartitionExecutionImpl partition = (PartitionExecutionImpl) context.getStepExecution();
+        PartitionExecutionImpl result = new PartitionExecutionImpl(1, STEP_EXECUTION_ID, "step", BatchStatus.COMPLETED, "done", "user", "reader", "writer");
+
+        // Completion from a member to which the partition is not assigned is ignored
+        this.subject.partitionDone(this.localMember, result);
+        assertTrue(this.collectorDataQueue.isEmpty());
+        assertNull(this.resourceTracker.poll());
+
+        this.subject.partitionDone(this.remoteMember, result);
+
+        assertEquals(BatchStatus.COMPLETED, partition.getBatchStatus());
+        assertEquals("done", partition.getExitStatus());
+        assertEquals("user", partition.getPersistentUserData());
+        assertEquals("reader", partition.getReaderCheckpointInfo());
+        assertEquals("writer", partition.getWriterCheckpointInfo());
+        assertSame(partition, this.collectorDataQueue.poll());
+        assertEquals(Boolean.TRUE, this.resourceTracker.poll());
+
+        // Duplicate completion is ignored
+        this.subject.partitionDone(this.remoteMember, result);
+        assertTrue(this.collectorDataQueue.isEmpty());
+        assertNull(this.resourceTracker.poll());
+    }
+
+    @Test
+    public void membersDeparted() throws Exception {
+        StepContextImpl context = this.assignRemote(1);
+        when(this.executor.getMembers()).thenReturn(List.of(this.localMember));
+
+        this.subject.membersDeparted(Set.of(this.remoteMember));
+
+        verify(this.localHandler).submitPartitionTask(context, 1, 2);
+
+        // Reports from the departed member are ignored
+        this.subject.reportData(1, this.remoteMember, "data");
+        assertTrue(this.collectorDataQueue.isEmpty());
+    }
+
+    @Test
+    public void stopRequested() throws Exception {
+        this.assignRemote(1);
+
+        this.subject.stopRequested(1L);
+
+        verify(this.executor).execute(any(StopPartitionsCommand.class), same(this.remoteMember));
+    }
+
+    @Test
+    public void close() {
+        StepContextImpl context = mock(StepContextImpl.class);
+
+        this.subject.close(context);
+
+        verify(this.executor).unregister(STEP_EXECUTION_ID, this.subject);
+        verify(this.localHandler).close(context);
+    }
+
+    // Submits a partition to the remote member, preceded by a partition executing locally
+    private StepContextImpl assignRemote(int partitionId) throws Exception {
+        this.subject.submitPartitionTask(createPartitionContext(0), 0, 2);
+        StepContextImpl context = createPartitionContext(partitionId);
+        this.subject.submitPartitionTask(context, 1, 2);
+        verify(this.executor).execute(any(ExecutePartitionCommand.class), same(this.remoteMember));
+        return context;
+    }
+
+    private static StepContextImpl createPartitionContext(int partitionId) {
+        StepContextImpl context = mock(StepContextImpl.class);
+        JobContextImpl jobContext = mock(JobContextImpl.class);
+        PartitionExecutionImpl partition = new PartitionExecutionImpl(partitionId, STEP_EXECUTION_ID, "step", BatchStatus.STARTING, null, null, null, null);
+        when(context.getStepExecution()).thenReturn(partition);
+        when(context.getJobContext()).thenReturn(jobContext);
+        return context;
+    }
+}
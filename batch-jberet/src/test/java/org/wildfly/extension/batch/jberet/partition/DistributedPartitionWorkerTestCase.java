@@ -0,0 +1,96 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.batch.jberet.partition;
+
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
+
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * Unit test for the reporting of partitions to their coordinator by {@link DistributedPartitionWorker}.
+ * @author agent
+ */
+public class DistributedPartitionWorkerTestCase {
+
+    private final DistributedPartitionExecutor executor = mock(DistributedPartitionExecutor.class);
+    private final Node localMember = mock(Node.class);
+    private final Node coordinator = mock(Node.class);
+    private final PartitionExecutionImpl partition = new PartitionExecutionImpl(2, 1L, "step", BatchStatus.COMPLETED, null, null, null, null);
+    private final DistributedPartitionWorker subject = new DistributedPartitionWorker(this.executor, this.coordinator, 1L, 2);
+
+    @Before
+    public void init() {
+        when(this.executor.getLocalMember()).thenReturn(this.localMember);
+        when(this.coordinator.getName()).thenReturn("coordinator");
+    }
+
+    @Test
+    public void reportData() throws Exception {
+        this.subject.reportData("data", this.partition);
+
+        verify(this.executor).executeAndWait(any(ReportPartitionDataCommand.class), same(this.coordinator), eq(DistributedPartitionWorker.REPORT_TIMEOUT));
+    }
+
+    @Test
+    public void reportDataTimeout() throws Exception {
+        when(this.executor.executeAndWait(any(ReportPartitionDataCommand.class), same(this.coordinator), any())).thenThrow(new TimeoutException());
+
+        try {
+            this.subject.reportData("data", this.partition);
+            fail();
+        } catch (TimeoutException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void partitionDone() throws Exception {
+        this.subject.partitionDone(this.partition);
+
+        verify(this.executor).partitionDone(this.coordinator, 1L, 2);
+        verify(this.executor).executeAndWait(any(PartitionDoneCommand.class), same(this.coordinator), eq(DistributedPartitionWorker.REPORT_TIMEOUT));
+    }
+
+    @Test
+    public void partitionDoneCoordinatorDeparted() throws Exception {
+        when(this.executor.executeAndWait(any(PartitionDoneCommand.class), same(this.coordinator), any())).thenThrow(new CancellationException());
+
+        // Failure to report completion is logged, but not propagated
+        this.subject.partitionDone(this.partition);
+
+        verify(this.executor).partitionDone(this.coordinator, 1L, 2);
+    }
+}
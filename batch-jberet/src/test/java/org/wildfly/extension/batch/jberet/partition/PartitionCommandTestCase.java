@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.extension.batch.jberet.partition;
+
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.spi.PartitionInfo;
+import org.junit.Test;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * Unit test for the commands exchanged between the coordinator and workers of distributed partitions.
+ * @author agent
+ */
+public class PartitionCommandTestCase {
+
+    private final DistributedPartitionExecutor executor = mock(DistributedPartitionExecutor.class);
+    private final DistributedPartitionHandler handler = mock(DistributedPartitionHandler.class);
+    private final Node member = mock(Node.class);
+
+    @Test
+    public void executePartition() throws Exception {
+        PartitionInfo partition = new PartitionInfo(null, null, null);
+
+        assertNull(new ExecutePartitionCommand(partition, this.member).execute(this.executor));
+
+        verify(this.executor).executePartition(partition, this.member);
+    }
+
+    @Test
+    public void stopPartitions() throws Exception {
+        assertNull(new StopPartitionsCommand(this.member, 1L).execute(this.executor));
+
+        verify(this.executor).stopPartitions(this.member, 1L);
+    }
+
+    @Test
+    public void reportPartitionData() throws Exception {
+        when(this.executor.getHandler(1L)).thenReturn(this.handler);
+
+        assertNull(new ReportPartitionDataCommand(1L, 2, this.member, "data").execute(this.executor));
+
+        verify(this.handler).reportData(2, this.member, "data");
+    }
+
+    @Test
+    public void reportPartitionDataUnknownStep() throws Exception {
+        assertNull(new ReportPartitionDataCommand(1L, 2, this.member, "data").execute(this.executor));
+
+        verify(this.executor).getHandler(1L);
+        verify(this.handler, never()).reportData(2, this.member, "data");
+    }
+
+    @Test
+    public void partitionDone() throws Exception {
+        PartitionExecutionImpl partition = new PartitionExecutionImpl(2, 1L, "step", BatchStatus.COMPLETED, null, null, null, null);
+        when(this.executor.getHandler(1L)).thenReturn(this.handler);
+
+        assertNull(new PartitionDoneCommand(this.member, partition).execute(this.executor));
+
+        verify(this.handler).partitionDone(same(this.member), same(partition));
+    }
+
+    @Test
+    public void partitionDoneUnknownStep() throws Exception {
+        PartitionExecutionImpl partition = new PartitionExecutionImpl(2, 1L, "step", BatchStatus.COMPLETED, null, null, null, null);
+
+        assertNull(new PartitionDoneCommand(this.member, partition).execute(this.executor));
+
+        verify(this.handler, never()).partitionDone(any(), any());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.ee.cache.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.wildfly.clustering.ee.Scheduler;
+
+/**
+ * Enumerates the strategies for scheduling the expiration of local objects.
+ * @author agent
+ */
+public enum ExpirationSchedulerStrategy {
+    /**
+     * Expiration is scheduled via a dedicated thread per deployment, which is rescheduled for each earlier expiration.
+     */
+    DEDICATED() {
+        @Override
+        public <K> Scheduler<K, Instant> createScheduler(Supplier<ScheduledEntries<K, Instant>> entries, Predicate<K> task, Duration closeTimeout) {
+            return new LocalScheduler<>(entries.get(), task, closeTimeout);
+        }
+    },
+    /**
+     * Expiration is scheduled via a timing wheel whose expired entries are swept periodically by a single thread shared by all deployments, such that a slow expiration of one deployment delays the expiration of others.
+     */
+    TIMING_WHEEL() {
+        @Override
+        public <K> Scheduler<K, Instant> createScheduler(Supplier<ScheduledEntries<K, Instant>> entries, Predicate<K> task, Duration closeTimeout) {
+            return new TimingWheelScheduler<>(task, closeTimeout);
+        }
+    },
+    ;
+
+    /**
+     * Creates a scheduler using this strategy.
+     * @param <K> the scheduled object identifier type
+     * @param entries a factory for the scheduled entries of a dedicated scheduler
+     * @param task the task that expires a scheduled object
+     * @param closeTimeout the duration to wait for scheduled tasks to complete on close
+     * @return a scheduler
+     */
+    public abstract <K> Scheduler<K, Instant> createScheduler(Supplier<ScheduledEntries<K, Instant>> entries, Predicate<K> task, Duration closeTimeout);
+}
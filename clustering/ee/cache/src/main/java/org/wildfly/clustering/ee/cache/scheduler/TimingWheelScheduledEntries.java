@@ -0,0 +1,247 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.ee.cache.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * {@link ScheduledEntries} implemented as a hashed timing wheel.
+ * Each entry is assigned to the slot of the first tick not preceding its scheduled instant.
+ * Both {@link #add(Object, Instant)} and {@link #remove(Object)} run in O(1) time.
+ * Expired entries are collected in batches via {@link #sweep(Instant, Predicate)}, which visits only those slots whose tick has elapsed since the previous sweep.
+ * Iteration order is undefined.
+ * @author agent
+ * @param <K> the entry key type
+ */
+public class TimingWheelScheduledEntries<K> implements ScheduledEntries<K, Instant> {
+
+    public static final Duration DEFAULT_RESOLUTION = Duration.ofSeconds(1);
+    // Covers a typical session/bean timeout within a single revolution
+    public static final int DEFAULT_SIZE = 4096;
+
+    private final long resolution;
+    private final int mask;
+    private final AtomicReferenceArray<Map<K, Instant>> wheel;
+    private final Map<K, Instant> entries = new ConcurrentHashMap<>();
+    // Entries whose tick has already been swept, or is being swept concurrently
+    private final Set<K> overdue = ConcurrentHashMap.newKeySet();
+    // The tick of the slot currently being swept
+    private volatile long tick;
+
+    /**
+     * Creates a timing wheel using the default resolution and size.
+     */
+    public TimingWheelScheduledEntries() {
+        this(DEFAULT_RESOLUTION, DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a timing wheel using the specified resolution and size.
+     * @param resolution the duration of a single tick
+     * @param size the number of slots in the wheel, which will be rounded up to the next power of 2.
+     */
+    public TimingWheelScheduledEntries(Duration resolution, int size) {
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException(resolution.toString());
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException(Integer.toString(size));
+        }
+        this.resolution = resolution.toMillis();
+        int slots = Integer.highestOneBit(size);
+        if (slots < size) {
+            slots <<= 1;
+        }
+        this.mask = slots - 1;
+        this.wheel = new AtomicReferenceArray<>(slots);
+        this.tick = Math.floorDiv(Instant.now().toEpochMilli(), this.resolution);
+    }
+
+    /**
+     * Returns the duration of a single tick of this timing wheel.
+     * @return the tick duration
+     */
+    public Duration getResolution() {
+        return Duration.ofMillis(this.resolution);
+    }
+
+    @Override
+    public boolean isSorted() {
+        return false;
+    }
+
+    @Override
+    public void add(K key, Instant instant) {
+        Instant previous = this.entries.put(key, instant);
+        if (previous != null) {
+            this.removeFromSlot(key, previous);
+        }
+        // Round up, so that entries never expire early
+        long tick = -Math.floorDiv(-instant.toEpochMilli(), this.resolution);
+        if (tick <= this.tick) {
+            // Slot was already swept
+            this.overdue.add(key);
+        } else {
+            this.getSlot(tick).put(key, instant);
+            // If the slot was swept while we were adding our entry, ensure it is collected by the next sweep
+            if (tick <= this.tick) {
+                this.overdue.add(key);
+            }
+        }
+    }
+
+    @Override
+    public void remove(K key) {
+        Instant instant = this.entries.remove(key);
+        if (instant != null) {
+            this.removeFromSlot(key, instant);
+        }
+    }
+
+    @Override
+    public boolean contains(K key) {
+        return this.entries.containsKey(key);
+    }
+
+    @Override
+    public Stream<Map.Entry<K, Instant>> stream() {
+        return this.entries.entrySet().stream();
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, Instant>> iterator() {
+        Iterator<Map.Entry<K, Instant>> iterator = this.entries.entrySet().iterator();
+        return new Iterator<>() {
+            private Map.Entry<K, Instant> current = null;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Map.Entry<K, Instant> next() {
+                this.current = iterator.next();
+                return this.current;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                TimingWheelScheduledEntries.this.removeFromSlot(this.current.getKey(), this.current.getValue());
+            }
+        };
+    }
+
+    /**
+     * Applies the specified task to all entries that expired since the previous sweep.
+     * Entries for which the task was successful are removed, otherwise they are retried on the next sweep.
+     * This method must not be invoked concurrently.
+     * @param now the current time
+     * @param task a task to apply to expired entries, returning true, if successful, false otherwise
+     */
+    public void sweep(Instant now, Predicate<K> task) {
+        long current = Math.floorDiv(now.toEpochMilli(), this.resolution);
+        // Retry overdue entries first, so that entries failing during this sweep are retried by the next sweep
+        Iterator<K> keys = this.overdue.iterator();
+        while (keys.hasNext()) {
+            if (Thread.currentThread().isInterrupted()) return;
+            K key = keys.next();
+            Instant instant = this.entries.get(key);
+            if (instant == null) {
+                // Entry was cancelled
+                keys.remove();
+            } else if (!instant.isAfter(now)) {
+                if (task.test(key)) {
+                    keys.remove();
+                    if (this.entries.remove(key, instant)) {
+                        this.removeFromSlot(key, instant);
+                    }
+                }
+            } else if (-Math.floorDiv(-instant.toEpochMilli(), this.resolution) > this.tick) {
+                // Entry was rescheduled to a slot not yet swept
+                keys.remove();
+            }
+        }
+        // If we fell behind by more than a revolution, visit each slot only once
+        long start = Math.max(this.tick + 1, current - this.mask);
+        for (long tick = start; tick <= current; ++tick) {
+            if (Thread.currentThread().isInterrupted()) return;
+            this.tick = tick;
+            Map<K, Instant> slot = this.wheel.get((int) (tick & this.mask));
+            if (slot != null) {
+                Iterator<Map.Entry<K, Instant>> entries = slot.entrySet().iterator();
+                while (entries.hasNext()) {
+                    if (Thread.currentThread().isInterrupted()) return;
+                    Map.Entry<K, Instant> entry = entries.next();
+                    Instant instant = entry.getValue();
+                    // Skip entries scheduled for a future revolution
+                    if (!instant.isAfter(now)) {
+                        K key = entry.getKey();
+                        // Remove from slot first, so that a failed entry is tracked only by the overdue set
+                        // Skip entries already tracked by the overdue set, which were retried above
+                        if (slot.remove(key, instant) && !this.overdue.contains(key)) {
+                            if (task.test(key)) {
+                                this.entries.remove(key, instant);
+                            } else if (instant.equals(this.entries.get(key))) {
+                                this.overdue.add(key);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private Map<K, Instant> getSlot(long tick) {
+        int index = (int) (tick & this.mask);
+        Map<K, Instant> slot = this.wheel.get(index);
+        if (slot == null) {
+            // Slots are created lazily, but never removed
+            Map<K, Instant> newSlot = new ConcurrentHashMap<>();
+            slot = this.wheel.compareAndSet(index, null, newSlot) ? newSlot : this.wheel.get(index);
+        }
+        return slot;
+    }
+
+    private void removeFromSlot(K key, Instant instant) {
+        long tick = -Math.floorDiv(-instant.toEpochMilli(), this.resolution);
+        Map<K, Instant> slot = this.wheel.get((int) (tick & this.mask));
+        if (slot != null) {
+            slot.remove(key, instant);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.entries.keySet().toString();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.ee.cache.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.ee.Scheduler;
+
+/**
+ * Scheduler backed by a {@link TimingWheelScheduledEntries}, whose expired entries are swept periodically by a ticker thread shared by all instances.
+ * Unlike {@link LocalScheduler}, scheduling and cancellation never reschedule a future, and the number of threads does not grow with the number of deployments.
+ * Since sweeps run on the shared ticker thread, a slow expiration task delays the sweeps of all other instances.
+ * @author agent
+ * @param <T> the scheduled object identifier type
+ */
+public class TimingWheelScheduler<T> implements Scheduler<T, Instant>, Runnable {
+
+    private static final ScheduledExecutorService TICKER = createTicker();
+
+    private static ScheduledExecutorService createTicker() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new DefaultThreadFactory(TimingWheelScheduler.class));
+        // Ticker thread will terminate once there are no more schedulers
+        executor.setKeepAliveTime(1L, TimeUnit.MINUTES);
+        executor.allowCoreThreadTimeOut(true);
+        // Closed schedulers must not retain their periodic task
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private final TimingWheelScheduledEntries<T> entries;
+    private final Predicate<T> task;
+    private final Duration closeTimeout;
+    private final Lock lock = new ReentrantLock();
+    private final Future<?> future;
+
+    private volatile boolean closed = false;
+
+    public TimingWheelScheduler(Predicate<T> task, Duration closeTimeout) {
+        this(new TimingWheelScheduledEntries<>(), task, closeTimeout);
+    }
+
+    public TimingWheelScheduler(TimingWheelScheduledEntries<T> entries, Predicate<T> task, Duration closeTimeout) {
+        this.entries = entries;
+        this.task = task;
+        this.closeTimeout = closeTimeout;
+        long resolution = entries.getResolution().toMillis();
+        this.future = TICKER.scheduleWithFixedDelay(this, resolution, resolution, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void schedule(T id, Instant instant) {
+        this.entries.add(id, instant);
+    }
+
+    @Override
+    public void cancel(T id) {
+        this.entries.remove(id);
+    }
+
+    @Override
+    public boolean contains(T id) {
+        return this.entries.contains(id);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return this.entries.stream().map(Map.Entry::getKey);
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        this.future.cancel(false);
+        // Wait for any in-progress sweep to complete
+        if (!this.closeTimeout.isNegative() && !this.closeTimeout.isZero()) {
+            try {
+                if (this.lock.tryLock(this.closeTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                    this.lock.unlock();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        if (this.lock.tryLock()) {
+            try {
+                this.entries.sweep(Instant.now(), this::expire);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    private boolean expire(T id) {
+        // Abandon sweep if we were closed
+        return !this.closed && this.task.test(id);
+    }
+
+    @Override
+    public String toString() {
+        return this.entries.toString();
+    }
+}
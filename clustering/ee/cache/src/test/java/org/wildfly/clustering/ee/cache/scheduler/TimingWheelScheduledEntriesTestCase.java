@@ -0,0 +1,175 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.ee.cache.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimingWheelScheduledEntries}.
+ * @author agent
+ */
+public class TimingWheelScheduledEntriesTestCase {
+
+    private static final Duration RESOLUTION = Duration.ofMillis(100);
+
+    // Align with the tick boundary of the timing wheel
+    private static Instant now() {
+        long resolution = RESOLUTION.toMillis();
+        return Instant.ofEpochMilli(Math.floorDiv(Instant.now().toEpochMilli(), resolution) * resolution);
+    }
+
+    @Test
+    public void test() {
+        TimingWheelScheduledEntries<UUID> entries = new TimingWheelScheduledEntries<>(RESOLUTION, 10);
+        Instant now = now();
+
+        Map<UUID, Instant> expected = new HashMap<>();
+        for (int i = 1; i <= 10; ++i) {
+            expected.put(UUID.randomUUID(), now.plus(RESOLUTION.multipliedBy(i)));
+        }
+        expected.forEach(entries::add);
+
+        for (Map.Entry<UUID, Instant> entry : expected.entrySet()) {
+            Assert.assertTrue(entries.contains(entry.getKey()));
+        }
+        Assert.assertEquals(expected.size(), entries.stream().count());
+
+        // Nothing should expire yet
+        List<UUID> expired = new ArrayList<>();
+        entries.sweep(now, expired::add);
+        Assert.assertTrue(expired.isEmpty());
+
+        // Sweep half the entries
+        Instant halfway = now.plus(RESOLUTION.multipliedBy(5));
+        entries.sweep(halfway, expired::add);
+        Assert.assertEquals(5, expired.size());
+        for (UUID id : expired) {
+            Assert.assertFalse(expected.get(id).isAfter(halfway));
+            Assert.assertFalse(entries.contains(id));
+        }
+        Assert.assertEquals(5, entries.stream().count());
+
+        // Cancel a remaining entry
+        UUID cancelled = entries.stream().map(Map.Entry::getKey).findFirst().get();
+        entries.remove(cancelled);
+        Assert.assertFalse(entries.contains(cancelled));
+
+        // Sweep the remainder
+        expired.clear();
+        entries.sweep(now.plus(RESOLUTION.multipliedBy(10)), expired::add);
+        Assert.assertEquals(4, expired.size());
+        Assert.assertFalse(expired.contains(cancelled));
+        Assert.assertEquals(0, entries.stream().count());
+    }
+
+    @Test
+    public void reschedule() {
+        TimingWheelScheduledEntries<UUID> entries = new TimingWheelScheduledEntries<>(RESOLUTION, 4);
+        Instant now = now();
+        UUID id = UUID.randomUUID();
+
+        entries.add(id, now.plus(RESOLUTION));
+        // Reschedule beyond a full revolution of the wheel
+        Instant later = now.plus(RESOLUTION.multipliedBy(6));
+        entries.add(id, later);
+
+        List<UUID> expired = new ArrayList<>();
+        entries.sweep(now.plus(RESOLUTION.multipliedBy(4)), expired::add);
+        Assert.assertTrue(expired.isEmpty());
+        Assert.assertTrue(entries.contains(id));
+
+        entries.sweep(later, expired::add);
+        Assert.assertEquals(List.of(id), expired);
+        Assert.assertFalse(entries.contains(id));
+    }
+
+    @Test
+    public void overdue() {
+        TimingWheelScheduledEntries<UUID> entries = new TimingWheelScheduledEntries<>(RESOLUTION, 4);
+        Instant now = now();
+        UUID id = UUID.randomUUID();
+
+        // Schedule an entry whose slot has already been swept
+        entries.add(id, now.minus(RESOLUTION.multipliedBy(2)));
+
+        List<UUID> expired = new ArrayList<>();
+        entries.sweep(now, expired::add);
+        Assert.assertEquals(List.of(id), expired);
+        Assert.assertFalse(entries.contains(id));
+    }
+
+    @Test
+    public void retry() {
+        TimingWheelScheduledEntries<UUID> entries = new TimingWheelScheduledEntries<>(RESOLUTION, 4);
+        Instant now = now();
+        UUID id = UUID.randomUUID();
+
+        entries.add(id, now.plus(RESOLUTION));
+
+        Predicate<UUID> failingTask = key -> false;
+        Instant expiration = now.plus(RESOLUTION.multipliedBy(2));
+        entries.sweep(expiration, failingTask);
+        // Verify that a failing task does not trigger removal
+        Assert.assertTrue(entries.contains(id));
+
+        List<UUID> expired = new ArrayList<>();
+        entries.sweep(expiration.plus(RESOLUTION), expired::add);
+        // Verify entry is retried exactly once
+        Assert.assertEquals(List.of(id), expired);
+        Assert.assertFalse(entries.contains(id));
+    }
+
+    @Test
+    public void repeatedRetry() {
+        TimingWheelScheduledEntries<UUID> entries = new TimingWheelScheduledEntries<>(RESOLUTION, 4);
+        Instant now = now();
+        UUID id = UUID.randomUUID();
+
+        entries.add(id, now.plus(RESOLUTION));
+
+        List<UUID> attempts = new ArrayList<>();
+        Predicate<UUID> failingTask = key -> !attempts.add(key);
+        // Sweep across more than a full revolution of the wheel
+        for (int i = 2; i <= 10; ++i) {
+            entries.sweep(now.plus(RESOLUTION.multipliedBy(i)), failingTask);
+            // Verify a pending entry is attempted exactly once per sweep
+            Assert.assertEquals(i - 1, attempts.size());
+            Assert.assertTrue(entries.contains(id));
+        }
+
+        entries.remove(id);
+        attempts.clear();
+        entries.sweep(now.plus(RESOLUTION.multipliedBy(11)), failingTask);
+        Assert.assertTrue(attempts.isEmpty());
+    }
+}
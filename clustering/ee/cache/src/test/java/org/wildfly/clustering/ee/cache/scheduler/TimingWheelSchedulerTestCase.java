@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.ee.cache.scheduler;
+
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.clustering.ee.Scheduler;
+
+/**
+ * @author agent
+ */
+public class TimingWheelSchedulerTestCase {
+
+    private static final Duration RESOLUTION = Duration.ofMillis(50);
+
+    @Test
+    public void successfulTask() throws InterruptedException {
+        Predicate<UUID> task = mock(Predicate.class);
+        UUID id = UUID.randomUUID();
+
+        try (Scheduler<UUID, Instant> scheduler = new TimingWheelScheduler<>(new TimingWheelScheduledEntries<>(RESOLUTION, 16), task, Duration.ZERO)) {
+            when(task.test(id)).thenReturn(true);
+
+            scheduler.schedule(id, Instant.now());
+
+            Assert.assertTrue(scheduler.contains(id));
+
+            Thread.sleep(500);
+
+            verify(task).test(id);
+            Assert.assertFalse(scheduler.contains(id));
+        }
+    }
+
+    @Test
+    public void retryUntilSuccessfulTask() throws InterruptedException {
+        Predicate<UUID> task = mock(Predicate.class);
+        UUID id = UUID.randomUUID();
+
+        try (Scheduler<UUID, Instant> scheduler = new TimingWheelScheduler<>(new TimingWheelScheduledEntries<>(RESOLUTION, 16), task, Duration.ZERO)) {
+            when(task.test(id)).thenReturn(false, true);
+
+            scheduler.schedule(id, Instant.now());
+
+            Thread.sleep(500);
+
+            verify(task, times(2)).test(id);
+            Assert.assertFalse(scheduler.contains(id));
+        }
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        Predicate<UUID> task = mock(Predicate.class);
+        UUID id = UUID.randomUUID();
+
+        try (Scheduler<UUID, Instant> scheduler = new TimingWheelScheduler<>(new TimingWheelScheduledEntries<>(RESOLUTION, 16), task, Duration.ZERO)) {
+            scheduler.schedule(id, Instant.now().plus(RESOLUTION.multipliedBy(2)));
+            scheduler.cancel(id);
+
+            Assert.assertFalse(scheduler.contains(id));
+
+            Thread.sleep(500);
+
+            verify(task, never()).test(id);
+        }
+    }
+
+    @Test
+    public void sharedTicker() throws InterruptedException {
+        UUID id1 = UUID.randomUUID();
+        UUID id2 = UUID.randomUUID();
+        AtomicReference<Thread> thread1 = new AtomicReference<>();
+        AtomicReference<Thread> thread2 = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        Predicate<UUID> task1 = id -> {
+            thread1.set(Thread.currentThread());
+            latch.countDown();
+            return true;
+        };
+        Predicate<UUID> task2 = id -> {
+            thread2.set(Thread.currentThread());
+            latch.countDown();
+            return true;
+        };
+
+        try (Scheduler<UUID, Instant> scheduler1 = new TimingWheelScheduler<>(new TimingWheelScheduledEntries<>(RESOLUTION, 16), task1, Duration.ZERO)) {
+            try (Scheduler<UUID, Instant> scheduler2 = new TimingWheelScheduler<>(new TimingWheelScheduledEntries<>(RESOLUTION, 16), task2, Duration.ZERO)) {
+                scheduler1.schedule(id1, Instant.now());
+                scheduler2.schedule(id2, Instant.now());
+
+                Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+                // All schedulers are driven by the same ticker thread
+                Assert.assertSame(thread1.get(), thread2.get());
+            }
+        }
+    }
+
+    @Test
+    public void close() throws InterruptedException {
+        Predicate<UUID> task = mock(Predicate.class);
+        UUID id = UUID.randomUUID();
+
+        Scheduler<UUID, Instant> scheduler = new TimingWheelScheduler<>(new TimingWheelScheduledEntries<>(RESOLUTION, 16), task, Duration.ofSeconds(1));
+        scheduler.schedule(id, Instant.now().plus(RESOLUTION.multipliedBy(2)));
+        scheduler.close();
+
+        Thread.sleep(500);
+
+        // A closed scheduler is no longer swept by the shared ticker
+        verify(task, never()).test(id);
+    }
+}
@@ -32,8 +32,9 @@ import org.jboss.as.controller.ModelVersion;
 public enum DistributableEjbModel implements Model {
 
     VERSION_1_0_0(1, 0, 0), // WildFly 27
+    VERSION_2_0_0(2, 0, 0), // WildFly 28
     ;
-    public static final DistributableEjbModel CURRENT = VERSION_1_0_0;
+    public static final DistributableEjbModel CURRENT = VERSION_2_0_0;
 
     private final ModelVersion version;
 
@@ -34,8 +34,9 @@ import org.jboss.as.controller.PersistentResourceXMLDescription;
 public enum DistributableEjbSchema implements PersistentSubsystemSchema<DistributableEjbSchema> {
 
     VERSION_1_0(1, 0), // WildFly 27
+    VERSION_2_0(2, 0), // WildFly 28
     ;
-    static final DistributableEjbSchema CURRENT = VERSION_1_0;
+    static final DistributableEjbSchema CURRENT = VERSION_2_0;
 
     private final int major;
     private final int minor;
@@ -25,11 +25,14 @@ import java.util.function.UnaryOperator;
 
 import org.jboss.as.clustering.controller.CapabilityReference;
 import org.jboss.as.clustering.controller.SimpleResourceDescriptorConfigurator;
+import org.jboss.as.clustering.controller.validation.EnumValidator;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.registry.AttributeAccess.Flag;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.infinispan.service.InfinispanCacheRequirement;
 import org.wildfly.clustering.infinispan.service.InfinispanDefaultCacheRequirement;
 
@@ -59,6 +62,14 @@ public class InfinispanBeanManagementResourceDefinition extends BeanManagementRe
                 return builder.setCapabilityReference(new CapabilityReference(Capability.BEAN_MANAGEMENT_PROVIDER, InfinispanCacheRequirement.CONFIGURATION, CACHE_CONTAINER));
             }
         },
+        EXPIRATION_SCHEDULER("expiration-scheduler", ModelType.STRING) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setAllowExpression(true)
+                        .setDefaultValue(new ModelNode(ExpirationSchedulerStrategy.DEDICATED.name()))
+                        .setValidator(new EnumValidator<>(ExpirationSchedulerStrategy.class));
+            }
+        },
         ;
         private final AttributeDefinition definition;
 
@@ -26,6 +26,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.dmr.ModelNode;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
 import org.wildfly.clustering.ejb.infinispan.bean.InfinispanBeanManagementConfiguration;
 import org.wildfly.clustering.ejb.infinispan.bean.InfinispanBeanManagementProvider;
@@ -33,6 +34,7 @@ import org.wildfly.clustering.service.ServiceConfigurator;
 
 import static org.wildfly.extension.clustering.ejb.InfinispanBeanManagementResourceDefinition.Attribute.CACHE;
 import static org.wildfly.extension.clustering.ejb.InfinispanBeanManagementResourceDefinition.Attribute.CACHE_CONTAINER;
+import static org.wildfly.extension.clustering.ejb.InfinispanBeanManagementResourceDefinition.Attribute.EXPIRATION_SCHEDULER;
 
 /**
  * Service configurator for Infinispan bean management providers.
@@ -44,6 +46,7 @@ public class InfinispanBeanManagementServiceConfigurator extends BeanManagementS
 
     private volatile String containerName;
     private volatile String cacheName;
+    private volatile ExpirationSchedulerStrategy expirationSchedulerStrategy;
 
     public InfinispanBeanManagementServiceConfigurator(PathAddress address) {
         super(address);
@@ -53,6 +56,7 @@ public class InfinispanBeanManagementServiceConfigurator extends BeanManagementS
     public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
         this.containerName = CACHE_CONTAINER.resolveModelAttribute(context, model).asString();
         this.cacheName = CACHE.resolveModelAttribute(context, model).asStringOrNull();
+        this.expirationSchedulerStrategy = ExpirationSchedulerStrategy.valueOf(EXPIRATION_SCHEDULER.resolveModelAttribute(context, model).asString());
         return super.configure(context, model);
     }
 
@@ -70,4 +74,9 @@ public class InfinispanBeanManagementServiceConfigurator extends BeanManagementS
     public String getCacheName() {
         return this.cacheName;
     }
+
+    @Override
+    public ExpirationSchedulerStrategy getExpirationSchedulerStrategy() {
+        return this.expirationSchedulerStrategy;
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.clustering.ejb;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.jboss.as.clustering.subsystem.AdditionalInitialization;
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.transform.OperationTransformer;
+import org.jboss.as.model.test.FailedOperationTransformationConfig;
+import org.jboss.as.model.test.ModelTestControllerVersion;
+import org.jboss.as.model.test.ModelTestUtils;
+import org.jboss.as.subsystem.test.AbstractSubsystemTest;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.as.subsystem.test.KernelServicesBuilder;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
+import org.wildfly.clustering.infinispan.service.InfinispanCacheRequirement;
+import org.wildfly.clustering.infinispan.service.InfinispanDefaultCacheRequirement;
+
+/**
+ * Transformer tests for distributable-ejb subsystem.
+ * @author agent
+ */
+@RunWith(value = Parameterized.class)
+public class DistributableEjbTransformerTestCase extends AbstractSubsystemTest {
+
+    @Parameters
+    public static Iterable<ModelTestControllerVersion> parameters() {
+        // No released server provides a legacy version of this subsystem
+        return EnumSet.of(ModelTestControllerVersion.MASTER);
+    }
+
+    private final ModelTestControllerVersion controller;
+    private final org.jboss.as.subsystem.test.AdditionalInitialization additionalInitialization;
+    private final ModelVersion version;
+
+    public DistributableEjbTransformerTestCase(ModelTestControllerVersion controller) {
+        super(DistributableEjbExtension.SUBSYSTEM_NAME, new DistributableEjbExtension());
+        this.controller = controller;
+        this.version = this.getModelVersion().getVersion();
+        this.additionalInitialization = new AdditionalInitialization()
+                .require(InfinispanDefaultCacheRequirement.CONFIGURATION, "foo")
+                .require(InfinispanCacheRequirement.CONFIGURATION, "foo", "bar")
+                ;
+    }
+
+    private DistributableEjbModel getModelVersion() {
+        switch (this.controller) {
+            case MASTER:
+                return DistributableEjbModel.VERSION_1_0_0;
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Tests transformation of model from current version into specified version.
+     */
+    @Test
+    public void testTransformation() throws Exception {
+        // create builder for current subsystem version
+        KernelServicesBuilder builder = createKernelServicesBuilder(this.additionalInitialization)
+                .setSubsystemXmlResource("wildfly-distributable-ejb-transform.xml");
+
+        // initialize the legacy services
+        builder.createLegacyKernelServicesBuilder(this.additionalInitialization, this.controller, this.version)
+                .addSingleChildFirstClass(AdditionalInitialization.class)
+                .skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices services = builder.build();
+
+        Assert.assertTrue(services.isSuccessfulBoot());
+        Assert.assertTrue(services.getLegacyServices(this.version).isSuccessfulBoot());
+
+        // check that both versions of the legacy model are the same and valid
+        checkSubsystemModelTransformation(services, this.version, null, false);
+    }
+
+    /**
+     * Tests rejected transformation of the model from current version into specified version.
+     */
+    @Test
+    public void testRejections() throws Exception {
+        // create builder for current subsystem version
+        KernelServicesBuilder builder = createKernelServicesBuilder(this.additionalInitialization);
+
+        // initialize the legacy services
+        builder.createLegacyKernelServicesBuilder(this.additionalInitialization, this.controller, this.version)
+                .addSingleChildFirstClass(AdditionalInitialization.class)
+                .dontPersistXml();
+
+        KernelServices services = builder.build();
+        Assert.assertTrue(services.isSuccessfulBoot());
+        KernelServices legacyServices = services.getLegacyServices(this.version);
+        Assert.assertNotNull(legacyServices);
+        Assert.assertTrue(legacyServices.isSuccessfulBoot());
+
+        PathAddress address = PathAddress.pathAddress(DistributableEjbResourceDefinition.PATH).append(InfinispanBeanManagementResourceDefinition.pathElement("default"));
+        String attributeName = InfinispanBeanManagementResourceDefinition.Attribute.EXPIRATION_SCHEDULER.getName();
+        ModelNode result = new ModelNode();
+        result.get(ModelDescriptionConstants.OUTCOME).set(ModelDescriptionConstants.SUCCESS);
+
+        // A non-default expiration scheduler is rejected
+        ModelNode operation = Util.getWriteAttributeOperation(address, attributeName, new ModelNode(ExpirationSchedulerStrategy.TIMING_WHEEL.name()));
+        Assert.assertTrue(services.transformOperation(this.version, operation).rejectOperation(result));
+
+        // The default expiration scheduler is discarded
+        operation = Util.getWriteAttributeOperation(address, attributeName, new ModelNode(ExpirationSchedulerStrategy.DEDICATED.name()));
+        OperationTransformer.TransformedOperation transformedOperation = services.transformOperation(this.version, operation);
+        Assert.assertFalse(transformedOperation.rejectOperation(result));
+        Assert.assertNull(transformedOperation.getTransformedOperation());
+
+        List<ModelNode> operations = builder.parseXmlResource("wildfly-distributable-ejb-transform-reject.xml");
+        ModelTestUtils.checkFailedTransformedBootOperations(services, this.version, operations, this.createFailedOperationTransformationConfig());
+    }
+
+    private FailedOperationTransformationConfig createFailedOperationTransformationConfig() {
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
+        PathAddress subsystemAddress = PathAddress.pathAddress(DistributableEjbResourceDefinition.PATH);
+
+        if (DistributableEjbModel.VERSION_2_0_0.requiresTransformation(this.version)) {
+            config.addFailedAttribute(subsystemAddress.append(InfinispanBeanManagementResourceDefinition.pathElement("timing-wheel")), new FailedOperationTransformationConfig.NewAttributesConfig(InfinispanBeanManagementResourceDefinition.Attribute.EXPIRATION_SCHEDULER.getName()));
+        }
+
+        return config;
+    }
+}
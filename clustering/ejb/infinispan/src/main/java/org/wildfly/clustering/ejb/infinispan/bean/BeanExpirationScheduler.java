@@ -27,8 +27,8 @@ import java.util.function.Predicate;
 
 import org.wildfly.clustering.ee.Batch;
 import org.wildfly.clustering.ee.Batcher;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.ee.cache.scheduler.LinkedScheduledEntries;
-import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
 import org.wildfly.clustering.ee.cache.scheduler.SortedScheduledEntries;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.ee.infinispan.expiration.AbstractExpirationScheduler;
@@ -53,7 +53,11 @@ public class BeanExpirationScheduler<K, V extends BeanInstance<K>, M> extends Ab
     private final ImmutableBeanMetaDataFactory<K, M> factory;
 
     public BeanExpirationScheduler(Group group, Batcher<TransactionBatch> batcher, BeanFactory<K, V, M> factory, BeanExpirationConfiguration<K, V> expiration, Duration closeTimeout) {
-        super(new LocalScheduler<>(group.isSingleton() ? new LinkedScheduledEntries<>() : new SortedScheduledEntries<>(), new BeanRemoveTask<>(batcher, factory, expiration.getExpirationListener()), closeTimeout));
+        this(group, batcher, factory, expiration, ExpirationSchedulerStrategy.DEDICATED, closeTimeout);
+    }
+
+    public BeanExpirationScheduler(Group group, Batcher<TransactionBatch> batcher, BeanFactory<K, V, M> factory, BeanExpirationConfiguration<K, V> expiration, ExpirationSchedulerStrategy strategy, Duration closeTimeout) {
+        super(strategy.createScheduler(group.isSingleton() ? LinkedScheduledEntries::new : SortedScheduledEntries::new, new BeanRemoveTask<>(batcher, factory, expiration.getExpirationListener()), closeTimeout));
         this.factory = factory.getMetaDataFactory();
     }
 
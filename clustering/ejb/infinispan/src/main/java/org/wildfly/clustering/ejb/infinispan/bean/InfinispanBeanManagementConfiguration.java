@@ -22,6 +22,7 @@
 
 package org.wildfly.clustering.ejb.infinispan.bean;
 
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.ee.infinispan.InfinispanCacheConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanManagementConfiguration;
 
@@ -30,4 +31,12 @@ import org.wildfly.clustering.ejb.bean.BeanManagementConfiguration;
  * @author Paul Ferraro
  */
 public interface InfinispanBeanManagementConfiguration extends InfinispanCacheConfiguration, BeanManagementConfiguration {
+
+    /**
+     * Returns the strategy used to schedule the expiration of beans owned by this member.
+     * @return an expiration scheduler strategy
+     */
+    default ExpirationSchedulerStrategy getExpirationSchedulerStrategy() {
+        return ExpirationSchedulerStrategy.DEDICATED;
+    }
 }
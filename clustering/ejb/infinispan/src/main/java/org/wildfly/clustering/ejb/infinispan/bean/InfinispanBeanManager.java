@@ -46,6 +46,7 @@ import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.Scheduler;
 import org.wildfly.clustering.ee.cache.CacheProperties;
 import org.wildfly.clustering.ee.cache.IdentifierFactory;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.ee.expiration.ExpirationMetaData;
 import org.wildfly.clustering.ee.infinispan.GroupedKey;
@@ -93,6 +94,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
     private final Predicate<Map.Entry<? super Key<K>, ? super Object>> filter;
     private final Function<Key<K>, Node> primaryOwnerLocator;
     private final Affinity strongAffinity;
+    private final ExpirationSchedulerStrategy expirationSchedulerStrategy;
 
     private volatile Scheduler<K, ExpirationMetaData> scheduler;
     private volatile ListenerRegistration schedulerListenerRegistration;
@@ -106,6 +108,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
         this.identifierFactory = new AffinityIdentifierFactory<>(configuration.getIdentifierFactory(), this.cache, configuration.getAffinityFactory());
         this.dispatcherFactory = configuration.getCommandDispatcherFactory();
         this.expiration = configuration.getExpiration();
+        this.expirationSchedulerStrategy = configuration.getExpirationSchedulerStrategy();
         this.primaryOwnerLocator = new PrimaryOwnerLocator<>(configuration.getCache(), configuration.getGroup());
         Group group = configuration.getGroup();
         this.strongAffinity = this.cache.getCacheConfiguration().clustering().cacheMode().isClustered() ? new ClusterAffinity(group.getName()) : new NodeAffinity(group.getLocalMember().getName());
@@ -117,7 +120,7 @@ public class InfinispanBeanManager<K, V extends BeanInstance<K>, M> implements B
         this.identifierFactory.start();
 
         Duration stopTimeout = Duration.ofMillis(this.cache.getCacheConfiguration().transaction().cacheStopTimeout());
-        CacheEntryScheduler<K, ExpirationMetaData> localScheduler = (this.expiration != null) && !this.expiration.getTimeout().isZero() ? new BeanExpirationScheduler<>(this.dispatcherFactory.getGroup(), this.batcher, this.beanFactory, this.expiration, stopTimeout) : null;
+        CacheEntryScheduler<K, ExpirationMetaData> localScheduler = (this.expiration != null) && !this.expiration.getTimeout().isZero() ? new BeanExpirationScheduler<>(this.dispatcherFactory.getGroup(), this.batcher, this.beanFactory, this.expiration, this.expirationSchedulerStrategy, stopTimeout) : null;
 
         String dispatcherName = String.join("/", this.cache.getName(), this.filter.toString());
         this.scheduler = (localScheduler != null) ? (this.dispatcherFactory.getGroup().isSingleton() ? localScheduler : new PrimaryOwnerScheduler<>(this.dispatcherFactory, dispatcherName, localScheduler, this.primaryOwnerLocator, InfinispanBeanCreationMetaDataKey::new, this.properties.isTransactional() ? ScheduleWithMetaDataCommand::new : ScheduleWithTransientMetaDataCommand::new)) : null;
@@ -22,6 +22,7 @@
 package org.wildfly.clustering.ejb.infinispan.bean;
 
 import org.infinispan.remoting.transport.Address;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
 import org.wildfly.clustering.ejb.cache.bean.BeanManagerConfiguration;
 import org.wildfly.clustering.infinispan.affinity.KeyAffinityServiceFactory;
@@ -39,4 +40,5 @@ public interface InfinispanBeanManagerConfiguration<K, V extends BeanInstance<K>
     @Override Group<Address> getGroup();
     KeyAffinityServiceFactory getAffinityFactory();
     CommandDispatcherFactory getCommandDispatcherFactory();
+    ExpirationSchedulerStrategy getExpirationSchedulerStrategy();
 }
@@ -26,6 +26,7 @@ import java.util.function.Supplier;
 
 import org.infinispan.Cache;
 import org.infinispan.remoting.transport.Address;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.ejb.bean.BeanExpirationConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
@@ -109,5 +110,10 @@ public class InfinispanBeanManagerFactory<K, V extends BeanInstance<K>> implemen
         public CommandDispatcherFactory getCommandDispatcherFactory() {
             return this.factoryConfiguration.getCommandDispatcherFactory();
         }
+
+        @Override
+        public ExpirationSchedulerStrategy getExpirationSchedulerStrategy() {
+            return this.factoryConfiguration.getExpirationSchedulerStrategy();
+        }
     }
 }
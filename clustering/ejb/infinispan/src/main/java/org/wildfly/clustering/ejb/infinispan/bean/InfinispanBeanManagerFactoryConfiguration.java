@@ -23,6 +23,7 @@
 package org.wildfly.clustering.ejb.infinispan.bean;
 
 import org.infinispan.remoting.transport.Address;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
 import org.wildfly.clustering.ejb.cache.bean.BeanManagerFactoryConfiguration;
@@ -40,4 +41,5 @@ public interface InfinispanBeanManagerFactoryConfiguration<K, V extends BeanInst
     KeyAffinityServiceFactory getKeyAffinityServiceFactory();
     @Override Group<Address> getGroup();
     CommandDispatcherFactory getCommandDispatcherFactory();
+    ExpirationSchedulerStrategy getExpirationSchedulerStrategy();
 }
@@ -32,6 +32,7 @@ import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.ejb.bean.BeanConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanInstance;
@@ -129,6 +130,11 @@ public class InfinispanBeanManagerFactoryServiceConfigurator<K, V extends BeanIn
         return this.dispatcherFactory.get();
     }
 
+    @Override
+    public ExpirationSchedulerStrategy getExpirationSchedulerStrategy() {
+        return this.configuration.getExpirationSchedulerStrategy();
+    }
+
     @Override
     public BeanGroupManager<K, V> getBeanGroupManager() {
         return this.groupManager.get();
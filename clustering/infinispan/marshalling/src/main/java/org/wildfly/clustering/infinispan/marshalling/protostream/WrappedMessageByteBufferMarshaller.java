@@ -34,6 +34,7 @@ import org.infinispan.protostream.ProtobufUtil;
 import org.infinispan.protostream.SerializationContext;
 import org.infinispan.protostream.SerializationContextInitializer;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.spi.ByteBufferSizePredictor;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
@@ -43,6 +44,7 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 public class WrappedMessageByteBufferMarshaller implements ByteBufferMarshaller {
 
     private final ImmutableSerializationContext context;
+    private final ByteBufferSizePredictor predictor = new ByteBufferSizePredictor();
 
     public WrappedMessageByteBufferMarshaller(ClassLoader loader) {
         this(createSerializationContext(loader));
@@ -67,6 +69,11 @@ public class WrappedMessageByteBufferMarshaller implements ByteBufferMarshaller
         this.context = context;
     }
 
+    @Override
+    public ByteBufferSizePredictor getSizePredictor() {
+        return this.predictor;
+    }
+
     @Override
     public boolean isMarshallable(Object object) {
         return this.context.canMarshall(object);
@@ -35,10 +35,12 @@ import org.jboss.as.clustering.controller.ResourceServiceHandler;
 import org.jboss.as.clustering.controller.ServiceValueExecutorRegistry;
 import org.jboss.as.clustering.controller.SimpleResourceRegistrar;
 import org.jboss.as.clustering.controller.UnaryRequirementCapability;
+import org.jboss.as.clustering.controller.validation.LongRangeValidatorBuilder;
 import org.jboss.as.clustering.controller.validation.ModuleIdentifierValidatorBuilder;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.dmr.ModelNode;
@@ -67,6 +69,7 @@ public class ChannelResourceDefinition extends ChildResourceDefinition<Managemen
         JCHANNEL_FACTORY(JGroupsRequirement.CHANNEL_SOURCE),
         JCHANNEL_MODULE(JGroupsRequirement.CHANNEL_MODULE),
         JCHANNEL_CLUSTER(JGroupsRequirement.CHANNEL_CLUSTER),
+        COMMAND_DISPATCHER_CONFIGURATION(JGroupsRequirement.COMMAND_DISPATCHER_CONFIGURATION),
         ;
         private org.jboss.as.clustering.controller.Capability capability;
 
@@ -105,6 +108,21 @@ public class ChannelResourceDefinition extends ChildResourceDefinition<Managemen
                 return builder.setDefaultValue(ModelNode.FALSE);
             }
         },
+        COMMAND_MULTICAST("command-multicast", ModelType.BOOLEAN) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setDefaultValue(ModelNode.FALSE);
+            }
+        },
+        COMMAND_BUNDLE_WINDOW("command-bundle-window", ModelType.LONG) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setDefaultValue(new ModelNode(0L))
+                        .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                        .setValidator(new LongRangeValidatorBuilder().min(0).configure(builder).build())
+                        ;
+            }
+        },
         ;
         private final AttributeDefinition definition;
 
@@ -22,9 +22,14 @@
 
 package org.jboss.as.clustering.jgroups.subsystem;
 
+import static org.jboss.as.clustering.jgroups.subsystem.ChannelResourceDefinition.Attribute.COMMAND_BUNDLE_WINDOW;
+import static org.jboss.as.clustering.jgroups.subsystem.ChannelResourceDefinition.Attribute.COMMAND_MULTICAST;
+
 import java.util.function.Consumer;
 
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 
 /**
@@ -41,6 +46,13 @@ public class ChannelResourceTransformer implements Consumer<ModelVersion> {
 
     @Override
     public void accept(ModelVersion version) {
+        if (JGroupsModel.VERSION_10_0_0.requiresTransformation(version)) {
+            this.builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, COMMAND_MULTICAST.getDefinition(), COMMAND_BUNDLE_WINDOW.getDefinition())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, COMMAND_MULTICAST.getDefinition(), COMMAND_BUNDLE_WINDOW.getDefinition())
+                    .end();
+        }
+
         new ForkResourceTransformer(this.builder).accept(version);
     }
 }
@@ -70,6 +70,7 @@ public class ChannelServiceHandler implements ResourceServiceHandler {
         ServiceTarget target = context.getServiceTarget();
 
         new ChannelClusterServiceConfigurator(address).configure(context, model).build(target).install();
+        new CommandDispatcherConfigurationServiceConfigurator(address).configure(context, model).build(target).install();
         ChannelServiceConfigurator channelBuilder = new ChannelServiceConfigurator(JCHANNEL, address).statisticsEnabled(STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean());
         channelBuilder.configure(context, model).build(target).install();
         new IdentityServiceConfigurator<>(JCHANNEL_FACTORY.getServiceName(address), JGroupsRequirement.CHANNEL_FACTORY.getServiceName(context, stack)).build(target).install();
@@ -60,6 +60,7 @@ public class ForkResourceDefinition extends ChildResourceDefinition<ManagementRe
         FORK_CHANNEL_FACTORY(JGroupsRequirement.CHANNEL_FACTORY),
         FORK_CHANNEL_MODULE(JGroupsRequirement.CHANNEL_MODULE),
         FORK_CHANNEL_SOURCE(JGroupsRequirement.CHANNEL_SOURCE),
+        FORK_COMMAND_DISPATCHER_CONFIGURATION(JGroupsRequirement.COMMAND_DISPATCHER_CONFIGURATION),
         ;
         private final org.jboss.as.clustering.controller.Capability capability;
 
@@ -27,6 +27,7 @@ import static org.jboss.as.clustering.jgroups.subsystem.ForkResourceDefinition.C
 import static org.jboss.as.clustering.jgroups.subsystem.ForkResourceDefinition.Capability.FORK_CHANNEL_FACTORY;
 import static org.jboss.as.clustering.jgroups.subsystem.ForkResourceDefinition.Capability.FORK_CHANNEL_MODULE;
 import static org.jboss.as.clustering.jgroups.subsystem.ForkResourceDefinition.Capability.FORK_CHANNEL_SOURCE;
+import static org.jboss.as.clustering.jgroups.subsystem.ForkResourceDefinition.Capability.FORK_COMMAND_DISPATCHER_CONFIGURATION;
 
 import java.util.EnumSet;
 
@@ -66,6 +67,7 @@ public class ForkServiceHandler extends SimpleResourceServiceHandler {
         new IdentityServiceConfigurator<>(FORK_CHANNEL_SOURCE.getServiceName(address), JGroupsRequirement.CHANNEL_FACTORY.getServiceName(context, channel)).build(target).install();
         new IdentityServiceConfigurator<>(FORK_CHANNEL_MODULE.getServiceName(address), JGroupsRequirement.CHANNEL_MODULE.getServiceName(context, channel)).build(target).install();
         new IdentityServiceConfigurator<>(FORK_CHANNEL_CLUSTER.getServiceName(address), JGroupsRequirement.CHANNEL_CLUSTER.getServiceName(context, channel)).build(target).install();
+        new IdentityServiceConfigurator<>(FORK_COMMAND_DISPATCHER_CONFIGURATION.getServiceName(address), JGroupsRequirement.COMMAND_DISPATCHER_CONFIGURATION.getServiceName(context, channel)).build(target).install();
         new ChannelServiceConfigurator(FORK_CHANNEL, address).configure(context, model).build(target).install();
 
         new BinderServiceConfigurator(JGroupsBindingFactory.createChannelBinding(name), JGroupsRequirement.CHANNEL.getServiceName(context, name)).build(target).install();
@@ -43,9 +43,10 @@ public enum JGroupsSchema implements SubsystemSchema<JGroupsSchema> {
     VERSION_6_0(6, 0), // WildFly 12-16, EAP 7.2
     VERSION_7_0(7, 0), // WildFly 17-19, EAP 7.3
     VERSION_8_0(8, 0), // WildFly 20-26, EAP 7.4
-    VERSION_9_0(9, 0), // WildFly 27-present
+    VERSION_9_0(9, 0), // WildFly 27
+    VERSION_10_0(10, 0), // WildFly 28-present
     ;
-    static final JGroupsSchema CURRENT = VERSION_9_0;
+    static final JGroupsSchema CURRENT = VERSION_10_0;
 
     private final int major;
     private final int minor;
@@ -186,6 +186,18 @@ public class JGroupsSubsystemXMLReader implements XMLElementReader<List<ModelNod
                         break;
                     }
                 }
+                case COMMAND_MULTICAST: {
+                    if (this.schema.since(JGroupsSchema.VERSION_10_0)) {
+                        readAttribute(reader, i, operation, ChannelResourceDefinition.Attribute.COMMAND_MULTICAST);
+                        break;
+                    }
+                }
+                case COMMAND_BUNDLE_WINDOW: {
+                    if (this.schema.since(JGroupsSchema.VERSION_10_0)) {
+                        readAttribute(reader, i, operation, ChannelResourceDefinition.Attribute.COMMAND_BUNDLE_WINDOW);
+                        break;
+                    }
+                }
                 default: {
                     throw ParseUtils.unexpectedAttribute(reader, i);
                 }
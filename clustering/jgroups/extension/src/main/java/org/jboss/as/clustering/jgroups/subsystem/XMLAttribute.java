@@ -35,6 +35,8 @@ public enum XMLAttribute {
     CHANNEL(RemoteSiteResourceDefinition.Attribute.CHANNEL),
     CLIENT_SOCKET_BINDING(SocketProtocolResourceDefinition.Attribute.CLIENT_SOCKET_BINDING),
     CLUSTER(ChannelResourceDefinition.Attribute.CLUSTER),
+    COMMAND_BUNDLE_WINDOW(ChannelResourceDefinition.Attribute.COMMAND_BUNDLE_WINDOW),
+    COMMAND_MULTICAST(ChannelResourceDefinition.Attribute.COMMAND_MULTICAST),
     DATA_SOURCE(JDBCProtocolResourceDefinition.Attribute.DATA_SOURCE),
     @Deprecated DEFAULT_EXECUTOR("default-executor"),
     @Deprecated DEFAULT_STACK("default-stack"),
@@ -154,6 +154,11 @@ public class JGroupsTransformersTestCase extends OperationTestCaseBase {
 
         PathAddress subsystemAddress = PathAddress.pathAddress(JGroupsSubsystemResourceDefinition.PATH);
 
+        if (JGroupsModel.VERSION_10_0_0.requiresTransformation(version)) {
+            config.addFailedAttribute(subsystemAddress.append(ChannelResourceDefinition.pathElement("default")),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(ChannelResourceDefinition.Attribute.COMMAND_MULTICAST.getDefinition(), ChannelResourceDefinition.Attribute.COMMAND_BUNDLE_WINDOW.getDefinition()));
+        }
+
         if (JGroupsModel.VERSION_8_0_0.requiresTransformation(version)) {
             config.addFailedAttribute(subsystemAddress.append(StackResourceDefinition.pathElement("credentialReference1")).append(ProtocolResourceDefinition.pathElement("SYM_ENCRYPT")),
                     FailedOperationTransformationConfig.REJECTED_RESOURCE);
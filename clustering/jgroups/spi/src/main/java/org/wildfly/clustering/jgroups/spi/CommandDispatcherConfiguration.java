@@ -0,0 +1,44 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.jgroups.spi;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the command dispatchers of a channel.
+ * @author agent
+ */
+public interface CommandDispatcherConfiguration {
+
+    /**
+     * Indicates whether a command executed on multiple members is sent via a single multicast (or anycast, if only a subset of members is targeted), rather than via a unicast per member.
+     * @return true, if multicast is enabled, false otherwise
+     */
+    boolean isMulticastEnabled();
+
+    /**
+     * Returns the window within which commands sent to the same members are bundled into a single message.
+     * @return a bundle window, or zero, if bundling is disabled.
+     */
+    Duration getBundleWindow();
+}
@@ -37,6 +37,7 @@ public enum JGroupsDefaultRequirement implements Requirement, ServiceNameFactory
     CHANNEL_FACTORY("org.wildfly.clustering.jgroups.default-channel-factory", ChannelFactory.class),
     CHANNEL_MODULE("org.wildfly.clustering.jgroups.default-channel-module", Module.class),
     CHANNEL_SOURCE("org.wildfly.clustering.jgroups.default-channel-source", ChannelFactory.class),
+    COMMAND_DISPATCHER_CONFIGURATION("org.wildfly.clustering.jgroups.default-command-dispatcher-configuration", CommandDispatcherConfiguration.class),
     ;
     private final String name;
     private final Class<?> type;
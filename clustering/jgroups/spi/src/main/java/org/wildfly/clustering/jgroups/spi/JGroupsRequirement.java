@@ -38,6 +38,7 @@ public enum JGroupsRequirement implements DefaultableUnaryRequirement, Defaultab
     CHANNEL_FACTORY("org.wildfly.clustering.jgroups.channel-factory", JGroupsDefaultRequirement.CHANNEL_FACTORY),
     CHANNEL_MODULE("org.wildfly.clustering.jgroups.channel-module", JGroupsDefaultRequirement.CHANNEL_MODULE),
     CHANNEL_SOURCE("org.wildfly.clustering.jgroups.channel-source", JGroupsDefaultRequirement.CHANNEL_SOURCE),
+    COMMAND_DISPATCHER_CONFIGURATION("org.wildfly.clustering.jgroups.command-dispatcher-configuration", JGroupsDefaultRequirement.COMMAND_DISPATCHER_CONFIGURATION),
     ;
     private final String name;
     private final UnaryServiceNameFactory factory = new UnaryRequirementServiceNameFactory(this);
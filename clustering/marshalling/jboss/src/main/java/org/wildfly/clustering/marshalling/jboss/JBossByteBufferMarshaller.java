@@ -41,6 +41,7 @@ import org.jboss.marshalling.SimpleDataOutput;
 import org.jboss.marshalling.Unmarshaller;
 import org.wildfly.clustering.marshalling.spi.IndexSerializer;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.spi.ByteBufferSizePredictor;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
@@ -52,6 +53,7 @@ public class JBossByteBufferMarshaller implements ByteBufferMarshaller {
     private final MarshallerFactory factory = Marshalling.getMarshallerFactory("river", Marshalling.class.getClassLoader());
     private final MarshallingConfigurationRepository repository;
     private final WeakReference<ClassLoader> loader;
+    private final ByteBufferSizePredictor predictor = new ByteBufferSizePredictor();
 
     public JBossByteBufferMarshaller(MarshallingConfigurationRepository repository, ClassLoader loader) {
         this.repository = repository;
@@ -62,6 +64,11 @@ public class JBossByteBufferMarshaller implements ByteBufferMarshaller {
         return this.repository.getMarshallingConfiguration(version);
     }
 
+    @Override
+    public ByteBufferSizePredictor getSizePredictor() {
+        return this.predictor;
+    }
+
     @Override
     public Object readFrom(InputStream input) throws IOException {
         try (SimpleDataInput data = new SimpleDataInput(Marshalling.createByteInput(input))) {
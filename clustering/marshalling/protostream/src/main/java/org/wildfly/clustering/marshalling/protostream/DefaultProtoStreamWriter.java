@@ -24,7 +24,6 @@ package org.wildfly.clustering.marshalling.protostream;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.OptionalInt;
 
 import org.infinispan.protostream.ImmutableSerializationContext;
 import org.infinispan.protostream.ProtobufTagMarshaller.WriteContext;
@@ -45,9 +44,11 @@ public class DefaultProtoStreamWriter extends AbstractProtoStreamWriter {
     public void writeObjectNoTag(Object value) throws IOException {
         ImmutableSerializationContext context = this.getSerializationContext();
         ProtoStreamMarshaller<Object> marshaller = this.findMarshaller(value.getClass());
-        OptionalInt size = this.size(marshaller, value);
-        try (ByteBufferOutputStream output = new ByteBufferOutputStream(size)) {
-            TagWriterImpl writer = size.isPresent() ? TagWriterImpl.newInstance(context, output, size.getAsInt()) : TagWriterImpl.newInstance(context,  output);
+        // Write nested object to a pooled buffer, whose content is copied to this writer
+        // This avoids a separate pass to compute the length prefix of the nested object
+        // The pooled buffer retains its capacity between writes, so it does not require a size prediction
+        try (ByteBufferOutputStream output = ByteBufferOutputStream.acquire()) {
+            TagWriterImpl writer = TagWriterImpl.newInstance(context, output);
             marshaller.writeTo(new DefaultProtoStreamWriter(writer), value);
             writer.flush();
             ByteBuffer buffer = output.getBuffer();
@@ -57,14 +58,4 @@ public class DefaultProtoStreamWriter extends AbstractProtoStreamWriter {
             this.writeRawBytes(buffer.array(), offset, length);
         }
     }
-
-    private OptionalInt size(ProtoStreamMarshaller<Object> marshaller, Object value) {
-        SizeComputingProtoStreamWriter writer = new SizeComputingProtoStreamWriter(this.getSerializationContext());
-        try (ProtoStreamWriterContext context = ProtoStreamWriterContext.FACTORY.get().apply(writer)) {
-            marshaller.writeTo(writer, value);
-            return writer.get();
-        } catch (IOException e) {
-            return OptionalInt.empty();
-        }
-    }
-}
\ No newline at end of file
+}
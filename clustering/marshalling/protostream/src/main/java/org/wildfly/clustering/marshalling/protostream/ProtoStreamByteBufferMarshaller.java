@@ -32,6 +32,7 @@ import java.util.OptionalInt;
 import org.infinispan.protostream.ImmutableSerializationContext;
 import org.infinispan.protostream.ProtobufUtil;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.spi.ByteBufferSizePredictor;
 
 /**
  * @author Paul Ferraro
@@ -39,11 +40,17 @@ import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 public class ProtoStreamByteBufferMarshaller implements ByteBufferMarshaller {
 
     private final ImmutableSerializationContext context;
+    private final ByteBufferSizePredictor predictor = new ByteBufferSizePredictor();
 
     public ProtoStreamByteBufferMarshaller(ImmutableSerializationContext context) {
         this.context = context;
     }
 
+    @Override
+    public ByteBufferSizePredictor getSizePredictor() {
+        return this.predictor;
+    }
+
     @Override
     public OptionalInt size(Object value) {
         try (ProtoStreamWriterContext.Factory factory = ProtoStreamWriterContext.FACTORY.get()) {
@@ -53,6 +53,16 @@ public class ByteBufferMarshalledValue<T> implements MarshalledValue<T, ByteBuff
         this.buffer = buffer;
     }
 
+    /**
+     * Creates a marshalled value for an object that was already marshalled to the specified buffer.
+     * @param object an object
+     * @param buffer the marshalled form of the specified object
+     */
+    public ByteBufferMarshalledValue(T object, ByteBuffer buffer) {
+        this.object = object;
+        this.buffer = buffer;
+    }
+
     // Used for testing purposes only
     T peek() {
         return this.object;
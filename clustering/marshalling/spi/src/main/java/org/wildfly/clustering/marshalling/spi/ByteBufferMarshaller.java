@@ -26,6 +26,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.OptionalInt;
 
 import org.jboss.logging.Logger;
@@ -48,15 +49,36 @@ public interface ByteBufferMarshaller extends Marshaller<Object, ByteBuffer> {
         }
     }
 
+    /**
+     * Returns the predictor of the marshalled size of the objects written by this marshaller.
+     * By default, sizes are not retained between writes.
+     * @return a buffer size predictor
+     */
+    default ByteBufferSizePredictor getSizePredictor() {
+        return new ByteBufferSizePredictor();
+    }
+
+    /**
+     * Marshals the specified object, in a single pass, to a buffer sized according to the marshalled size of the previous objects written by this marshaller.
+     * The size computed by {@link #size(Object)} is only used if no previous size was recorded.
+     * The returned buffer is owned by the caller, and can be passed to a transport or cache without copying.
+     */
     @Override
     default ByteBuffer write(Object object) throws IOException {
-        OptionalInt size = this.size(object);
+        ByteBufferSizePredictor predictor = this.getSizePredictor();
+        OptionalInt prediction = predictor.predict();
+        OptionalInt size = prediction.isPresent() ? prediction : this.size(object);
         try (ByteBufferOutputStream output = new ByteBufferOutputStream(size)) {
             this.writeTo(output, object);
             ByteBuffer buffer = output.getBuffer();
+            int actualSize = buffer.limit() - buffer.arrayOffset();
+            predictor.record(actualSize);
+            // Trim the buffer if more than 1/8 of its capacity is unused, rather than retaining unused space
+            if (buffer.capacity() - actualSize > buffer.capacity() >>> 3) {
+                buffer = ByteBuffer.wrap(Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.limit()));
+            }
             if (size.isPresent()) {
                 int predictedSize = size.getAsInt();
-                int actualSize = buffer.limit() - buffer.arrayOffset();
                 if (predictedSize < actualSize) {
                     LOGGER.debugf("Buffer size prediction too small for %s (%s), predicted = %d, actual = %d", object, (object != null) ? object.getClass().getCanonicalName() : null, predictedSize, actualSize);
                 }
@@ -24,6 +24,8 @@ package org.wildfly.clustering.marshalling.spi;
 
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.OptionalInt;
 
 /**
@@ -32,16 +34,53 @@ import java.util.OptionalInt;
  */
 public final class ByteBufferOutputStream extends ByteArrayOutputStream {
 
+    private static final int DEFAULT_SIZE = 512;
+    // Larger buffers are discarded on close, rather than retained by the pool
+    private static final int MAX_POOLED_SIZE = 64 * 1024;
+    private static final ThreadLocal<Deque<ByteBufferOutputStream>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Returns a reusable output stream from a thread-local pool, which will return to the pool when closed.
+     * Consequently, the buffer of a pooled output stream must not be referenced after the stream is closed.
+     * @return a pooled output stream
+     */
+    public static ByteBufferOutputStream acquire() {
+        ByteBufferOutputStream output = POOL.get().poll();
+        if (output == null) {
+            return new ByteBufferOutputStream(DEFAULT_SIZE, true);
+        }
+        output.pooled = false;
+        return output;
+    }
+
+    private final boolean poolable;
+    private boolean pooled = false;
+
     public ByteBufferOutputStream() {
         this(OptionalInt.empty());
     }
 
     public ByteBufferOutputStream(OptionalInt size) {
-        this(size.orElse(512));
+        this(size.orElse(DEFAULT_SIZE));
     }
 
     public ByteBufferOutputStream(int size) {
+        this(size, false);
+    }
+
+    private ByteBufferOutputStream(int size, boolean poolable) {
         super(size);
+        this.poolable = poolable;
+    }
+
+    @Override
+    public void close() {
+        // Return to pool at most once
+        if (this.poolable && !this.pooled && (this.buf.length <= MAX_POOLED_SIZE)) {
+            this.reset();
+            this.pooled = true;
+            POOL.get().push(this);
+        }
     }
 
     /**
@@ -0,0 +1,56 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.marshalling.spi;
+
+import java.util.OptionalInt;
+
+/**
+ * Predicts the marshalled size of an object from the marshalled sizes of the previous objects written by the same marshaller.
+ * Predictions grow immediately to accommodate a larger object, but shrink gradually, with some headroom.
+ * @author agent
+ */
+public class ByteBufferSizePredictor {
+
+    // Zero indicates no recorded size
+    private volatile int size = 0;
+
+    /**
+     * Returns the predicted marshalled size of the next object, or empty if no size was previously recorded.
+     * @return an optional buffer size
+     */
+    public OptionalInt predict() {
+        int size = this.size;
+        // Include some headroom to avoid buffer resizing for slightly larger objects
+        return (size > 0) ? OptionalInt.of(size + (size >>> 3)) : OptionalInt.empty();
+    }
+
+    /**
+     * Records the actual marshalled size of an object.
+     * @param actual the number of bytes written
+     */
+    public void record(int actual) {
+        int size = this.size;
+        // Concurrent updates may be lost, which only affects the accuracy of the next prediction
+        this.size = Math.max(1, (actual >= size) ? actual : size - ((size - actual) >>> 3));
+    }
+}
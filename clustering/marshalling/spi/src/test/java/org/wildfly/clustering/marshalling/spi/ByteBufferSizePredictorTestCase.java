@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.marshalling.spi;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.OptionalInt;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ByteBufferSizePredictor}.
+ * @author agent
+ */
+public class ByteBufferSizePredictorTestCase {
+
+    @Test
+    public void test() {
+        ByteBufferSizePredictor predictor = new ByteBufferSizePredictor();
+
+        assertFalse(predictor.predict().isPresent());
+
+        predictor.record(800);
+
+        OptionalInt prediction = predictor.predict();
+        assertTrue(prediction.isPresent());
+        assertEquals(900, prediction.getAsInt());
+
+        // Grow immediately
+        predictor.record(1600);
+
+        assertEquals(1800, predictor.predict().getAsInt());
+
+        // Shrink gradually, i.e. by 1/8 of the difference
+        predictor.record(0);
+
+        assertEquals(1575, predictor.predict().getAsInt());
+    }
+
+    @Test
+    public void write() throws IOException {
+        ByteBufferMarshaller marshaller = new SizedByteBufferMarshaller();
+
+        // First write has no prediction, so the default buffer is trimmed
+        ByteBuffer buffer = marshaller.write(100);
+        assertEquals(100, buffer.remaining());
+        assertEquals(100, buffer.capacity());
+
+        // Predicted size includes headroom, which is retained
+        buffer = marshaller.write(100);
+        assertEquals(100, buffer.remaining());
+        assertEquals(112, buffer.capacity());
+
+        // Buffer is trimmed if more than 1/8 of its capacity is unused
+        buffer = marshaller.write(50);
+        assertEquals(50, buffer.remaining());
+        assertEquals(50, buffer.capacity());
+
+        // Predictions are specific to a marshaller
+        assertTrue(marshaller.getSizePredictor().predict().isPresent());
+        assertFalse(new SizedByteBufferMarshaller().getSizePredictor().predict().isPresent());
+    }
+
+    // Marshals an integer as the specified number of bytes
+    private static class SizedByteBufferMarshaller implements ByteBufferMarshaller {
+        private final ByteBufferSizePredictor predictor = new ByteBufferSizePredictor();
+
+        @Override
+        public ByteBufferSizePredictor getSizePredictor() {
+            return this.predictor;
+        }
+
+        @Override
+        public boolean isMarshallable(Object object) {
+            return object instanceof Integer;
+        }
+
+        @Override
+        public Object readFrom(InputStream input) throws IOException {
+            return input.readAllBytes().length;
+        }
+
+        @Override
+        public void writeTo(OutputStream output, Object object) throws IOException {
+            output.write(new byte[(Integer) object]);
+        }
+    }
+
+    @Test
+    public void pool() {
+        ByteBufferOutputStream output = ByteBufferOutputStream.acquire();
+        output.write(1);
+        output.close();
+        // Closing twice must not pool the same stream twice
+        output.close();
+
+        ByteBufferOutputStream output1 = ByteBufferOutputStream.acquire();
+        ByteBufferOutputStream output2 = ByteBufferOutputStream.acquire();
+        try {
+            assertSame(output, output1);
+            assertNotSame(output1, output2);
+            // Pooled stream is reset
+            assertEquals(0, output1.size());
+        } finally {
+            output2.close();
+            output1.close();
+        }
+
+        // Non-pooled streams are never pooled
+        try (ByteBufferOutputStream output3 = new ByteBufferOutputStream()) {
+            output3.write(1);
+        }
+        ByteBufferOutputStream output4 = ByteBufferOutputStream.acquire();
+        try {
+            assertSame(output1, output4);
+        } finally {
+            output4.close();
+        }
+    }
+}
@@ -50,6 +50,7 @@ import org.jgroups.JChannel;
 import org.jgroups.Message;
 import org.wildfly.clustering.dispatcher.CommandDispatcherFactory;
 import org.wildfly.clustering.jgroups.spi.ChannelFactory;
+import org.wildfly.clustering.jgroups.spi.CommandDispatcherConfiguration;
 import org.wildfly.clustering.jgroups.spi.JGroupsRequirement;
 import org.wildfly.clustering.marshalling.jboss.DynamicClassTable;
 import org.wildfly.clustering.marshalling.jboss.DynamicExternalizerObjectTable;
@@ -100,6 +101,7 @@ public class ChannelCommandDispatcherFactoryServiceConfigurator extends SimpleSe
     private volatile SupplierDependency<ChannelFactory> channelFactory;
     private volatile SupplierDependency<JChannel> channel;
     private volatile SupplierDependency<Module> module;
+    private volatile SupplierDependency<CommandDispatcherConfiguration> configuration;
     private volatile Supplier<ModuleLoader> loader;
     private volatile Duration timeout = Duration.ofMinutes(1);
 
@@ -118,6 +120,7 @@ public class ChannelCommandDispatcherFactoryServiceConfigurator extends SimpleSe
         this.channel = new ServiceSupplierDependency<>(JGroupsRequirement.CHANNEL.getServiceName(support, this.group));
         this.channelFactory = new ServiceSupplierDependency<>(JGroupsRequirement.CHANNEL_SOURCE.getServiceName(support, this.group));
         this.module = new ServiceSupplierDependency<>(JGroupsRequirement.CHANNEL_MODULE.getServiceName(support, this.group));
+        this.configuration = new ServiceSupplierDependency<>(JGroupsRequirement.COMMAND_DISPATCHER_CONFIGURATION.getServiceName(support, this.group));
         return this;
     }
 
@@ -125,7 +128,7 @@ public class ChannelCommandDispatcherFactoryServiceConfigurator extends SimpleSe
     public ServiceBuilder<?> build(ServiceTarget target) {
         ServiceBuilder<?> builder = new AsyncServiceConfigurator(this.getServiceName()).build(target);
         this.loader = builder.requires(Services.JBOSS_SERVICE_MODULE_LOADER);
-        Consumer<CommandDispatcherFactory> factory = new CompositeDependency(this.channel, this.channelFactory, this.module).register(builder).provides(this.getServiceName());
+        Consumer<CommandDispatcherFactory> factory = new CompositeDependency(this.channel, this.channelFactory, this.module, this.configuration).register(builder).provides(this.getServiceName());
         Service service = new FunctionalService<>(factory, Functions.identity(), this, Consumers.close());
         return builder.setInstance(service).setInitialMode(ServiceController.Mode.PASSIVE);
     }
@@ -165,6 +168,16 @@ public class ChannelCommandDispatcherFactoryServiceConfigurator extends SimpleSe
         return this.timeout;
     }
 
+    @Override
+    public boolean isMulticastEnabled() {
+        return this.configuration.get().isMulticastEnabled();
+    }
+
+    @Override
+    public Duration getBundleWindow() {
+        return this.configuration.get().getBundleWindow();
+    }
+
     @Override
     public Predicate<Message> getUnknownForkPredicate() {
         return this;
@@ -26,7 +26,9 @@ import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -41,6 +43,7 @@ import org.jgroups.blocks.MessageDispatcher;
 import org.jgroups.blocks.RequestOptions;
 import org.jgroups.blocks.ResponseMode;
 import org.jgroups.blocks.RspFilter;
+import org.jgroups.util.TimeScheduler;
 import org.wildfly.clustering.dispatcher.Command;
 import org.wildfly.clustering.dispatcher.CommandDispatcher;
 import org.wildfly.clustering.dispatcher.CommandDispatcherException;
@@ -50,6 +53,8 @@ import org.wildfly.clustering.server.infinispan.group.JGroupsAddressResolver;
 
 /**
  * MessageDispatcher-based command dispatcher.
+ * Commands executed on multiple members are sent via a single multicast (or anycast), if enabled.
+ * Commands may also be bundled with other commands sent to the same members, if a {@link CommandBundler} is provided.
  * @author Paul Ferraro
  *
  * @param <CC> command execution context
@@ -77,8 +82,17 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
     private final Runnable closeTask;
     private final Address localAddress;
     private final RequestOptions options;
+    private final boolean multicast;
+    private final CommandBundler bundler;
+    private final RequestOptions multicastOptions;
+    private final RequestOptions anycastOptions;
+    private final TimeScheduler scheduler;
 
     public ChannelCommandDispatcher(MessageDispatcher dispatcher, CommandMarshaller<CC> marshaller, MC context, Group<Address> group, Duration timeout, CommandDispatcher<CC> localDispatcher, Runnable closeTask) {
+        this(dispatcher, marshaller, context, group, timeout, false, null, localDispatcher, closeTask);
+    }
+
+    public ChannelCommandDispatcher(MessageDispatcher dispatcher, CommandMarshaller<CC> marshaller, MC context, Group<Address> group, Duration timeout, boolean multicast, CommandBundler bundler, CommandDispatcher<CC> localDispatcher, Runnable closeTask) {
         this.dispatcher = dispatcher;
         this.marshaller = marshaller;
         this.context = context;
@@ -88,6 +102,11 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
         this.closeTask = closeTask;
         this.localAddress = dispatcher.getChannel().getAddress();
         this.options = new RequestOptions(ResponseMode.GET_ALL, this.timeout.toMillis(), false, FILTER, Message.Flag.DONT_BUNDLE, Message.Flag.OOB);
+        this.multicast = multicast;
+        this.bundler = bundler;
+        this.multicastOptions = GroupServiceRequest.createOptions(timeout, false);
+        this.anycastOptions = GroupServiceRequest.createOptions(timeout, true);
+        this.scheduler = dispatcher.getChannel().getProtocolStack().getTransport().getTimer();
     }
 
     @Override
@@ -107,6 +126,11 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
         if (this.localAddress.equals(address)) {
             return this.localDispatcher.executeOnMember(command, member);
         }
+        if (this.bundler != null) {
+            ServiceResponse<R, MC> response = new ServiceResponse<>(this.context, this.scheduler, this.timeout);
+            this.bundler.add(this.marshaller.createEntry(command), Map.of(address, response));
+            return response;
+        }
         ByteBuffer buffer = this.createBuffer(command);
         Message message = this.createMessage(buffer, address);
         ServiceRequest<R, MC> request = new ServiceRequest<>(this.dispatcher.getCorrelator(), address, this.options, this.context);
@@ -115,6 +139,9 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
 
     @Override
     public <R> Map<Node, CompletionStage<R>> executeOnGroup(Command<R, ? super CC> command, Node... excludedMembers) throws CommandDispatcherException {
+        if (this.multicast || (this.bundler != null)) {
+            return this.executeOnGroupRequest(command, excludedMembers);
+        }
         Set<Node> excluded = (excludedMembers != null) ? new HashSet<>(Arrays.asList(excludedMembers)) : Collections.emptySet();
         Map<Node, CompletionStage<R>> results = new ConcurrentHashMap<>();
         ByteBuffer buffer = this.createBuffer(command);
@@ -143,6 +170,52 @@ public class ChannelCommandDispatcher<CC, MC> implements CommandDispatcher<CC> {
         return results;
     }
 
+    /**
+     * Executes the specified command on the group via a single group request, or via the bundle of its target members.
+     */
+    private <R> Map<Node, CompletionStage<R>> executeOnGroupRequest(Command<R, ? super CC> command, Node... excludedMembers) throws CommandDispatcherException {
+        Set<Node> excluded = (excludedMembers != null) ? new HashSet<>(Arrays.asList(excludedMembers)) : Collections.emptySet();
+        Map<Node, CompletionStage<R>> results = new ConcurrentHashMap<>();
+        Map<Address, ServiceResponse<R, MC>> responses = new HashMap<>();
+        List<Node> members = this.group.getMembership().getMembers();
+        for (Node member : members) {
+            if (!excluded.contains(member)) {
+                Address address = JGroupsAddressResolver.INSTANCE.apply(member);
+                if (this.localAddress.equals(address)) {
+                    results.put(member, this.localDispatcher.executeOnMember(command, member));
+                } else {
+                    ServiceResponse<R, MC> response = new ServiceResponse<>(this.context, this.scheduler, this.timeout);
+                    responses.put(address, response);
+                    results.put(member, response);
+                    response.whenComplete(new PruneCancellationTask<>(results, member));
+                }
+            }
+        }
+        if (!responses.isEmpty()) {
+            if (this.bundler != null) {
+                this.bundler.add(this.marshaller.createEntry(command), responses);
+            } else {
+                Map<Address, List<ServiceResponse<?, ?>>> requestResponses = new HashMap<>();
+                for (Map.Entry<Address, ServiceResponse<R, MC>> entry : responses.entrySet()) {
+                    requestResponses.put(entry.getKey(), List.of(entry.getValue()));
+                }
+                // Multicast if we target all other members, otherwise anycast
+                RequestOptions options = (responses.size() < members.size() - 1) ? this.anycastOptions : this.multicastOptions;
+                GroupServiceRequest request = new GroupServiceRequest(this.dispatcher.getCorrelator(), requestResponses, false, options);
+                Message message = this.createMessage(this.createBuffer(command), null).setFlag(Message.TransientFlag.DONT_LOOPBACK);
+                try {
+                    request.send(message);
+                } catch (CommandDispatcherException e) {
+                    for (CompletionStage<R> result : results.values()) {
+                        result.toCompletableFuture().cancel(true);
+                    }
+                    throw e;
+                }
+            }
+        }
+        return results;
+    }
+
     private <R> ByteBuffer createBuffer(Command<R, ? super CC> command) {
         try {
             return this.marshaller.marshal(command);
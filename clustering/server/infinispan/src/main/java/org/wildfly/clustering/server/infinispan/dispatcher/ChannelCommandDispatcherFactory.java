@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -71,6 +72,7 @@ import org.wildfly.clustering.marshalling.spi.MarshalledValueFactory;
 import org.wildfly.clustering.server.infinispan.ClusteringServerLogger;
 import org.wildfly.clustering.server.infinispan.group.AddressableNode;
 import org.wildfly.clustering.server.infinispan.group.GroupListenerNotificationTask;
+import org.wildfly.common.function.ExceptionFunction;
 import org.wildfly.common.function.ExceptionSupplier;
 import org.wildfly.common.function.Functions;
 import org.wildfly.security.manager.WildFlySecurityManager;
@@ -96,6 +98,8 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
     private final MessageDispatcher dispatcher;
     private final Duration timeout;
     private final Function<ClassLoader, ByteBufferMarshaller> marshallerFactory;
+    private final boolean multicast;
+    private final CommandBundler bundler;
 
     @SuppressWarnings("resource")
     public ChannelCommandDispatcherFactory(ChannelCommandDispatcherFactoryConfiguration config) {
@@ -113,10 +117,16 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
                 .correlator(correlator)
                 ;
         this.view.compareAndSet(null, channel.getView());
+        this.multicast = config.isMulticastEnabled();
+        Duration bundleWindow = config.getBundleWindow();
+        this.bundler = !bundleWindow.isNegative() && !bundleWindow.isZero() ? new CommandBundler(this.dispatcher, this.marshaller, this, channel.getProtocolStack().getTransport().getTimer(), this.timeout, bundleWindow, this.multicast) : null;
     }
 
     @Override
     public void run() {
+        if (this.bundler != null) {
+            this.bundler.close();
+        }
         this.shutdown(this.executorService);
         this.dispatcher.stop();
         this.dispatcher.getChannel().setUpHandler(null);
@@ -168,15 +178,55 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
 
     private ExceptionSupplier<Object, Exception> read(Message message) throws IOException {
         ByteBuffer buffer = ByteBuffer.wrap(message.getArray(), message.getOffset(), message.getLength());
+        Object value = this.marshaller.read(buffer);
+        return (value instanceof List) ? createBundleTask((List<?>) value, this::createTask) : this.createTask(value);
+    }
+
+    /**
+     * Creates a task for the specified bundled command entries, whose results are returned in the same order.
+     * The commands are executed sequentially, in the order of their entries.
+     * The failure of a given command, including a failure to read it, is returned as its result, and does not affect the other commands of the bundle.
+     * @param entries the command entries of a bundled message
+     * @param taskFactory creates the task of a single command entry
+     * @return a task returning the list of results of the bundled commands
+     */
+    static ExceptionSupplier<Object, Exception> createBundleTask(List<?> entries, ExceptionFunction<Object, ExceptionSupplier<Object, Exception>, IOException> taskFactory) {
+        List<ExceptionSupplier<Object, Exception>> tasks = new ArrayList<>(entries.size());
+        for (Object entry : entries) {
+            try {
+                tasks.add(taskFactory.apply(entry));
+            } catch (IOException e) {
+                tasks.add(() -> {
+                    throw e;
+                });
+            }
+        }
+        return new ExceptionSupplier<>() {
+            @Override
+            public Object get() {
+                List<Object> results = new ArrayList<>(tasks.size());
+                for (ExceptionSupplier<Object, Exception> task : tasks) {
+                    try {
+                        results.add(task.get());
+                    } catch (Exception e) {
+                        results.add(e);
+                    }
+                }
+                return results;
+            }
+        };
+    }
+
+    private ExceptionSupplier<Object, Exception> createTask(Object value) throws IOException {
         @SuppressWarnings("unchecked")
-        Map.Entry<Object, MarshalledValue<Command<Object, Object>, Object>> entry = (Map.Entry<Object, MarshalledValue<Command<Object, Object>, Object>>) this.marshaller.read(buffer);
+        Map.Entry<Object, MarshalledValue<Command<Object, Object>, Object>> entry = (Map.Entry<Object, MarshalledValue<Command<Object, Object>, Object>>) value;
         Object clientId = entry.getKey();
         CommandDispatcherContext<?, ?> context = this.contexts.get(clientId);
         if (context == null) return NO_SUCH_SERVICE_SUPPLIER;
         Object commandContext = context.getCommandContext();
         Contextualizer contextualizer = context.getContextualizer();
-        MarshalledValue<Command<Object, Object>, Object> value = entry.getValue();
-        Command<Object, Object> command = value.get(context.getMarshalledValueFactory().getMarshallingContext());
+        MarshalledValue<Command<Object, Object>, Object> marshalledCommand = entry.getValue();
+        Command<Object, Object> command = marshalledCommand.get(context.getMarshalledValueFactory().getMarshallingContext());
         ExceptionSupplier<Object, Exception> commandExecutionTask = new ExceptionSupplier<>() {
             @Override
             public Object get() throws Exception {
@@ -223,7 +273,7 @@ public class ChannelCommandDispatcherFactory implements AutoCloseableCommandDisp
         }
         CommandMarshaller<C> marshaller = new CommandDispatcherMarshaller<>(this.marshaller, id, factory);
         CommandDispatcher<C> localDispatcher = new LocalCommandDispatcher<>(this.getLocalMember(), commandContext);
-        return new ChannelCommandDispatcher<>(this.dispatcher, marshaller, dispatcherMarshaller, this, this.timeout, localDispatcher, () -> {
+        return new ChannelCommandDispatcher<>(this.dispatcher, marshaller, dispatcherMarshaller, this, this.timeout, this.multicast, this.bundler, localDispatcher, () -> {
             localDispatcher.close();
             this.contexts.remove(id);
         });
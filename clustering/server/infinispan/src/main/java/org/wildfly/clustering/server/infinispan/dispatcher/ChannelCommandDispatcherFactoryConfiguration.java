@@ -39,4 +39,21 @@ public interface ChannelCommandDispatcherFactoryConfiguration {
     ByteBufferMarshaller getMarshaller();
     Duration getTimeout();
     Function<ClassLoader, ByteBufferMarshaller> getMarshallerFactory();
+
+    /**
+     * Indicates whether a command executed on multiple members is sent via a single multicast (or anycast, if only a subset of members is targeted), rather than via a unicast per member.
+     * @return true, if multicast is enabled, false otherwise
+     */
+    default boolean isMulticastEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns the window within which commands sent to the same members are bundled into a single message.
+     * Bundling requires support from all members of the group.
+     * @return a bundle window, or zero, if bundling is disabled.
+     */
+    default Duration getBundleWindow() {
+        return Duration.ZERO;
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jgroups.Address;
+import org.jgroups.BytesMessage;
+import org.jgroups.Message;
+import org.jgroups.blocks.MessageDispatcher;
+import org.jgroups.util.TimeScheduler;
+import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+import org.wildfly.clustering.group.Membership;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.server.group.Group;
+
+/**
+ * Bundles commands sent to the same set of members within a given window into a single message.
+ * Commands from all command dispatchers of a given factory share the same bundles.
+ * Each bundle is sent via a single {@link GroupServiceRequest}, once its window elapses, or once it reaches its maximum size.
+ * Bundle windows are scheduled using the timer of the channel transport.
+ * Bundled messages are only understood by members that support bundling.
+ * A receiving member executes the commands of a bundle sequentially, in the order in which they were added, within a single request thread.
+ * Consequently, a long running command delays the execution of the commands that follow it within the same bundle.
+ * @author agent
+ */
+public class CommandBundler implements AutoCloseable {
+
+    static final int MAX_SIZE = 64;
+
+    private final TimeScheduler scheduler;
+    private final Map<Set<Address>, Bundle> bundles = new HashMap<>();
+    private final MessageDispatcher dispatcher;
+    private final ByteBufferMarshaller marshaller;
+    private final Group<Address> group;
+    private final Duration timeout;
+    private final Duration window;
+    private final boolean multicast;
+
+    public CommandBundler(MessageDispatcher dispatcher, ByteBufferMarshaller marshaller, Group<Address> group, TimeScheduler scheduler, Duration timeout, Duration window, boolean multicast) {
+        this.dispatcher = dispatcher;
+        this.marshaller = marshaller;
+        this.group = group;
+        this.scheduler = scheduler;
+        this.timeout = timeout;
+        this.window = window;
+        this.multicast = multicast;
+    }
+
+    /**
+     * Adds the specified command to the bundle of its target members.
+     * @param entry the marshallable command entry, as created via {@link CommandMarshaller#createEntry(org.wildfly.clustering.dispatcher.Command)}
+     * @param responses the response of each target member
+     */
+    public void add(Object entry, Map<Address, ? extends ServiceResponse<?, ?>> responses) {
+        Set<Address> targets = Set.copyOf(responses.keySet());
+        Bundle full = null;
+        synchronized (this.bundles) {
+            Bundle bundle = this.bundles.get(targets);
+            if (bundle == null) {
+                Bundle newBundle = new Bundle(targets, this.group.getMembership());
+                newBundle.future = this.scheduler.schedule(() -> this.flush(newBundle), this.window.toNanos(), TimeUnit.NANOSECONDS);
+                this.bundles.put(targets, newBundle);
+                bundle = newBundle;
+            }
+            bundle.add(entry, responses);
+            if (bundle.size() >= MAX_SIZE) {
+                this.bundles.remove(targets);
+                bundle.future.cancel(false);
+                full = bundle;
+            }
+        }
+        if (full != null) {
+            this.send(full);
+        }
+    }
+
+    private void flush(Bundle bundle) {
+        synchronized (this.bundles) {
+            // Skip if already sent
+            if (!this.bundles.remove(bundle.getTargets(), bundle)) return;
+        }
+        this.send(bundle);
+    }
+
+    private void send(Bundle bundle) {
+        Set<Address> targets = bundle.getTargets();
+        Membership membership = this.group.getMembership();
+        // Multicast if bundle targets all other members, otherwise anycast
+        // If the view changed since the bundle was created, a multicast would reach members that were never targeted, so anycast to the recorded targets instead
+        boolean anycast = !this.multicast || !membership.equals(bundle.getMembership()) || (targets.size() < membership.getMembers().size() - 1);
+        try {
+            ByteBuffer buffer = this.marshaller.write(bundle.getEntries());
+            Address localAddress = this.dispatcher.getChannel().getAddress();
+            Message message = new BytesMessage().setArray(buffer.array(), buffer.arrayOffset(), buffer.limit() - buffer.arrayOffset()).src(localAddress).setFlag(Message.TransientFlag.DONT_LOOPBACK);
+            new GroupServiceRequest(this.dispatcher.getCorrelator(), bundle.getResponses(), true, GroupServiceRequest.createOptions(this.timeout, anycast)).send(message);
+        } catch (IOException | CommandDispatcherException e) {
+            bundle.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this.bundles) {
+            for (Bundle bundle : this.bundles.values()) {
+                bundle.future.cancel(false);
+                bundle.completeExceptionally(new CancellationException());
+            }
+            this.bundles.clear();
+        }
+    }
+
+    private static class Bundle {
+        private final Set<Address> targets;
+        private final Membership membership;
+        private final List<Object> entries = new ArrayList<>();
+        private final Map<Address, List<ServiceResponse<?, ?>>> responses = new HashMap<>();
+        volatile Future<?> future;
+
+        Bundle(Set<Address> targets, Membership membership) {
+            this.targets = targets;
+            this.membership = membership;
+            for (Address target : targets) {
+                this.responses.put(target, new ArrayList<>());
+            }
+        }
+
+        Set<Address> getTargets() {
+            return this.targets;
+        }
+
+        Membership getMembership() {
+            return this.membership;
+        }
+
+        List<Object> getEntries() {
+            return this.entries;
+        }
+
+        Map<Address, List<ServiceResponse<?, ?>>> getResponses() {
+            return this.responses;
+        }
+
+        int size() {
+            return this.entries.size();
+        }
+
+        void add(Object entry, Map<Address, ? extends ServiceResponse<?, ?>> responses) {
+            this.entries.add(entry);
+            for (Map.Entry<Address, ? extends ServiceResponse<?, ?>> response : responses.entrySet()) {
+                this.responses.get(response.getKey()).add(response.getValue());
+            }
+        }
+
+        void completeExceptionally(Throwable exception) {
+            for (List<ServiceResponse<?, ?>> responses : this.responses.values()) {
+                for (ServiceResponse<?, ?> response : responses) {
+                    response.completeExceptionally(exception);
+                }
+            }
+        }
+    }
+}
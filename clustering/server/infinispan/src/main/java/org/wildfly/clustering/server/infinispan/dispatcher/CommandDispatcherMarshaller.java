@@ -49,8 +49,12 @@ public class CommandDispatcherMarshaller<C, MC> implements CommandMarshaller<C>
 
     @Override
     public <R> ByteBuffer marshal(Command<R, ? super C> command) throws IOException {
+        return this.marshaller.write(this.createEntry(command));
+    }
+
+    @Override
+    public <R> Map.Entry<Object, MarshalledValue<Command<R, ? super C>, MC>> createEntry(Command<R, ? super C> command) {
         MarshalledValue<Command<R, ? super C>, MC> value = this.factory.createMarshalledValue(command);
-        Map.Entry<Object, MarshalledValue<Command<R, ? super C>, MC>> entry = new AbstractMap.SimpleImmutableEntry<>(this.id, value);
-        return this.marshaller.write(entry);
+        return new AbstractMap.SimpleImmutableEntry<>(this.id, value);
     }
 }
@@ -40,4 +40,11 @@ public interface CommandMarshaller<C> {
      * @throws IOException if marshalling fails.
      */
     <R> ByteBuffer marshal(Command<R, ? super C> command) throws IOException;
+
+    /**
+     * Creates the marshallable representation of the specified command, for use by a bundled message.
+     * @param command a command
+     * @return the marshallable representation of the specified command.
+     */
+    <R> Object createEntry(Command<R, ? super C> command);
 }
@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+import org.jgroups.Address;
+import org.jgroups.Message;
+import org.jgroups.blocks.GroupRequest;
+import org.jgroups.blocks.RequestCorrelator;
+import org.jgroups.blocks.RequestOptions;
+import org.jgroups.blocks.ResponseMode;
+import org.jgroups.util.RspList;
+import org.wildfly.clustering.dispatcher.CommandDispatcherException;
+
+/**
+ * A request, sent via a single multicast or anycast, whose responses complete a {@link ServiceResponse} per target member and command.
+ * If bundled, the request message contains a list of commands, and each member responds with a list of results, in the same order.
+ * Any response that remains incomplete once this request completes, e.g. due to the suspicion of its member, is cancelled.
+ * @author agent
+ */
+public class GroupServiceRequest extends GroupRequest<Object> {
+
+    /**
+     * Creates the options of a group request.
+     * @param timeout the request timeout
+     * @param anycast indicates whether the request should be sent to each target via a separate unicast, rather than via a multicast
+     * @return request options
+     */
+    static RequestOptions createOptions(Duration timeout, boolean anycast) {
+        return new RequestOptions(ResponseMode.GET_ALL, timeout.toMillis(), anycast, null, Message.Flag.DONT_BUNDLE, Message.Flag.OOB);
+    }
+
+    private final Map<Address, List<ServiceResponse<?, ?>>> responses;
+    private final boolean bundled;
+
+    public GroupServiceRequest(RequestCorrelator correlator, Map<Address, List<ServiceResponse<?, ?>>> responses, boolean bundled, RequestOptions options) {
+        super(correlator, responses.keySet(), options);
+        this.responses = responses;
+        this.bundled = bundled;
+    }
+
+    public void send(Message message) throws CommandDispatcherException {
+        // Cancel any responses that remain incomplete, e.g. from suspected members
+        this.whenComplete(this::cancelResponses);
+        // Release this request once all responses are complete, e.g. due to timeout or cancellation
+        CompletableFuture.allOf(this.responses.values().stream().flatMap(List::stream).toArray(CompletableFuture[]::new)).whenComplete((result, exception) -> this.cancel(true));
+        try {
+            this.sendRequest(message);
+        } catch (Exception e) {
+            throw new CommandDispatcherException(e);
+        }
+    }
+
+    @Override
+    public void receiveResponse(Object value, Address sender, boolean exceptional) {
+        List<ServiceResponse<?, ?>> responses = this.responses.get(sender);
+        if (responses != null) {
+            if (this.bundled && !exceptional && (value instanceof List)) {
+                List<?> values = (List<?>) value;
+                for (int i = 0; i < responses.size(); ++i) {
+                    Object result = (i < values.size()) ? values.get(i) : NoSuchService.INSTANCE;
+                    responses.get(i).receive(result, result instanceof Throwable);
+                }
+            } else {
+                // e.g. exception or unknown fork
+                for (ServiceResponse<?, ?> response : responses) {
+                    response.receive(value, exceptional);
+                }
+            }
+        }
+        super.receiveResponse(value, sender, exceptional);
+    }
+
+    private void cancelResponses(RspList<Object> results, Throwable exception) {
+        for (List<ServiceResponse<?, ?>> responses : this.responses.values()) {
+            for (ServiceResponse<?, ?> response : responses) {
+                response.completeExceptionally(new CancellationException());
+            }
+        }
+    }
+}
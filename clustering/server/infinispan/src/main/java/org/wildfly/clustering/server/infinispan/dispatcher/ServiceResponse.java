@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jgroups.SuspectedException;
+import org.jgroups.util.TimeScheduler;
+import org.wildfly.clustering.marshalling.spi.MarshalledValue;
+
+/**
+ * The response of a single member to a command sent via a {@link GroupServiceRequest}.
+ * Like {@link ServiceRequest}, translates a {@link NoSuchService} response to a {@link CancellationException}.
+ * A response that does not complete within the configured timeout is cancelled, whether or not anyone waits for it.
+ * @author agent
+ * @param <T> the command response type
+ * @param <C> the marshalling context type
+ */
+public class ServiceResponse<T, C> extends CompletableFuture<T> {
+
+    private final C context;
+
+    public ServiceResponse(C context, TimeScheduler scheduler, Duration timeout) {
+        this.context = context;
+        // Auto-cancel on timeout
+        // If the message was dropped by the receiver, this would otherwise never complete
+        Future<?> future = scheduler.schedule(() -> this.cancel(true), timeout.toMillis(), TimeUnit.MILLISECONDS);
+        this.whenComplete((result, exception) -> future.cancel(false));
+    }
+
+    @SuppressWarnings("unchecked")
+    void receive(Object value, boolean exceptional) {
+        if (this.isDone()) return;
+
+        if (exceptional) {
+            this.completeExceptionally((Throwable) value);
+        } else if (value instanceof NoSuchService) {
+            this.completeExceptionally(new CancellationException());
+        } else {
+            MarshalledValue<T, C> marshalledValue = (MarshalledValue<T, C>) value;
+            try {
+                this.complete(marshalledValue.get(this.context));
+            } catch (IOException e) {
+                this.completeExceptionally(e);
+            }
+        }
+    }
+
+    @Override
+    public boolean completeExceptionally(Throwable exception) {
+        return super.completeExceptionally((exception instanceof SuspectedException) ? new CancellationException() : exception);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Test;
+import org.wildfly.common.function.ExceptionSupplier;
+
+/**
+ * Unit test for the handling of bundled commands by {@link ChannelCommandDispatcherFactory}.
+ * @author agent
+ */
+public class ChannelCommandDispatcherFactoryTestCase {
+
+    @Test
+    public void bundleTask() throws Exception {
+        IOException readFailure = new IOException();
+        IllegalStateException executionFailure = new IllegalStateException();
+
+        ExceptionSupplier<Object, Exception> task = ChannelCommandDispatcherFactory.createBundleTask(List.of("foo", "unreadable", "failing", "bar"), entry -> {
+            switch ((String) entry) {
+                case "unreadable":
+                    throw readFailure;
+                case "failing":
+                    return () -> {
+                        throw executionFailure;
+                    };
+                default:
+                    return () -> ((String) entry).toUpperCase();
+            }
+        });
+
+        Object result = task.get();
+
+        assertTrue(result instanceof List);
+        List<?> results = (List<?>) result;
+        // Results are returned in the order of the bundled commands, and the failure of one command does not affect the others
+        assertEquals(4, results.size());
+        assertEquals("FOO", results.get(0));
+        assertSame(readFailure, results.get(1));
+        assertSame(executionFailure, results.get(2));
+        assertEquals("BAR", results.get(3));
+    }
+
+    @Test
+    public void emptyBundleTask() throws Exception {
+        Object result = ChannelCommandDispatcherFactory.createBundleTask(List.of(), entry -> {
+            throw new AssertionError();
+        }).get();
+
+        assertEquals(List.of(), result);
+    }
+}
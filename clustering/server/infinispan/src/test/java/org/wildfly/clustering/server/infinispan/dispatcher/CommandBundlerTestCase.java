@@ -0,0 +1,240 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jgroups.Address;
+import org.jgroups.JChannel;
+import org.jgroups.Message;
+import org.jgroups.blocks.MessageDispatcher;
+import org.jgroups.blocks.RequestCorrelator;
+import org.jgroups.blocks.RequestOptions;
+import org.jgroups.util.TimeScheduler;
+import org.jgroups.util.UUID;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.group.Membership;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.server.group.Group;
+
+/**
+ * Unit test for {@link CommandBundler}.
+ * @author agent
+ */
+public class CommandBundlerTestCase {
+
+    private final MessageDispatcher dispatcher = mock(MessageDispatcher.class);
+    private final ByteBufferMarshaller marshaller = mock(ByteBufferMarshaller.class);
+    @SuppressWarnings("unchecked")
+    private final Group<Address> group = mock(Group.class);
+    private final RequestCorrelator correlator = mock(RequestCorrelator.class);
+    private final TimeScheduler scheduler = mock(TimeScheduler.class);
+    private final TimeScheduler responseScheduler = mock(TimeScheduler.class);
+    private final ScheduledFuture<?> future = mock(ScheduledFuture.class);
+    private final Address member1 = UUID.randomUUID();
+    private final Address member2 = UUID.randomUUID();
+    private final Duration window = Duration.ofMillis(10);
+
+    private CommandBundler bundler;
+
+    @Before
+    public void init() throws IOException {
+        JChannel channel = mock(JChannel.class);
+        Membership membership = createMembership(3);
+
+        when(this.dispatcher.getChannel()).thenReturn(channel);
+        when(this.dispatcher.getCorrelator()).thenReturn(this.correlator);
+        when(channel.getAddress()).thenReturn(UUID.randomUUID());
+        when(this.group.getMembership()).thenReturn(membership);
+        doReturn(this.future).when(this.scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        doReturn(mock(ScheduledFuture.class)).when(this.responseScheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        when(this.marshaller.write(any())).thenReturn(ByteBuffer.wrap(new byte[] { 0 }));
+
+        this.bundler = new CommandBundler(this.dispatcher, this.marshaller, this.group, this.scheduler, Duration.ofMinutes(1), this.window, true);
+    }
+
+    @After
+    public void destroy() {
+        this.bundler.close();
+    }
+
+    @Test
+    public void bundle() throws IOException {
+        Object entry1 = new Object();
+        Object entry2 = new Object();
+        Object entry3 = new Object();
+
+        this.bundler.add(entry1, Map.of(this.member1, this.createResponse(), this.member2, this.createResponse()));
+        this.bundler.add(entry2, Map.of(this.member2, this.createResponse(), this.member1, this.createResponse()));
+        // Different targets, different bundle
+        this.bundler.add(entry3, Map.of(this.member1, this.createResponse()));
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        // Each bundle schedules its own window on the transport timer
+        verify(this.scheduler, times(2)).schedule(task.capture(), eq(this.window.toNanos()), eq(TimeUnit.NANOSECONDS));
+        verify(this.marshaller, never()).write(any());
+
+        task.getAllValues().get(0).run();
+
+        verify(this.marshaller).write(List.of(entry1, entry2));
+
+        task.getAllValues().get(1).run();
+
+        verify(this.marshaller).write(List.of(entry3));
+
+        // A bundle is only sent once
+        task.getAllValues().get(0).run();
+
+        verify(this.marshaller, times(2)).write(any());
+    }
+
+    @Test
+    public void multicast() throws Exception {
+        // Bundle targets all other members
+        this.bundler.add(new Object(), Map.of(this.member1, this.createResponse(), this.member2, this.createResponse()));
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(this.scheduler).schedule(task.capture(), anyLong(), any(TimeUnit.class));
+
+        task.getValue().run();
+
+        ArgumentCaptor<RequestOptions> options = ArgumentCaptor.forClass(RequestOptions.class);
+        verify(this.correlator).sendMulticastRequest(any(), any(Message.class), any(), options.capture());
+        assertFalse(options.getValue().anycasting());
+    }
+
+    @Test
+    public void viewChange() throws Exception {
+        this.bundler.add(new Object(), Map.of(this.member1, this.createResponse(), this.member2, this.createResponse()));
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(this.scheduler).schedule(task.capture(), anyLong(), any(TimeUnit.class));
+
+        // View changes before the window of the bundle elapses
+        Membership membership = createMembership(3);
+        when(this.group.getMembership()).thenReturn(membership);
+
+        task.getValue().run();
+
+        // A multicast to the new view could reach members that were never targeted, so the bundle must be anycast to its recorded targets
+        ArgumentCaptor<RequestOptions> options = ArgumentCaptor.forClass(RequestOptions.class);
+        verify(this.correlator).sendMulticastRequest(any(), any(Message.class), any(), options.capture());
+        assertTrue(options.getValue().anycasting());
+    }
+
+    @Test
+    public void full() throws IOException {
+        for (int i = 0; i < CommandBundler.MAX_SIZE; ++i) {
+            this.bundler.add(i, Map.of(this.member1, this.createResponse()));
+        }
+
+        // A full bundle is sent immediately, without waiting for its window
+        verify(this.scheduler, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        verify(this.future).cancel(false);
+        verify(this.marshaller).write(argThat(entries -> ((List<?>) entries).size() == CommandBundler.MAX_SIZE));
+
+        // Subsequent commands start a new bundle
+        this.bundler.add(CommandBundler.MAX_SIZE, Map.of(this.member1, this.createResponse()));
+
+        verify(this.scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void writeFailure() throws IOException, InterruptedException {
+        IOException exception = new IOException();
+        doThrow(exception).when(this.marshaller).write(any());
+
+        ServiceResponse<Object, Object> response1 = this.createResponse();
+        ServiceResponse<Object, Object> response2 = this.createResponse();
+        this.bundler.add(new Object(), Map.of(this.member1, response1, this.member2, response2));
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(this.scheduler).schedule(task.capture(), anyLong(), any(TimeUnit.class));
+
+        task.getValue().run();
+
+        for (ServiceResponse<Object, Object> response : List.of(response1, response2)) {
+            try {
+                response.get();
+                fail();
+            } catch (ExecutionException e) {
+                assertSame(exception, e.getCause());
+            }
+        }
+    }
+
+    @Test
+    public void close() throws IOException, InterruptedException, ExecutionException {
+        ServiceResponse<Object, Object> response = this.createResponse();
+        this.bundler.add(new Object(), Map.of(this.member1, response));
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(this.scheduler).schedule(task.capture(), anyLong(), any(TimeUnit.class));
+
+        this.bundler.close();
+
+        verify(this.future).cancel(false);
+        try {
+            response.get();
+            fail();
+        } catch (CancellationException e) {
+            // Expected
+        }
+
+        // A window that elapses after close must not send anything
+        task.getValue().run();
+
+        verify(this.marshaller, never()).write(any());
+    }
+
+    private static Membership createMembership(int size) {
+        Membership membership = mock(Membership.class);
+        List<Node> members = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            members.add(mock(Node.class));
+        }
+        when(membership.getMembers()).thenReturn(members);
+        return membership;
+    }
+
+    private ServiceResponse<Object, Object> createResponse() {
+        return new ServiceResponse<>(null, this.responseScheduler, Duration.ofMinutes(1));
+    }
+}
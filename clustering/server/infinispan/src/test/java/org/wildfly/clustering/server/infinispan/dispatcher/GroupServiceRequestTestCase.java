@@ -0,0 +1,117 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jgroups.Address;
+import org.jgroups.blocks.RequestCorrelator;
+import org.jgroups.util.TimeScheduler;
+import org.jgroups.util.UUID;
+import org.junit.Test;
+import org.wildfly.clustering.marshalling.spi.MarshalledValue;
+
+/**
+ * Unit test for {@link GroupServiceRequest}.
+ * @author agent
+ */
+public class GroupServiceRequestTestCase {
+
+    private final TimeScheduler scheduler = mock(TimeScheduler.class);
+    private final Address member = UUID.randomUUID();
+
+    @Test
+    public void bundledResponse() throws IOException, InterruptedException, ExecutionException {
+        doReturn(mock(ScheduledFuture.class)).when(this.scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+        ServiceResponse<Object, Object> response1 = this.createResponse();
+        ServiceResponse<Object, Object> response2 = this.createResponse();
+        ServiceResponse<Object, Object> response3 = this.createResponse();
+        ServiceResponse<Object, Object> response4 = this.createResponse();
+        @SuppressWarnings("unchecked")
+        MarshalledValue<Object, Object> value = mock(MarshalledValue.class);
+        Object result = new Object();
+        Exception exception = new Exception();
+
+        when(value.get(null)).thenReturn(result);
+
+        GroupServiceRequest request = new GroupServiceRequest(mock(RequestCorrelator.class), Map.of(this.member, List.of(response1, response2, response3, response4)), true, GroupServiceRequest.createOptions(Duration.ofMinutes(1), false));
+
+        // Recipient returned fewer results than commands, e.g. if it did not recognize one of its commands
+        request.receiveResponse(List.of(value, exception, NoSuchService.INSTANCE), this.member, false);
+
+        assertSame(result, response1.get());
+        try {
+            response2.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertSame(exception, e.getCause());
+        }
+        for (ServiceResponse<Object, Object> response : List.of(response3, response4)) {
+            try {
+                response.get();
+                fail();
+            } catch (CancellationException e) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void exceptionalResponse() throws InterruptedException {
+        doReturn(mock(ScheduledFuture.class)).when(this.scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+        ServiceResponse<Object, Object> response1 = this.createResponse();
+        ServiceResponse<Object, Object> response2 = this.createResponse();
+        Exception exception = new Exception();
+
+        GroupServiceRequest request = new GroupServiceRequest(mock(RequestCorrelator.class), Map.of(this.member, List.of(response1, response2)), true, GroupServiceRequest.createOptions(Duration.ofMinutes(1), false));
+
+        // An exceptional response applies to all commands of the bundle
+        request.receiveResponse(exception, this.member, true);
+
+        for (ServiceResponse<Object, Object> response : List.of(response1, response2)) {
+            try {
+                response.get();
+                fail();
+            } catch (ExecutionException e) {
+                assertSame(exception, e.getCause());
+            }
+        }
+    }
+
+    private ServiceResponse<Object, Object> createResponse() {
+        return new ServiceResponse<>(null, this.scheduler, Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.server.infinispan.dispatcher;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jgroups.util.TimeScheduler;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Unit test for {@link ServiceResponse}.
+ * @author agent
+ */
+public class ServiceResponseTestCase {
+
+    private final TimeScheduler scheduler = mock(TimeScheduler.class);
+    private final ScheduledFuture<?> future = mock(ScheduledFuture.class);
+    private final Duration timeout = Duration.ofSeconds(10);
+
+    @Test
+    public void timeout() {
+        doReturn(this.future).when(this.scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+        ServiceResponse<Object, Object> response = new ServiceResponse<>(null, this.scheduler, this.timeout);
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(this.scheduler).schedule(task.capture(), eq(this.timeout.toMillis()), eq(TimeUnit.MILLISECONDS));
+
+        // Timeout is enforced without anyone waiting on the response
+        task.getValue().run();
+
+        assertTrue(response.isCancelled());
+    }
+
+    @Test
+    public void complete() {
+        doReturn(this.future).when(this.scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+        ServiceResponse<Object, Object> response = new ServiceResponse<>(null, this.scheduler, this.timeout);
+
+        response.receive(new Exception(), true);
+
+        assertTrue(response.isCompletedExceptionally());
+        // Completion cancels the timeout
+        verify(this.future).cancel(false);
+    }
+
+    @Test
+    public void noSuchService() {
+        doReturn(this.future).when(this.scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+        ServiceResponse<Object, Object> response = new ServiceResponse<>(null, this.scheduler, this.timeout);
+
+        response.receive(NoSuchService.INSTANCE, false);
+
+        assertTrue(response.isCancelled());
+        verify(this.future).cancel(false);
+    }
+}
@@ -112,6 +112,31 @@ public class ConcurrentSessionManager<L, B extends Batch> implements SessionMana
         return this.manager.getActiveSessionCount();
     }
 
+    @Override
+    public long getReplicatedAttributeCount() {
+        return this.manager.getReplicatedAttributeCount();
+    }
+
+    @Override
+    public long getSkippedAttributeReplicationCount() {
+        return this.manager.getSkippedAttributeReplicationCount();
+    }
+
+    @Override
+    public long getNearCacheHitCount() {
+        return this.manager.getNearCacheHitCount();
+    }
+
+    @Override
+    public long getNearCacheMissCount() {
+        return this.manager.getNearCacheMissCount();
+    }
+
+    @Override
+    public long getNearCacheEvictionCount() {
+        return this.manager.getNearCacheEvictionCount();
+    }
+
     @Override
     public Duration getDefaultMaxInactiveInterval() {
         return this.manager.getDefaultMaxInactiveInterval();
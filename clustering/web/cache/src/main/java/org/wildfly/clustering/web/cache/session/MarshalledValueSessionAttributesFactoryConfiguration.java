@@ -29,6 +29,7 @@ import org.wildfly.clustering.marshalling.spi.MarshalledValue;
 import org.wildfly.clustering.marshalling.spi.MarshalledValueMarshaller;
 import org.wildfly.clustering.marshalling.spi.Marshaller;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 import org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration;
 
 /**
@@ -44,11 +45,13 @@ public abstract class MarshalledValueSessionAttributesFactoryConfiguration<S, SC
     private final Immutability immutability;
     private final Marshaller<V, MarshalledValue<V, ByteBufferMarshaller>> marshaller;
     private final HttpSessionActivationListenerProvider<S, SC, AL> provider;
+    private final SessionAttributeReplicationMode replicationMode;
 
     protected MarshalledValueSessionAttributesFactoryConfiguration(SessionManagerFactoryConfiguration<S, SC, AL, LC> configuration) {
         this.immutability = configuration.getImmutability();
         this.marshaller = new MarshalledValueMarshaller<>(new ByteBufferMarshalledValueFactory(configuration.getMarshaller()));
         this.provider = configuration.getSpecificationProvider();
+        this.replicationMode = configuration.getAttributeReplicationMode();
     }
 
     @Override
@@ -65,4 +68,9 @@ public abstract class MarshalledValueSessionAttributesFactoryConfiguration<S, SC
     public HttpSessionActivationListenerProvider<S, SC, AL> getHttpSessionActivationListenerProvider() {
         return this.provider;
     }
+
+    @Override
+    public SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return this.replicationMode;
+    }
 }
\ No newline at end of file
@@ -27,16 +27,28 @@ import java.time.Duration;
 import org.wildfly.clustering.ee.Mutator;
 
 /**
+ * Session access meta data that replicates its updates via a {@link Mutator}.
+ * If configured with a {@link SessionAccessMetaDataWriteBehind}, replication of updates that do not move expiration by at least its granularity is deferred.
  * @author Paul Ferraro
  */
 public class MutableSessionAccessMetaData implements SessionAccessMetaData {
 
+    private final String id;
     private final SessionAccessMetaData metaData;
     private final Mutator mutator;
+    private final SessionAccessMetaDataWriteBehind writeBehind;
+    private final Duration replicatedLastAccess;
 
     public MutableSessionAccessMetaData(SessionAccessMetaData metaData, Mutator mutator) {
+        this(null, metaData, mutator, null);
+    }
+
+    public MutableSessionAccessMetaData(String id, SessionAccessMetaData metaData, Mutator mutator, SessionAccessMetaDataWriteBehind writeBehind) {
+        this.id = id;
         this.metaData = metaData;
         this.mutator = mutator;
+        this.writeBehind = writeBehind;
+        this.replicatedLastAccess = (writeBehind != null) ? writeBehind.getReplicatedLastAccess(id, metaData) : null;
     }
 
     @Override
@@ -52,6 +64,8 @@ public class MutableSessionAccessMetaData implements SessionAccessMetaData {
     @Override
     public void setLastAccessDuration(Duration sinceCreation, Duration lastAccess) {
         this.metaData.setLastAccessDuration(sinceCreation, lastAccess);
-        this.mutator.mutate();
+        if ((this.writeBehind == null) || !this.writeBehind.defer(this.id, this.replicatedLastAccess, this.metaData)) {
+            this.mutator.mutate();
+        }
     }
 }
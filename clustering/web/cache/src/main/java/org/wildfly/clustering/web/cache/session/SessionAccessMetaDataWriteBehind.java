@@ -0,0 +1,186 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.cache.session;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.web.cache.logging.Logger;
+
+/**
+ * Defers replication of the last access time of a session, unless doing so would move its expiration by at least a given granularity.
+ * Deferred writes are flushed, in bulk, once per granularity interval by a thread shared by all instances.
+ * Consequently, the replicated last access time of a session never lags its actual last access time by more than the granularity (plus the duration of a flush),
+ * and expiration decisions based on the replicated value remain conservative with respect to sessions whose timeout exceeds this granularity.
+ * @author agent
+ */
+public class SessionAccessMetaDataWriteBehind implements AutoCloseable, Runnable {
+
+    private static final ScheduledExecutorService FLUSHER = createFlusher();
+
+    private static ScheduledExecutorService createFlusher() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new DefaultThreadFactory(SessionAccessMetaDataWriteBehind.class));
+        // Flusher thread will terminate once there are no more deployments using write-behind
+        executor.setKeepAliveTime(1L, TimeUnit.MINUTES);
+        executor.allowCoreThreadTimeOut(true);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private final Duration granularity;
+    private final BiConsumer<String, SessionAccessMetaData> writer;
+    private final Map<String, DeferredWrite> writes = new ConcurrentHashMap<>();
+    private final LongAdder replicated = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+    private final Future<?> future;
+
+    /**
+     * Creates a write-behind buffer for session access meta data.
+     * @param granularity the minimum change in expiration that triggers immediate replication, which also defines the flush interval
+     * @param writer writes the access meta data of a given session to the cache
+     */
+    public SessionAccessMetaDataWriteBehind(Duration granularity, BiConsumer<String, SessionAccessMetaData> writer) {
+        if (granularity.isNegative() || granularity.isZero()) {
+            throw new IllegalArgumentException(granularity.toString());
+        }
+        this.granularity = granularity;
+        this.writer = writer;
+        long interval = granularity.toMillis();
+        this.future = FLUSHER.scheduleWithFixedDelay(this, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the duration between creation and the end of the last replicated access of the specified session.
+     * @param id a session identifier
+     * @param metaData the current access meta data of the session
+     * @return the duration between session creation and the end of its last replicated access
+     */
+    Duration getReplicatedLastAccess(String id, ImmutableSessionAccessMetaData metaData) {
+        DeferredWrite write = this.writes.get(id);
+        return (write != null) ? write.getReplicatedLastAccess() : lastAccess(metaData);
+    }
+
+    /**
+     * Defers replication of the specified access meta data, if its last access does not differ from the specified replicated last access by at least the granularity of this buffer.
+     * @param id a session identifier
+     * @param replicatedLastAccess the duration between session creation and the end of its last replicated access
+     * @param metaData the updated access meta data of the session
+     * @return true, if replication was deferred, false if the caller must replicate the access meta data immediately
+     */
+    boolean defer(String id, Duration replicatedLastAccess, SessionAccessMetaData metaData) {
+        Duration delta = lastAccess(metaData).minus(replicatedLastAccess);
+        if (delta.isNegative() || (delta.compareTo(this.granularity) >= 0)) {
+            this.writes.remove(id);
+            this.replicated.increment();
+            return false;
+        }
+        // Retain the replicated last access of any existing deferred write
+        this.writes.compute(id, (key, write) -> new DeferredWrite((write != null) ? write.getReplicatedLastAccess() : replicatedLastAccess, metaData));
+        this.deferred.increment();
+        return true;
+    }
+
+    /**
+     * Discards any deferred write for the specified session, e.g. when the session is removed.
+     * @param id a session identifier
+     */
+    public void cancel(String id) {
+        this.writes.remove(id);
+    }
+
+    /**
+     * Returns the number of access meta data updates replicated immediately.
+     * @return a number of writes
+     */
+    public long getReplicatedCount() {
+        return this.replicated.sum();
+    }
+
+    /**
+     * Returns the number of access meta data updates whose replication was deferred.
+     * Deferred updates of the same session between consecutive flushes are coalesced into a single write.
+     * @return a number of updates
+     */
+    public long getDeferredCount() {
+        return this.deferred.sum();
+    }
+
+    /**
+     * Replicates all deferred writes.
+     */
+    @Override
+    public void run() {
+        Iterator<Map.Entry<String, DeferredWrite>> entries = this.writes.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, DeferredWrite> entry = entries.next();
+            String id = entry.getKey();
+            DeferredWrite write = entry.getValue();
+            // Skip if cancelled or replicated concurrently
+            if (this.writes.remove(id, write)) {
+                try {
+                    this.writer.accept(id, write.getMetaData());
+                } catch (RuntimeException e) {
+                    Logger.ROOT_LOGGER.failedToReplicateLastAccess(e, id);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        this.future.cancel(false);
+        // Flush any remaining deferred writes
+        this.run();
+    }
+
+    private static Duration lastAccess(ImmutableSessionAccessMetaData metaData) {
+        return metaData.getSinceCreationDuration().plus(metaData.getLastAccessDuration());
+    }
+
+    private static class DeferredWrite {
+        private final Duration replicatedLastAccess;
+        private final SessionAccessMetaData metaData;
+
+        DeferredWrite(Duration replicatedLastAccess, SessionAccessMetaData metaData) {
+            this.replicatedLastAccess = replicatedLastAccess;
+            this.metaData = metaData;
+        }
+
+        Duration getReplicatedLastAccess() {
+            return this.replicatedLastAccess;
+        }
+
+        SessionAccessMetaData getMetaData() {
+            return this.metaData;
+        }
+    }
+}
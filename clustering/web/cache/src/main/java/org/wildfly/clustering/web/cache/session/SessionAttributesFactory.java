@@ -25,6 +25,7 @@ package org.wildfly.clustering.web.cache.session;
 import org.wildfly.clustering.ee.Creator;
 import org.wildfly.clustering.ee.Remover;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
 
 /**
  * Factory for creating a {@link SessionAttributes} object.
@@ -32,9 +33,19 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
  * @param <V> the marshalled value type
  * @author Paul Ferraro
  */
-public interface SessionAttributesFactory<C, V> extends ImmutableSessionAttributesFactory<V>, Creator<String, V, Void>, Remover<String>, AutoCloseable {
+public interface SessionAttributesFactory<C, V> extends ImmutableSessionAttributesFactory<V>, Creator<String, V, Void>, Remover<String>, SessionAttributeReplicationStatistics, AutoCloseable {
     SessionAttributes createSessionAttributes(String id, V value, ImmutableSessionMetaData metaData, C context);
 
+    @Override
+    default long getReplicatedAttributeCount() {
+        return 0L;
+    }
+
+    @Override
+    default long getSkippedAttributeReplicationCount() {
+        return 0L;
+    }
+
     @Override
     default void close() {
         // Nothing to close
@@ -25,6 +25,7 @@ package org.wildfly.clustering.web.cache.session;
 import org.wildfly.clustering.ee.Immutability;
 import org.wildfly.clustering.marshalling.spi.Marshaller;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 
 /**
  * Configuration of a factory for creating a {@link SessionAttributes} object.
@@ -39,4 +40,8 @@ public interface SessionAttributesFactoryConfiguration<S, C, L, V, SV> {
     Marshaller<V, SV> getMarshaller();
     Immutability getImmutability();
     HttpSessionActivationListenerProvider<S, C, L> getHttpSessionActivationListenerProvider();
+
+    default SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return SessionAttributeReplicationMode.ACCESSED;
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.cache.session.fine;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.wildfly.clustering.web.session.SessionAttributeReplicationStatistics;
+
+/**
+ * Records the replication of mutable session attributes by {@link FineSessionAttributes}.
+ * @author agent
+ */
+public class FineSessionAttributeReplicationStatistics implements SessionAttributeReplicationStatistics {
+
+    private final AtomicLong replicatedAttributeCount = new AtomicLong();
+    private final AtomicLong skippedAttributeReplicationCount = new AtomicLong();
+
+    /**
+     * Records the replication of a mutable session attribute.
+     */
+    public void recordReplication() {
+        this.replicatedAttributeCount.incrementAndGet();
+    }
+
+    /**
+     * Records a skipped replication of an unmodified mutable session attribute.
+     */
+    public void recordSkippedReplication() {
+        this.skippedAttributeReplicationCount.incrementAndGet();
+    }
+
+    @Override
+    public long getReplicatedAttributeCount() {
+        return this.replicatedAttributeCount.get();
+    }
+
+    @Override
+    public long getSkippedAttributeReplicationCount() {
+        return this.skippedAttributeReplicationCount.get();
+    }
+}
@@ -23,6 +23,7 @@ package org.wildfly.clustering.web.cache.session.fine;
 
 import java.io.IOException;
 import java.io.NotSerializableException;
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -36,9 +37,11 @@ import org.wildfly.clustering.ee.Immutability;
 import org.wildfly.clustering.ee.MutatorFactory;
 import org.wildfly.clustering.ee.UUIDFactory;
 import org.wildfly.clustering.ee.cache.CacheProperties;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
 import org.wildfly.clustering.marshalling.spi.Marshaller;
 import org.wildfly.clustering.web.cache.session.SessionAttributeActivationNotifier;
 import org.wildfly.clustering.web.cache.session.SessionAttributes;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 
 /**
  * Exposes session attributes for fine granularity sessions.
@@ -50,14 +53,18 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
     private final Function<UUID, K> keyFactory;
     private final Map<K, V> attributeCache;
     private final Map<K, Optional<Object>> mutations = new HashMap<>();
+    // Marshalled form of mutable attributes, as of their first access, used to detect modifications
+    private final Map<K, ByteBuffer> snapshots = new HashMap<>();
     private final Marshaller<Object, V> marshaller;
     private final MutatorFactory<K, V> mutatorFactory;
     private final Immutability immutability;
     private final CacheProperties properties;
     private final SessionAttributeActivationNotifier notifier;
     private final AtomicReference<Map<String, UUID>> names;
+    private final boolean detectModifications;
+    private final FineSessionAttributeReplicationStatistics statistics;
 
-    public FineSessionAttributes(NK key, AtomicReference<Map<String, UUID>> names, Map<NK, Map<String, UUID>> namesCache, Function<UUID, K> keyFactory, Map<K, V> attributeCache, Marshaller<Object, V> marshaller, MutatorFactory<K, V> mutatorFactory, Immutability immutability, CacheProperties properties, SessionAttributeActivationNotifier notifier) {
+    public FineSessionAttributes(NK key, AtomicReference<Map<String, UUID>> names, Map<NK, Map<String, UUID>> namesCache, Function<UUID, K> keyFactory, Map<K, V> attributeCache, Marshaller<Object, V> marshaller, MutatorFactory<K, V> mutatorFactory, Immutability immutability, CacheProperties properties, SessionAttributeReplicationMode replicationMode, FineSessionAttributeReplicationStatistics statistics, SessionAttributeActivationNotifier notifier) {
         this.key = key;
         this.names = names;
         this.namesCache = namesCache;
@@ -68,6 +75,9 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
         this.immutability = immutability;
         this.properties = properties;
         this.notifier = notifier;
+        // Modifications can only be detected if attributes are marshalled
+        this.detectModifications = (replicationMode == SessionAttributeReplicationMode.MODIFIED) && properties.isMarshalling();
+        this.statistics = statistics;
     }
 
     @Override
@@ -83,6 +93,7 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
             Object result = this.read(this.attributeCache.remove(key));
             if (result != null) {
                 this.mutations.remove(key);
+                this.snapshots.remove(key);
 
                 if (this.properties.isPersistent()) {
                     this.notifier.postActivate(result);
@@ -118,6 +129,8 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
             }
 
             Object result = this.read(this.attributeCache.put(key, value));
+            // Attribute was replaced, so any previous snapshot is obsolete
+            this.snapshots.remove(key);
 
             if (this.properties.isTransactional()) {
                 // Add an empty value to prevent any subsequent mutable getAttribute(...) from triggering a redundant mutation on close.
@@ -157,7 +170,8 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
                 return mutableValue.get();
             }
 
-            Object result = this.read(this.attributeCache.get(key));
+            V value = this.attributeCache.get(key);
+            Object result = this.read(value);
             if (result != null) {
                 if (this.properties.isPersistent()) {
                     this.notifier.postActivate(result);
@@ -165,7 +179,12 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
 
                 // If the object is mutable, we need to trigger a mutation on close
                 if (!this.immutability.test(result)) {
-                    this.mutations.putIfAbsent(key, Optional.of(result));
+                    if ((this.mutations.putIfAbsent(key, Optional.of(result)) == null) && this.detectModifications) {
+                        ByteBuffer snapshot = this.marshal(value);
+                        if (snapshot != null) {
+                            this.snapshots.put(key, snapshot);
+                        }
+                    }
                 }
             }
             return result;
@@ -185,11 +204,25 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
                 Optional<Object> optional = entry.getValue();
                 if (optional.isPresent()) {
                     K key = entry.getKey();
-                    V value = this.write(optional.get());
+                    Object attribute = optional.get();
+                    V value = this.write(attribute);
+                    ByteBuffer snapshot = this.snapshots.get(key);
+                    if (snapshot != null) {
+                        ByteBuffer buffer = this.marshal(value);
+                        // Skip replication if the marshalled form of this attribute is unchanged
+                        if (snapshot.equals(buffer)) {
+                            this.statistics.recordSkippedReplication();
+                            continue;
+                        }
+                        // Replicate the buffer we just compared, so that the attribute is not marshalled again
+                        value = this.marshalled(attribute, buffer);
+                    }
                     this.mutatorFactory.createMutator(key, value).mutate();
+                    this.statistics.recordReplication();
                 }
             }
             this.mutations.clear();
+            this.snapshots.clear();
         }
     }
 
@@ -205,6 +238,20 @@ public class FineSessionAttributes<NK, K, V> implements SessionAttributes {
         }
     }
 
+    private ByteBuffer marshal(V value) {
+        try {
+            return (value instanceof ByteBufferMarshalledValue) ? ((ByteBufferMarshalledValue<?>) value).getBuffer() : null;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V marshalled(Object attribute, ByteBuffer buffer) {
+        // Snapshots are only taken of attributes marshalled via a ByteBufferMarshalledValue
+        return (V) new ByteBufferMarshalledValue<>(attribute, buffer);
+    }
+
     private Object read(V value) {
         try {
             return this.marshaller.read(value);
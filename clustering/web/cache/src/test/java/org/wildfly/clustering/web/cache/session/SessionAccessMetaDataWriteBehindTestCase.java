@@ -0,0 +1,125 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.cache.session;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+import org.junit.After;
+import org.junit.Test;
+import org.wildfly.clustering.ee.Mutator;
+
+/**
+ * Unit test for {@link SessionAccessMetaDataWriteBehind}.
+ * @author agent
+ */
+public class SessionAccessMetaDataWriteBehindTestCase {
+    private static final Duration GRANULARITY = Duration.ofHours(1);
+
+    @SuppressWarnings("unchecked")
+    private final BiConsumer<String, SessionAccessMetaData> writer = mock(BiConsumer.class);
+    private final SessionAccessMetaDataWriteBehind writeBehind = new SessionAccessMetaDataWriteBehind(GRANULARITY, this.writer);
+
+    @After
+    public void destroy() {
+        this.writeBehind.close();
+    }
+
+    @Test
+    public void test() {
+        String id = "session";
+        Mutator mutator = mock(Mutator.class);
+        SessionAccessMetaData metaData = new SimpleSessionAccessMetaData();
+
+        // Initial access is within granularity, so defer
+        new MutableSessionAccessMetaData(id, metaData, mutator, this.writeBehind).setLastAccessDuration(Duration.ofMinutes(10), Duration.ofSeconds(1));
+
+        verify(mutator, never()).mutate();
+
+        // Subsequent access is measured against the last replicated access, not the deferred access
+        new MutableSessionAccessMetaData(id, metaData, mutator, this.writeBehind).setLastAccessDuration(Duration.ofMinutes(50), Duration.ofSeconds(1));
+
+        verify(mutator, never()).mutate();
+
+        // Access beyond granularity replicates immediately, replacing any deferred write
+        new MutableSessionAccessMetaData(id, metaData, mutator, this.writeBehind).setLastAccessDuration(Duration.ofMinutes(60), Duration.ofSeconds(1));
+
+        verify(mutator).mutate();
+
+        this.writeBehind.run();
+
+        verifyNoInteractions(this.writer);
+
+        reset(mutator);
+
+        // Coalesce multiple deferred accesses into a single write
+        new MutableSessionAccessMetaData(id, metaData, mutator, this.writeBehind).setLastAccessDuration(Duration.ofMinutes(61), Duration.ofSeconds(1));
+        new MutableSessionAccessMetaData(id, metaData, mutator, this.writeBehind).setLastAccessDuration(Duration.ofMinutes(62), Duration.ofSeconds(1));
+
+        verify(mutator, never()).mutate();
+
+        this.writeBehind.run();
+
+        verify(this.writer).accept(id, metaData);
+
+        this.writeBehind.run();
+
+        verifyNoMoreInteractions(this.writer);
+    }
+
+    @Test
+    public void cancel() {
+        String id = "session";
+        Mutator mutator = mock(Mutator.class);
+        SessionAccessMetaData metaData = new SimpleSessionAccessMetaData();
+
+        new MutableSessionAccessMetaData(id, metaData, mutator, this.writeBehind).setLastAccessDuration(Duration.ofMinutes(10), Duration.ofSeconds(1));
+
+        this.writeBehind.cancel(id);
+        this.writeBehind.run();
+
+        verify(mutator, never()).mutate();
+        verifyNoInteractions(this.writer);
+    }
+
+    @Test
+    public void close() {
+        String id = "session";
+        Mutator mutator = mock(Mutator.class);
+        SessionAccessMetaData metaData = new SimpleSessionAccessMetaData();
+
+        new MutableSessionAccessMetaData(id, metaData, mutator, this.writeBehind).setLastAccessDuration(Duration.ofMinutes(10), Duration.ofSeconds(1));
+
+        // Closing flushes all deferred writes
+        this.writeBehind.close();
+
+        verify(this.writer).accept(id, metaData);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.cache.session.fine;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.MutatorFactory;
+import org.wildfly.clustering.ee.cache.CacheProperties;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValue;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.spi.Marshaller;
+import org.wildfly.clustering.web.cache.session.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.web.cache.session.SessionAttributes;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
+
+/**
+ * Unit test for {@link FineSessionAttributes}.
+ * @author agent
+ */
+public class FineSessionAttributesTestCase {
+    private final String name = "counter";
+    private final UUID attributeId = UUID.randomUUID();
+    private final AtomicInteger attribute = new AtomicInteger();
+    private final Map<UUID, ByteBufferMarshalledValue<Object>> attributeCache = new HashMap<>();
+    private final ByteBufferMarshaller byteBufferMarshaller = mock(ByteBufferMarshaller.class);
+    private final Marshaller<Object, ByteBufferMarshalledValue<Object>> marshaller = mock(Marshaller.class);
+    private final MutatorFactory<UUID, ByteBufferMarshalledValue<Object>> mutatorFactory = mock(MutatorFactory.class);
+    private final Mutator mutator = mock(Mutator.class);
+    private final Immutability immutability = mock(Immutability.class);
+    private final CacheProperties properties = mock(CacheProperties.class);
+    private final SessionAttributeActivationNotifier notifier = mock(SessionAttributeActivationNotifier.class);
+    private final FineSessionAttributeReplicationStatistics statistics = new FineSessionAttributeReplicationStatistics();
+
+    private SessionAttributes createSessionAttributes(SessionAttributeReplicationMode mode) throws IOException {
+        return this.createSessionAttributes(mode, true);
+    }
+
+    private SessionAttributes createSessionAttributes(SessionAttributeReplicationMode mode, boolean marshalling) throws IOException {
+        when(this.properties.isMarshalling()).thenReturn(marshalling);
+        when(this.immutability.test(this.attribute)).thenReturn(false);
+        when(this.byteBufferMarshaller.write(this.attribute)).thenAnswer(invocation -> ByteBuffer.wrap(invocation.getArgument(0).toString().getBytes(StandardCharsets.UTF_8)));
+        when(this.marshaller.write(this.attribute)).thenAnswer(invocation -> new ByteBufferMarshalledValue<>(invocation.getArgument(0), this.byteBufferMarshaller));
+        when(this.marshaller.read(any())).thenAnswer(invocation -> {
+            ByteBufferMarshalledValue<Object> value = invocation.getArgument(0);
+            return (value != null) ? value.get(this.byteBufferMarshaller) : null;
+        });
+        when(this.mutatorFactory.createMutator(eq(this.attributeId), any())).thenReturn(this.mutator);
+
+        this.attributeCache.put(this.attributeId, new ByteBufferMarshalledValue<>(this.attribute, this.byteBufferMarshaller));
+
+        return new FineSessionAttributes<>(this.name, new AtomicReference<>(Map.of(this.name, this.attributeId)), new HashMap<>(), Function.identity(), this.attributeCache, this.marshaller, this.mutatorFactory, this.immutability, this.properties, mode, this.statistics, this.notifier);
+    }
+
+    @Test
+    public void accessed() throws IOException {
+        try (SessionAttributes attributes = this.createSessionAttributes(SessionAttributeReplicationMode.ACCESSED)) {
+            assertSame(this.attribute, attributes.getAttribute(this.name));
+        }
+
+        // Accessed mutable attribute should always replicate
+        verify(this.mutator).mutate();
+        assertEquals(1L, this.statistics.getReplicatedAttributeCount());
+        assertEquals(0L, this.statistics.getSkippedAttributeReplicationCount());
+    }
+
+    @Test
+    public void unmodified() throws IOException {
+        try (SessionAttributes attributes = this.createSessionAttributes(SessionAttributeReplicationMode.MODIFIED)) {
+            assertSame(this.attribute, attributes.getAttribute(this.name));
+        }
+
+        // Unmodified mutable attribute should not replicate
+        verify(this.mutatorFactory, never()).createMutator(any(), any());
+        assertEquals(0L, this.statistics.getReplicatedAttributeCount());
+        assertEquals(1L, this.statistics.getSkippedAttributeReplicationCount());
+    }
+
+    @Test
+    public void modified() throws IOException {
+        try (SessionAttributes attributes = this.createSessionAttributes(SessionAttributeReplicationMode.MODIFIED)) {
+            AtomicInteger counter = (AtomicInteger) attributes.getAttribute(this.name);
+            counter.incrementAndGet();
+        }
+
+        ArgumentCaptor<ByteBufferMarshalledValue<Object>> capturedValue = ArgumentCaptor.forClass(ByteBufferMarshalledValue.class);
+        verify(this.mutatorFactory).createMutator(eq(this.attributeId), capturedValue.capture());
+        verify(this.mutator).mutate();
+        assertEquals(1L, this.statistics.getReplicatedAttributeCount());
+        assertEquals(0L, this.statistics.getSkippedAttributeReplicationCount());
+
+        // Replicated value must reuse the buffer marshalled for comparison on close
+        assertEquals(ByteBuffer.wrap("1".getBytes(StandardCharsets.UTF_8)), capturedValue.getValue().getBuffer());
+        verify(this.byteBufferMarshaller, times(2)).write(this.attribute);
+    }
+
+    @Test
+    public void notMarshalling() throws IOException {
+        // Modifications cannot be detected if cache does not marshal its values
+        try (SessionAttributes attributes = this.createSessionAttributes(SessionAttributeReplicationMode.MODIFIED, false)) {
+            assertSame(this.attribute, attributes.getAttribute(this.name));
+        }
+
+        verify(this.mutator).mutate();
+        assertEquals(1L, this.statistics.getReplicatedAttributeCount());
+        assertEquals(0L, this.statistics.getSkippedAttributeReplicationCount());
+    }
+}
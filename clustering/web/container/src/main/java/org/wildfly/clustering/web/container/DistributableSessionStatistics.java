@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.container;
+
+/**
+ * Statistics of a distributable session manager, beyond those reported by the container-specific session manager statistics.
+ * @author agent
+ */
+public interface DistributableSessionStatistics {
+
+    /**
+     * @return The number of mutable session attributes replicated upon request completion
+     */
+    long getReplicatedAttributeCount();
+
+    /**
+     * @return The number of mutable session attributes whose replication was skipped upon request completion, since they were not modified
+     */
+    long getSkippedAttributeReplicationCount();
+
+    /**
+     * @return The number of near cache reads that found an entry
+     */
+    long getNearCacheHitCount();
+
+    /**
+     * @return The number of near cache reads that did not find an entry
+     */
+    long getNearCacheMissCount();
+
+    /**
+     * @return The number of sessions evicted from the near cache
+     */
+    long getNearCacheEvictionCount();
+
+    /**
+     * @return The ratio of near cache reads that found an entry, or 0 if the near cache was never read
+     */
+    double getNearCacheHitRatio();
+}
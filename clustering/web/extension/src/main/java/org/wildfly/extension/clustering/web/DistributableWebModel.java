@@ -38,8 +38,9 @@ public enum DistributableWebModel implements Model {
      */
     VERSION_2_0_0(2, 0, 0), // WildFly 18-26
     VERSION_3_0_0(3, 0, 0), // WildFly 27
+    VERSION_4_0_0(4, 0, 0), // WildFly 28
     ;
-    public static final DistributableWebModel CURRENT = VERSION_3_0_0;
+    public static final DistributableWebModel CURRENT = VERSION_4_0_0;
 
     private final ModelVersion version;
 
@@ -36,6 +36,7 @@ public enum DistributableWebSchema implements PersistentSubsystemSchema<Distribu
     VERSION_1_0(1, 0), // WildFly 17
     VERSION_2_0(2, 0), // WildFly 18-26.1
     VERSION_3_0(3, 0), // WildFly 27
+    VERSION_4_0(4, 0), // WildFly 28
     ;
     private final int major;
     private final int minor;
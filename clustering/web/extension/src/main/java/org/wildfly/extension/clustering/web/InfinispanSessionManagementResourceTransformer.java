@@ -25,6 +25,8 @@ package org.wildfly.extension.clustering.web;
 import java.util.function.Consumer;
 
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 
 /**
@@ -42,6 +44,13 @@ public class InfinispanSessionManagementResourceTransformer extends SessionManag
     public void accept(ModelVersion version) {
         ResourceTransformationDescriptionBuilder builder = this.parent.addChildResource(InfinispanSessionManagementResourceDefinition.WILDCARD_PATH);
 
+        if (DistributableWebModel.VERSION_4_0_0.requiresTransformation(version)) {
+            builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, InfinispanSessionManagementResourceDefinition.Attribute.EXPIRATION_SCHEDULER.getName(), InfinispanSessionManagementResourceDefinition.Attribute.LAST_ACCESS_REPLICATION_GRANULARITY.getName())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, InfinispanSessionManagementResourceDefinition.Attribute.EXPIRATION_SCHEDULER.getName(), InfinispanSessionManagementResourceDefinition.Attribute.LAST_ACCESS_REPLICATION_GRANULARITY.getName())
+                    .end();
+        }
+
         this.accept(version, builder);
     }
 }
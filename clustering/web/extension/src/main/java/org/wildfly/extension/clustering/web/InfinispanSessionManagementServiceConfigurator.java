@@ -24,12 +24,17 @@ package org.wildfly.extension.clustering.web;
 
 import static org.wildfly.extension.clustering.web.InfinispanSessionManagementResourceDefinition.Attribute.CACHE;
 import static org.wildfly.extension.clustering.web.InfinispanSessionManagementResourceDefinition.Attribute.CACHE_CONTAINER;
+import static org.wildfly.extension.clustering.web.InfinispanSessionManagementResourceDefinition.Attribute.EXPIRATION_SCHEDULER;
+import static org.wildfly.extension.clustering.web.InfinispanSessionManagementResourceDefinition.Attribute.LAST_ACCESS_REPLICATION_GRANULARITY;
+
+import java.time.Duration;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.dmr.ModelNode;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.service.ServiceConfigurator;
 import org.wildfly.clustering.web.infinispan.session.InfinispanSessionManagementConfiguration;
 import org.wildfly.clustering.web.service.session.DistributableSessionManagementProvider;
@@ -43,6 +48,8 @@ public class InfinispanSessionManagementServiceConfigurator extends SessionManag
 
     private volatile String containerName;
     private volatile String cacheName;
+    private volatile ExpirationSchedulerStrategy expirationSchedulerStrategy;
+    private volatile Duration lastAccessReplicationGranularity;
 
     public InfinispanSessionManagementServiceConfigurator(PathAddress address) {
         super(address);
@@ -52,6 +59,8 @@ public class InfinispanSessionManagementServiceConfigurator extends SessionManag
     public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
         this.containerName = CACHE_CONTAINER.resolveModelAttribute(context, model).asString();
         this.cacheName = CACHE.resolveModelAttribute(context, model).asStringOrNull();
+        this.expirationSchedulerStrategy = ExpirationSchedulerStrategy.valueOf(EXPIRATION_SCHEDULER.resolveModelAttribute(context, model).asString());
+        this.lastAccessReplicationGranularity = Duration.ofMillis(LAST_ACCESS_REPLICATION_GRANULARITY.resolveModelAttribute(context, model).asLong());
         return super.configure(context, model);
     }
 
@@ -69,4 +78,14 @@ public class InfinispanSessionManagementServiceConfigurator extends SessionManag
     public String getCacheName() {
         return this.cacheName;
     }
+
+    @Override
+    public ExpirationSchedulerStrategy getExpirationSchedulerStrategy() {
+        return this.expirationSchedulerStrategy;
+    }
+
+    @Override
+    public Duration getLastAccessReplicationGranularity() {
+        return this.lastAccessReplicationGranularity;
+    }
 }
@@ -45,6 +45,7 @@ import org.jboss.dmr.ModelType;
 import org.wildfly.clustering.service.UnaryRequirement;
 import org.wildfly.clustering.web.service.WebProviderRequirement;
 import org.wildfly.clustering.web.service.WebRequirement;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 
 /**
  * Base definition for session management resources.
@@ -85,7 +86,13 @@ public class SessionManagementResourceDefinition extends ChildResourceDefinition
             public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
                 return builder.setValidator(new EnumValidator<>(SessionMarshallerFactory.class));
             }
-        }
+        },
+        ATTRIBUTE_REPLICATION("attribute-replication", ModelType.STRING, new ModelNode(SessionAttributeReplicationMode.ACCESSED.name())) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setValidator(new EnumValidator<>(SessionAttributeReplicationMode.class));
+            }
+        },
         ;
         private final AttributeDefinition definition;
 
@@ -42,5 +42,11 @@ public class SessionManagementResourceTransformer implements BiConsumer<ModelVer
                     .addRejectCheck(RejectAttributeChecker.DEFINED, SessionManagementResourceDefinition.Attribute.MARSHALLER.getName())
                     .end();
         }
+        if (DistributableWebModel.VERSION_4_0_0.requiresTransformation(version)) {
+            builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, SessionManagementResourceDefinition.Attribute.ATTRIBUTE_REPLICATION.getName())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, SessionManagementResourceDefinition.Attribute.ATTRIBUTE_REPLICATION.getName())
+                    .end();
+        }
     }
 }
@@ -22,6 +22,7 @@
 
 package org.wildfly.extension.clustering.web;
 
+import static org.wildfly.extension.clustering.web.SessionManagementResourceDefinition.Attribute.ATTRIBUTE_REPLICATION;
 import static org.wildfly.extension.clustering.web.SessionManagementResourceDefinition.Attribute.GRANULARITY;
 import static org.wildfly.extension.clustering.web.SessionManagementResourceDefinition.Attribute.MARSHALLER;
 
@@ -51,6 +52,7 @@ import org.wildfly.clustering.web.service.routing.RouteLocatorServiceConfigurato
 import org.wildfly.clustering.web.service.session.DistributableSessionManagementProvider;
 import org.wildfly.clustering.web.session.DistributableSessionManagementConfiguration;
 import org.wildfly.clustering.web.session.SessionAttributePersistenceStrategy;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 
 /**
  * Abstract service configurator for session management providers.
@@ -60,6 +62,7 @@ public abstract class SessionManagementServiceConfigurator<C extends Distributab
 
     private volatile SessionGranularity granularity;
     private volatile SessionMarshallerFactory marshallerFactory;
+    private volatile SessionAttributeReplicationMode attributeReplicationMode;
     private volatile SupplierDependency<RouteLocatorServiceConfiguratorFactory<C>> factory;
 
     SessionManagementServiceConfigurator(PathAddress address) {
@@ -70,6 +73,7 @@ public abstract class SessionManagementServiceConfigurator<C extends Distributab
     public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
         this.granularity = SessionGranularity.valueOf(GRANULARITY.resolveModelAttribute(context, model).asString());
         this.marshallerFactory = SessionMarshallerFactory.valueOf(MARSHALLER.resolveModelAttribute(context, model).asString());
+        this.attributeReplicationMode = SessionAttributeReplicationMode.valueOf(ATTRIBUTE_REPLICATION.resolveModelAttribute(context, model).asString());
         this.factory = new ServiceSupplierDependency<>(WebProviderRequirement.AFFINITY.getServiceName(context, this.getServiceName().getSimpleName()));
         return this;
     }
@@ -93,6 +97,11 @@ public abstract class SessionManagementServiceConfigurator<C extends Distributab
         return this.marshallerFactory;
     }
 
+    @Override
+    public SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return this.attributeReplicationMode;
+    }
+
     public RouteLocatorServiceConfiguratorFactory<C> getRouteLocatorServiceConfiguratorFactory() {
         return this.factory.get();
     }
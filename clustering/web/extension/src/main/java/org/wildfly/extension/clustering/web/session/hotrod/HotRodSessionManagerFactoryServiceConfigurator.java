@@ -54,6 +54,7 @@ import org.wildfly.clustering.web.hotrod.session.HotRodSessionManagerFactory;
 import org.wildfly.clustering.web.hotrod.session.HotRodSessionManagerFactoryConfiguration;
 import org.wildfly.clustering.web.hotrod.session.SessionManagerNearCacheFactory;
 import org.wildfly.clustering.web.session.SessionAttributePersistenceStrategy;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 import org.wildfly.clustering.web.session.SessionManagerFactory;
 import org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration;
 import org.wildfly.clustering.web.session.SpecificationProvider;
@@ -87,11 +88,10 @@ public class HotRodSessionManagerFactoryServiceConfigurator<S, SC, AL, LC>  exte
         NearCacheMode mode = (maxActiveSessions == null) || (maxActiveSessions == 0) ? NearCacheMode.DISABLED : NearCacheMode.INVALIDATED;
         String configurationName = this.configuration.getConfigurationName();
         String templateName = (configurationName != null) ? configurationName : DefaultTemplate.DIST_SYNC.getTemplateName();
-        SessionAttributePersistenceStrategy strategy = this.getAttributePersistenceStrategy();
         this.cacheConfigurator = new RemoteCacheServiceConfigurator<>(this.getServiceName().append("cache"), this.configuration.getContainerName(), this.getDeploymentName(), new Consumer<RemoteCacheConfigurationBuilder>() {
             @Override
             public void accept(RemoteCacheConfigurationBuilder builder) {
-                builder.forceReturnValues(false).nearCacheMode(mode).templateName(templateName).transactionMode(TransactionMode.NONE).nearCacheFactory(new SessionManagerNearCacheFactory(maxActiveSessions, strategy));
+                builder.forceReturnValues(false).nearCacheMode(mode).templateName(templateName).transactionMode(TransactionMode.NONE).nearCacheFactory(new SessionManagerNearCacheFactory(maxActiveSessions));
             }
         }).configure(support);
         this.cache = new ServiceSupplierDependency<>(this.cacheConfigurator.getServiceName());
@@ -118,6 +118,11 @@ public class HotRodSessionManagerFactoryServiceConfigurator<S, SC, AL, LC>  exte
         return this.factoryConfiguration.getAttributePersistenceStrategy();
     }
 
+    @Override
+    public SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return this.factoryConfiguration.getAttributeReplicationMode();
+    }
+
     @Override
     public ByteBufferMarshaller getMarshaller() {
         return this.factoryConfiguration.getMarshaller();
@@ -21,6 +21,7 @@
  */
 package org.wildfly.extension.clustering.web.session.infinispan;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -43,6 +44,7 @@ import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
 import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.infinispan.affinity.KeyAffinityServiceFactory;
 import org.wildfly.clustering.infinispan.container.DataContainerConfigurationBuilder;
@@ -70,6 +72,7 @@ import org.wildfly.clustering.web.infinispan.session.InfinispanSessionManagerFac
 import org.wildfly.clustering.web.infinispan.session.InfinispanSessionManagerFactoryConfiguration;
 import org.wildfly.clustering.web.infinispan.session.SessionCreationMetaDataKey;
 import org.wildfly.clustering.web.session.SessionAttributePersistenceStrategy;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 import org.wildfly.clustering.web.session.SessionManagerFactory;
 import org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration;
 import org.wildfly.clustering.web.session.SpecificationProvider;
@@ -177,11 +180,26 @@ public class InfinispanSessionManagerFactoryServiceConfigurator<S, SC, AL, LC> e
         return this.group.get();
     }
 
+    @Override
+    public ExpirationSchedulerStrategy getExpirationSchedulerStrategy() {
+        return this.configuration.getExpirationSchedulerStrategy();
+    }
+
+    @Override
+    public Duration getLastAccessReplicationGranularity() {
+        return this.configuration.getLastAccessReplicationGranularity();
+    }
+
     @Override
     public SessionAttributePersistenceStrategy getAttributePersistenceStrategy() {
         return this.factoryConfiguration.getAttributePersistenceStrategy();
     }
 
+    @Override
+    public SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return this.factoryConfiguration.getAttributeReplicationMode();
+    }
+
     @Override
     public ByteBufferMarshaller getMarshaller() {
         return this.factoryConfiguration.getMarshaller();
@@ -178,6 +178,12 @@ public class DistributableWebTransformerTestCase extends AbstractSubsystemTest {
             config.addFailedAttribute(subsystemAddress.append(HotRodSessionManagementResourceDefinition.pathElement("remote-protostream")), new FailedOperationTransformationConfig.NewAttributesConfig(SessionManagementResourceDefinition.Attribute.MARSHALLER.getName()));
         }
 
+        if (DistributableWebModel.VERSION_4_0_0.requiresTransformation(this.version)) {
+            config.addFailedAttribute(subsystemAddress.append(InfinispanSessionManagementResourceDefinition.pathElement("timing-wheel")), new FailedOperationTransformationConfig.NewAttributesConfig(InfinispanSessionManagementResourceDefinition.Attribute.EXPIRATION_SCHEDULER.getName()));
+            config.addFailedAttribute(subsystemAddress.append(InfinispanSessionManagementResourceDefinition.pathElement("coalesced-access")), new FailedOperationTransformationConfig.NewAttributesConfig(InfinispanSessionManagementResourceDefinition.Attribute.LAST_ACCESS_REPLICATION_GRANULARITY.getName()));
+            config.addFailedAttribute(subsystemAddress.append(InfinispanSessionManagementResourceDefinition.pathElement("attribute-replication")), new FailedOperationTransformationConfig.NewAttributesConfig(SessionManagementResourceDefinition.Attribute.ATTRIBUTE_REPLICATION.getName()));
+        }
+
         return config;
     }
 }
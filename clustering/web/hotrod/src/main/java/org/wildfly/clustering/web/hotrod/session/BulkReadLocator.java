@@ -0,0 +1,105 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration;
+import org.wildfly.clustering.ee.Key;
+import org.wildfly.clustering.ee.Locator;
+
+/**
+ * A {@link Locator} whose values can be read from the results of a bulk read of the remote cache entries of a session.
+ * This allows a session factory to locate the cache entries of its constituent factories within a single round trip.
+ * @author agent
+ * @param <V> the cache value type
+ */
+public interface BulkReadLocator<V> extends Locator<String, V> {
+
+    /**
+     * Adds the keys of the cache entries required to read the value of the specified session.
+     * These may include keys of cache entries that are only speculatively required.
+     * @param id a session identifier
+     * @param keys a set of cache keys to which keys should be added
+     */
+    void addKeys(String id, Set<Key<String>> keys);
+
+    /**
+     * Reads the value of the specified session from the results of a bulk read of the specified keys.
+     * @param id a session identifier
+     * @param keys the requested cache keys
+     * @param entries the cache entries found for the requested keys
+     * @param purgeIfInvalid indicates whether an invalid value should be purged
+     * @return the value of the session, or null if not found or invalid
+     */
+    V readValue(String id, Set<Key<String>> keys, Map<Key<String>, Object> entries, boolean purgeIfInvalid);
+
+    /**
+     * Indicates whether the specified remote cache is configured with a near cache.
+     * @param cache a remote cache
+     * @return true, if the remote cache uses a near cache, false otherwise
+     */
+    static boolean isNearCacheEnabled(RemoteCache<?, ?> cache) {
+        RemoteCacheConfiguration configuration = cache.getRemoteCacheContainer().getConfiguration().remoteCaches().get(cache.getName());
+        return (configuration != null) && configuration.nearCacheMode().enabled();
+    }
+
+    /**
+     * Reads the cache entries for the specified keys.
+     * A bulk read bypasses the near cache of a remote cache, so the entries of a near cache enabled remote cache are instead read individually.
+     * These reads are issued concurrently, such that any near cache misses still complete within a single round trip.
+     * @param cache a remote cache
+     * @param keys a set of cache keys
+     * @param nearCacheEnabled indicates whether the remote cache uses a near cache
+     * @param <K> the cache key type
+     * @param <V> the cache value type
+     * @return the cache entries found for the specified keys
+     */
+    static <K, V> Map<K, V> getAll(RemoteCache<K, V> cache, Set<K> keys, boolean nearCacheEnabled) {
+        if (!nearCacheEnabled) {
+            return cache.getAll(keys);
+        }
+        Map<K, CompletableFuture<V>> futures = new HashMap<>();
+        for (K key : keys) {
+            futures.put(key, cache.getAsync(key));
+        }
+        Map<K, V> entries = new HashMap<>();
+        try {
+            for (Map.Entry<K, CompletableFuture<V>> entry : futures.entrySet()) {
+                V value = entry.getValue().join();
+                if (value != null) {
+                    entries.put(entry.getKey(), value);
+                }
+            }
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            throw (cause instanceof RuntimeException) ? (RuntimeException) cause : e;
+        }
+        return entries;
+    }
+}
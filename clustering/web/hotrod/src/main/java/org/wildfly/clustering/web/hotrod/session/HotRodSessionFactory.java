@@ -25,7 +25,14 @@ package org.wildfly.clustering.web.hotrod.session;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -34,15 +41,19 @@ import java.util.function.Consumer;
 
 import org.infinispan.client.hotrod.Flag;
 import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheContainer;
 import org.infinispan.client.hotrod.annotation.ClientCacheEntryExpired;
 import org.infinispan.client.hotrod.annotation.ClientListener;
+import org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration;
 import org.infinispan.client.hotrod.event.ClientCacheEntryCustomEvent;
+import org.infinispan.client.hotrod.near.NearCacheFactory;
 import org.infinispan.commons.io.UnsignedNumeric;
 import org.infinispan.commons.marshall.Marshaller;
 import org.wildfly.clustering.Registrar;
 import org.wildfly.clustering.Registration;
 import org.wildfly.clustering.context.DefaultExecutorService;
 import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.Remover;
 import org.wildfly.clustering.ee.hotrod.HotRodConfiguration;
 import org.wildfly.clustering.web.LocalContextFactory;
@@ -59,22 +70,33 @@ import org.wildfly.clustering.web.hotrod.logging.Logger;
 import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * @author Paul Ferraro
  */
 @ClientListener(converterFactoryName = "___eager-key-value-version-converter", useRawData = true) // References org.infinispan.server.hotrod.KeyValueVersionConverterFactory
-public class HotRodSessionFactory<C, V, L> extends CompositeSessionFactory<C, V, L> implements Registrar<Consumer<ImmutableSession>> {
+public class HotRodSessionFactory<C, V, L> extends CompositeSessionFactory<C, V, L> implements Registrar<Consumer<ImmutableSession>>, SessionNearCacheStatistics {
 
+    // Recently active sessions of closed session factories, by cache name, used to warm the near cache of a subsequent session factory (e.g. following redeployment)
+    // These are scoped to their remote cache container, and are discarded along with it, e.g. when the remote-cache-container resource is removed
+    private static final Map<RemoteCacheContainer, Map<String, List<String>>> RECENT_SESSIONS = new WeakHashMap<>();
+
+    private final RemoteCache<Key<String>, Object> cache;
     private final RemoteCache<SessionCreationMetaDataKey, SessionCreationMetaDataEntry<L>> creationMetaDataCache;
     private final RemoteCache<SessionAccessMetaDataKey, SessionAccessMetaData> accessMetaDataCache;
     private final ImmutableSessionMetaDataFactory<CompositeSessionMetaDataEntry<L>> metaDataFactory;
     private final ImmutableSessionAttributesFactory<V> attributesFactory;
     private final Remover<String> attributesRemover;
+    private final BulkReadLocator<CompositeSessionMetaDataEntry<L>> metaDataLocator;
+    private final BulkReadLocator<V> attributesLocator;
     private final Collection<Consumer<ImmutableSession>> listeners = new CopyOnWriteArraySet<>();
     private final ExecutorService executor = Executors.newCachedThreadPool(new DefaultThreadFactory(this.getClass()));
     private final boolean nearCacheEnabled;
+    private final SessionManagerNearCacheFactory nearCacheFactory;
+
+    private volatile boolean closed = false;
 
     /**
      * Constructs a new session factory
@@ -83,19 +105,98 @@ public class HotRodSessionFactory<C, V, L> extends CompositeSessionFactory<C, V,
      * @param attributesFactory
      * @param localContextFactory
      */
+    @SuppressWarnings("unchecked")
     public HotRodSessionFactory(HotRodConfiguration config, SessionMetaDataFactory<CompositeSessionMetaDataEntry<L>> metaDataFactory, SessionAttributesFactory<C, V> attributesFactory, LocalContextFactory<L> localContextFactory) {
         super(metaDataFactory, attributesFactory, localContextFactory);
         this.metaDataFactory = metaDataFactory;
         this.attributesFactory = attributesFactory;
         this.attributesRemover = attributesFactory;
+        this.metaDataLocator = (metaDataFactory instanceof BulkReadLocator) ? (BulkReadLocator<CompositeSessionMetaDataEntry<L>>) metaDataFactory : null;
+        this.attributesLocator = (attributesFactory instanceof BulkReadLocator) ? (BulkReadLocator<V>) attributesFactory : null;
+        this.cache = config.getCache();
         this.creationMetaDataCache = config.getCache();
         this.accessMetaDataCache= config.getCache();
         this.creationMetaDataCache.addClientListener(this, null, new Object[] { Boolean.TRUE });
-        this.nearCacheEnabled = this.creationMetaDataCache.getRemoteCacheContainer().getConfiguration().remoteCaches().get(this.creationMetaDataCache.getName()).nearCacheMode().enabled();
+        RemoteCacheConfiguration configuration = this.creationMetaDataCache.getRemoteCacheContainer().getConfiguration().remoteCaches().get(this.creationMetaDataCache.getName());
+        this.nearCacheEnabled = configuration.nearCacheMode().enabled();
+        NearCacheFactory nearCacheFactory = configuration.nearCacheFactory();
+        this.nearCacheFactory = this.nearCacheEnabled && (nearCacheFactory instanceof SessionManagerNearCacheFactory) ? (SessionManagerNearCacheFactory) nearCacheFactory : null;
+        List<String> recentSessions = (this.nearCacheFactory != null) ? removeRecentSessions(this.creationMetaDataCache) : null;
+        if ((recentSessions != null) && !recentSessions.isEmpty()) {
+            this.executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    HotRodSessionFactory.this.warm(recentSessions);
+                }
+            });
+        }
+    }
+
+    /**
+     * Populates the near cache with the specified sessions, in order of priority.
+     * Each session is read via the near cache, which retains the entries it reads from the remote cache.
+     * @param ids a list of session identifiers
+     */
+    void warm(List<String> ids) {
+        for (String id : ids) {
+            if (this.closed) return;
+            try {
+                this.tryValue(id);
+            } catch (RuntimeException e) {
+                Logger.ROOT_LOGGER.debugf(e, "Failed to load session %s into near cache", id);
+            }
+        }
+    }
+
+    static List<String> removeRecentSessions(RemoteCache<?, ?> cache) {
+        synchronized (RECENT_SESSIONS) {
+            Map<String, List<String>> containerSessions = RECENT_SESSIONS.get(cache.getRemoteCacheContainer());
+            return (containerSessions != null) ? containerSessions.remove(cache.getName()) : null;
+        }
+    }
+
+    static void putRecentSessions(RemoteCache<?, ?> cache, List<String> ids) {
+        synchronized (RECENT_SESSIONS) {
+            RECENT_SESSIONS.computeIfAbsent(cache.getRemoteCacheContainer(), container -> new HashMap<>()).put(cache.getName(), ids);
+        }
+    }
+
+    @Override
+    public Map.Entry<CompositeSessionMetaDataEntry<L>, V> findValue(String id) {
+        return ((this.metaDataLocator != null) && (this.attributesLocator != null)) ? this.readValue(id, true) : super.findValue(id);
+    }
+
+    @Override
+    public Map.Entry<CompositeSessionMetaDataEntry<L>, V> tryValue(String id) {
+        return ((this.metaDataLocator != null) && (this.attributesLocator != null)) ? this.readValue(id, false) : super.tryValue(id);
+    }
+
+    private Map.Entry<CompositeSessionMetaDataEntry<L>, V> readValue(String id, boolean purgeIfInvalid) {
+        Set<Key<String>> keys = new HashSet<>();
+        this.metaDataLocator.addKeys(id, keys);
+        this.attributesLocator.addKeys(id, keys);
+        // Read the cache entries for meta data and attributes within a single round trip
+        Map<Key<String>, Object> entries = BulkReadLocator.getAll(this.cache, keys, this.nearCacheEnabled);
+        CompositeSessionMetaDataEntry<L> metaDataValue = this.metaDataLocator.readValue(id, keys, entries, purgeIfInvalid);
+        if (metaDataValue != null) {
+            V attributesValue = this.attributesLocator.readValue(id, keys, entries, purgeIfInvalid);
+            if (attributesValue != null) {
+                return new SimpleImmutableEntry<>(metaDataValue, attributesValue);
+            }
+            if (purgeIfInvalid) {
+                // Purge obsolete meta data
+                this.getMetaDataFactory().purge(id);
+            }
+        }
+        return null;
     }
 
     @Override
     public void close() {
+        this.closed = true;
+        if (this.nearCacheFactory != null) {
+            putRecentSessions(this.creationMetaDataCache, this.nearCacheFactory.getRecentSessions());
+        }
         this.creationMetaDataCache.removeClientListener(this);
         WildFlySecurityManager.doUnchecked(this.executor, DefaultExecutorService.SHUTDOWN_ACTION);
         try {
@@ -157,6 +258,21 @@ public class HotRodSessionFactory<C, V, L> extends CompositeSessionFactory<C, V,
         this.executor.submit(task);
     }
 
+    @Override
+    public long getNearCacheHitCount() {
+        return (this.nearCacheFactory != null) ? this.nearCacheFactory.getNearCacheHitCount() : 0L;
+    }
+
+    @Override
+    public long getNearCacheMissCount() {
+        return (this.nearCacheFactory != null) ? this.nearCacheFactory.getNearCacheMissCount() : 0L;
+    }
+
+    @Override
+    public long getNearCacheEvictionCount() {
+        return (this.nearCacheFactory != null) ? this.nearCacheFactory.getNearCacheEvictionCount() : 0L;
+    }
+
     @Override
     public Registration register(Consumer<ImmutableSession> listener) {
         this.listeners.add(listener);
@@ -39,6 +39,7 @@ import org.wildfly.clustering.web.hotrod.logging.Logger;
 import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.Session;
 import org.wildfly.clustering.web.session.SessionManager;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 import org.wildfly.common.function.Functions;
 
 /**
@@ -57,6 +58,7 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
     private final SC context;
     private final Batcher<TransactionBatch> batcher;
     private final Duration stopTimeout;
+    private final SessionNearCacheStatistics nearCacheStatistics;
     private final Consumer<ImmutableSession> closeTask = Functions.discardingConsumer();
 
     private volatile Duration defaultMaxInactiveInterval = Duration.ofMinutes(30L);
@@ -70,6 +72,7 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
         this.identifierFactory = configuration.getIdentifierFactory();
         this.batcher = configuration.getBatcher();
         this.stopTimeout = configuration.getStopTimeout();
+        this.nearCacheStatistics = configuration.getNearCacheStatistics();
     }
 
     @Override
@@ -155,4 +158,29 @@ public class HotRodSessionManager<SC, MV, AV, LC> implements SessionManager<LC,
     public long getActiveSessionCount() {
         return this.getActiveSessions().size();
     }
+
+    @Override
+    public long getReplicatedAttributeCount() {
+        return this.factory.getAttributesFactory().getReplicatedAttributeCount();
+    }
+
+    @Override
+    public long getSkippedAttributeReplicationCount() {
+        return this.factory.getAttributesFactory().getSkippedAttributeReplicationCount();
+    }
+
+    @Override
+    public long getNearCacheHitCount() {
+        return this.nearCacheStatistics.getNearCacheHitCount();
+    }
+
+    @Override
+    public long getNearCacheMissCount() {
+        return this.nearCacheStatistics.getNearCacheMissCount();
+    }
+
+    @Override
+    public long getNearCacheEvictionCount() {
+        return this.nearCacheStatistics.getNearCacheEvictionCount();
+    }
 }
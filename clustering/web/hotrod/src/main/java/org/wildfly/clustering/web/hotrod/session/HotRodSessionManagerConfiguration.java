@@ -28,6 +28,7 @@ import org.wildfly.clustering.Registrar;
 import org.wildfly.clustering.ee.hotrod.HotRodConfiguration;
 import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.SessionManagerConfiguration;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 
 /**
  * Configuration for an {@link HotRodSessionManager}.
@@ -37,4 +38,5 @@ import org.wildfly.clustering.web.session.SessionManagerConfiguration;
 public interface HotRodSessionManagerConfiguration<C> extends SessionManagerConfiguration<C>, HotRodConfiguration {
     Registrar<Consumer<ImmutableSession>> getExpirationListenerRegistrar();
     Duration getStopTimeout();
+    SessionNearCacheStatistics getNearCacheStatistics();
 }
@@ -44,6 +44,7 @@ import org.wildfly.clustering.web.session.ImmutableSession;
 import org.wildfly.clustering.web.session.SessionManager;
 import org.wildfly.clustering.web.session.SessionManagerConfiguration;
 import org.wildfly.clustering.web.session.SessionManagerFactory;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 
 /**
  * Factory for creating session managers.
@@ -58,6 +59,7 @@ public class HotRodSessionManagerFactory<S, SC, AL, LC> implements SessionManage
     private final HotRodConfiguration configuration;
     private final Registrar<Consumer<ImmutableSession>> expirationListenerRegistrar;
     private final SessionFactory<SC, CompositeSessionMetaDataEntry<LC>, ?, LC> factory;
+    private final SessionNearCacheStatistics nearCacheStatistics;
 
     public HotRodSessionManagerFactory(HotRodSessionManagerFactoryConfiguration<S, SC, AL, LC> configuration) {
         this.configuration = configuration;
@@ -65,12 +67,14 @@ public class HotRodSessionManagerFactory<S, SC, AL, LC> implements SessionManage
         HotRodSessionFactory<SC, ?, LC> sessionFactory = new HotRodSessionFactory<>(configuration, metaDataFactory, this.createSessionAttributesFactory(configuration), configuration.getLocalContextFactory());
         this.factory = sessionFactory;
         this.expirationListenerRegistrar = sessionFactory;
+        this.nearCacheStatistics = sessionFactory;
     }
 
     @Override
     public SessionManager<LC, TransactionBatch> createSessionManager(SessionManagerConfiguration<SC> configuration) {
         Duration transactionTimeout = Duration.ofMillis(this.configuration.getCache().getRemoteCacheContainer().getConfiguration().transactionTimeout());
         Registrar<Consumer<ImmutableSession>> expirationListenerRegistrar = this.expirationListenerRegistrar;
+        SessionNearCacheStatistics nearCacheStatistics = this.nearCacheStatistics;
         HotRodSessionManagerConfiguration<SC> config = new AbstractHotRodSessionManagerConfiguration<>(configuration, this.configuration) {
             @Override
             public Registrar<Consumer<ImmutableSession>> getExpirationListenerRegistrar() {
@@ -81,6 +85,11 @@ public class HotRodSessionManagerFactory<S, SC, AL, LC> implements SessionManage
             public Duration getStopTimeout() {
                 return transactionTimeout;
             }
+
+            @Override
+            public SessionNearCacheStatistics getNearCacheStatistics() {
+                return nearCacheStatistics;
+            }
         };
         return new ConcurrentSessionManager<>(new HotRodSessionManager<>(this.factory, config), ConcurrentManager::new);
     }
@@ -51,7 +51,7 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 /**
  * @author Paul Ferraro
  */
-public class HotRodSessionMetaDataFactory<L> implements SessionMetaDataFactory<CompositeSessionMetaDataEntry<L>> {
+public class HotRodSessionMetaDataFactory<L> implements SessionMetaDataFactory<CompositeSessionMetaDataEntry<L>>, BulkReadLocator<CompositeSessionMetaDataEntry<L>> {
 
     private final RemoteCache<Key<String>, Object> cache;
     private final RemoteCache<SessionCreationMetaDataKey, SessionCreationMetaDataEntry<L>> creationMetaDataCache;
@@ -59,6 +59,7 @@ public class HotRodSessionMetaDataFactory<L> implements SessionMetaDataFactory<C
     private final RemoteCache<SessionAccessMetaDataKey, SessionAccessMetaData> accessMetaDataCache;
     private final MutatorFactory<SessionAccessMetaDataKey, SessionAccessMetaData> accessMetaDataMutatorFactory;
     private final CacheProperties properties;
+    private final boolean nearCacheEnabled;
 
     public HotRodSessionMetaDataFactory(HotRodConfiguration configuration) {
         this.cache = configuration.getCache();
@@ -72,6 +73,7 @@ public class HotRodSessionMetaDataFactory<L> implements SessionMetaDataFactory<C
         this.accessMetaDataCache = configuration.getCache();
         this.accessMetaDataMutatorFactory = new RemoteCacheMutatorFactory<>(this.accessMetaDataCache);
         this.properties = configuration.getCacheProperties();
+        this.nearCacheEnabled = BulkReadLocator.isNearCacheEnabled(this.cache);
     }
 
     @Override
@@ -85,16 +87,23 @@ public class HotRodSessionMetaDataFactory<L> implements SessionMetaDataFactory<C
 
     @Override
     public CompositeSessionMetaDataEntry<L> findValue(String id) {
-        SessionCreationMetaDataKey creationMetaDataKey = new SessionCreationMetaDataKey(id);
-        SessionAccessMetaDataKey accessMetaDataKey = new SessionAccessMetaDataKey(id);
         Set<Key<String>> keys = new HashSet<>(3);
-        keys.add(creationMetaDataKey);
-        keys.add(accessMetaDataKey);
-        // Use bulk read
-        Map<Key<String>, Object> entries = this.cache.getAll(keys);
+        this.addKeys(id, keys);
+        // Use bulk read, unless this would bypass the near cache
+        return this.readValue(id, keys, BulkReadLocator.getAll(this.cache, keys, this.nearCacheEnabled), true);
+    }
+
+    @Override
+    public void addKeys(String id, Set<Key<String>> keys) {
+        keys.add(new SessionCreationMetaDataKey(id));
+        keys.add(new SessionAccessMetaDataKey(id));
+    }
+
+    @Override
+    public CompositeSessionMetaDataEntry<L> readValue(String id, Set<Key<String>> keys, Map<Key<String>, Object> entries, boolean purgeIfInvalid) {
         @SuppressWarnings("unchecked")
-        SessionCreationMetaDataEntry<L> creationMetaDataEntry = (SessionCreationMetaDataEntry<L>) entries.get(creationMetaDataKey);
-        SessionAccessMetaData accessMetaData = (SessionAccessMetaData) entries.get(accessMetaDataKey);
+        SessionCreationMetaDataEntry<L> creationMetaDataEntry = (SessionCreationMetaDataEntry<L>) entries.get(new SessionCreationMetaDataKey(id));
+        SessionAccessMetaData accessMetaData = (SessionAccessMetaData) entries.get(new SessionAccessMetaDataKey(id));
         if ((creationMetaDataEntry != null) && (accessMetaData != null)) {
             return new CompositeSessionMetaDataEntry<>(creationMetaDataEntry, accessMetaData);
         }
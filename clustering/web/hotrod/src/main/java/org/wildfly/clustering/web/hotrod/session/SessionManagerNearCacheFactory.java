@@ -22,10 +22,8 @@
 
 package org.wildfly.clustering.web.hotrod.session;
 
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 import java.util.function.BiConsumer;
 
 import org.infinispan.client.hotrod.MetadataValue;
@@ -33,82 +31,59 @@ import org.infinispan.client.hotrod.configuration.NearCacheConfiguration;
 import org.infinispan.client.hotrod.near.NearCache;
 import org.infinispan.client.hotrod.near.NearCacheFactory;
 import org.wildfly.clustering.infinispan.client.near.CaffeineNearCache;
-import org.wildfly.clustering.infinispan.client.near.EvictionListener;
-import org.wildfly.clustering.infinispan.client.near.SimpleKeyWeigher;
-import org.wildfly.clustering.web.hotrod.session.coarse.SessionAttributesKey;
-import org.wildfly.clustering.web.hotrod.session.fine.SessionAttributeKey;
-import org.wildfly.clustering.web.hotrod.session.fine.SessionAttributeNamesKey;
-import org.wildfly.clustering.web.session.SessionAttributePersistenceStrategy;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
 
-import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 /**
  * A near-cache factory based on max-active-sessions.
+ * If bounded, the entries of a given session are grouped, such that they are evicted as a unit.
  * @author Paul Ferraro
  */
-public class SessionManagerNearCacheFactory implements NearCacheFactory {
+public class SessionManagerNearCacheFactory implements NearCacheFactory, SessionNearCacheStatistics {
 
     private final Integer maxActiveSessions;
-    private final SessionAttributePersistenceStrategy strategy;
 
-    public SessionManagerNearCacheFactory(Integer maxActiveSessions, SessionAttributePersistenceStrategy strategy) {
+    private volatile SessionNearCache<?, ?> nearCache;
+
+    public SessionManagerNearCacheFactory(Integer maxActiveSessions) {
         this.maxActiveSessions = maxActiveSessions;
-        this.strategy = strategy;
     }
 
     @Override
     public <K, V> NearCache<K, V> createNearCache(NearCacheConfiguration config, BiConsumer<K, MetadataValue<V>> removedConsumer) {
-        EvictionListener<K, V> listener = (this.maxActiveSessions != null) ? new EvictionListener<>(removedConsumer, new InvalidationListener(this.strategy)) : null;
-        Caffeine<Object, Object> builder = Caffeine.newBuilder();
-        if (listener != null) {
-            builder.executor(Runnable::run)
-                    .maximumWeight(this.maxActiveSessions.longValue())
-                    .weigher(new SimpleKeyWeigher(SessionCreationMetaDataKey.class::isInstance))
-                    .removalListener(listener);
-        }
-        Cache<K, MetadataValue<V>> cache = builder.build();
-        if (listener != null) {
-            listener.accept(cache);
+        if (this.maxActiveSessions != null) {
+            SessionNearCache<K, V> nearCache = new SessionNearCache<>(this.maxActiveSessions, removedConsumer);
+            this.nearCache = nearCache;
+            return nearCache;
         }
-        return new CaffeineNearCache<>(cache);
+        return new CaffeineNearCache<>(Caffeine.newBuilder().build());
     }
 
-    private static class InvalidationListener implements BiConsumer<Cache<Object, MetadataValue<Object>>, Map.Entry<Object, Object>> {
-        private final SessionAttributePersistenceStrategy strategy;
+    /**
+     * Returns the identifiers of the sessions within the near cache, ordered from most to least recently used.
+     * @return a list of session identifiers
+     */
+    public List<String> getRecentSessions() {
+        SessionNearCache<?, ?> nearCache = this.nearCache;
+        return (nearCache != null) ? nearCache.getRecentSessions(this.maxActiveSessions) : Collections.emptyList();
+    }
 
-        InvalidationListener(SessionAttributePersistenceStrategy strategy) {
-            this.strategy = strategy;
-        }
+    @Override
+    public long getNearCacheHitCount() {
+        SessionNearCache<?, ?> nearCache = this.nearCache;
+        return (nearCache != null) ? nearCache.getNearCacheHitCount() : 0L;
+    }
 
-        @Override
-        public void accept(Cache<Object, MetadataValue<Object>> cache, Map.Entry<Object, Object> entry) {
-            Object key = entry.getKey();
-            if (key instanceof SessionCreationMetaDataKey) {
-                String id = ((SessionCreationMetaDataKey) key).getId();
-                List<Object> keys = new LinkedList<>();
-                keys.add(new SessionAccessMetaDataKey(id));
-                switch (this.strategy) {
-                    case COARSE: {
-                        keys.add(new SessionAttributesKey(id));
-                        break;
-                    }
-                    case FINE: {
-                        SessionAttributeNamesKey namesKey = new SessionAttributeNamesKey(id);
-                        keys.add(namesKey);
-                        MetadataValue<Object> namesValue = cache.getIfPresent(namesKey);
-                        if (namesValue != null) {
-                            @SuppressWarnings("unchecked")
-                            Map<String, UUID> names = (Map<String, UUID>) namesValue.getValue();
-                            for (UUID attributeId : names.values()) {
-                                keys.add(new SessionAttributeKey(id, attributeId));
-                            }
-                        }
-                        break;
-                    }
-                }
-                cache.invalidateAll(keys);
-            }
-        }
+    @Override
+    public long getNearCacheMissCount() {
+        SessionNearCache<?, ?> nearCache = this.nearCache;
+        return (nearCache != null) ? nearCache.getNearCacheMissCount() : 0L;
+    }
+
+    @Override
+    public long getNearCacheEvictionCount() {
+        SessionNearCache<?, ?> nearCache = this.nearCache;
+        return (nearCache != null) ? nearCache.getNearCacheEvictionCount() : 0L;
     }
 }
@@ -0,0 +1,202 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.near.NearCache;
+import org.wildfly.clustering.ee.Key;
+import org.wildfly.clustering.web.session.SessionNearCacheStatistics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+
+/**
+ * A near cache that groups the entries of a given session, such that a session is evicted as a unit.
+ * The size of this near cache is bounded by a maximum number of sessions, rather than a maximum number of entries.
+ * @author agent
+ * @param <K> the cache key type
+ * @param <V> the cache value type
+ */
+public class SessionNearCache<K, V> implements NearCache<K, V>, SessionNearCacheStatistics, RemovalListener<Object, Map<K, MetadataValue<V>>> {
+
+    private final Cache<Object, Map<K, MetadataValue<V>>> sessions;
+    private final Map<Object, Map<K, MetadataValue<V>>> map;
+    private final BiConsumer<K, MetadataValue<V>> removedConsumer;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SessionNearCache(int maxActiveSessions, BiConsumer<K, MetadataValue<V>> removedConsumer) {
+        this.removedConsumer = removedConsumer;
+        this.sessions = Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .maximumSize(maxActiveSessions)
+                .removalListener(this)
+                .build();
+        this.map = this.sessions.asMap();
+    }
+
+    @Override
+    public void put(K key, MetadataValue<V> value) {
+        this.map.compute(group(key), new PutFunction<>(key, value, false));
+    }
+
+    @Override
+    public void putIfAbsent(K key, MetadataValue<V> value) {
+        this.map.compute(group(key), new PutFunction<>(key, value, true));
+    }
+
+    @Override
+    public boolean remove(K key) {
+        List<MetadataValue<V>> removed = new ArrayList<>(1);
+        this.map.computeIfPresent(group(key), (group, entries) -> {
+            MetadataValue<V> value = entries.remove(key);
+            if (value != null) {
+                removed.add(value);
+            }
+            // Discard empty group
+            return !entries.isEmpty() ? entries : null;
+        });
+        if (removed.isEmpty()) return false;
+        this.removedConsumer.accept(key, removed.get(0));
+        return true;
+    }
+
+    @Override
+    public MetadataValue<V> get(K key) {
+        // Accessing any entry of a session refreshes the recency of the session as a whole
+        Map<K, MetadataValue<V>> entries = this.sessions.getIfPresent(group(key));
+        MetadataValue<V> value = (entries != null) ? entries.get(key) : null;
+        if (value != null) {
+            this.hits.increment();
+        } else {
+            this.misses.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        this.sessions.invalidateAll();
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Map<K, MetadataValue<V>> entries : this.map.values()) {
+            size += entries.size();
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, MetadataValue<V>>> iterator() {
+        return this.map.values().stream().flatMap(entries -> entries.entrySet().stream()).iterator();
+    }
+
+    @Override
+    public void onRemoval(Object group, Map<K, MetadataValue<V>> entries, RemovalCause cause) {
+        // Groups are only ever replaced by themselves
+        if ((entries != null) && (cause != RemovalCause.REPLACED)) {
+            if (cause.wasEvicted()) {
+                this.evictions.increment();
+            }
+            for (Map.Entry<K, MetadataValue<V>> entry : entries.entrySet()) {
+                this.removedConsumer.accept(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the identifiers of the sessions within this near cache, ordered from most to least recently used.
+     * @param limit the maximum number of session identifiers to return
+     * @return a list of session identifiers
+     */
+    public List<String> getRecentSessions(int limit) {
+        Policy.Eviction<Object, Map<K, MetadataValue<V>>> eviction = this.sessions.policy().eviction().orElse(null);
+        if (eviction == null) return Collections.emptyList();
+        List<String> result = new ArrayList<>(Math.min(limit, this.map.size()));
+        for (Object group : eviction.hottest(limit).keySet()) {
+            if (group instanceof String) {
+                result.add((String) group);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long getNearCacheHitCount() {
+        return this.hits.sum();
+    }
+
+    @Override
+    public long getNearCacheMissCount() {
+        return this.misses.sum();
+    }
+
+    @Override
+    public long getNearCacheEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    private static Object group(Object key) {
+        // Session entries are grouped by session identifier
+        return (key instanceof Key) ? ((Key<?>) key).getId() : key;
+    }
+
+    private static class PutFunction<K, V> implements BiFunction<Object, Map<K, MetadataValue<V>>, Map<K, MetadataValue<V>>> {
+        private final K key;
+        private final MetadataValue<V> value;
+        private final boolean absent;
+
+        PutFunction(K key, MetadataValue<V> value, boolean absent) {
+            this.key = key;
+            this.value = value;
+            this.absent = absent;
+        }
+
+        @Override
+        public Map<K, MetadataValue<V>> apply(Object group, Map<K, MetadataValue<V>> entries) {
+            Map<K, MetadataValue<V>> result = (entries != null) ? entries : new ConcurrentHashMap<>();
+            if (this.absent) {
+                result.putIfAbsent(this.key, this.value);
+            } else {
+                result.put(this.key, this.value);
+            }
+            return result;
+        }
+    }
+}
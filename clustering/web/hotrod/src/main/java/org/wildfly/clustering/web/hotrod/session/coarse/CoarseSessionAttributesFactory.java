@@ -24,10 +24,12 @@ package org.wildfly.clustering.web.hotrod.session.coarse;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.infinispan.client.hotrod.RemoteCache;
 import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.Mutator;
 import org.wildfly.clustering.ee.MutatorFactory;
 import org.wildfly.clustering.ee.cache.CacheProperties;
@@ -41,6 +43,7 @@ import org.wildfly.clustering.web.cache.session.SessionAttributesFactory;
 import org.wildfly.clustering.web.cache.session.coarse.CoarseImmutableSessionAttributes;
 import org.wildfly.clustering.web.cache.session.coarse.CoarseSessionAttributes;
 import org.wildfly.clustering.web.hotrod.logging.Logger;
+import org.wildfly.clustering.web.hotrod.session.BulkReadLocator;
 import org.wildfly.clustering.web.hotrod.session.HotRodSessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
@@ -49,7 +52,7 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 /**
  * @author Paul Ferraro
  */
-public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, Map<String, Object>> {
+public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, Map<String, Object>>, BulkReadLocator<Map<String, Object>> {
 
     private final RemoteCache<SessionAttributesKey, V> cache;
     private final Marshaller<Map<String, Object>, V> marshaller;
@@ -81,7 +84,22 @@ public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttrib
 
     @Override
     public Map<String, Object> findValue(String id) {
-        V value = this.cache.get(new SessionAttributesKey(id));
+        return this.read(id, this.cache.get(new SessionAttributesKey(id)));
+    }
+
+    @Override
+    public void addKeys(String id, Set<Key<String>> keys) {
+        keys.add(new SessionAttributesKey(id));
+    }
+
+    @Override
+    public Map<String, Object> readValue(String id, Set<Key<String>> keys, Map<Key<String>, Object> entries, boolean purgeIfInvalid) {
+        @SuppressWarnings("unchecked")
+        V value = (V) entries.get(new SessionAttributesKey(id));
+        return this.read(id, value);
+    }
+
+    private Map<String, Object> read(String id, V value) {
         if (value != null) {
             try {
                 return this.marshaller.read(value);
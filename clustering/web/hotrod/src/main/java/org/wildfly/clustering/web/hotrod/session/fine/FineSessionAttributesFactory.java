@@ -25,13 +25,18 @@ package org.wildfly.clustering.web.hotrod.session.fine;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.infinispan.client.hotrod.RemoteCache;
 import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.MutatorFactory;
 import org.wildfly.clustering.ee.cache.CacheProperties;
 import org.wildfly.clustering.ee.hotrod.RemoteCacheMap;
@@ -43,21 +48,29 @@ import org.wildfly.clustering.web.cache.session.SessionAttributeActivationNotifi
 import org.wildfly.clustering.web.cache.session.SessionAttributes;
 import org.wildfly.clustering.web.cache.session.SessionAttributesFactory;
 import org.wildfly.clustering.web.cache.session.fine.FineImmutableSessionAttributes;
+import org.wildfly.clustering.web.cache.session.fine.FineSessionAttributeReplicationStatistics;
 import org.wildfly.clustering.web.cache.session.fine.FineSessionAttributes;
 import org.wildfly.clustering.web.hotrod.logging.Logger;
+import org.wildfly.clustering.web.hotrod.session.BulkReadLocator;
 import org.wildfly.clustering.web.hotrod.session.HotRodSessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 
 /**
  * {@link SessionAttributesFactory} for fine granularity sessions.
  * A given session's attributes are mapped to N+1 co-located cache entries, where N is the number of session attributes.
  * A separate cache entry stores the activate attribute names for the session.
+ * The attribute names of recently located sessions are retained, so that their attribute entries can be speculatively read together with the attribute names entry.
  * @author Paul Ferraro
  */
-public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, AtomicReference<Map<String, UUID>>> {
+public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, AtomicReference<Map<String, UUID>>>, BulkReadLocator<AtomicReference<Map<String, UUID>>> {
 
+    // Bounds the number of sessions whose attribute names are retained for speculative reads
+    static final int MAX_RETAINED_NAMES = 8192;
+
+    private final RemoteCache<Key<String>, Object> cache;
     private final RemoteCache<SessionAttributeNamesKey, Map<String, UUID>> namesCache;
     private final RemoteCache<SessionAttributeKey, V> attributeCache;
     private final Marshaller<Object, V> marshaller;
@@ -65,8 +78,13 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
     private final CacheProperties properties;
     private final MutatorFactory<SessionAttributeKey, V> mutatorFactory;
     private final HttpSessionActivationListenerProvider<S, C, L> provider;
+    private final SessionAttributeReplicationMode replicationMode;
+    private final boolean nearCacheEnabled;
+    private final FineSessionAttributeReplicationStatistics statistics = new FineSessionAttributeReplicationStatistics();
+    private final Map<String, AtomicReference<Map<String, UUID>>> retainedNames = new ConcurrentHashMap<>();
 
     public FineSessionAttributesFactory(HotRodSessionAttributesFactoryConfiguration<S, C, L, Object, V> configuration) {
+        this.cache = configuration.getCache();
         this.namesCache = configuration.getCache();
         this.attributeCache = configuration.getCache();
         this.marshaller = configuration.getMarshaller();
@@ -74,11 +92,13 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
         this.properties = configuration.getCacheProperties();
         this.mutatorFactory = new RemoteCacheMutatorFactory<>(this.attributeCache);
         this.provider = configuration.getHttpSessionActivationListenerProvider();
+        this.replicationMode = configuration.getAttributeReplicationMode();
+        this.nearCacheEnabled = BulkReadLocator.isNearCacheEnabled(this.cache);
     }
 
     @Override
     public AtomicReference<Map<String, UUID>> createValue(String id, Void context) {
-        return new AtomicReference<>(Collections.emptyMap());
+        return this.retain(id, new AtomicReference<>(Collections.emptyMap()));
     }
 
     @Override
@@ -92,16 +112,47 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
     }
 
     private AtomicReference<Map<String, UUID>> getValue(String id, boolean purgeIfInvalid) {
-        Map<String, UUID> names = this.namesCache.get(new SessionAttributeNamesKey(id));
+        Set<Key<String>> keys = new HashSet<>();
+        this.addKeys(id, keys);
+        return this.readValue(id, keys, BulkReadLocator.getAll(this.cache, keys, this.nearCacheEnabled), purgeIfInvalid);
+    }
+
+    @Override
+    public void addKeys(String id, Set<Key<String>> keys) {
+        keys.add(new SessionAttributeNamesKey(id));
+        AtomicReference<Map<String, UUID>> names = this.retainedNames.get(id);
+        if (names != null) {
+            // Speculatively read the attributes of this session as of its last use by this member
+            for (UUID attributeId : names.get().values()) {
+                keys.add(new SessionAttributeKey(id, attributeId));
+            }
+        }
+    }
+
+    @Override
+    public AtomicReference<Map<String, UUID>> readValue(String id, Set<Key<String>> keys, Map<Key<String>, Object> entries, boolean purgeIfInvalid) {
+        @SuppressWarnings("unchecked")
+        Map<String, UUID> names = (Map<String, UUID>) entries.get(new SessionAttributeNamesKey(id));
         if (names != null) {
             // Validate all attributes
             Map<SessionAttributeKey, String> attributes = new HashMap<>();
+            Set<SessionAttributeKey> unreadKeys = new HashSet<>();
             for (Map.Entry<String, UUID> entry : names.entrySet()) {
-                attributes.put(new SessionAttributeKey(id, entry.getValue()), entry.getKey());
+                SessionAttributeKey key = new SessionAttributeKey(id, entry.getValue());
+                attributes.put(key, entry.getKey());
+                if (!keys.contains(key)) {
+                    unreadKeys.add(key);
+                }
+            }
+            Map<Key<String>, Object> attributeEntries = entries;
+            if (!unreadKeys.isEmpty()) {
+                // Speculative read was incomplete
+                attributeEntries = new HashMap<>(entries);
+                attributeEntries.putAll(BulkReadLocator.getAll(this.attributeCache, unreadKeys, this.nearCacheEnabled));
             }
-            Map<SessionAttributeKey, V> entries = this.attributeCache.getAll(attributes.keySet());
             for (Map.Entry<SessionAttributeKey, String> attribute : attributes.entrySet()) {
-                V value = entries.get(attribute.getKey());
+                @SuppressWarnings("unchecked")
+                V value = (V) attributeEntries.get(attribute.getKey());
                 if (value != null) {
                     try {
                         this.marshaller.read(value);
@@ -112,18 +163,34 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
                 } else {
                     Logger.ROOT_LOGGER.missingSessionAttributeCacheEntry(id, attribute.getValue());
                 }
+                this.retainedNames.remove(id);
                 if (purgeIfInvalid) {
                     this.purge(id);
                 }
                 return null;
             }
-            return new AtomicReference<>(names);
+            return this.retain(id, new AtomicReference<>(names));
+        }
+        return this.retain(id, new AtomicReference<>(Collections.emptyMap()));
+    }
+
+    private AtomicReference<Map<String, UUID>> retain(String id, AtomicReference<Map<String, UUID>> names) {
+        if (this.retainedNames.size() >= MAX_RETAINED_NAMES) {
+            // Evict an arbitrary session
+            Iterator<String> ids = this.retainedNames.keySet().iterator();
+            if (ids.hasNext()) {
+                ids.next();
+                ids.remove();
+            }
         }
-        return new AtomicReference<>(Collections.emptyMap());
+        // Retained reference will reflect any subsequent changes to the attribute names of this session
+        this.retainedNames.put(id, names);
+        return names;
     }
 
     @Override
     public boolean remove(String id) {
+        this.retainedNames.remove(id);
         SessionAttributeNamesKey key = new SessionAttributeNamesKey(id);
         Map<String, UUID> names = this.namesCache.get(key);
         if (names != null) {
@@ -135,10 +202,20 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
         return true;
     }
 
+    @Override
+    public long getReplicatedAttributeCount() {
+        return this.statistics.getReplicatedAttributeCount();
+    }
+
+    @Override
+    public long getSkippedAttributeReplicationCount() {
+        return this.statistics.getSkippedAttributeReplicationCount();
+    }
+
     @Override
     public SessionAttributes createSessionAttributes(String id, AtomicReference<Map<String, UUID>> names, ImmutableSessionMetaData metaData, C context) {
         SessionAttributeActivationNotifier notifier = new ImmutableSessionAttributeActivationNotifier<>(this.provider, new CompositeImmutableSession(id, metaData, this.createImmutableSessionAttributes(id, names)), context);
-        return new FineSessionAttributes<>(new SessionAttributeNamesKey(id), names, this.namesCache, getKeyFactory(id), new RemoteCacheMap<>(this.attributeCache), this.marshaller, this.mutatorFactory, this.immutability, this.properties, notifier);
+        return new FineSessionAttributes<>(new SessionAttributeNamesKey(id), names, this.namesCache, getKeyFactory(id), new RemoteCacheMap<>(this.attributeCache), this.marshaller, this.mutatorFactory, this.immutability, this.properties, this.replicationMode, this.statistics, notifier);
     }
 
     @Override
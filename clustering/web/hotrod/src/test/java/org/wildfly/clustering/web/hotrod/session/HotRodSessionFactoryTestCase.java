@@ -0,0 +1,318 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheContainer;
+import org.infinispan.client.hotrod.configuration.Configuration;
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration;
+import org.infinispan.client.hotrod.near.NearCache;
+import org.junit.Test;
+import org.wildfly.clustering.ee.Key;
+import org.wildfly.clustering.ee.hotrod.HotRodConfiguration;
+import org.wildfly.clustering.web.LocalContextFactory;
+import org.wildfly.clustering.web.cache.session.CompositeSessionMetaDataEntry;
+import org.wildfly.clustering.web.cache.session.SessionAttributesFactory;
+import org.wildfly.clustering.web.cache.session.SessionCreationMetaDataEntry;
+import org.wildfly.clustering.web.cache.session.SessionMetaDataFactory;
+import org.wildfly.clustering.web.cache.session.SimpleSessionAccessMetaData;
+import org.wildfly.clustering.web.cache.session.SimpleSessionCreationMetaData;
+import org.wildfly.clustering.web.hotrod.session.coarse.SessionAttributesKey;
+
+/**
+ * Unit test for the bulk read and near cache warming of {@link HotRodSessionFactory}.
+ * @author agent
+ */
+public class HotRodSessionFactoryTestCase {
+
+    private final RemoteCacheContainer container = mock(RemoteCacheContainer.class);
+    private final RemoteCacheConfiguration cacheConfiguration = mock(RemoteCacheConfiguration.class);
+    private final SessionManagerNearCacheFactory nearCacheFactory = new SessionManagerNearCacheFactory(10);
+
+    private RemoteCache<Object, Object> createCache(RemoteCacheContainer container, String name) {
+        return this.createCache(container, name, NearCacheMode.INVALIDATED);
+    }
+
+    private RemoteCache<Object, Object> createCache(RemoteCacheContainer container, String name, NearCacheMode mode) {
+        RemoteCache<Object, Object> cache = mockRemoteCache();
+        Configuration configuration = mock(Configuration.class);
+        when(cache.getName()).thenReturn(name);
+        when(cache.getRemoteCacheContainer()).thenReturn(container);
+        when(container.getConfiguration()).thenReturn(configuration);
+        when(configuration.remoteCaches()).thenReturn(Map.of(name, this.cacheConfiguration));
+        when(this.cacheConfiguration.nearCacheMode()).thenReturn(mode);
+        when(this.cacheConfiguration.nearCacheFactory()).thenReturn(this.nearCacheFactory);
+        return cache;
+    }
+
+    private HotRodSessionFactory<Object, Object, Object> createSessionFactory(RemoteCache<Object, Object> cache, SessionMetaDataFactory<CompositeSessionMetaDataEntry<Object>> metaDataFactory) {
+        return this.createSessionFactory(cache, metaDataFactory, mockAttributesFactory(false));
+    }
+
+    private HotRodSessionFactory<Object, Object, Object> createSessionFactory(RemoteCache<Object, Object> cache, SessionMetaDataFactory<CompositeSessionMetaDataEntry<Object>> metaDataFactory, SessionAttributesFactory<Object, Object> attributesFactory) {
+        HotRodConfiguration configuration = mock(HotRodConfiguration.class);
+        @SuppressWarnings("unchecked")
+        LocalContextFactory<Object> localContextFactory = mock(LocalContextFactory.class);
+        doReturn(cache).when(configuration).getCache();
+        return new HotRodSessionFactory<>(configuration, metaDataFactory, attributesFactory, localContextFactory);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RemoteCache<Object, Object> mockRemoteCache() {
+        return mock(RemoteCache.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SessionMetaDataFactory<CompositeSessionMetaDataEntry<Object>> mockMetaDataFactory(boolean bulkRead) {
+        return bulkRead ? mock(SessionMetaDataFactory.class, withSettings().extraInterfaces(BulkReadLocator.class)) : mock(SessionMetaDataFactory.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SessionAttributesFactory<Object, Object> mockAttributesFactory(boolean bulkRead) {
+        return bulkRead ? mock(SessionAttributesFactory.class, withSettings().extraInterfaces(BulkReadLocator.class)) : mock(SessionAttributesFactory.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> BulkReadLocator<V> locator(Object factory) {
+        return (BulkReadLocator<V>) factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MetadataValue<Object> mockValue(Object value) {
+        MetadataValue<Object> metaDataValue = mock(MetadataValue.class);
+        when(metaDataValue.getValue()).thenReturn(value);
+        return metaDataValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompositeSessionMetaDataEntry<Object> mockMetaDataEntry() {
+        return mock(CompositeSessionMetaDataEntry.class);
+    }
+
+    private static Set<Key<String>> addKeys(BulkReadLocator<?> locator, String id, Key<String> key) {
+        doAnswer(invocation -> {
+            Set<Key<String>> keys = invocation.getArgument(1);
+            keys.add(key);
+            return null;
+        }).when(locator).addKeys(eq(id), any());
+        return Set.of(key);
+    }
+
+    @Test
+    public void readValue() {
+        String id = "session";
+        RemoteCache<Object, Object> cache = this.createCache(this.container, "deployment", NearCacheMode.DISABLED);
+        SessionMetaDataFactory<CompositeSessionMetaDataEntry<Object>> metaDataFactory = mockMetaDataFactory(true);
+        SessionAttributesFactory<Object, Object> attributesFactory = mockAttributesFactory(true);
+        BulkReadLocator<CompositeSessionMetaDataEntry<Object>> metaDataLocator = locator(metaDataFactory);
+        BulkReadLocator<Object> attributesLocator = locator(attributesFactory);
+        Key<String> metaDataKey = new SessionCreationMetaDataKey(id);
+        Key<String> attributesKey = new SessionAccessMetaDataKey(id);
+        addKeys(metaDataLocator, id, metaDataKey);
+        addKeys(attributesLocator, id, attributesKey);
+        Set<Key<String>> keys = Set.of(metaDataKey, attributesKey);
+        Map<Key<String>, Object> entries = Map.of(metaDataKey, new Object(), attributesKey, new Object());
+        CompositeSessionMetaDataEntry<Object> metaDataValue = mockMetaDataEntry();
+        Object attributesValue = new Object();
+
+        doReturn(entries).when(cache).getAll(keys);
+
+        HotRodSessionFactory<Object, Object, Object> factory = this.createSessionFactory(cache, metaDataFactory, attributesFactory);
+        try {
+            // Hit
+            when(metaDataLocator.readValue(id, keys, entries, true)).thenReturn(metaDataValue);
+            when(attributesLocator.readValue(id, keys, entries, true)).thenReturn(attributesValue);
+
+            Map.Entry<CompositeSessionMetaDataEntry<Object>, Object> result = factory.findValue(id);
+
+            assertNotNull(result);
+            assertSame(metaDataValue, result.getKey());
+            assertSame(attributesValue, result.getValue());
+            // Meta data and attributes are read within a single round trip
+            verify(cache).getAll(keys);
+            verify(metaDataFactory, never()).findValue(any());
+            verify(attributesFactory, never()).findValue(any());
+
+            // Partial hit, i.e. meta data without attributes
+            when(attributesLocator.readValue(id, keys, entries, true)).thenReturn(null);
+            when(attributesLocator.readValue(id, keys, entries, false)).thenReturn(null);
+            when(metaDataLocator.readValue(id, keys, entries, false)).thenReturn(metaDataValue);
+
+            assertNull(factory.tryValue(id));
+            verify(metaDataFactory, never()).purge(id);
+
+            assertNull(factory.findValue(id));
+            // Obsolete meta data should be purged
+            verify(metaDataFactory).purge(id);
+
+            // Miss
+            when(metaDataLocator.readValue(id, keys, entries, true)).thenReturn(null);
+
+            assertNull(factory.findValue(id));
+            // Attributes are only read for the preceding hits
+            verify(attributesLocator, times(3)).readValue(any(), any(), any(), anyBoolean());
+        } finally {
+            factory.close();
+        }
+    }
+
+    @Test
+    public void readValueWithNearCache() {
+        String id = "session";
+        RemoteCache<Object, Object> cache = this.createCache(this.container, "deployment", NearCacheMode.INVALIDATED);
+        SessionMetaDataFactory<CompositeSessionMetaDataEntry<Object>> metaDataFactory = mockMetaDataFactory(true);
+        SessionAttributesFactory<Object, Object> attributesFactory = mockAttributesFactory(true);
+        BulkReadLocator<CompositeSessionMetaDataEntry<Object>> metaDataLocator = locator(metaDataFactory);
+        BulkReadLocator<Object> attributesLocator = locator(attributesFactory);
+        Key<String> metaDataKey = new SessionCreationMetaDataKey(id);
+        Key<String> attributesKey = new SessionAccessMetaDataKey(id);
+        addKeys(metaDataLocator, id, metaDataKey);
+        addKeys(attributesLocator, id, attributesKey);
+        Set<Key<String>> keys = Set.of(metaDataKey, attributesKey);
+        Object metaDataEntry = new Object();
+        Map<Key<String>, Object> entries = Map.of(metaDataKey, metaDataEntry);
+        CompositeSessionMetaDataEntry<Object> metaDataValue = mockMetaDataEntry();
+        Object attributesValue = new Object();
+
+        doReturn(CompletableFuture.completedFuture(metaDataEntry)).when(cache).getAsync(metaDataKey);
+        doReturn(CompletableFuture.completedFuture(null)).when(cache).getAsync(attributesKey);
+
+        HotRodSessionFactory<Object, Object, Object> factory = this.createSessionFactory(cache, metaDataFactory, attributesFactory);
+        try {
+            when(metaDataLocator.readValue(id, keys, entries, true)).thenReturn(metaDataValue);
+            when(attributesLocator.readValue(id, keys, entries, true)).thenReturn(attributesValue);
+
+            Map.Entry<CompositeSessionMetaDataEntry<Object>, Object> result = factory.findValue(id);
+
+            assertNotNull(result);
+            assertSame(metaDataValue, result.getKey());
+            assertSame(attributesValue, result.getValue());
+            // Entries are read individually, since a bulk read would bypass the near cache
+            verify(cache).getAsync(metaDataKey);
+            verify(cache).getAsync(attributesKey);
+            verify(cache, never()).getAll(any());
+        } finally {
+            factory.close();
+        }
+    }
+
+    @Test
+    public void warm() {
+        RemoteCache<Object, Object> cache = this.createCache(this.container, "deployment");
+        SessionMetaDataFactory<CompositeSessionMetaDataEntry<Object>> metaDataFactory = mockMetaDataFactory(false);
+        NearCache<Key<String>, Object> nearCache = this.nearCacheFactory.createNearCache(null, (key, value) -> {});
+
+        HotRodSessionFactory<Object, Object, Object> factory = this.createSessionFactory(cache, metaDataFactory);
+        nearCache.put(new SessionCreationMetaDataKey("session"), mockValue(null));
+        factory.close();
+
+        // Nothing to warm on initial deployment
+        verify(metaDataFactory, never()).tryValue(any());
+
+        // Subsequent session factory for the same cache (e.g. following redeploy) should populate its near cache with the sessions of its predecessor
+        SessionMetaDataFactory<CompositeSessionMetaDataEntry<Object>> redeployedMetaDataFactory = mockMetaDataFactory(false);
+        HotRodSessionFactory<Object, Object, Object> redeployedFactory = this.createSessionFactory(cache, redeployedMetaDataFactory);
+        try {
+            verify(redeployedMetaDataFactory, timeout(5000L)).tryValue("session");
+            // Recent sessions are only consumed once
+            assertNull(HotRodSessionFactory.removeRecentSessions(cache));
+        } finally {
+            redeployedFactory.close();
+        }
+
+        // Closed session factory retains its own recent sessions
+        assertEquals(List.of("session"), HotRodSessionFactory.removeRecentSessions(cache));
+    }
+
+    @Test
+    public void warmNearCache() {
+        String id = "session";
+        RemoteCache<Object, Object> cache = this.createCache(this.container, "deployment");
+        NearCache<Key<String>, Object> nearCache = this.nearCacheFactory.createNearCache(null, (key, value) -> {});
+        Key<String> creationKey = new SessionCreationMetaDataKey(id);
+        Key<String> accessKey = new SessionAccessMetaDataKey(id);
+        Key<String> attributesKey = new SessionAttributesKey(id);
+        Map<Key<String>, Object> entries = Map.of(creationKey, new SessionCreationMetaDataEntry<>(new SimpleSessionCreationMetaData()), accessKey, new SimpleSessionAccessMetaData(), attributesKey, new Object());
+        // Emulates the read-through behaviour of a near cache enabled remote cache
+        doAnswer(invocation -> {
+            Key<String> key = invocation.getArgument(0);
+            Object value = entries.get(key);
+            if (value != null) {
+                nearCache.putIfAbsent(key, mockValue(value));
+            }
+            return CompletableFuture.completedFuture(value);
+        }).when(cache).getAsync(any());
+
+        HotRodConfiguration configuration = mock(HotRodConfiguration.class);
+        doReturn(cache).when(configuration).getCache();
+        HotRodSessionMetaDataFactory<Object> metaDataFactory = new HotRodSessionMetaDataFactory<>(configuration);
+        SessionAttributesFactory<Object, Object> attributesFactory = mockAttributesFactory(true);
+        BulkReadLocator<Object> attributesLocator = locator(attributesFactory);
+        addKeys(attributesLocator, id, attributesKey);
+        when(attributesLocator.readValue(eq(id), any(), any(), eq(false))).thenReturn(new Object());
+
+        HotRodSessionFactory.putRecentSessions(cache, List.of(id));
+
+        HotRodSessionFactory<Object, Object, Object> factory = this.createSessionFactory(cache, metaDataFactory, attributesFactory);
+        try {
+            verify(cache, timeout(5000L).times(entries.size())).getAsync(any());
+            // Near cache should now contain every entry of the warmed session
+            for (Map.Entry<Key<String>, Object> entry : entries.entrySet()) {
+                MetadataValue<Object> value = nearCache.get(entry.getKey());
+                assertNotNull(entry.getKey().toString(), value);
+                assertSame(entry.getValue(), value.getValue());
+            }
+            assertEquals(List.of(id), this.nearCacheFactory.getRecentSessions());
+            // Bulk read would bypass the near cache
+            verify(cache, never()).getAll(any());
+        } finally {
+            factory.close();
+        }
+    }
+
+    @Test
+    public void scope() {
+        RemoteCache<Object, Object> cache = this.createCache(this.container, "deployment");
+        RemoteCache<Object, Object> otherCache = this.createCache(this.container, "other-deployment");
+        RemoteCache<Object, Object> otherContainerCache = this.createCache(mock(RemoteCacheContainer.class), "deployment");
+        List<String> sessions = List.of("session");
+
+        HotRodSessionFactory.putRecentSessions(cache, sessions);
+
+        // Recent sessions are scoped per remote cache container and cache
+        assertNull(HotRodSessionFactory.removeRecentSessions(otherCache));
+        assertNull(HotRodSessionFactory.removeRecentSessions(otherContainerCache));
+        assertSame(sessions, HotRodSessionFactory.removeRecentSessions(cache));
+        assertNull(HotRodSessionFactory.removeRecentSessions(cache));
+    }
+}
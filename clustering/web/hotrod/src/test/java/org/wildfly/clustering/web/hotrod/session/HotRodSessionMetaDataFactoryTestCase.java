@@ -0,0 +1,145 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.wildfly.clustering.web.hotrod.session;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheContainer;
+import org.infinispan.client.hotrod.configuration.Configuration;
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration;
+import org.junit.Test;
+import org.wildfly.clustering.ee.Key;
+import org.wildfly.clustering.ee.hotrod.HotRodConfiguration;
+import org.wildfly.clustering.web.cache.session.CompositeSessionMetaDataEntry;
+import org.wildfly.clustering.web.cache.session.SessionAccessMetaData;
+import org.wildfly.clustering.web.cache.session.SessionCreationMetaData;
+import org.wildfly.clustering.web.cache.session.SessionCreationMetaDataEntry;
+
+/**
+ * Unit test for the bulk read of {@link HotRodSessionMetaDataFactory}.
+ * @author agent
+ */
+public class HotRodSessionMetaDataFactoryTestCase {
+
+    private final RemoteCache<Key<String>, Object> cache = mockRemoteCache();
+
+    @SuppressWarnings("unchecked")
+    private static RemoteCache<Key<String>, Object> mockRemoteCache() {
+        return mock(RemoteCache.class);
+    }
+
+    private HotRodSessionMetaDataFactory<Object> createFactory(NearCacheMode mode) {
+        RemoteCacheContainer container = mock(RemoteCacheContainer.class);
+        Configuration configuration = mock(Configuration.class);
+        RemoteCacheConfiguration cacheConfiguration = mock(RemoteCacheConfiguration.class);
+        when(this.cache.getName()).thenReturn("deployment");
+        when(this.cache.getRemoteCacheContainer()).thenReturn(container);
+        when(container.getConfiguration()).thenReturn(configuration);
+        when(configuration.remoteCaches()).thenReturn(Map.of("deployment", cacheConfiguration));
+        when(cacheConfiguration.nearCacheMode()).thenReturn(mode);
+        HotRodConfiguration hotrod = mock(HotRodConfiguration.class);
+        doReturn(this.cache).when(hotrod).getCache();
+        return new HotRodSessionMetaDataFactory<>(hotrod);
+    }
+
+    @Test
+    public void readValue() {
+        HotRodSessionMetaDataFactory<Object> factory = this.createFactory(NearCacheMode.DISABLED);
+        String id = "session";
+        SessionCreationMetaDataKey creationKey = new SessionCreationMetaDataKey(id);
+        SessionAccessMetaDataKey accessKey = new SessionAccessMetaDataKey(id);
+        SessionCreationMetaDataEntry<Object> creationEntry = new SessionCreationMetaDataEntry<>(mock(SessionCreationMetaData.class));
+        SessionAccessMetaData accessMetaData = mock(SessionAccessMetaData.class);
+
+        Set<Key<String>> keys = new HashSet<>();
+        factory.addKeys(id, keys);
+
+        assertEquals(Set.of(creationKey, accessKey), keys);
+
+        CompositeSessionMetaDataEntry<Object> result = factory.readValue(id, keys, Map.of(creationKey, creationEntry, accessKey, accessMetaData), true);
+
+        assertNotNull(result);
+        assertSame(creationEntry.getMetaData(), result.getCreationMetaData());
+        assertSame(accessMetaData, result.getAccessMetaData());
+
+        // Meta data is incomplete if either entry is missing
+        assertNull(factory.readValue(id, keys, Map.of(creationKey, creationEntry), true));
+        assertNull(factory.readValue(id, keys, Map.of(accessKey, accessMetaData), true));
+        assertNull(factory.readValue(id, keys, Map.of(), true));
+
+        // Bulk read does not touch the cache itself
+        verify(this.cache, never()).getAll(any());
+        verify(this.cache, never()).getAsync(any());
+        verify(this.cache, never()).get(any());
+    }
+
+    @Test
+    public void findValue() {
+        HotRodSessionMetaDataFactory<Object> factory = this.createFactory(NearCacheMode.DISABLED);
+        String id = "session";
+        SessionCreationMetaDataKey creationKey = new SessionCreationMetaDataKey(id);
+        SessionAccessMetaDataKey accessKey = new SessionAccessMetaDataKey(id);
+        SessionCreationMetaDataEntry<Object> creationEntry = new SessionCreationMetaDataEntry<>(mock(SessionCreationMetaData.class));
+        SessionAccessMetaData accessMetaData = mock(SessionAccessMetaData.class);
+
+        when(this.cache.getAll(Set.of(creationKey, accessKey))).thenReturn(Map.of(creationKey, creationEntry, accessKey, accessMetaData));
+
+        CompositeSessionMetaDataEntry<Object> result = factory.findValue(id);
+
+        assertNotNull(result);
+        assertSame(accessMetaData, result.getAccessMetaData());
+        verify(this.cache).getAll(Set.of(creationKey, accessKey));
+    }
+
+    @Test
+    public void findValueWithNearCache() {
+        HotRodSessionMetaDataFactory<Object> factory = this.createFactory(NearCacheMode.INVALIDATED);
+        String id = "session";
+        SessionCreationMetaDataKey creationKey = new SessionCreationMetaDataKey(id);
+        SessionAccessMetaDataKey accessKey = new SessionAccessMetaDataKey(id);
+        SessionCreationMetaDataEntry<Object> creationEntry = new SessionCreationMetaDataEntry<>(mock(SessionCreationMetaData.class));
+        SessionAccessMetaData accessMetaData = mock(SessionAccessMetaData.class);
+
+        when(this.cache.getAsync(creationKey)).thenReturn(CompletableFuture.completedFuture(creationEntry));
+        when(this.cache.getAsync(accessKey)).thenReturn(CompletableFuture.completedFuture(accessMetaData));
+
+        CompositeSessionMetaDataEntry<Object> result = factory.findValue(id);
+
+        assertNotNull(result);
+        assertSame(accessMetaData, result.getAccessMetaData());
+        // Bulk read would bypass the near cache
+        verify(this.cache, never()).getAll(any());
+
+        // Missing entry
+        when(this.cache.getAsync(accessKey)).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertNull(factory.findValue(id));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.infinispan.client.hotrod.MetadataValue;
+import org.junit.Test;
+import org.wildfly.clustering.ee.Key;
+
+/**
+ * Unit test for {@link SessionNearCache}.
+ * @author agent
+ */
+public class SessionNearCacheTestCase {
+
+    private final Map<Key<String>, MetadataValue<Object>> removed = new HashMap<>();
+    private final BiConsumer<Key<String>, MetadataValue<Object>> removedConsumer = this.removed::put;
+
+    @SuppressWarnings("unchecked")
+    private static MetadataValue<Object> mockValue() {
+        return mock(MetadataValue.class);
+    }
+
+    @Test
+    public void statistics() {
+        SessionNearCache<Key<String>, Object> cache = new SessionNearCache<>(10, this.removedConsumer);
+        Key<String> creationKey = new SessionCreationMetaDataKey("session");
+        Key<String> accessKey = new SessionAccessMetaDataKey("session");
+        MetadataValue<Object> value = mockValue();
+
+        assertEquals(0d, cache.getNearCacheHitRatio(), 0d);
+
+        cache.put(creationKey, value);
+
+        assertSame(value, cache.get(creationKey));
+        assertNull(cache.get(accessKey));
+        assertNull(cache.get(new SessionCreationMetaDataKey("missing")));
+
+        assertEquals(1L, cache.getNearCacheHitCount());
+        assertEquals(2L, cache.getNearCacheMissCount());
+        assertEquals(0L, cache.getNearCacheEvictionCount());
+        assertEquals(1d / 3d, cache.getNearCacheHitRatio(), 0d);
+    }
+
+    @Test
+    public void group() {
+        SessionNearCache<Key<String>, Object> cache = new SessionNearCache<>(10, this.removedConsumer);
+        Key<String> creationKey = new SessionCreationMetaDataKey("session");
+        Key<String> accessKey = new SessionAccessMetaDataKey("session");
+        MetadataValue<Object> creationValue = mockValue();
+        MetadataValue<Object> accessValue = mockValue();
+        MetadataValue<Object> otherValue = mockValue();
+
+        cache.put(creationKey, creationValue);
+        cache.putIfAbsent(accessKey, accessValue);
+        cache.putIfAbsent(accessKey, otherValue);
+
+        // Entries of a session share a single group
+        assertEquals(2, cache.size());
+        assertSame(creationValue, cache.get(creationKey));
+        assertSame(accessValue, cache.get(accessKey));
+        assertEquals(List.of("session"), cache.getRecentSessions(10));
+
+        assertTrue(cache.remove(accessKey));
+        assertFalse(cache.remove(accessKey));
+        assertEquals(Map.of(accessKey, accessValue), this.removed);
+        assertEquals(1, cache.size());
+
+        // Removing the last entry of a session discards its group
+        assertTrue(cache.remove(creationKey));
+        assertEquals(0, cache.size());
+        assertTrue(cache.getRecentSessions(10).isEmpty());
+        assertEquals(0L, cache.getNearCacheEvictionCount());
+    }
+
+    @Test
+    public void evict() {
+        SessionNearCache<Key<String>, Object> cache = new SessionNearCache<>(1, this.removedConsumer);
+        // Populate sessions one after another
+        Map<Key<String>, MetadataValue<Object>> entries = new LinkedHashMap<>();
+        for (String id : List.of("session1", "session2")) {
+            entries.put(new SessionCreationMetaDataKey(id), mockValue());
+            entries.put(new SessionAccessMetaDataKey(id), mockValue());
+        }
+        for (Map.Entry<Key<String>, MetadataValue<Object>> entry : entries.entrySet()) {
+            cache.put(entry.getKey(), entry.getValue());
+        }
+
+        // Cache is bounded by number of sessions, so one session must have been evicted as a unit
+        List<String> recentSessions = cache.getRecentSessions(10);
+        assertEquals(1, recentSessions.size());
+        assertEquals(1L, cache.getNearCacheEvictionCount());
+        assertEquals(2, cache.size());
+        assertEquals(2, this.removed.size());
+        for (Map.Entry<Key<String>, MetadataValue<Object>> entry : this.removed.entrySet()) {
+            assertNotEquals(recentSessions.get(0), entry.getKey().getId());
+            assertSame(entries.get(entry.getKey()), entry.getValue());
+        }
+    }
+
+    @Test
+    public void clear() {
+        SessionNearCache<Key<String>, Object> cache = new SessionNearCache<>(10, this.removedConsumer);
+        Key<String> creationKey = new SessionCreationMetaDataKey("session");
+        Key<String> accessKey = new SessionAccessMetaDataKey("session");
+        MetadataValue<Object> creationValue = mockValue();
+        MetadataValue<Object> accessValue = mockValue();
+
+        cache.put(creationKey, creationValue);
+        cache.put(accessKey, accessValue);
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertFalse(cache.iterator().hasNext());
+        assertEquals(Map.of(creationKey, creationValue, accessKey, accessValue), this.removed);
+        // Explicit removal is not an eviction
+        assertEquals(0L, cache.getNearCacheEvictionCount());
+    }
+}
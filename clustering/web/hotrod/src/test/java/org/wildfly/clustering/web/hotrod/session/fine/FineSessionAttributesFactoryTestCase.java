@@ -0,0 +1,224 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.hotrod.session.fine;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheContainer;
+import org.infinispan.client.hotrod.configuration.Configuration;
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.client.hotrod.configuration.RemoteCacheConfiguration;
+import org.junit.Test;
+import org.wildfly.clustering.ee.Key;
+import org.wildfly.clustering.marshalling.spi.Marshaller;
+import org.wildfly.clustering.web.hotrod.session.HotRodSessionAttributesFactoryConfiguration;
+
+/**
+ * Unit test for the bulk read of {@link FineSessionAttributesFactory}.
+ * @author agent
+ */
+public class FineSessionAttributesFactoryTestCase {
+
+    private final RemoteCache<Key<String>, Object> cache = mockRemoteCache();
+    private final Marshaller<Object, Object> marshaller = mockMarshaller();
+    private final RemoteCacheConfiguration cacheConfiguration = mock(RemoteCacheConfiguration.class);
+    private final FineSessionAttributesFactory<Object, Object, Object, Object> factory;
+
+    public FineSessionAttributesFactoryTestCase() {
+        RemoteCacheContainer container = mock(RemoteCacheContainer.class);
+        Configuration configuration = mock(Configuration.class);
+        when(this.cache.getName()).thenReturn("deployment");
+        when(this.cache.getRemoteCacheContainer()).thenReturn(container);
+        when(container.getConfiguration()).thenReturn(configuration);
+        when(configuration.remoteCaches()).thenReturn(Map.of("deployment", this.cacheConfiguration));
+        when(this.cacheConfiguration.nearCacheMode()).thenReturn(NearCacheMode.DISABLED);
+        this.factory = this.createFactory();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RemoteCache<Key<String>, Object> mockRemoteCache() {
+        return mock(RemoteCache.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Marshaller<Object, Object> mockMarshaller() {
+        return mock(Marshaller.class);
+    }
+
+    private FineSessionAttributesFactory<Object, Object, Object, Object> createFactory() {
+        @SuppressWarnings("unchecked")
+        HotRodSessionAttributesFactoryConfiguration<Object, Object, Object, Object, Object> configuration = mock(HotRodSessionAttributesFactoryConfiguration.class);
+        doReturn(this.cache).when(configuration).getCache();
+        doReturn(this.marshaller).when(configuration).getMarshaller();
+        return new FineSessionAttributesFactory<>(configuration);
+    }
+
+    private Set<Key<String>> addKeys(String id) {
+        Set<Key<String>> keys = new HashSet<>();
+        this.factory.addKeys(id, keys);
+        return keys;
+    }
+
+    @Test
+    public void miss() {
+        String id = "session";
+        Set<Key<String>> keys = this.addKeys(id);
+
+        assertEquals(Set.of(new SessionAttributeNamesKey(id)), keys);
+
+        // Session without an attribute names entry has no attributes
+        AtomicReference<Map<String, UUID>> result = this.factory.readValue(id, keys, Map.of(), false);
+
+        assertNotNull(result);
+        assertTrue(result.get().isEmpty());
+        verify(this.cache, never()).getAll(any());
+    }
+
+    @Test
+    public void hit() throws IOException {
+        String id = "session";
+        UUID attributeId = UUID.randomUUID();
+        SessionAttributeNamesKey namesKey = new SessionAttributeNamesKey(id);
+        SessionAttributeKey attributeKey = new SessionAttributeKey(id, attributeId);
+        Map<String, UUID> names = Map.of("name", attributeId);
+        Object value = new Object();
+
+        // Initial read does not know the attribute names of this session
+        Set<Key<String>> keys = this.addKeys(id);
+        assertEquals(Set.of(namesKey), keys);
+        when(this.cache.getAll(Set.of(attributeKey))).thenReturn(Map.of(attributeKey, value));
+
+        AtomicReference<Map<String, UUID>> result = this.factory.readValue(id, keys, Map.of(namesKey, names), false);
+
+        assertEquals(names, result.get());
+        verify(this.cache).getAll(Set.of(attributeKey));
+        verify(this.marshaller).read(value);
+
+        // Subsequent read speculatively includes the retained attribute keys, so no additional read is needed
+        keys = this.addKeys(id);
+        assertEquals(Set.of(namesKey, attributeKey), keys);
+
+        result = this.factory.readValue(id, keys, Map.of(namesKey, names, attributeKey, value), false);
+
+        assertEquals(names, result.get());
+        verify(this.cache).getAll(any());
+    }
+
+    @Test
+    public void partialHit() {
+        String id = "session";
+        UUID retainedAttributeId = UUID.randomUUID();
+        UUID newAttributeId = UUID.randomUUID();
+        SessionAttributeNamesKey namesKey = new SessionAttributeNamesKey(id);
+        SessionAttributeKey retainedAttributeKey = new SessionAttributeKey(id, retainedAttributeId);
+        SessionAttributeKey newAttributeKey = new SessionAttributeKey(id, newAttributeId);
+        Object retainedValue = new Object();
+        Object newValue = new Object();
+
+        this.factory.readValue(id, this.addKeys(id), Map.of(namesKey, Map.of("retained", retainedAttributeId), retainedAttributeKey, retainedValue), false);
+
+        // Another member has since added an attribute to this session
+        Map<String, UUID> names = Map.of("retained", retainedAttributeId, "new", newAttributeId);
+        Set<Key<String>> keys = this.addKeys(id);
+        assertEquals(Set.of(namesKey, retainedAttributeKey), keys);
+        when(this.cache.getAll(Set.of(newAttributeKey))).thenReturn(Map.of(newAttributeKey, newValue));
+
+        AtomicReference<Map<String, UUID>> result = this.factory.readValue(id, keys, Map.of(namesKey, names, retainedAttributeKey, retainedValue), false);
+
+        // Only the attribute missing from the speculative read is read separately
+        assertEquals(names, result.get());
+        verify(this.cache).getAll(Set.of(newAttributeKey));
+        assertEquals(Set.of(namesKey, retainedAttributeKey, newAttributeKey), this.addKeys(id));
+    }
+
+    @Test
+    public void partialHitWithNearCache() {
+        when(this.cacheConfiguration.nearCacheMode()).thenReturn(NearCacheMode.INVALIDATED);
+        FineSessionAttributesFactory<Object, Object, Object, Object> factory = this.createFactory();
+        String id = "session";
+        UUID attributeId = UUID.randomUUID();
+        SessionAttributeNamesKey namesKey = new SessionAttributeNamesKey(id);
+        SessionAttributeKey attributeKey = new SessionAttributeKey(id, attributeId);
+        Map<String, UUID> names = Map.of("name", attributeId);
+        Object value = new Object();
+
+        when(this.cache.getAsync(namesKey)).thenReturn(CompletableFuture.completedFuture(names));
+        when(this.cache.getAsync(attributeKey)).thenReturn(CompletableFuture.completedFuture(value));
+
+        AtomicReference<Map<String, UUID>> result = factory.findValue(id);
+
+        // Attribute missing from the speculative read is read individually, since a bulk read would bypass the near cache
+        assertEquals(names, result.get());
+        verify(this.cache).getAsync(namesKey);
+        verify(this.cache).getAsync(attributeKey);
+        verify(this.cache, never()).getAll(any());
+    }
+
+    @Test
+    public void invalid() {
+        String id = "session";
+        UUID attributeId = UUID.randomUUID();
+        SessionAttributeNamesKey namesKey = new SessionAttributeNamesKey(id);
+        SessionAttributeKey attributeKey = new SessionAttributeKey(id, attributeId);
+
+        this.factory.readValue(id, this.addKeys(id), Map.of(namesKey, Map.of("name", attributeId), attributeKey, new Object()), false);
+        Set<Key<String>> keys = this.addKeys(id);
+        assertEquals(Set.of(namesKey, attributeKey), keys);
+
+        // Attribute entry is missing, so session is invalid and no longer retained
+        assertNull(this.factory.readValue(id, keys, Map.of(namesKey, Map.of("name", attributeId)), false));
+        assertEquals(Set.of(namesKey), this.addKeys(id));
+    }
+
+    @Test
+    public void retention() {
+        Map<String, SessionAttributeKey> attributeKeys = new HashMap<>();
+        for (int i = 0; i <= FineSessionAttributesFactory.MAX_RETAINED_NAMES; ++i) {
+            String id = Integer.toString(i);
+            UUID attributeId = UUID.randomUUID();
+            SessionAttributeKey attributeKey = new SessionAttributeKey(id, attributeId);
+            attributeKeys.put(id, attributeKey);
+            this.factory.readValue(id, this.addKeys(id), Map.of(new SessionAttributeNamesKey(id), Map.of("name", attributeId), attributeKey, new Object()), false);
+        }
+
+        // Retention is bounded, so one session must no longer be retained
+        int retained = 0;
+        for (Map.Entry<String, SessionAttributeKey> entry : attributeKeys.entrySet()) {
+            if (this.addKeys(entry.getKey()).contains(entry.getValue())) {
+                retained += 1;
+            }
+        }
+        assertEquals(FineSessionAttributesFactory.MAX_RETAINED_NAMES, retained);
+    }
+}
@@ -22,6 +22,7 @@
 
 package org.wildfly.clustering.web.infinispan.session;
 
+import java.time.Duration;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
@@ -37,7 +38,6 @@ import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.Mutator;
 import org.wildfly.clustering.ee.MutatorFactory;
 import org.wildfly.clustering.ee.cache.CacheProperties;
-import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
 import org.wildfly.clustering.ee.infinispan.InfinispanMutatorFactory;
 import org.wildfly.clustering.infinispan.listener.ListenerRegistration;
 import org.wildfly.clustering.infinispan.listener.PostPassivateBlockingListener;
@@ -47,6 +47,7 @@ import org.wildfly.clustering.web.cache.session.InvalidatableSessionMetaData;
 import org.wildfly.clustering.web.cache.session.MutableSessionAccessMetaData;
 import org.wildfly.clustering.web.cache.session.MutableSessionCreationMetaData;
 import org.wildfly.clustering.web.cache.session.SessionAccessMetaData;
+import org.wildfly.clustering.web.cache.session.SessionAccessMetaDataWriteBehind;
 import org.wildfly.clustering.web.cache.session.SessionCreationMetaData;
 import org.wildfly.clustering.web.cache.session.SessionCreationMetaDataEntry;
 import org.wildfly.clustering.web.cache.session.SessionMetaDataFactory;
@@ -62,6 +63,7 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
  * <dt>Access meta-data</dt>
  * <dd>Meta data that is updated often, typically every request</dd>
  * </dl>
+ * If configured with a non-zero last access replication granularity, replication of access meta data is coalesced via a {@link SessionAccessMetaDataWriteBehind}.
  * @author Paul Ferraro
  */
 public abstract class AbstractInfinispanSessionMetaDataFactory<L> implements SessionMetaDataFactory<CompositeSessionMetaDataEntry<L>>, BiFunction<String, Set<Flag>, CompositeSessionMetaDataEntry<L>> {
@@ -77,8 +79,9 @@ public abstract class AbstractInfinispanSessionMetaDataFactory<L> implements Ses
     private final MutatorFactory<SessionAccessMetaDataKey, SessionAccessMetaData> accessMetaDataMutatorFactory;
     private final CacheProperties properties;
     private final ListenerRegistration evictListenerRegistration;
+    private final SessionAccessMetaDataWriteBehind accessMetaDataWriteBehind;
 
-    public AbstractInfinispanSessionMetaDataFactory(InfinispanConfiguration configuration) {
+    public AbstractInfinispanSessionMetaDataFactory(InfinispanSessionMetaDataFactoryConfiguration configuration) {
         this.writeOnlyCache = configuration.getWriteOnlyCache();
         this.silentWriteCache = configuration.getSilentWriteCache();
         this.creationMetaDataTryLockCache = configuration.getTryLockCache();
@@ -88,13 +91,24 @@ public abstract class AbstractInfinispanSessionMetaDataFactory<L> implements Ses
         this.accessMetaDataCache = configuration.getCache();
         this.accessMetaDataMutatorFactory = new InfinispanMutatorFactory<>(this.accessMetaDataCache, this.properties);
         this.evictListenerRegistration = new PostPassivateBlockingListener<>(this.creationMetaDataCache, this::cascadeEvict).register(SessionCreationMetaDataKey.class);
+        Duration granularity = configuration.getLastAccessReplicationGranularity();
+        // Deferred writes cannot participate in the transaction of the request
+        this.accessMetaDataWriteBehind = !granularity.isZero() && !granularity.isNegative() && !this.properties.isTransactional() ? new SessionAccessMetaDataWriteBehind(granularity, this::replicateAccessMetaData) : null;
     }
 
     @Override
     public void close() {
+        if (this.accessMetaDataWriteBehind != null) {
+            this.accessMetaDataWriteBehind.close();
+        }
         this.evictListenerRegistration.close();
     }
 
+    private void replicateAccessMetaData(String id, SessionAccessMetaData metaData) {
+        // Use replace(...) so that we never resurrect a removed session
+        this.accessMetaDataCache.getAdvancedCache().withFlags(Flag.IGNORE_RETURN_VALUES, Flag.FAIL_SILENTLY).replace(new SessionAccessMetaDataKey(id), metaData);
+    }
+
     @Override
     public CompositeSessionMetaDataEntry<L> createValue(String id, Void context) {
         Map<Key<String>, Object> entries = new HashMap<>(3);
@@ -126,7 +140,7 @@ public abstract class AbstractInfinispanSessionMetaDataFactory<L> implements Ses
 
         SessionAccessMetaDataKey accessMetaDataKey = new SessionAccessMetaDataKey(id);
         Mutator accessMutator = this.properties.isTransactional() && newSession ? Mutator.PASSIVE : this.accessMetaDataMutatorFactory.createMutator(accessMetaDataKey, entry.getAccessMetaData());
-        SessionAccessMetaData accessMetaData = new MutableSessionAccessMetaData(entry.getAccessMetaData(), accessMutator);
+        SessionAccessMetaData accessMetaData = new MutableSessionAccessMetaData(id, entry.getAccessMetaData(), accessMutator, this.accessMetaDataWriteBehind);
 
         return new CompositeSessionMetaData(creationMetaData, accessMetaData);
     }
@@ -138,6 +152,9 @@ public abstract class AbstractInfinispanSessionMetaDataFactory<L> implements Ses
 
     @Override
     public boolean remove(String id) {
+        if (this.accessMetaDataWriteBehind != null) {
+            this.accessMetaDataWriteBehind.cancel(id);
+        }
         SessionCreationMetaDataKey key = new SessionCreationMetaDataKey(id);
         try {
             if (!this.properties.isLockOnWrite() || (this.creationMetaDataCache.getAdvancedCache().getTransactionManager().getTransaction() == null) || this.creationMetaDataTryLockCache.getAdvancedCache().lock(key)) {
@@ -151,6 +168,9 @@ public abstract class AbstractInfinispanSessionMetaDataFactory<L> implements Ses
 
     @Override
     public boolean purge(String id) {
+        if (this.accessMetaDataWriteBehind != null) {
+            this.accessMetaDataWriteBehind.cancel(id);
+        }
         return delete(this.silentWriteCache, id);
     }
 
@@ -28,7 +28,6 @@ import java.util.Set;
 import org.infinispan.Cache;
 import org.infinispan.context.Flag;
 import org.wildfly.clustering.ee.Key;
-import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
 import org.wildfly.clustering.web.cache.session.CompositeSessionMetaDataEntry;
 import org.wildfly.clustering.web.cache.session.SessionAccessMetaData;
 import org.wildfly.clustering.web.cache.session.SessionCreationMetaDataEntry;
@@ -41,7 +40,7 @@ public class BulkReadInfinispanSessionMetaDataFactory<L> extends AbstractInfinis
 
     private final Cache<Key<String>, Object> cache;
 
-    public BulkReadInfinispanSessionMetaDataFactory(InfinispanConfiguration configuration) {
+    public BulkReadInfinispanSessionMetaDataFactory(InfinispanSessionMetaDataFactoryConfiguration configuration) {
         super(configuration);
         this.cache = configuration.getCache();
     }
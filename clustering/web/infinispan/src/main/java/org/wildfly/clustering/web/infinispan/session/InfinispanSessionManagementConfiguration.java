@@ -22,6 +22,9 @@
 
 package org.wildfly.clustering.web.infinispan.session;
 
+import java.time.Duration;
+
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.ee.infinispan.InfinispanCacheConfiguration;
 import org.wildfly.clustering.web.session.DistributableSessionManagementConfiguration;
 
@@ -30,4 +33,21 @@ import org.wildfly.clustering.web.session.DistributableSessionManagementConfigur
  * @author Paul Ferraro
  */
 public interface InfinispanSessionManagementConfiguration<M> extends DistributableSessionManagementConfiguration<M>, InfinispanCacheConfiguration {
+
+    /**
+     * Returns the strategy used to schedule the expiration of sessions owned by this member.
+     * @return an expiration scheduler strategy
+     */
+    default ExpirationSchedulerStrategy getExpirationSchedulerStrategy() {
+        return ExpirationSchedulerStrategy.DEDICATED;
+    }
+
+    /**
+     * Returns the minimum change in session expiration that triggers immediate replication of the last access time of a session.
+     * A zero duration replicates every change immediately.
+     * @return a duration
+     */
+    default Duration getLastAccessReplicationGranularity() {
+        return Duration.ZERO;
+    }
 }
@@ -202,4 +202,14 @@ public class InfinispanSessionManager<SC, MV, AV, LC> implements SessionManager<
     public long getActiveSessionCount() {
         return this.getActiveSessions().size();
     }
+
+    @Override
+    public long getReplicatedAttributeCount() {
+        return this.factory.getAttributesFactory().getReplicatedAttributeCount();
+    }
+
+    @Override
+    public long getSkippedAttributeReplicationCount() {
+        return this.factory.getAttributesFactory().getSkippedAttributeReplicationCount();
+    }
 }
@@ -22,7 +22,7 @@
 package org.wildfly.clustering.web.infinispan.session;
 
 import org.infinispan.remoting.transport.Address;
-import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.infinispan.affinity.KeyAffinityServiceFactory;
 import org.wildfly.clustering.server.NodeFactory;
 import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
@@ -35,11 +35,13 @@ import org.wildfly.clustering.web.session.SessionManagerFactoryConfiguration;
  * @param <LC> the local context type
  * @author Paul Ferraro
  */
-public interface InfinispanSessionManagerFactoryConfiguration<S, SC, AL, LC> extends SessionManagerFactoryConfiguration<S, SC, AL, LC>, InfinispanConfiguration {
+public interface InfinispanSessionManagerFactoryConfiguration<S, SC, AL, LC> extends SessionManagerFactoryConfiguration<S, SC, AL, LC>, InfinispanSessionMetaDataFactoryConfiguration {
 
     KeyAffinityServiceFactory getKeyAffinityServiceFactory();
 
     CommandDispatcherFactory getCommandDispatcherFactory();
 
     NodeFactory<Address> getMemberFactory();
+
+    ExpirationSchedulerStrategy getExpirationSchedulerStrategy();
 }
@@ -0,0 +1,44 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.infinispan.session;
+
+import java.time.Duration;
+
+import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
+
+/**
+ * Configuration of an Infinispan session meta data factory.
+ * @author agent
+ */
+public interface InfinispanSessionMetaDataFactoryConfiguration extends InfinispanConfiguration {
+
+    /**
+     * Returns the minimum change in session expiration that triggers immediate replication of the last access time of a session.
+     * Smaller changes are coalesced and replicated in bulk, once per interval.
+     * A zero duration replicates every change immediately.
+     * @return a duration
+     */
+    default Duration getLastAccessReplicationGranularity() {
+        return Duration.ZERO;
+    }
+}
@@ -26,7 +26,6 @@ import java.util.Set;
 
 import org.infinispan.Cache;
 import org.infinispan.context.Flag;
-import org.wildfly.clustering.ee.infinispan.InfinispanConfiguration;
 import org.wildfly.clustering.web.cache.session.CompositeSessionMetaDataEntry;
 import org.wildfly.clustering.web.cache.session.SessionAccessMetaData;
 import org.wildfly.clustering.web.cache.session.SessionCreationMetaDataEntry;
@@ -40,7 +39,7 @@ public class LockOnReadInfinispanSessionMetaDataFactory<L> extends AbstractInfin
     private final Cache<SessionCreationMetaDataKey, SessionCreationMetaDataEntry<L>> creationMetaDataCache;
     private final Cache<SessionAccessMetaDataKey, SessionAccessMetaData> accessMetaDataCache;
 
-    public LockOnReadInfinispanSessionMetaDataFactory(InfinispanConfiguration configuration) {
+    public LockOnReadInfinispanSessionMetaDataFactory(InfinispanSessionMetaDataFactoryConfiguration configuration) {
         super(configuration);
         this.creationMetaDataCache = configuration.getReadForUpdateCache();
         this.accessMetaDataCache = configuration.getCache();
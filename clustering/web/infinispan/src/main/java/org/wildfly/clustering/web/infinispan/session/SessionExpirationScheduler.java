@@ -27,7 +27,7 @@ import java.util.function.Predicate;
 import org.wildfly.clustering.ee.Batch;
 import org.wildfly.clustering.ee.Batcher;
 import org.wildfly.clustering.ee.Remover;
-import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
+import org.wildfly.clustering.ee.cache.scheduler.ExpirationSchedulerStrategy;
 import org.wildfly.clustering.ee.cache.scheduler.SortedScheduledEntries;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.ee.infinispan.expiration.AbstractExpirationScheduler;
@@ -46,7 +46,11 @@ public class SessionExpirationScheduler<MV> extends AbstractExpirationScheduler<
     private final ImmutableSessionMetaDataFactory<MV> metaDataFactory;
 
     public SessionExpirationScheduler(Batcher<TransactionBatch> batcher, ImmutableSessionMetaDataFactory<MV> metaDataFactory, Remover<String> remover, Duration closeTimeout) {
-        super(new LocalScheduler<>(new SortedScheduledEntries<>(), new SessionRemoveTask(batcher, remover), closeTimeout));
+        this(batcher, metaDataFactory, remover, ExpirationSchedulerStrategy.DEDICATED, closeTimeout);
+    }
+
+    public SessionExpirationScheduler(Batcher<TransactionBatch> batcher, ImmutableSessionMetaDataFactory<MV> metaDataFactory, Remover<String> remover, ExpirationSchedulerStrategy strategy, Duration closeTimeout) {
+        super(strategy.createScheduler(SortedScheduledEntries::new, new SessionRemoveTask(batcher, remover), closeTimeout));
         this.metaDataFactory = metaDataFactory;
     }
 
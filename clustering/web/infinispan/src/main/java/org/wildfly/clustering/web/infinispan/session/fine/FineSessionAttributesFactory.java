@@ -50,6 +50,7 @@ import org.wildfly.clustering.web.cache.session.SessionAttributeActivationNotifi
 import org.wildfly.clustering.web.cache.session.SessionAttributes;
 import org.wildfly.clustering.web.cache.session.SessionAttributesFactory;
 import org.wildfly.clustering.web.cache.session.fine.FineImmutableSessionAttributes;
+import org.wildfly.clustering.web.cache.session.fine.FineSessionAttributeReplicationStatistics;
 import org.wildfly.clustering.web.cache.session.fine.FineSessionAttributes;
 import org.wildfly.clustering.web.infinispan.logging.InfinispanWebLogger;
 import org.wildfly.clustering.web.infinispan.session.InfinispanSessionAttributesFactoryConfiguration;
@@ -57,6 +58,7 @@ import org.wildfly.clustering.web.infinispan.session.SessionCreationMetaDataKey;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 
 /**
  * {@link SessionAttributesFactory} for fine granularity sessions.
@@ -77,6 +79,8 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
     private final HttpSessionActivationListenerProvider<S, C, L> provider;
     private final Function<String, SessionAttributeActivationNotifier> notifierFactory;
     private final Executor executor;
+    private final SessionAttributeReplicationMode replicationMode;
+    private final FineSessionAttributeReplicationStatistics statistics = new FineSessionAttributeReplicationStatistics();
     private final ListenerRegistration evictListenerRegistration;
     private final ListenerRegistration evictAttributesListenerRegistration;
     private final ListenerRegistration prePassivateListenerRegistration;
@@ -94,6 +98,7 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
         this.provider = configuration.getHttpSessionActivationListenerProvider();
         this.notifierFactory = configuration.getActivationNotifierFactory();
         this.executor = configuration.getBlockingManager().asExecutor(this.getClass().getName());
+        this.replicationMode = configuration.getAttributeReplicationMode();
         this.evictListenerRegistration = new PostPassivateBlockingListener<>(configuration.getCache(), this::cascadeEvict).register(SessionCreationMetaDataKey.class);
         this.evictAttributesListenerRegistration = new PrePassivateNonBlockingListener<>(this.namesCache, this::cascadeEvictAttributes).register(SessionAttributeNamesKey.class);
         this.prePassivateListenerRegistration = !this.properties.isPersistent() ? new PrePassivateBlockingListener<>(this.attributeCache, this::prePassivate).register(SessionAttributeKey.class) : null;
@@ -180,10 +185,20 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
         return true;
     }
 
+    @Override
+    public long getReplicatedAttributeCount() {
+        return this.statistics.getReplicatedAttributeCount();
+    }
+
+    @Override
+    public long getSkippedAttributeReplicationCount() {
+        return this.statistics.getSkippedAttributeReplicationCount();
+    }
+
     @Override
     public SessionAttributes createSessionAttributes(String id, AtomicReference<Map<String, UUID>> names, ImmutableSessionMetaData metaData, C context) {
         SessionAttributeActivationNotifier notifier = new ImmutableSessionAttributeActivationNotifier<>(this.provider, new CompositeImmutableSession(id, metaData, this.createImmutableSessionAttributes(id, names)), context);
-        return new FineSessionAttributes<>(new SessionAttributeNamesKey(id), names, this.namesCache, getKeyFactory(id), this.attributeCache, this.marshaller, this.mutatorFactory, this.immutability, this.properties, notifier);
+        return new FineSessionAttributes<>(new SessionAttributeNamesKey(id), names, this.namesCache, getKeyFactory(id), this.attributeCache, this.marshaller, this.mutatorFactory, this.immutability, this.properties, this.replicationMode, this.statistics, notifier);
     }
 
     @Override
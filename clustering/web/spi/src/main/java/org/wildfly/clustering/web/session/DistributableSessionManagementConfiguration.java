@@ -36,4 +36,8 @@ public interface DistributableSessionManagementConfiguration<M> {
     SessionAttributePersistenceStrategy getAttributePersistenceStrategy();
 
     Function<M, ByteBufferMarshaller> getMarshallerFactory();
+
+    default SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return SessionAttributeReplicationMode.ACCESSED;
+    }
 }
@@ -48,4 +48,8 @@ public interface SessionManagerFactoryConfiguration<S, SC, AL, LC> extends WebDe
     SpecificationProvider<S, SC, AL> getSpecificationProvider();
 
     SessionAttributePersistenceStrategy getAttributePersistenceStrategy();
+
+    default SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return SessionAttributeReplicationMode.ACCESSED;
+    }
 }
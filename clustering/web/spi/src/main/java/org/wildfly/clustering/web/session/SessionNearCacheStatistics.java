@@ -0,0 +1,61 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.session;
+
+/**
+ * Statistics for the near cache of a session manager.
+ * Session managers without a near cache report no activity.
+ * @author agent
+ */
+public interface SessionNearCacheStatistics {
+
+    /**
+     * @return The number of near cache reads that found an entry
+     */
+    default long getNearCacheHitCount() {
+        return 0L;
+    }
+
+    /**
+     * @return The number of near cache reads that did not find an entry
+     */
+    default long getNearCacheMissCount() {
+        return 0L;
+    }
+
+    /**
+     * @return The number of sessions evicted from the near cache
+     */
+    default long getNearCacheEvictionCount() {
+        return 0L;
+    }
+
+    /**
+     * @return The ratio of near cache reads that found an entry, or 0 if the near cache was never read
+     */
+    default double getNearCacheHitRatio() {
+        long hits = this.getNearCacheHitCount();
+        long reads = hits + this.getNearCacheMissCount();
+        return (reads > 0) ? (double) hits / reads : 0d;
+    }
+}
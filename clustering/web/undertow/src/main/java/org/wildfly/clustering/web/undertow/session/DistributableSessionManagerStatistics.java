@@ -25,22 +25,23 @@ package org.wildfly.clustering.web.undertow.session;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.wildfly.clustering.ee.Recordable;
-import org.wildfly.clustering.web.session.ActiveSessionStatistics;
+import org.wildfly.clustering.web.container.DistributableSessionStatistics;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.web.session.SessionStatistics;
 
 /**
  * @author Paul Ferraro
  */
-public class DistributableSessionManagerStatistics implements RecordableSessionManagerStatistics {
+public class DistributableSessionManagerStatistics implements RecordableSessionManagerStatistics, DistributableSessionStatistics {
 
     private final RecordableInactiveSessionStatistics inactiveSessionStatistics;
-    private final ActiveSessionStatistics activeSessionStatistics;
+    private final SessionStatistics sessionStatistics;
     private final Integer maxActiveSessions;
     private volatile long startTime = System.currentTimeMillis();
     private final AtomicLong createdSessionCount = new AtomicLong();
 
-    public DistributableSessionManagerStatistics(ActiveSessionStatistics activeSessionStatistics, RecordableInactiveSessionStatistics inactiveSessionStatistics, Integer maxActiveSessions) {
-        this.activeSessionStatistics = activeSessionStatistics;
+    public DistributableSessionManagerStatistics(SessionStatistics sessionStatistics, RecordableInactiveSessionStatistics inactiveSessionStatistics, Integer maxActiveSessions) {
+        this.sessionStatistics = sessionStatistics;
         this.inactiveSessionStatistics = inactiveSessionStatistics;
         this.maxActiveSessions = maxActiveSessions;
         this.reset();
@@ -75,7 +76,7 @@ public class DistributableSessionManagerStatistics implements RecordableSessionM
 
     @Override
     public long getActiveSessionCount() {
-        return this.activeSessionStatistics.getActiveSessionCount();
+        return this.sessionStatistics.getActiveSessionCount();
     }
 
     @Override
@@ -103,4 +104,34 @@ public class DistributableSessionManagerStatistics implements RecordableSessionM
     public long getStartTime() {
         return this.startTime;
     }
+
+    @Override
+    public long getReplicatedAttributeCount() {
+        return this.sessionStatistics.getReplicatedAttributeCount();
+    }
+
+    @Override
+    public long getSkippedAttributeReplicationCount() {
+        return this.sessionStatistics.getSkippedAttributeReplicationCount();
+    }
+
+    @Override
+    public long getNearCacheHitCount() {
+        return this.sessionStatistics.getNearCacheHitCount();
+    }
+
+    @Override
+    public long getNearCacheMissCount() {
+        return this.sessionStatistics.getNearCacheMissCount();
+    }
+
+    @Override
+    public long getNearCacheEvictionCount() {
+        return this.sessionStatistics.getNearCacheEvictionCount();
+    }
+
+    @Override
+    public double getNearCacheHitRatio() {
+        return this.sessionStatistics.getNearCacheHitRatio();
+    }
 }
@@ -43,6 +43,7 @@ import org.wildfly.clustering.web.container.SessionManagerFactoryConfiguration;
 import org.wildfly.clustering.web.session.DistributableSessionManagementConfiguration;
 import org.wildfly.clustering.web.session.SessionAttributeImmutability;
 import org.wildfly.clustering.web.session.SessionAttributePersistenceStrategy;
+import org.wildfly.clustering.web.session.SessionAttributeReplicationMode;
 import org.wildfly.clustering.web.session.SpecificationProvider;
 import org.wildfly.common.iteration.CompositeIterable;
 
@@ -55,6 +56,7 @@ public class SessionManagerFactoryConfigurationAdapter<C extends DistributableSe
     private final ByteBufferMarshaller marshaller;
     private final Immutability immutability;
     private final SessionAttributePersistenceStrategy attributePersistenceStrategy;
+    private final SessionAttributeReplicationMode attributeReplicationMode;
 
     public SessionManagerFactoryConfigurationAdapter(SessionManagerFactoryConfiguration configuration, C managementConfiguration, Immutability immutability) {
         super(configuration);
@@ -68,6 +70,7 @@ public class SessionManagerFactoryConfigurationAdapter<C extends DistributableSe
         }
         this.immutability = new CompositeImmutability(new CompositeIterable<>(EnumSet.allOf(DefaultImmutability.class), EnumSet.allOf(SessionAttributeImmutability.class), EnumSet.allOf(UndertowSessionAttributeImmutability.class), loadedImmutabilities, List.of(immutability)));
         this.attributePersistenceStrategy = managementConfiguration.getAttributePersistenceStrategy();
+        this.attributeReplicationMode = managementConfiguration.getAttributeReplicationMode();
     }
 
     @Override
@@ -99,4 +102,9 @@ public class SessionManagerFactoryConfigurationAdapter<C extends DistributableSe
     public SessionAttributePersistenceStrategy getAttributePersistenceStrategy() {
         return this.attributePersistenceStrategy;
     }
+
+    @Override
+    public SessionAttributeReplicationMode getAttributeReplicationMode() {
+        return this.attributeReplicationMode;
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.clustering.web.undertow.session;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.wildfly.clustering.web.session.SessionStatistics;
+
+/**
+ * Unit test for {@link DistributableSessionManagerStatistics}.
+ *
+ * @author agent
+ */
+public class DistributableSessionManagerStatisticsTestCase {
+    private final SessionStatistics sessionStatistics = mock(SessionStatistics.class);
+    private final RecordableInactiveSessionStatistics inactiveSessionStatistics = mock(RecordableInactiveSessionStatistics.class);
+
+    private final DistributableSessionManagerStatistics statistics = new DistributableSessionManagerStatistics(this.sessionStatistics, this.inactiveSessionStatistics, 10);
+
+    @Test
+    public void test() {
+        when(this.sessionStatistics.getActiveSessionCount()).thenReturn(2L);
+        when(this.sessionStatistics.getReplicatedAttributeCount()).thenReturn(3L);
+        when(this.sessionStatistics.getSkippedAttributeReplicationCount()).thenReturn(4L);
+        when(this.sessionStatistics.getNearCacheHitCount()).thenReturn(5L);
+        when(this.sessionStatistics.getNearCacheMissCount()).thenReturn(6L);
+        when(this.sessionStatistics.getNearCacheEvictionCount()).thenReturn(7L);
+        when(this.sessionStatistics.getNearCacheHitRatio()).thenReturn(0.5d);
+
+        assertEquals(2L, this.statistics.getActiveSessionCount());
+        assertEquals(10L, this.statistics.getMaxActiveSessions());
+        assertEquals(3L, this.statistics.getReplicatedAttributeCount());
+        assertEquals(4L, this.statistics.getSkippedAttributeReplicationCount());
+        assertEquals(5L, this.statistics.getNearCacheHitCount());
+        assertEquals(6L, this.statistics.getNearCacheMissCount());
+        assertEquals(7L, this.statistics.getNearCacheEvictionCount());
+        assertEquals(0.5d, this.statistics.getNearCacheHitRatio(), 0d);
+    }
+}
@@ -85,12 +85,13 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
         this.value.setTransport(transport);
 
         BlockingExecutor longRunning = (BlockingExecutor) executorLong.getOptionalValue();
+        StatisticsExecutorImpl shortRunning = new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue());
         if (longRunning != null) {
             this.value.setLongRunningThreadPool(longRunning);
-            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
+            this.value.setShortRunningThreadPool(shortRunning);
         } else {
             this.value.setLongRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
-            this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
+            this.value.setShortRunningThreadPool(shortRunning);
 
         }
 
@@ -104,7 +105,9 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
             ROOT_LOGGER.trace("failed to start DWM transport:", throwable);
             throw ROOT_LOGGER.failedToStartDWMTransport(this.value.getName());
         }
-        transport.register(new Address(value.getId(), value.getName(), transport.getId()));
+        Address address = new Address(value.getId(), value.getName(), transport.getId());
+        transport.register(address);
+        transport.registerWorkLoad(address, shortRunning);
 
         WorkManagerCoordinator.getInstance().registerWorkManager(value);
 
@@ -22,8 +22,11 @@
 
 package org.jboss.as.connector.services.workmanager;
 
+import java.time.Duration;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jboss.as.threads.ManagedJBossThreadPoolExecutorService;
 import org.jboss.as.threads.ManagedQueueExecutorService;
@@ -37,19 +40,25 @@ import org.jboss.threads.JBossThreadPoolExecutor;
 import org.jboss.threads.management.ThreadPoolExecutorMBean;
 
 /**
- * A StatisticsExecutor implementation keeping track of numberOfFreeThreads
+ * A StatisticsExecutor implementation keeping track of numberOfFreeThreads,
+ * as well as the number of queued tasks and the moving average of task execution time.
  *
  * @author Stefano Maestri
  */
 
-public class StatisticsExecutorImpl implements StatisticsExecutor {
+public class StatisticsExecutorImpl implements StatisticsExecutor, WorkLoad {
     /**
      * The logger
      */
     private static CoreLogger log = Logger.getMessageLogger(CoreLogger.class,
             org.jboss.jca.core.workmanager.StatisticsExecutorImpl.class.getName());
 
+    // Weight of the most recent execution time within the moving average, expressed as a right shift, i.e. 1/8
+    private static final int EXECUTION_TIME_WEIGHT_SHIFT = 3;
+
     private final BlockingExecutor realExecutor;
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicLong averageExecutionTime = new AtomicLong();
 
     /**
      * StatisticsExecutorImpl constructor
@@ -63,23 +72,95 @@ public class StatisticsExecutorImpl implements StatisticsExecutor {
 
     @Override
     public void execute(Runnable runnable) {
-        realExecutor.execute(runnable);
+        Runnable task = track(runnable);
+        try {
+            realExecutor.execute(task);
+        } catch (RuntimeException | Error e) {
+            queueSize.decrementAndGet();
+            throw e;
+        }
     }
 
     @Override
     public void executeBlocking(Runnable runnable) throws RejectedExecutionException, InterruptedException {
-        realExecutor.executeBlocking(runnable);
+        Runnable task = track(runnable);
+        try {
+            realExecutor.executeBlocking(task);
+        } catch (RuntimeException | Error | InterruptedException e) {
+            queueSize.decrementAndGet();
+            throw e;
+        }
     }
 
     @Override
     public void executeBlocking(Runnable runnable, long l, TimeUnit timeUnit) throws RejectedExecutionException,
             InterruptedException {
-        realExecutor.executeBlocking(runnable, l, timeUnit);
+        Runnable task = track(runnable);
+        try {
+            realExecutor.executeBlocking(task, l, timeUnit);
+        } catch (RuntimeException | Error | InterruptedException e) {
+            queueSize.decrementAndGet();
+            throw e;
+        }
     }
 
     @Override
     public void executeNonBlocking(Runnable runnable) throws RejectedExecutionException {
-        realExecutor.executeNonBlocking(runnable);
+        Runnable task = track(runnable);
+        try {
+            realExecutor.executeNonBlocking(task);
+        } catch (RuntimeException | Error e) {
+            queueSize.decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    @Override
+    public Duration getAverageExecutionTime() {
+        return Duration.ofNanos(averageExecutionTime.get());
+    }
+
+    @Override
+    public int getMaxThreads() {
+        if (realExecutor instanceof JBossThreadPoolExecutor) {
+            return ((JBossThreadPoolExecutor) realExecutor).getMaximumPoolSize();
+        }
+        if (realExecutor instanceof ThreadPoolExecutorMBean) {
+            return ((ThreadPoolExecutorMBean) realExecutor).getMaxThreads();
+        }
+        if (realExecutor instanceof ManagedQueueExecutorService) {
+            return ((ManagedQueueExecutorService) realExecutor).getMaxThreads();
+        }
+        if (realExecutor instanceof ManagedJBossThreadPoolExecutorService) {
+            return ((ManagedJBossThreadPoolExecutorService) realExecutor).getMaxThreads();
+        }
+        if (realExecutor instanceof ManagedQueuelessExecutorService) {
+            return ((ManagedQueuelessExecutorService) realExecutor).getMaxThreads();
+        }
+        if (realExecutor instanceof ManagedScheduledExecutorService) {
+            return ((ManagedScheduledExecutorService) realExecutor).getLargestPoolSize();
+        }
+        return 0;
+    }
+
+    private Runnable track(Runnable runnable) {
+        queueSize.incrementAndGet();
+        return () -> {
+            queueSize.decrementAndGet();
+            long start = System.nanoTime();
+            try {
+                runnable.run();
+            } finally {
+                long executionTime = System.nanoTime() - start;
+                // Exponentially weighted moving average, seeded by the first execution
+                averageExecutionTime.updateAndGet(average -> (average == 0L) ? executionTime : average + ((executionTime - average) >> EXECUTION_TIME_WEIGHT_SHIFT));
+            }
+        };
     }
 
     @Override
@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import java.time.Duration;
+
+/**
+ * Exposes the recent load of a work manager thread pool, used to select the least loaded node of a distributed work manager.
+ * @author agent
+ */
+public interface WorkLoad {
+
+    /**
+     * Returns the number of submitted tasks that have not yet started executing.
+     * @return a number of tasks
+     */
+    int getQueueSize();
+
+    /**
+     * Returns the moving average of the execution time of recently completed tasks.
+     * @return an average execution time
+     */
+    Duration getAverageExecutionTime();
+
+    /**
+     * Returns the maximum number of threads that execute tasks concurrently.
+     * @return a number of threads, or 0, if unknown
+     */
+    int getMaxThreads();
+}
@@ -0,0 +1,143 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager.selector;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.resource.spi.work.DistributableWork;
+
+import org.jboss.as.connector.services.workmanager.WorkLoad;
+import org.jboss.as.connector.services.workmanager.transport.CommandDispatcherTransport;
+import org.jboss.as.connector.services.workmanager.transport.DistributedWorkStatistics;
+import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.spi.workmanager.selector.Selector;
+import org.jboss.jca.core.spi.workmanager.transport.Transport;
+
+/**
+ * Selects the node whose work manager is expected to start executing a new work instance the soonest.
+ * The expected delay is estimated from the queue size, the recent average execution time, and the maximum thread count of the short running thread pool of each node,
+ * as most recently gossiped by the {@link CommandDispatcherTransport}, and thus requires no synchronous round trip.
+ * Since gossip lags behind dispatch, work dispatched to each remote node since its last gossip is added to its gossiped load,
+ * so that a burst of work is spread across nodes, rather than herded onto the node that last advertised the least load.
+ * The load of the local work manager is read directly from its thread pool.
+ * Since idle nodes continuously advertise their spare capacity, work flows from overloaded nodes to idle nodes, rather than only to nodes with free threads.
+ * The local node is selected if no other node is expected to be faster.
+ * @author agent
+ */
+public class LoadAware implements Selector {
+
+    private volatile DistributedWorkManager dwm;
+    // Work dispatched to each remote work manager since its last gossip
+    private final Map<Address, Dispatched> dispatched = new ConcurrentHashMap<>();
+
+    @Override
+    public void setDistributedWorkManager(DistributedWorkManager dwm) {
+        this.dwm = dwm;
+    }
+
+    @Override
+    public Address selectDistributedWorkManager(Address ownAddress, DistributableWork work) {
+        Transport transport = this.dwm.getTransport();
+        if (!(transport instanceof CommandDispatcherTransport)) {
+            return ownAddress;
+        }
+        CommandDispatcherTransport dispatcherTransport = (CommandDispatcherTransport) transport;
+        // Read local load directly, rather than creating a snapshot of the local statistics
+        WorkLoad ownLoad = dispatcherTransport.getLocalWorkLoad(ownAddress);
+        Address result = ownAddress;
+        DistributedWorkStatistics resultStatistics = null;
+        double minDelay = (ownLoad != null) ? expectedDelay(ownLoad.getQueueSize(), dispatcherTransport.getLocalShortRunningFree(ownAddress), ownLoad.getAverageExecutionTime(), ownLoad.getMaxThreads()) : Double.MAX_VALUE;
+        Map<Address, DistributedWorkStatistics> remoteStatistics = dispatcherTransport.getRemoteWorkStatistics();
+        for (Map.Entry<Address, DistributedWorkStatistics> entry : remoteStatistics.entrySet()) {
+            Address address = entry.getKey();
+            if (!address.equals(ownAddress) && address.getWorkManagerId().equals(ownAddress.getWorkManagerId())) {
+                DistributedWorkStatistics statistics = entry.getValue();
+                Dispatched dispatched = this.dispatched.get(address);
+                double delay = expectedDelay(statistics, ((dispatched != null) && (dispatched.statistics == statistics)) ? dispatched.count.get() : 0);
+                // Local execution wins any tie
+                if (delay < minDelay) {
+                    minDelay = delay;
+                    result = address;
+                    resultStatistics = statistics;
+                }
+            }
+        }
+        if (resultStatistics != null) {
+            DistributedWorkStatistics statistics = resultStatistics;
+            // Reset the count upon receipt of newer gossip
+            this.dispatched.compute(result, (key, value) -> ((value != null) && (value.statistics == statistics)) ? value : new Dispatched(statistics)).count.incrementAndGet();
+        }
+        // Forget departed work managers
+        if (this.dispatched.size() > remoteStatistics.size()) {
+            this.dispatched.keySet().retainAll(remoteStatistics.keySet());
+        }
+        return result;
+    }
+
+    /**
+     * Estimates the delay before a new work instance would start executing on the work manager with the specified statistics.
+     * @param statistics the statistics of a work manager
+     * @param dispatched the number of work instances dispatched to the work manager since the specified statistics were gossiped
+     * @return an expected delay in nanoseconds, or {@link Double#MAX_VALUE}, if the load of the work manager is unknown
+     */
+    static double expectedDelay(DistributedWorkStatistics statistics, int dispatched) {
+        if (!statistics.isLoadKnown()) {
+            return Double.MAX_VALUE;
+        }
+        long free = statistics.getShortRunningFree();
+        int queueSize = statistics.getQueueSize();
+        // Dispatched work first occupies any free threads, then queues
+        long occupied = (free > 0L) ? Math.min(free, dispatched) : 0L;
+        return expectedDelay(queueSize + dispatched - (int) occupied, (free > 0L) ? free - occupied : free, statistics.getAverageExecutionTime(), statistics.getMaxThreads());
+    }
+
+    /**
+     * Estimates the delay before a new work instance would start executing on a work manager with the specified load.
+     * @param queueSize the number of queued tasks
+     * @param shortRunningFree the number of free short running threads
+     * @param averageExecutionTime the average execution time of tasks
+     * @param maxThreads the maximum number of threads executing tasks concurrently, or 0, if unknown
+     * @return an expected delay in nanoseconds
+     */
+    static double expectedDelay(int queueSize, long shortRunningFree, Duration averageExecutionTime, int maxThreads) {
+        // A free thread will start work immediately
+        if ((queueSize == 0) && (shortRunningFree != 0L)) {
+            return 0d;
+        }
+        // Each queued instance must wait for an executing instance to complete, on any of the threads of the work manager
+        return (queueSize + 1d) * Math.max(averageExecutionTime.toNanos(), 1L) / Math.max(maxThreads, 1);
+    }
+
+    private static class Dispatched {
+        final DistributedWorkStatistics statistics;
+        final AtomicInteger count = new AtomicInteger();
+
+        Dispatched(DistributedWorkStatistics statistics) {
+            this.statistics = statistics;
+        }
+    }
+}
@@ -23,24 +23,41 @@
 package org.jboss.as.connector.services.workmanager.transport;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.resource.spi.work.DistributableWork;
 import jakarta.resource.spi.work.WorkException;
 
 import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.as.connector.services.workmanager.WorkLoad;
 import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
 import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.spi.workmanager.notification.NotificationListener;
+import org.jboss.jca.core.workmanager.WorkManagerCoordinator;
 import org.jboss.jca.core.workmanager.transport.remote.AbstractRemoteTransport;
 import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
 import org.wildfly.clustering.Registration;
+import org.wildfly.clustering.context.DefaultExecutorService;
+import org.wildfly.clustering.context.DefaultThreadFactory;
 import org.wildfly.clustering.dispatcher.Command;
 import org.wildfly.clustering.dispatcher.CommandDispatcher;
 import org.wildfly.clustering.dispatcher.CommandDispatcherException;
@@ -56,22 +73,50 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * {@link DistributedWorkManager}-specific transport based on a {@link CommandDispatcher}.
- * The current implementation is a direct translation of {@link org.jboss.jca.core.workmanager.transport.remote.jgroups.JGroupsTransport}.
+ * The current implementation is a direct translation of {@link org.jboss.jca.core.workmanager.transport.remote.jgroups.JGroupsTransport},
+ * except that, once every member of the group gossips its statistics, work statistics deltas and free thread updates are no longer sent to each member per event.
+ * Instead, these are accumulated locally and periodically gossiped to the group as a single versioned snapshot via a {@link GossipStatisticsCommand}.
+ * Until then, e.g. during a rolling upgrade, per-event commands are still sent, and only snapshots of the free thread counts and work load are gossiped.
  * @author Paul Ferraro
  */
 public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> implements GroupListener {
 
+    static final Duration DEFAULT_GOSSIP_INTERVAL = Duration.ofSeconds(1);
+    // Number of gossip intervals after which an insignificant change in work load is gossiped
+    static final int LOAD_GOSSIP_INTERVALS = 10;
+
     private final ServiceExecutor executor = new StampedLockServiceExecutor();
     private final CommandDispatcherFactory dispatcherFactory;
     private final String name;
+    private final Duration gossipInterval;
+    // Statistics recorded by this member, per local work manager
+    private final Map<Address, LocalWorkStatistics> localStatistics = new ConcurrentHashMap<>();
+    // Last applied gossip, per member
+    private final Map<Node, RemoteWorkStatistics> remoteStatistics = new ConcurrentHashMap<>();
+    // Last gossiped statistics, per remote work manager
+    private final Map<Address, DistributedWorkStatistics> gossipedStatistics = new ConcurrentHashMap<>();
+    private final Map<Address, DistributedWorkStatistics> remoteWorkStatistics = Collections.unmodifiableMap(this.gossipedStatistics);
+    // Initially modified, so that this member advertises its support for gossip
+    private final AtomicBoolean modified = new AtomicBoolean(true);
+    private final AtomicLong version = new AtomicLong();
+    private volatile Map<Address, DistributedWorkStatistics> lastGossip = Map.of();
+    private volatile long lastGossipTime = System.nanoTime();
 
     private volatile CommandDispatcher<CommandDispatcherTransport> dispatcher;
     private volatile Registration groupListenerRegistration;
+    private volatile ScheduledExecutorService gossipScheduler;
+    // Indicates whether every other member gossips its statistics
+    private volatile boolean gossipEnabled = false;
     private volatile boolean initialized = false;
 
     public CommandDispatcherTransport(CommandDispatcherFactory dispatcherFactory, String name) {
+        this(dispatcherFactory, name, DEFAULT_GOSSIP_INTERVAL);
+    }
+
+    public CommandDispatcherTransport(CommandDispatcherFactory dispatcherFactory, String name, Duration gossipInterval) {
         this.dispatcherFactory = dispatcherFactory;
         this.name = name;
+        this.gossipInterval = gossipInterval;
     }
 
     @Override
@@ -83,13 +128,23 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
     public void startup() throws Exception {
         this.dispatcher = this.dispatcherFactory.createCommandDispatcher(this.name, this, WildFlySecurityManager.getClassLoaderPrivileged(this.getClass()));
         this.groupListenerRegistration = this.dispatcherFactory.getGroup().register(this);
+        this.updateGossipEnabled(this.dispatcherFactory.getGroup().getMembership().getMembers());
         this.broadcast(new JoinCommand());
+        ScheduledThreadPoolExecutor gossipScheduler = new ScheduledThreadPoolExecutor(1, new DefaultThreadFactory(this.getClass()));
+        gossipScheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.gossipScheduler = gossipScheduler;
+        Runnable gossip = this::gossip;
+        long interval = this.gossipInterval.toMillis();
+        this.gossipScheduler.scheduleWithFixedDelay(() -> this.executor.execute(gossip), interval, interval, TimeUnit.MILLISECONDS);
     }
 
     @Override
     public void shutdown() {
+        WildFlySecurityManager.doPrivilegedWithParameter(this.gossipScheduler, DefaultExecutorService.SHUTDOWN_NOW_ACTION);
         this.executor.close(() -> {
             try {
+                // Flush any statistics recorded since the last gossip
+                this.gossip();
                 this.broadcast(new LeaveCommand(this.getOwnAddress()));
             } catch (WorkException e) {
                 ConnectorLogger.ROOT_LOGGER.warn(e.getLocalizedMessage(), e);
@@ -115,6 +170,271 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
         return this.dispatcherFactory.getGroup().getLocalMember();
     }
 
+    @Override
+    public void deltaDoWorkAccepted(Address address) {
+        if (!this.record(address, DistributedWorkEvent.DO_WORK_ACCEPTED)) {
+            super.deltaDoWorkAccepted(address);
+        }
+    }
+
+    @Override
+    public void deltaDoWorkRejected(Address address) {
+        if (!this.record(address, DistributedWorkEvent.DO_WORK_REJECTED)) {
+            super.deltaDoWorkRejected(address);
+        }
+    }
+
+    @Override
+    public void deltaScheduleWorkAccepted(Address address) {
+        if (!this.record(address, DistributedWorkEvent.SCHEDULE_WORK_ACCEPTED)) {
+            super.deltaScheduleWorkAccepted(address);
+        }
+    }
+
+    @Override
+    public void deltaScheduleWorkRejected(Address address) {
+        if (!this.record(address, DistributedWorkEvent.SCHEDULE_WORK_REJECTED)) {
+            super.deltaScheduleWorkRejected(address);
+        }
+    }
+
+    @Override
+    public void deltaStartWorkAccepted(Address address) {
+        if (!this.record(address, DistributedWorkEvent.START_WORK_ACCEPTED)) {
+            super.deltaStartWorkAccepted(address);
+        }
+    }
+
+    @Override
+    public void deltaStartWorkRejected(Address address) {
+        if (!this.record(address, DistributedWorkEvent.START_WORK_REJECTED)) {
+            super.deltaStartWorkRejected(address);
+        }
+    }
+
+    @Override
+    public void deltaWorkSuccessful(Address address) {
+        if (!this.record(address, DistributedWorkEvent.WORK_SUCCESSFUL)) {
+            super.deltaWorkSuccessful(address);
+        }
+    }
+
+    @Override
+    public void deltaWorkFailed(Address address) {
+        if (!this.record(address, DistributedWorkEvent.WORK_FAILED)) {
+            super.deltaWorkFailed(address);
+        }
+    }
+
+    @Override
+    public void updateShortRunningFree(Address address, long freeCount) {
+        this.getLocalStatistics(address).setShortRunningFree(freeCount);
+        this.modified.set(true);
+        if (!this.gossipEnabled) {
+            super.updateShortRunningFree(address, freeCount);
+        }
+    }
+
+    @Override
+    public void updateLongRunningFree(Address address, long freeCount) {
+        this.getLocalStatistics(address).setLongRunningFree(freeCount);
+        this.modified.set(true);
+        if (!this.gossipEnabled) {
+            super.updateLongRunningFree(address, freeCount);
+        }
+    }
+
+    @Override
+    public long getShortRunningFree(Address address) {
+        // Prefer the last gossiped value to a synchronous round trip
+        DistributedWorkStatistics statistics = this.gossipedStatistics.get(address);
+        long free = (statistics != null) ? statistics.getShortRunningFree() : DistributedWorkStatistics.UNKNOWN;
+        return (free != DistributedWorkStatistics.UNKNOWN) ? free : super.getShortRunningFree(address);
+    }
+
+    @Override
+    public long getLongRunningFree(Address address) {
+        // Prefer the last gossiped value to a synchronous round trip
+        DistributedWorkStatistics statistics = this.gossipedStatistics.get(address);
+        long free = (statistics != null) ? statistics.getLongRunningFree() : DistributedWorkStatistics.UNKNOWN;
+        return (free != DistributedWorkStatistics.UNKNOWN) ? free : super.getLongRunningFree(address);
+    }
+
+    /**
+     * Registers the load of the local work manager with the specified address, to be gossiped along with its statistics.
+     * @param address the address of a local work manager
+     * @param load the load of the work manager
+     */
+    public void registerWorkLoad(Address address, WorkLoad load) {
+        this.getLocalStatistics(address).setLoad(load);
+        this.modified.set(true);
+    }
+
+    /**
+     * Returns the most recent statistics of all known work managers, including those of this member.
+     * @return a map of statistics per work manager address
+     */
+    public Map<Address, DistributedWorkStatistics> getWorkStatistics() {
+        Map<Address, DistributedWorkStatistics> statistics = new HashMap<>(this.gossipedStatistics);
+        for (Map.Entry<Address, LocalWorkStatistics> entry : this.localStatistics.entrySet()) {
+            statistics.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return statistics;
+    }
+
+    /**
+     * Returns the most recently gossiped statistics of the work managers of other members.
+     * @return an unmodifiable view of the statistics per remote work manager address
+     */
+    public Map<Address, DistributedWorkStatistics> getRemoteWorkStatistics() {
+        return this.remoteWorkStatistics;
+    }
+
+    /**
+     * Returns the current load of the specified local work manager, read directly rather than from a snapshot.
+     * @param address the address of a local work manager
+     * @return the load of the work manager, or null, if unknown
+     */
+    public WorkLoad getLocalWorkLoad(Address address) {
+        LocalWorkStatistics statistics = this.localStatistics.get(address);
+        return (statistics != null) ? statistics.load : null;
+    }
+
+    /**
+     * Returns the current number of free short running threads of the specified local work manager.
+     * @param address the address of a local work manager
+     * @return a number of threads, or {@link DistributedWorkStatistics#UNKNOWN}
+     */
+    public long getLocalShortRunningFree(Address address) {
+        LocalWorkStatistics statistics = this.localStatistics.get(address);
+        return (statistics != null) ? statistics.shortRunningFree : DistributedWorkStatistics.UNKNOWN;
+    }
+
+    private LocalWorkStatistics getLocalStatistics(Address address) {
+        return this.localStatistics.computeIfAbsent(address, key -> new LocalWorkStatistics());
+    }
+
+    /**
+     * Records an occurrence of the specified event, to be sent with the next gossip.
+     * @param address the address of a local work manager
+     * @param event a work event
+     * @return true, if the event was recorded, false if it must instead be sent to each member, since some member does not support gossip.
+     */
+    private boolean record(Address address, DistributedWorkEvent event) {
+        if (!this.gossipEnabled) return false;
+        this.getLocalStatistics(address).increment(event);
+        this.modified.set(true);
+        return true;
+    }
+
+    /**
+     * Enables gossip of work events if every other member of the specified membership has gossiped its statistics.
+     * @param members the current group members
+     */
+    private void updateGossipEnabled(List<Node> members) {
+        Node localMember = this.getOwnAddress();
+        boolean enabled = true;
+        for (Node member : members) {
+            if (!member.equals(localMember) && !this.remoteStatistics.containsKey(member)) {
+                enabled = false;
+            }
+        }
+        this.gossipEnabled = enabled;
+    }
+
+    void gossip() {
+        Map<Address, DistributedWorkStatistics> statistics = new HashMap<>();
+        for (Map.Entry<Address, LocalWorkStatistics> entry : this.localStatistics.entrySet()) {
+            statistics.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        Map<Address, DistributedWorkStatistics> lastGossip = this.lastGossip;
+        long now = System.nanoTime();
+        // Recorded events and free thread counts are always gossiped.
+        // Work load changes continuously, independently of recorded events, so only gossip significant changes, or insignificant changes after a longer interval.
+        if (this.modified.getAndSet(false) || isLoadChanged(statistics, lastGossip) || (((now - this.lastGossipTime) >= this.gossipInterval.toNanos() * LOAD_GOSSIP_INTERVALS) && !statistics.equals(lastGossip))) {
+            this.lastGossip = statistics;
+            this.lastGossipTime = now;
+            Node localMember = this.getOwnAddress();
+            try {
+                // Do not wait for responses
+                this.dispatcher.executeOnGroup(new GossipStatisticsCommand(localMember, this.version.incrementAndGet(), statistics), localMember);
+            } catch (CommandDispatcherException e) {
+                this.modified.set(true);
+                ConnectorLogger.ROOT_LOGGER.warn(e.getLocalizedMessage(), e);
+            }
+        }
+    }
+
+    private static boolean isLoadChanged(Map<Address, DistributedWorkStatistics> statistics, Map<Address, DistributedWorkStatistics> lastGossip) {
+        for (Map.Entry<Address, DistributedWorkStatistics> entry : statistics.entrySet()) {
+            DistributedWorkStatistics previous = lastGossip.get(entry.getKey());
+            if ((previous == null) || entry.getValue().isLoadChanged(previous)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Applies the statistics gossiped by the specified member to the work managers of this member.
+     * Stale snapshots are ignored.  The first snapshot received from a given member is applied against an implicit zero baseline.
+     * @param member the member that recorded the specified statistics
+     * @param version the version of the specified statistics
+     * @param statistics a snapshot of the statistics per work manager of the specified member
+     */
+    void receiveStatistics(Node member, long version, Map<Address, DistributedWorkStatistics> statistics) {
+        RemoteWorkStatistics remote = this.remoteStatistics.get(member);
+        if (remote == null) {
+            remote = this.remoteStatistics.computeIfAbsent(member, key -> new RemoteWorkStatistics());
+            // This member now supports gossip
+            this.updateGossipEnabled(this.dispatcherFactory.getGroup().getMembership().getMembers());
+        }
+        synchronized (remote) {
+            if (version <= remote.version) {
+                // Ignore stale snapshot
+                return;
+            }
+            for (Map.Entry<Address, DistributedWorkStatistics> entry : statistics.entrySet()) {
+                Address address = entry.getKey();
+                DistributedWorkStatistics current = entry.getValue();
+                DistributedWorkStatistics previous = remote.statistics.get(address);
+                for (DistributedWorkEvent event : EnumSet.allOf(DistributedWorkEvent.class)) {
+                    long delta = current.getCount(event) - ((previous != null) ? previous.getCount(event) : 0L);
+                    if (delta > 0) {
+                        this.localDelta(address, event, delta);
+                    }
+                }
+                long shortRunningFree = current.getShortRunningFree();
+                if ((shortRunningFree != DistributedWorkStatistics.UNKNOWN) && ((previous == null) || (shortRunningFree != previous.getShortRunningFree()))) {
+                    this.localUpdateShortRunningFree(address, shortRunningFree);
+                }
+                long longRunningFree = current.getLongRunningFree();
+                if ((longRunningFree != DistributedWorkStatistics.UNKNOWN) && ((previous == null) || (longRunningFree != previous.getLongRunningFree()))) {
+                    this.localUpdateLongRunningFree(address, longRunningFree);
+                }
+                this.gossipedStatistics.put(address, current);
+            }
+            remote.version = version;
+            remote.statistics = statistics;
+        }
+    }
+
+    /**
+     * Applies the specified number of occurrences of the specified event, recorded by another member, to the local work manager with the specified address.
+     * @param address the address of a work manager
+     * @param event a work event
+     * @param count a number of occurrences
+     */
+    void localDelta(Address address, DistributedWorkEvent event, long count) {
+        DistributedWorkManager manager = WorkManagerCoordinator.getInstance().resolveDistributedWorkManager(address);
+        if (manager != null) {
+            // Resolve work manager and copy its listeners once, rather than once per occurrence
+            for (NotificationListener listener : new ArrayList<>(manager.getNotificationListeners())) {
+                event.fire(listener, count);
+            }
+        }
+    }
+
     @Override
     protected Serializable sendMessage(Node physicalAddress, Request request, Serializable... parameters) throws WorkException {
         Command<?, CommandDispatcherTransport> command = createCommand(request, parameters);
@@ -237,7 +557,16 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
             // Handle abrupt leavers
             for (Node leaver : leavers) {
                 this.leave(leaver);
+
+                RemoteWorkStatistics remote = this.remoteStatistics.remove(leaver);
+                if (remote != null) {
+                    this.gossipedStatistics.keySet().removeAll(remote.statistics.keySet());
+                }
             }
+            // Joining members may not support gossip
+            this.updateGossipEnabled(membership.getMembers());
+            // Advertise support for gossip to any joining members
+            this.modified.set(true);
 
             if (merged) {
                 this.join(membership);
@@ -278,4 +607,50 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<Node> im
             }
         }
     }
+
+    private static class LocalWorkStatistics {
+        private final LongAdder[] counts = new LongAdder[DistributedWorkEvent.values().length];
+        private volatile long shortRunningFree = DistributedWorkStatistics.UNKNOWN;
+        private volatile long longRunningFree = DistributedWorkStatistics.UNKNOWN;
+        private volatile WorkLoad load;
+
+        LocalWorkStatistics() {
+            for (int i = 0; i < this.counts.length; ++i) {
+                this.counts[i] = new LongAdder();
+            }
+        }
+
+        void increment(DistributedWorkEvent event) {
+            this.counts[event.ordinal()].increment();
+        }
+
+        void setShortRunningFree(long free) {
+            this.shortRunningFree = free;
+        }
+
+        void setLongRunningFree(long free) {
+            this.longRunningFree = free;
+        }
+
+        void setLoad(WorkLoad load) {
+            this.load = load;
+        }
+
+        DistributedWorkStatistics snapshot() {
+            long[] counts = new long[this.counts.length];
+            for (int i = 0; i < counts.length; ++i) {
+                counts[i] = this.counts[i].sum();
+            }
+            WorkLoad load = this.load;
+            int queueSize = (load != null) ? load.getQueueSize() : (int) DistributedWorkStatistics.UNKNOWN;
+            long averageExecutionTime = (load != null) ? load.getAverageExecutionTime().toNanos() : DistributedWorkStatistics.UNKNOWN;
+            int maxThreads = (load != null) ? load.getMaxThreads() : 0;
+            return new DistributedWorkStatistics(counts, this.shortRunningFree, this.longRunningFree, queueSize, averageExecutionTime, maxThreads);
+        }
+    }
+
+    private static class RemoteWorkStatistics {
+        long version = 0L;
+        Map<Address, DistributedWorkStatistics> statistics = Map.of();
+    }
 }
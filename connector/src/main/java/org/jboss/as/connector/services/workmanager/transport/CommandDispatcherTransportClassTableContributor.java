@@ -52,6 +52,7 @@ public class CommandDispatcherTransportClassTableContributor implements ClassTab
                 PingCommand.class, LongRunningFreeCommand.class, ShortRunningFreeCommand.class,
                 DoWorkCommand.class, StartWorkCommand.class, ScheduleWorkCommand.class,
                 UpdateLongRunningFreeCommand.class, UpdateShortRunningFreeCommand.class,
-                JoinCommand.class, LeaveCommand.class);
+                JoinCommand.class, LeaveCommand.class,
+                GossipStatisticsCommand.class, DistributedWorkStatistics.class);
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.util.function.Consumer;
+
+import org.jboss.jca.core.spi.workmanager.notification.NotificationListener;
+
+/**
+ * Enumerates the work events counted by the distributed statistics of a work manager, which are gossiped by a {@link CommandDispatcherTransport}.
+ * @author agent
+ */
+enum DistributedWorkEvent {
+    DO_WORK_ACCEPTED(NotificationListener::deltaDoWorkAccepted),
+    DO_WORK_REJECTED(NotificationListener::deltaDoWorkRejected),
+    SCHEDULE_WORK_ACCEPTED(NotificationListener::deltaScheduleWorkAccepted),
+    SCHEDULE_WORK_REJECTED(NotificationListener::deltaScheduleWorkRejected),
+    START_WORK_ACCEPTED(NotificationListener::deltaStartWorkAccepted),
+    START_WORK_REJECTED(NotificationListener::deltaStartWorkRejected),
+    WORK_SUCCESSFUL(NotificationListener::deltaWorkSuccessful),
+    WORK_FAILED(NotificationListener::deltaWorkFailed),
+    ;
+    private final Consumer<NotificationListener> notifier;
+
+    DistributedWorkEvent(Consumer<NotificationListener> notifier) {
+        this.notifier = notifier;
+    }
+
+    /**
+     * Notifies the specified listener of the specified number of occurrences of this event.
+     * @param listener a listener of a work manager
+     * @param count a number of occurrences
+     */
+    void fire(NotificationListener listener, long count) {
+        // Listeners only support notification of a single occurrence
+        for (long i = 0; i < count; ++i) {
+            this.notifier.accept(listener);
+        }
+    }
+}
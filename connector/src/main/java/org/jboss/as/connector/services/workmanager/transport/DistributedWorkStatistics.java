@@ -0,0 +1,158 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the work statistics recorded by a single member for a single work manager.
+ * Event counts are cumulative, such that a recipient computes the delta from the last snapshot it applied, and lost or reordered snapshots are self-correcting.
+ * Also includes the current load and maximum thread count of the work manager, if known, for use by load-aware selectors.
+ * @author agent
+ */
+public class DistributedWorkStatistics implements Serializable {
+    private static final long serialVersionUID = 4586914376394390752L;
+
+    static final long UNKNOWN = -1L;
+    // Relative change in queue size or average execution time considered significant
+    static final int LOAD_CHANGE_THRESHOLD_PERCENT = 25;
+
+    private final long[] counts;
+    private final long shortRunningFree;
+    private final long longRunningFree;
+    private final int queueSize;
+    private final long averageExecutionTime;
+    // Defaults to 0, i.e. unknown, when deserialized from a member that does not gossip it
+    private final int maxThreads;
+
+    DistributedWorkStatistics(long[] counts, long shortRunningFree, long longRunningFree, int queueSize, long averageExecutionTime, int maxThreads) {
+        this.counts = counts;
+        this.shortRunningFree = shortRunningFree;
+        this.longRunningFree = longRunningFree;
+        this.queueSize = queueSize;
+        this.averageExecutionTime = averageExecutionTime;
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Returns the cumulative number of occurrences of the specified event.
+     * @param event a work event
+     * @return a number of occurrences
+     */
+    long getCount(DistributedWorkEvent event) {
+        return (event.ordinal() < this.counts.length) ? this.counts[event.ordinal()] : 0L;
+    }
+
+    /**
+     * Returns the last reported number of free short running threads.
+     * @return a number of threads, or {@link #UNKNOWN}
+     */
+    public long getShortRunningFree() {
+        return this.shortRunningFree;
+    }
+
+    /**
+     * Returns the last reported number of free long running threads.
+     * @return a number of threads, or {@link #UNKNOWN}
+     */
+    public long getLongRunningFree() {
+        return this.longRunningFree;
+    }
+
+    /**
+     * Indicates whether the load of the associated work manager is known.
+     * @return true, if the queue size and average execution time are known, false otherwise
+     */
+    public boolean isLoadKnown() {
+        return this.queueSize != UNKNOWN;
+    }
+
+    /**
+     * Returns the number of tasks queued by the short running thread pool.
+     * @return a number of tasks, or {@link #UNKNOWN}
+     */
+    public int getQueueSize() {
+        return this.queueSize;
+    }
+
+    /**
+     * Returns the moving average of the execution time of tasks by the short running thread pool.
+     * @return an average execution time, or null, if unknown
+     */
+    public Duration getAverageExecutionTime() {
+        return (this.averageExecutionTime != UNKNOWN) ? Duration.ofNanos(this.averageExecutionTime) : null;
+    }
+
+    /**
+     * Returns the maximum number of threads of the short running thread pool.
+     * @return a number of threads, or 0, if unknown
+     */
+    public int getMaxThreads() {
+        return this.maxThreads;
+    }
+
+    /**
+     * Indicates whether the load described by these statistics differs significantly from the load described by the specified statistics,
+     * i.e. whether the queue became empty or non-empty, whether the maximum number of threads changed, or whether the queue size or the average execution time changed by more than {@value #LOAD_CHANGE_THRESHOLD_PERCENT}%.
+     * @param statistics previous statistics of the same work manager
+     * @return true, if the load changed significantly, false otherwise
+     */
+    boolean isLoadChanged(DistributedWorkStatistics statistics) {
+        if (this.isLoadKnown() != statistics.isLoadKnown()) {
+            return true;
+        }
+        if (!this.isLoadKnown()) {
+            return false;
+        }
+        if (((this.queueSize == 0) != (statistics.queueSize == 0)) || (this.maxThreads != statistics.maxThreads)) {
+            return true;
+        }
+        return isChanged(this.queueSize, statistics.queueSize) || isChanged(this.averageExecutionTime, statistics.averageExecutionTime);
+    }
+
+    private static boolean isChanged(long value, long previous) {
+        return Math.abs(value - previous) * 100 > Math.max(value, previous) * LOAD_CHANGE_THRESHOLD_PERCENT;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(this.counts), this.shortRunningFree, this.longRunningFree, this.queueSize, this.averageExecutionTime, this.maxThreads);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof DistributedWorkStatistics)) {
+            return false;
+        }
+        DistributedWorkStatistics statistics = (DistributedWorkStatistics) object;
+        return Arrays.equals(this.counts, statistics.counts) && (this.shortRunningFree == statistics.shortRunningFree) && (this.longRunningFree == statistics.longRunningFree) && (this.queueSize == statistics.queueSize) && (this.averageExecutionTime == statistics.averageExecutionTime) && (this.maxThreads == statistics.maxThreads);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(counts=%s, short-running-free=%d, long-running-free=%d, queue-size=%d, average-execution-time=%d)", this.getClass().getSimpleName(), Arrays.toString(this.counts), this.shortRunningFree, this.longRunningFree, this.queueSize, this.averageExecutionTime, this.maxThreads);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.util.Map;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.wildfly.clustering.dispatcher.Command;
+import org.wildfly.clustering.group.Node;
+
+/**
+ * Periodically broadcast snapshot of the work statistics recorded by a single member, replacing the per-event delta and free thread update commands.
+ * @author agent
+ */
+public class GossipStatisticsCommand implements Command<Void, CommandDispatcherTransport> {
+    private static final long serialVersionUID = -6371939627474931203L;
+
+    private final Node member;
+    private final long version;
+    private final Map<Address, DistributedWorkStatistics> statistics;
+
+    public GossipStatisticsCommand(Node member, long version, Map<Address, DistributedWorkStatistics> statistics) {
+        this.member = member;
+        this.version = version;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Void execute(CommandDispatcherTransport transport) {
+        transport.receiveStatistics(this.member, this.version, this.statistics);
+        return null;
+    }
+}
@@ -30,6 +30,7 @@ import java.util.concurrent.Executor;
 
 import org.jboss.as.connector.services.workmanager.DistributedWorkManagerService;
 import org.jboss.as.connector.services.workmanager.NamedDistributedWorkManager;
+import org.jboss.as.connector.services.workmanager.selector.LoadAware;
 import org.jboss.as.connector.services.workmanager.statistics.DistributedWorkManagerStatisticsService;
 import org.jboss.as.connector.services.workmanager.statistics.WorkManagerStatisticsService;
 import org.jboss.as.connector.subsystems.resourceadapters.IronJacamarResource;
@@ -127,6 +128,10 @@ public class DistributedWorkManagerAdd extends AbstractAddStepHandler {
                     namedDistributedWorkManager.setSelector(new PingTime());
                     break;
                 }
+                case LOAD_AWARE: {
+                    namedDistributedWorkManager.setSelector(new LoadAware());
+                    break;
+                }
                 default:
                     throw ROOT_LOGGER.unsupportedSelector(selector);
             }
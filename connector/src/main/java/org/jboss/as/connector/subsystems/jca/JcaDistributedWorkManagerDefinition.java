@@ -196,6 +196,7 @@ public class JcaDistributedWorkManagerDefinition extends SimpleResourceDefinitio
     public enum SelectorValue {
         FIRST_AVAILABLE,
         PING_TIME,
-        MAX_FREE_THREADS
+        MAX_FREE_THREADS,
+        LOAD_AWARE
     }
 }
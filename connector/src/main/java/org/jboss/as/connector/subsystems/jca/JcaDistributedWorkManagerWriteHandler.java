@@ -27,6 +27,7 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_
 
 import org.jboss.as.connector.logging.ConnectorLogger;
 import org.jboss.as.connector.services.workmanager.NamedDistributedWorkManager;
+import org.jboss.as.connector.services.workmanager.selector.LoadAware;
 import org.jboss.as.connector.util.ConnectorServices;
 import org.jboss.as.connector.util.Injection;
 import org.jboss.as.controller.AbstractWriteAttributeHandler;
@@ -100,6 +101,10 @@ public class JcaDistributedWorkManagerWriteHandler extends AbstractWriteAttribut
                     namedDistributedWorkManager.setSelector(new PingTime());
                     break;
                 }
+                case LOAD_AWARE: {
+                    namedDistributedWorkManager.setSelector(new LoadAware());
+                    break;
+                }
                 default: {
                     throw ROOT_LOGGER.unsupportedSelector(resolvedValue.asString());
                 }
@@ -80,7 +80,7 @@ public class JcaExtension implements Extension {
 
     public static final String SUBSYSTEM_NAME = "jca";
 
-    private static final ModelVersion CURRENT_MODEL_VERSION = ModelVersion.create(6, 0, 0);
+    private static final ModelVersion CURRENT_MODEL_VERSION = ModelVersion.create(7, 0, 0);
 
     private static final String RESOURCE_NAME = JcaExtension.class.getPackage().getName() + ".LocalDescriptions";
 
@@ -114,6 +114,7 @@ public class JcaExtension implements Extension {
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_4_0.getUriString(), () -> ConnectorSubsystemParser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_5_0.getUriString(), () -> ConnectorSubsystemParser.INSTANCE);
         context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_6_0.getUriString(), () -> ConnectorSubsystemParser.INSTANCE);
+        context.setSubsystemXmlMapping(SUBSYSTEM_NAME, Namespace.JCA_7_0.getUriString(), () -> ConnectorSubsystemParser.INSTANCE);
     }
 
     static final class ConnectorSubsystemParser implements XMLStreamConstants, XMLElementReader<List<ModelNode>>,
@@ -326,6 +327,7 @@ public class JcaExtension implements Extension {
             while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
                 Namespace readerNs = Namespace.forUri(reader.getNamespaceURI());
                 switch (readerNs) {
+                    case JCA_7_0:
                     case JCA_6_0:
                     case JCA_5_0:
                     case JCA_4_0:
@@ -388,7 +390,8 @@ public class JcaExtension implements Extension {
                                 if (Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_3_0) ||
                                     Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_4_0) ||
                                     Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_5_0) ||
-                                    Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_6_0))
+                                    Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_6_0) ||
+                                    Namespace.forUri(reader.getNamespaceURI()).equals(Namespace.JCA_7_0))
                                 {
                                     list.add(parseTracer(reader, address));
                                 } else {
@@ -529,7 +532,8 @@ public class JcaExtension implements Extension {
                     case ELYTRON_ENABLED: {
                         switch (readerNS) {
                             case JCA_5_0:
-                            case JCA_6_0: {
+                            case JCA_6_0:
+                            case JCA_7_0: {
                                 String value = rawElementText(reader);
                                 JcaWorkManagerDefinition.WmParameters.ELYTRON_ENABLED.getAttribute().parseAndSetParameter(value, workManagerOperation, reader);
                                 break;
@@ -611,7 +615,8 @@ public class JcaExtension implements Extension {
                             case JCA_3_0:
                             case JCA_4_0:
                             case JCA_5_0:
-                            case JCA_6_0:{
+                            case JCA_6_0:
+                            case JCA_7_0:{
                                 parsePolicy(reader, distributedWorkManagerOperation);
                                 break;
                             }
@@ -627,7 +632,8 @@ public class JcaExtension implements Extension {
                             case JCA_3_0:
                             case JCA_4_0:
                             case JCA_5_0:
-                            case JCA_6_0:{
+                            case JCA_6_0:
+                            case JCA_7_0:{
                                 parseSelector(reader, distributedWorkManagerOperation);
                                 break;
                             }
@@ -641,6 +647,7 @@ public class JcaExtension implements Extension {
                         switch (readerNS) {
                             case JCA_5_0:
                             case JCA_6_0:
+                            case JCA_7_0:
                             {
                                 String value = rawElementText(reader);
                                 ((SimpleAttributeDefinition) JcaDistributedWorkManagerDefinition.DWmParameters.ELYTRON_ENABLED.getAttribute()).parseAndSetParameter(value, distributedWorkManagerOperation, reader);
@@ -30,8 +30,10 @@ import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
 import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
 import org.jboss.as.controller.transform.description.AttributeConverter;
 import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.jboss.dmr.ModelNode;
 
 public class JcaTransformers implements ExtensionTransformerRegistration {
 
@@ -62,6 +64,8 @@ public class JcaTransformers implements ExtensionTransformerRegistration {
             .getAttributeBuilder()
                 .setValueConverter(AttributeConverter.DEFAULT_VALUE,
                         JcaDistributedWorkManagerDefinition.DWmParameters.ELYTRON_ENABLED.getAttribute())
+                .addRejectCheck(new RejectAttributeChecker.SimpleRejectAttributeChecker(new ModelNode(JcaDistributedWorkManagerDefinition.SelectorValue.LOAD_AWARE.name())),
+                        JcaDistributedWorkManagerDefinition.DWmParameters.SELECTOR.getAttribute())
                 .end();
     }
 
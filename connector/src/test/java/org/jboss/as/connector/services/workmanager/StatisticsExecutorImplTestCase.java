@@ -0,0 +1,155 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.threads.BlockingExecutor;
+import org.junit.Test;
+
+/**
+ * Unit test for the queue size and execution time tracking of {@link StatisticsExecutorImpl}.
+ * @author agent
+ */
+public class StatisticsExecutorImplTestCase {
+
+    private final BlockingExecutor executor = mock(BlockingExecutor.class);
+    private final StatisticsExecutorImpl subject = new StatisticsExecutorImpl(this.executor);
+
+    @Test
+    public void queueSize() throws InterruptedException {
+        List<Runnable> tasks = new ArrayList<>();
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(this.executor).execute(any());
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(this.executor).executeBlocking(any());
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(this.executor).executeBlocking(any(), anyLong(), any());
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(this.executor).executeNonBlocking(any());
+
+        assertEquals(0, this.subject.getQueueSize());
+
+        // Submitted tasks are queued until they start
+        this.subject.execute(mock(Runnable.class));
+        this.subject.executeBlocking(mock(Runnable.class));
+        this.subject.executeBlocking(mock(Runnable.class), 1L, TimeUnit.SECONDS);
+        this.subject.executeNonBlocking(mock(Runnable.class));
+        assertEquals(4, this.subject.getQueueSize());
+
+        tasks.get(0).run();
+        assertEquals(3, this.subject.getQueueSize());
+
+        // A failed task is no longer queued
+        Runnable failing = mock(Runnable.class);
+        doThrow(IllegalStateException.class).when(failing).run();
+        this.subject.execute(failing);
+        assertEquals(4, this.subject.getQueueSize());
+        try {
+            tasks.get(4).run();
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals(3, this.subject.getQueueSize());
+        }
+
+        for (Runnable task : tasks.subList(1, 4)) {
+            task.run();
+        }
+        assertEquals(0, this.subject.getQueueSize());
+    }
+
+    @Test
+    public void rejected() throws InterruptedException {
+        doThrow(RejectedExecutionException.class).when(this.executor).execute(any());
+        doThrow(RejectedExecutionException.class).when(this.executor).executeBlocking(any());
+        doThrow(InterruptedException.class).when(this.executor).executeBlocking(any(), anyLong(), any());
+        doThrow(RejectedExecutionException.class).when(this.executor).executeNonBlocking(any());
+
+        // Rejected tasks are never queued
+        try {
+            this.subject.execute(mock(Runnable.class));
+            fail();
+        } catch (RejectedExecutionException e) {
+            assertEquals(0, this.subject.getQueueSize());
+        }
+        try {
+            this.subject.executeBlocking(mock(Runnable.class));
+            fail();
+        } catch (RejectedExecutionException e) {
+            assertEquals(0, this.subject.getQueueSize());
+        }
+        try {
+            this.subject.executeBlocking(mock(Runnable.class), 1L, TimeUnit.SECONDS);
+            fail();
+        } catch (InterruptedException e) {
+            assertEquals(0, this.subject.getQueueSize());
+        }
+        try {
+            this.subject.executeNonBlocking(mock(Runnable.class));
+            fail();
+        } catch (RejectedExecutionException e) {
+            assertEquals(0, this.subject.getQueueSize());
+        }
+    }
+
+    @Test
+    public void averageExecutionTime() {
+        List<Runnable> tasks = new ArrayList<>();
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(this.executor).execute(any());
+
+        assertEquals(Duration.ZERO, this.subject.getAverageExecutionTime());
+
+        // The first execution seeds the moving average
+        this.subject.execute(() -> sleep(Duration.ofMillis(50)));
+        tasks.get(0).run();
+        Duration seed = this.subject.getAverageExecutionTime();
+        assertTrue(seed.toString(), seed.compareTo(Duration.ofMillis(50)) >= 0);
+
+        // A fast execution moves the average by 1/8 of the difference
+        this.subject.execute(() -> { });
+        tasks.get(1).run();
+        Duration average = this.subject.getAverageExecutionTime();
+        assertTrue(average.toString(), average.compareTo(seed) < 0);
+        assertTrue(average.toString(), average.compareTo(seed.multipliedBy(7).dividedBy(8)) >= 0);
+
+        // The contribution of the seed decays with subsequent fast executions
+        for (int i = 0; i < 50; ++i) {
+            this.subject.execute(() -> { });
+            tasks.get(i + 2).run();
+        }
+        average = this.subject.getAverageExecutionTime();
+        assertTrue(average.toString(), average.compareTo(Duration.ofMillis(1)) < 0);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
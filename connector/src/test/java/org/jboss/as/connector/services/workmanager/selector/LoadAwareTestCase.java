@@ -0,0 +1,209 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager.selector;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.jboss.as.connector.services.workmanager.WorkLoad;
+import org.jboss.as.connector.services.workmanager.transport.CommandDispatcherTransport;
+import org.jboss.as.connector.services.workmanager.transport.DistributedWorkStatistics;
+import org.jboss.jca.core.api.workmanager.DistributedWorkManager;
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.spi.workmanager.transport.Transport;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LoadAware}.
+ * @author agent
+ */
+public class LoadAwareTestCase {
+
+    private final DistributedWorkManager manager = mock(DistributedWorkManager.class);
+    private final CommandDispatcherTransport transport = mock(CommandDispatcherTransport.class);
+    private final Address ownAddress = new Address("workmanager", "default", "local");
+    private final Address remoteAddress = new Address("workmanager", "default", "remote");
+    private final LoadAware selector = new LoadAware();
+
+    @Before
+    public void init() {
+        when(this.manager.getTransport()).thenReturn(this.transport);
+        this.selector.setDistributedWorkManager(this.manager);
+    }
+
+    @Test
+    public void unsupportedTransport() {
+        when(this.manager.getTransport()).thenReturn(mock(Transport.class));
+
+        assertSame(this.ownAddress, this.selector.selectDistributedWorkManager(this.ownAddress, null));
+    }
+
+    @Test
+    public void idleLocal() {
+        this.setLocalLoad(0, 2L, Duration.ofMillis(10));
+        this.setRemoteStatistics(Map.of(this.remoteAddress, createStatistics(0, 5L, Duration.ofMillis(1))));
+
+        // Both start immediately, so local execution wins the tie
+        assertSame(this.ownAddress, this.selector.selectDistributedWorkManager(this.ownAddress, null));
+    }
+
+    @Test
+    public void overloadedLocal() {
+        this.setLocalLoad(4, 0L, Duration.ofMillis(10));
+        this.setRemoteStatistics(Map.of(this.remoteAddress, createStatistics(1, 0L, Duration.ofMillis(10))));
+
+        assertEquals(this.remoteAddress, this.selector.selectDistributedWorkManager(this.ownAddress, null));
+
+        // A remote node with a shorter queue, but slower executions, is not preferred
+        this.setRemoteStatistics(Map.of(this.remoteAddress, createStatistics(1, 0L, Duration.ofMillis(100))));
+
+        assertSame(this.ownAddress, this.selector.selectDistributedWorkManager(this.ownAddress, null));
+    }
+
+    @Test
+    public void leastLoadedRemote() {
+        Address otherAddress = new Address("workmanager", "default", "other");
+        this.setLocalLoad(10, 0L, Duration.ofMillis(10));
+        this.setRemoteStatistics(Map.of(this.remoteAddress, createStatistics(3, 0L, Duration.ofMillis(10)), otherAddress, createStatistics(2, 0L, Duration.ofMillis(10))));
+
+        assertEquals(otherAddress, this.selector.selectDistributedWorkManager(this.ownAddress, null));
+    }
+
+    @Test
+    public void unknownLoad() {
+        // A remote node of unknown load is never preferred
+        this.setLocalLoad(10, 0L, Duration.ofMillis(10));
+        DistributedWorkStatistics unknown = mock(DistributedWorkStatistics.class);
+        when(unknown.isLoadKnown()).thenReturn(false);
+        this.setRemoteStatistics(Map.of(this.remoteAddress, unknown));
+
+        assertSame(this.ownAddress, this.selector.selectDistributedWorkManager(this.ownAddress, null));
+
+        // A remote node of known load is preferred if the local load is unknown
+        when(this.transport.getLocalWorkLoad(this.ownAddress)).thenReturn(null);
+        this.setRemoteStatistics(Map.of(this.remoteAddress, createStatistics(10, 0L, Duration.ofMillis(10))));
+
+        assertEquals(this.remoteAddress, this.selector.selectDistributedWorkManager(this.ownAddress, null));
+    }
+
+    @Test
+    public void maxThreads() {
+        // A remote node with a longer queue, but more threads, is preferred
+        this.setLocalLoad(2, 0L, Duration.ofMillis(10), 1);
+        this.setRemoteStatistics(Map.of(this.remoteAddress, createStatistics(8, 0L, Duration.ofMillis(10), 10)));
+
+        assertEquals(this.remoteAddress, this.selector.selectDistributedWorkManager(this.ownAddress, null));
+    }
+
+    @Test
+    public void dispatched() {
+        // Work dispatched since the last gossip is spread across remote nodes of equal load
+        Address otherAddress = new Address("workmanager", "default", "other");
+        this.setLocalLoad(10, 0L, Duration.ofMillis(10));
+        this.setRemoteStatistics(Map.of(this.remoteAddress, createStatistics(0, 1L, Duration.ofMillis(10)), otherAddress, createStatistics(0, 1L, Duration.ofMillis(10))));
+
+        Address first = this.selector.selectDistributedWorkManager(this.ownAddress, null);
+        Address second = this.selector.selectDistributedWorkManager(this.ownAddress, null);
+        assertNotEquals(this.ownAddress, first);
+        assertNotEquals(this.ownAddress, second);
+        assertNotEquals(first, second);
+
+        // Newer gossip supersedes the work dispatched to a node
+        this.setRemoteStatistics(Map.of(this.remoteAddress, createStatistics(0, 1L, Duration.ofMillis(10))));
+        assertEquals(this.remoteAddress, this.selector.selectDistributedWorkManager(this.ownAddress, null));
+
+        // ... and dispatched work fills its queue, until the local node is expected to be as fast
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(this.remoteAddress, this.selector.selectDistributedWorkManager(this.ownAddress, null));
+        }
+        assertSame(this.ownAddress, this.selector.selectDistributedWorkManager(this.ownAddress, null));
+    }
+
+    @Test
+    public void otherWorkManager() {
+        // Work managers with a different identifier are never selected
+        Address otherAddress = new Address("other", "default", "remote");
+        this.setLocalLoad(10, 0L, Duration.ofMillis(10));
+        this.setRemoteStatistics(Map.of(otherAddress, createStatistics(0, 5L, Duration.ofMillis(1))));
+
+        assertSame(this.ownAddress, this.selector.selectDistributedWorkManager(this.ownAddress, null));
+    }
+
+    @Test
+    public void expectedDelay() {
+        // A free thread starts work immediately
+        assertEquals(0d, LoadAware.expectedDelay(0, 1L, Duration.ofMillis(10), 1), 0d);
+        // Unknown free threads are assumed to be available
+        assertEquals(0d, LoadAware.expectedDelay(0, -1L, Duration.ofMillis(10), 1), 0d);
+        // Otherwise, work must wait for each queued instance and one executing instance
+        assertEquals(Duration.ofMillis(10).toNanos(), LoadAware.expectedDelay(0, 0L, Duration.ofMillis(10), 1), 0d);
+        assertEquals(Duration.ofMillis(30).toNanos(), LoadAware.expectedDelay(2, 5L, Duration.ofMillis(10), 1), 0d);
+        // ... on any of the threads of the work manager
+        assertEquals(Duration.ofMillis(3).toNanos(), LoadAware.expectedDelay(2, 0L, Duration.ofMillis(10), 10), 0d);
+        // An unknown thread count is assumed to be a single thread
+        assertEquals(Duration.ofMillis(30).toNanos(), LoadAware.expectedDelay(2, 0L, Duration.ofMillis(10), 0), 0d);
+        // Queue size still matters before any execution time is known
+        assertTrue(LoadAware.expectedDelay(2, 0L, Duration.ZERO, 1) > LoadAware.expectedDelay(1, 0L, Duration.ZERO, 1));
+
+        // Dispatched work first occupies free threads, then queues
+        DistributedWorkStatistics statistics = createStatistics(0, 2L, Duration.ofMillis(10));
+        assertEquals(0d, LoadAware.expectedDelay(statistics, 1), 0d);
+        assertEquals(Duration.ofMillis(10).toNanos(), LoadAware.expectedDelay(statistics, 2), 0d);
+        assertEquals(Duration.ofMillis(20).toNanos(), LoadAware.expectedDelay(statistics, 3), 0d);
+    }
+
+    private void setLocalLoad(int queueSize, long shortRunningFree, Duration averageExecutionTime) {
+        this.setLocalLoad(queueSize, shortRunningFree, averageExecutionTime, 1);
+    }
+
+    private void setLocalLoad(int queueSize, long shortRunningFree, Duration averageExecutionTime, int maxThreads) {
+        WorkLoad load = mock(WorkLoad.class);
+        when(load.getQueueSize()).thenReturn(queueSize);
+        when(load.getAverageExecutionTime()).thenReturn(averageExecutionTime);
+        when(load.getMaxThreads()).thenReturn(maxThreads);
+        when(this.transport.getLocalWorkLoad(this.ownAddress)).thenReturn(load);
+        when(this.transport.getLocalShortRunningFree(this.ownAddress)).thenReturn(shortRunningFree);
+    }
+
+    private void setRemoteStatistics(Map<Address, DistributedWorkStatistics> statistics) {
+        when(this.transport.getRemoteWorkStatistics()).thenReturn(statistics);
+    }
+
+    private static DistributedWorkStatistics createStatistics(int queueSize, long shortRunningFree, Duration averageExecutionTime) {
+        return createStatistics(queueSize, shortRunningFree, averageExecutionTime, 1);
+    }
+
+    private static DistributedWorkStatistics createStatistics(int queueSize, long shortRunningFree, Duration averageExecutionTime, int maxThreads) {
+        DistributedWorkStatistics statistics = mock(DistributedWorkStatistics.class);
+        when(statistics.getMaxThreads()).thenReturn(maxThreads);
+        when(statistics.isLoadKnown()).thenReturn(true);
+        when(statistics.getQueueSize()).thenReturn(queueSize);
+        when(statistics.getShortRunningFree()).thenReturn(shortRunningFree);
+        when(statistics.getAverageExecutionTime()).thenReturn(averageExecutionTime);
+        return statistics;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.as.connector.services.workmanager.WorkLoad;
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.junit.Before;
+import org.junit.Test;
+import org.wildfly.clustering.Registration;
+import org.wildfly.clustering.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.group.Group;
+import org.wildfly.clustering.group.Membership;
+import org.wildfly.clustering.group.Node;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+
+/**
+ * Unit test for the gossip and merging of statistics by {@link CommandDispatcherTransport}.
+ * @author agent
+ */
+public class CommandDispatcherTransportTestCase {
+
+    private final CommandDispatcherFactory factory = mock(CommandDispatcherFactory.class);
+    private final Group group = mock(Group.class);
+    private final Membership membership = mock(Membership.class);
+    private final Node localMember = mock(Node.class);
+    private final Node member1 = mock(Node.class);
+    private final Node member2 = mock(Node.class);
+    private final Address address = new Address("workmanager", "default", "member1");
+
+    private CommandDispatcherTransport transport;
+
+    @Before
+    public void init() {
+        when(this.factory.getGroup()).thenReturn(this.group);
+        when(this.group.getLocalMember()).thenReturn(this.localMember);
+        when(this.group.getMembership()).thenReturn(this.membership);
+        when(this.membership.getMembers()).thenReturn(List.of(this.localMember, this.member1, this.member2));
+
+        this.transport = spy(new CommandDispatcherTransport(this.factory, "test"));
+        doNothing().when(this.transport).localDelta(any(), any(), anyLong());
+        doNothing().when(this.transport).localUpdateShortRunningFree(any(), any());
+        doNothing().when(this.transport).localUpdateLongRunningFree(any(), any());
+    }
+
+    @Test
+    public void firstSnapshot() {
+        // The first snapshot of a member is applied in full
+        this.transport.receiveStatistics(this.member1, 1L, Map.of(this.address, createStatistics(3, 0, 4)));
+
+        verify(this.transport).localDelta(this.address, DistributedWorkEvent.DO_WORK_ACCEPTED, 3L);
+        verify(this.transport).localDelta(this.address, DistributedWorkEvent.WORK_SUCCESSFUL, 4L);
+        verify(this.transport, never()).localDelta(this.address, DistributedWorkEvent.DO_WORK_REJECTED, 0L);
+        verify(this.transport, times(2)).localDelta(any(), any(), anyLong());
+    }
+
+    @Test
+    public void subsequentSnapshots() {
+        this.transport.receiveStatistics(this.member1, 1L, Map.of(this.address, createStatistics(3, 0, 4)));
+        this.transport.receiveStatistics(this.member1, 2L, Map.of(this.address, createStatistics(5, 1, 4)));
+
+        // Subsequent snapshots are applied as deltas from the previous snapshot
+        verify(this.transport).localDelta(this.address, DistributedWorkEvent.DO_WORK_ACCEPTED, 2L);
+        verify(this.transport).localDelta(this.address, DistributedWorkEvent.DO_WORK_REJECTED, 1L);
+        verify(this.transport, times(4)).localDelta(any(), any(), anyLong());
+    }
+
+    @Test
+    public void staleSnapshots() {
+        this.transport.receiveStatistics(this.member1, 2L, Map.of(this.address, createStatistics(5, 0, 0)));
+        verify(this.transport).localDelta(this.address, DistributedWorkEvent.DO_WORK_ACCEPTED, 5L);
+
+        // Reordered and duplicate snapshots are ignored
+        this.transport.receiveStatistics(this.member1, 1L, Map.of(this.address, createStatistics(3, 0, 0)));
+        this.transport.receiveStatistics(this.member1, 2L, Map.of(this.address, createStatistics(5, 0, 0)));
+        verify(this.transport, times(1)).localDelta(any(), any(), anyLong());
+
+        // A lost snapshot is corrected by its successor
+        this.transport.receiveStatistics(this.member1, 4L, Map.of(this.address, createStatistics(9, 0, 0)));
+        verify(this.transport).localDelta(this.address, DistributedWorkEvent.DO_WORK_ACCEPTED, 4L);
+    }
+
+    @Test
+    public void membersAreIndependent() {
+        this.transport.receiveStatistics(this.member1, 3L, Map.of(this.address, createStatistics(3, 0, 0)));
+        // Versions are per member
+        this.transport.receiveStatistics(this.member2, 1L, Map.of(this.address, createStatistics(2, 0, 0)));
+
+        verify(this.transport).localDelta(this.address, DistributedWorkEvent.DO_WORK_ACCEPTED, 3L);
+        verify(this.transport).localDelta(this.address, DistributedWorkEvent.DO_WORK_ACCEPTED, 2L);
+    }
+
+    @Test
+    public void freeThreads() {
+        this.transport.receiveStatistics(this.member1, 1L, Map.of(this.address, createStatistics(0, 0, 0, 10L, DistributedWorkStatistics.UNKNOWN)));
+
+        verify(this.transport).localUpdateShortRunningFree(this.address, 10L);
+        verify(this.transport, never()).localUpdateLongRunningFree(any(), any());
+        assertEquals(10L, this.transport.getShortRunningFree(this.address));
+
+        // Unchanged free counts are not reapplied
+        this.transport.receiveStatistics(this.member1, 2L, Map.of(this.address, createStatistics(0, 0, 0, 10L, 5L)));
+
+        verify(this.transport, times(1)).localUpdateShortRunningFree(any(), any());
+        verify(this.transport).localUpdateLongRunningFree(this.address, 5L);
+        assertEquals(5L, this.transport.getLongRunningFree(this.address));
+    }
+
+    @Test
+    public void gossipEnabled() {
+        Address localAddress = new Address("workmanager", "default", "local");
+
+        // Events are not gossiped until every member gossips
+        this.transport.deltaDoWorkAccepted(localAddress);
+        assertFalse(this.transport.getWorkStatistics().containsKey(localAddress));
+
+        this.transport.receiveStatistics(this.member1, 1L, Map.of());
+        this.transport.deltaDoWorkAccepted(localAddress);
+        assertFalse(this.transport.getWorkStatistics().containsKey(localAddress));
+
+        this.transport.receiveStatistics(this.member2, 1L, Map.of());
+        this.transport.deltaDoWorkAccepted(localAddress);
+        this.transport.deltaDoWorkAccepted(localAddress);
+
+        DistributedWorkStatistics statistics = this.transport.getWorkStatistics().get(localAddress);
+        assertNotNull(statistics);
+        assertEquals(2L, statistics.getCount(DistributedWorkEvent.DO_WORK_ACCEPTED));
+    }
+
+    @Test
+    public void gossipLoad() throws Exception {
+        Address localAddress = new Address("workmanager", "default", "local");
+        CommandDispatcher<CommandDispatcherTransport> dispatcher = mock(CommandDispatcher.class);
+        WorkLoad load = mock(WorkLoad.class);
+        // Gossip manually
+        CommandDispatcherTransport transport = new CommandDispatcherTransport(this.factory, "test", Duration.ofHours(1));
+
+        when(this.factory.createCommandDispatcher(eq("test"), same(transport), any())).thenReturn(dispatcher);
+        when(this.group.register(transport)).thenReturn(mock(Registration.class));
+        when(load.getQueueSize()).thenReturn(0);
+        when(load.getAverageExecutionTime()).thenReturn(Duration.ofMillis(10));
+
+        transport.startup();
+        try {
+            // Registration of load is gossiped
+            transport.registerWorkLoad(localAddress, load);
+            transport.gossip();
+            verify(dispatcher, times(1)).executeOnGroup(isA(GossipStatisticsCommand.class), same(this.localMember));
+
+            // Unchanged load is not gossiped
+            transport.gossip();
+            verify(dispatcher, times(1)).executeOnGroup(isA(GossipStatisticsCommand.class), same(this.localMember));
+
+            // Insignificant change in average execution time is not gossiped
+            when(load.getAverageExecutionTime()).thenReturn(Duration.ofMillis(11));
+            transport.gossip();
+            verify(dispatcher, times(1)).executeOnGroup(isA(GossipStatisticsCommand.class), same(this.localMember));
+
+            // Significant change in average execution time is gossiped
+            when(load.getAverageExecutionTime()).thenReturn(Duration.ofMillis(20));
+            transport.gossip();
+            verify(dispatcher, times(2)).executeOnGroup(isA(GossipStatisticsCommand.class), same(this.localMember));
+
+            // Queue that is no longer empty is gossiped
+            when(load.getQueueSize()).thenReturn(1);
+            transport.gossip();
+            verify(dispatcher, times(3)).executeOnGroup(isA(GossipStatisticsCommand.class), same(this.localMember));
+
+            // Significant change in queue size is gossiped
+            when(load.getQueueSize()).thenReturn(10);
+            transport.gossip();
+            verify(dispatcher, times(4)).executeOnGroup(isA(GossipStatisticsCommand.class), same(this.localMember));
+
+            // Insignificant change in queue size is not gossiped
+            when(load.getQueueSize()).thenReturn(11);
+            transport.gossip();
+            verify(dispatcher, times(4)).executeOnGroup(isA(GossipStatisticsCommand.class), same(this.localMember));
+
+            // Free thread updates are always gossiped
+            transport.updateShortRunningFree(localAddress, 1L);
+            transport.gossip();
+            verify(dispatcher, times(5)).executeOnGroup(isA(GossipStatisticsCommand.class), same(this.localMember));
+
+            // Change in maximum thread count is gossiped
+            when(load.getMaxThreads()).thenReturn(10);
+            transport.gossip();
+            verify(dispatcher, times(6)).executeOnGroup(isA(GossipStatisticsCommand.class), same(this.localMember));
+            assertEquals(10, transport.getWorkStatistics().get(localAddress).getMaxThreads());
+        } finally {
+            transport.shutdown();
+        }
+    }
+
+    private static DistributedWorkStatistics createStatistics(long doWorkAccepted, long doWorkRejected, long workSuccessful) {
+        return createStatistics(doWorkAccepted, doWorkRejected, workSuccessful, DistributedWorkStatistics.UNKNOWN, DistributedWorkStatistics.UNKNOWN);
+    }
+
+    private static DistributedWorkStatistics createStatistics(long doWorkAccepted, long doWorkRejected, long workSuccessful, long shortRunningFree, long longRunningFree) {
+        long[] counts = new long[DistributedWorkEvent.values().length];
+        counts[DistributedWorkEvent.DO_WORK_ACCEPTED.ordinal()] = doWorkAccepted;
+        counts[DistributedWorkEvent.DO_WORK_REJECTED.ordinal()] = doWorkRejected;
+        counts[DistributedWorkEvent.WORK_SUCCESSFUL.ordinal()] = workSuccessful;
+        return new DistributedWorkStatistics(counts, shortRunningFree, longRunningFree, (int) DistributedWorkStatistics.UNKNOWN, DistributedWorkStatistics.UNKNOWN, 0);
+    }
+}
@@ -36,7 +36,9 @@ import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.model.test.FailedOperationTransformationConfig;
 import org.jboss.as.model.test.ModelTestControllerVersion;
+import org.jboss.as.model.test.ModelTestUtils;
 import org.jboss.as.model.test.SingleClassFilter;
 import org.jboss.as.naming.service.NamingService;
 import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
@@ -66,7 +68,7 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-jca_6_0.xsd";
+        return "schema/wildfly-jca_7_0.xsd";
     }
 
     @Override
@@ -208,6 +210,20 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
         mainServices.shutdown();
     }
 
+    @Test
+    public void testEAP74TransformationRejection() throws Exception {
+        ModelTestControllerVersion eap74ControllerVersion = ModelTestControllerVersion.EAP_7_4_0;
+        ModelVersion eap74ModelVersion = ModelVersion.create(5, 0, 0);
+        KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization());
+        KernelServices mainServices = initialKernelServices(builder, eap74ControllerVersion, eap74ModelVersion);
+
+        PathAddress subsystem = PathAddress.pathAddress("subsystem", "jca");
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig()
+                .addFailedAttribute(subsystem.append("distributed-workmanager", "MyDWM"), new LoadAwareSelectorConfig());
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, eap74ModelVersion, parse(getSubsystemXml("jca-reject.xml")), config);
+        mainServices.shutdown();
+    }
+
     /** WFLY-16478 Test legacy parser sets old default value for elytron-enabled */
     @Test
     public void testLegacyDefaultElytronEnabled() throws Exception {
@@ -231,6 +247,28 @@ public class JcaSubsystemTestCase extends AbstractSubsystemBaseTest {
         super.compareXml(configId, original, marshalled, true);
     }
 
+    private static class LoadAwareSelectorConfig extends FailedOperationTransformationConfig.AttributesPathAddressConfig<LoadAwareSelectorConfig> {
+
+        LoadAwareSelectorConfig() {
+            super(JcaDistributedWorkManagerDefinition.DWmParameters.SELECTOR.getAttribute().getName());
+        }
+
+        @Override
+        protected boolean isAttributeWritable(String attributeName) {
+            return true;
+        }
+
+        @Override
+        protected boolean checkValue(String attrName, ModelNode attribute, boolean isGeneratedWriteAttribute) {
+            return attribute.asString().equals(JcaDistributedWorkManagerDefinition.SelectorValue.LOAD_AWARE.name());
+        }
+
+        @Override
+        protected ModelNode correctValue(ModelNode toResolve, boolean isGeneratedWriteAttribute) {
+            return new ModelNode(JcaDistributedWorkManagerDefinition.SelectorValue.PING_TIME.name());
+        }
+    }
+
     private KernelServices initialKernelServices(KernelServicesBuilder builder, ModelTestControllerVersion controllerVersion, final ModelVersion modelVersion) throws Exception {
         LegacyKernelServicesInitializer initializer = builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), controllerVersion, modelVersion);
         String mavenGroupId = controllerVersion.getMavenGroupId();
@@ -116,7 +116,7 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
     private final String moduleName;
     private final String distinctName;
 
-    private final InvocationMetrics invocationMetrics = new InvocationMetrics();
+    private final InvocationMetrics invocationMetrics = new InvocationMetrics(EJBStatistics.getInstance()::isHistogramsEnabled);
     private final EJBSuspendHandlerService ejbSuspendHandlerService;
     private final ShutDownInterceptorFactory shutDownInterceptorFactory;
     private final TransactionSynchronizationRegistry transactionSynchronizationRegistry;
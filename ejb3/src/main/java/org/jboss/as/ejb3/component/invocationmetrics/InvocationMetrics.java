@@ -30,9 +30,14 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
 
 /**
+ * Invocation metrics of a component, recorded via striped accumulators such that concurrent invocations only contend on the number of concurrent invocations,
+ * and on its peak only when it grows.
+ * Latency histograms of execution time are additionally recorded per method, if enabled.
+ *
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
  */
 public class InvocationMetrics {
@@ -40,11 +45,17 @@ public class InvocationMetrics {
         final long invocations;
         final long executionTime;
         final long waitTime;
+        final LatencyHistogram.Snapshot executionTimeHistogram;
+        final long clonedInvocations;
+        final long passByReferenceInvocations;
 
-        private Values(final long invocations, final long waitTime, final long executionTime) {
+        private Values(final long invocations, final long waitTime, final long executionTime, final LatencyHistogram.Snapshot executionTimeHistogram, final long clonedInvocations, final long passByReferenceInvocations) {
             this.invocations = invocations;
             this.executionTime = executionTime;
             this.waitTime = waitTime;
+            this.executionTimeHistogram = executionTimeHistogram;
+            this.clonedInvocations = clonedInvocations;
+            this.passByReferenceInvocations = passByReferenceInvocations;
         }
 
         public long getExecutionTime() {
@@ -58,40 +69,110 @@ public class InvocationMetrics {
         public long getWaitTime() {
             return waitTime;
         }
+
+        /**
+         * Returns a snapshot of the execution time histogram, if histograms are enabled.
+         * @return a histogram snapshot, or null, if no histogram was recorded.
+         */
+        public LatencyHistogram.Snapshot getExecutionTimeHistogram() {
+            return executionTimeHistogram;
+        }
+
+        /**
+         * Returns the number of in-VM invocations via a remote view whose parameters required cloning.
+         * @return a number of invocations
+         */
+        public long getClonedInvocations() {
+            return clonedInvocations;
+        }
+
+        /**
+         * Returns the number of in-VM invocations via a remote view whose parameters were all passed by reference.
+         * @return a number of invocations
+         */
+        public long getPassByReferenceInvocations() {
+            return passByReferenceInvocations;
+        }
+    }
+
+    private static class Accumulator {
+        final LongAdder invocations = new LongAdder();
+        final LongAdder executionTime = new LongAdder();
+        final LongAdder waitTime = new LongAdder();
+        final LongAdder clonedInvocations = new LongAdder();
+        final LongAdder passByReferenceInvocations = new LongAdder();
+        // Created on demand, since histograms are optional
+        private volatile LatencyHistogram executionTimeHistogram;
+
+        void record(final long invocationWaitTime, final long invocationExecutionTime, final boolean histogram) {
+            invocations.increment();
+            waitTime.add(invocationWaitTime);
+            executionTime.add(invocationExecutionTime);
+            if (histogram) {
+                getExecutionTimeHistogram().record(invocationExecutionTime);
+            }
+        }
+
+        private LatencyHistogram getExecutionTimeHistogram() {
+            LatencyHistogram histogram = executionTimeHistogram;
+            if (histogram == null) {
+                synchronized (this) {
+                    histogram = executionTimeHistogram;
+                    if (histogram == null) {
+                        histogram = new LatencyHistogram();
+                        executionTimeHistogram = histogram;
+                    }
+                }
+            }
+            return histogram;
+        }
+
+        Values getValues() {
+            final LatencyHistogram histogram = executionTimeHistogram;
+            return new Values(invocations.sum(), waitTime.sum(), executionTime.sum(), (histogram != null) ? histogram.getSnapshot() : null, clonedInvocations.sum(), passByReferenceInvocations.sum());
+        }
     }
 
-    private final AtomicReference<Values> values = new AtomicReference<Values>(new Values(0, 0, 0));
+    private final BooleanSupplier histogramsEnabled;
+    private final Accumulator values = new Accumulator();
     private final AtomicLong concurrent = new AtomicLong(0);
     private final AtomicLong peakConcurrent = new AtomicLong(0);
 
-    private final ConcurrentMap<String, AtomicReference<Values>> methods = new ConcurrentHashMap<String, AtomicReference<Values>>();
+    private final ConcurrentMap<String, Accumulator> methods = new ConcurrentHashMap<String, Accumulator>();
+
+    public InvocationMetrics() {
+        this(() -> false);
+    }
+
+    /**
+     * Creates invocation metrics that record latency histograms while the specified condition holds.
+     * @param histogramsEnabled indicates whether histograms should be recorded
+     */
+    public InvocationMetrics(final BooleanSupplier histogramsEnabled) {
+        this.histogramsEnabled = histogramsEnabled;
+    }
 
     void finishInvocation(final Method method, final long invocationWaitTime, final long invocationExecutionTime) {
         concurrent.decrementAndGet();
-        for(;;) {
-            final Values oldv = values.get();
-            final Values newv = new Values(oldv.invocations + 1, oldv.waitTime + invocationWaitTime, oldv.executionTime + invocationExecutionTime);
-            if (values.compareAndSet(oldv, newv))
-                break;
-        }
-        final AtomicReference<Values> methodValues = ref(methods, method.getName());
-        for (;;) {
-            final Values oldv = methodValues.get();
-            final Values newv = new Values(oldv.invocations + 1, oldv.waitTime + invocationWaitTime, oldv.executionTime + invocationExecutionTime);
-            if (methodValues.compareAndSet(oldv, newv))
-                break;
-        }
+        final boolean histogram = histogramsEnabled.getAsBoolean();
+        values.record(invocationWaitTime, invocationExecutionTime, histogram);
+        accumulator(methods, method.getName()).record(invocationWaitTime, invocationExecutionTime, histogram);
     }
 
-    private static AtomicReference<Values> ref(final ConcurrentMap<String, AtomicReference<Values>> map, final String key) {
-        AtomicReference<Values> ref = map.get(key);
-        if (ref == null) {
-            ref = new AtomicReference<Values>(new Values(0, 0, 0));
-            final AtomicReference<Values> prevRef = map.putIfAbsent(key, ref);
-            if (prevRef != null)
-                ref = prevRef;
-        }
-        return ref;
+    /**
+     * Records whether the parameters of an in-VM invocation of the specified method via a remote view were cloned or passed by reference.
+     * @param method the invoked method
+     * @param cloned indicates whether any parameter required cloning
+     */
+    public void recordParameterCloning(final Method method, final boolean cloned) {
+        final Accumulator accumulator = accumulator(methods, method.getName());
+        (cloned ? accumulator.clonedInvocations : accumulator.passByReferenceInvocations).increment();
+    }
+
+    private static Accumulator accumulator(final ConcurrentMap<String, Accumulator> map, final String key) {
+        // Avoid the locking of computeIfAbsent(...) for existing entries
+        final Accumulator accumulator = map.get(key);
+        return (accumulator != null) ? accumulator : map.computeIfAbsent(key, k -> new Accumulator());
     }
 
     public long getConcurrent() {
@@ -99,11 +180,20 @@ public class InvocationMetrics {
     }
 
     public long getExecutionTime() {
-        return values.get().executionTime;
+        return values.executionTime.sum();
+    }
+
+    /**
+     * Returns a snapshot of the execution time histogram across all methods, if histograms are enabled.
+     * @return a histogram snapshot, or null, if no histogram was recorded.
+     */
+    public LatencyHistogram.Snapshot getExecutionTimeHistogram() {
+        final LatencyHistogram histogram = values.executionTimeHistogram;
+        return (histogram != null) ? histogram.getSnapshot() : null;
     }
 
     public long getInvocations() {
-        return values.get().invocations;
+        return values.invocations.sum();
     }
 
     public Map<String, Values> getMethods() {
@@ -113,7 +203,7 @@ public class InvocationMetrics {
                 return new AbstractSet<Entry<String, Values>>() {
                     @Override
                     public Iterator<Entry<String, Values>> iterator() {
-                        final Iterator<Entry<String, AtomicReference<Values>>> delegate = methods.entrySet().iterator();
+                        final Iterator<Entry<String, Accumulator>> delegate = methods.entrySet().iterator();
                         return new Iterator<Entry<String, Values>>() {
                             @Override
                             public boolean hasNext() {
@@ -122,7 +212,7 @@ public class InvocationMetrics {
 
                             @Override
                             public Entry<String, Values> next() {
-                                final Entry<String, AtomicReference<Values>> next = delegate.next();
+                                final Entry<String, Accumulator> next = delegate.next();
                                 return new Entry<String, Values>() {
                                     @Override
                                     public String getKey() {
@@ -131,7 +221,7 @@ public class InvocationMetrics {
 
                                     @Override
                                     public Values getValue() {
-                                        return next.getValue().get();
+                                        return next.getValue().getValues();
                                     }
 
                                     @Override
@@ -162,13 +252,18 @@ public class InvocationMetrics {
     }
 
     public long getWaitTime() {
-        return values.get().waitTime;
+        return values.waitTime.sum();
     }
 
     void startInvocation() {
         final long v = concurrent.incrementAndGet();
-        // concurrent might decrement here, but we take that missing peak for granted.
-        if (peakConcurrent.get() < v)
-            peakConcurrent.incrementAndGet();
+        // Only write the peak if it increases
+        long peak = peakConcurrent.get();
+        while (peak < v) {
+            if (peakConcurrent.compareAndSet(peak, v)) {
+                break;
+            }
+            peak = peakConcurrent.get();
+        }
     }
 }
@@ -0,0 +1,133 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.invocationmetrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of latencies, using log-linear buckets in the style of HdrHistogram.
+ * Each power of 2 is divided into {@value #SUB_BUCKETS} linear sub-buckets, bounding the relative error of any reported value to 1/{@value #SUB_BUCKETS}.
+ * Buckets are striped accumulators created on demand, so recording a value neither blocks nor allocates once its bucket exists.
+ *
+ * @author agent
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values beyond 2^36 ms (> 2 years) are recorded in the last bucket
+    private static final int MAX_EXPONENT = 36;
+    static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKETS = index(MAX_VALUE) + 1;
+
+    private final AtomicReferenceArray<LongAdder> buckets = new AtomicReferenceArray<>(BUCKETS);
+
+    /**
+     * Records the specified value.
+     * @param value a non-negative latency
+     */
+    public void record(long value) {
+        int index = index(Math.min(Math.max(value, 0L), MAX_VALUE));
+        LongAdder bucket = this.buckets.get(index);
+        if (bucket == null) {
+            LongAdder newBucket = new LongAdder();
+            bucket = this.buckets.compareAndSet(index, null, newBucket) ? newBucket : this.buckets.get(index);
+        }
+        bucket.increment();
+    }
+
+    /**
+     * Returns a point-in-time snapshot of this histogram.
+     * @return a histogram snapshot
+     */
+    public Snapshot getSnapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; ++i) {
+            LongAdder bucket = this.buckets.get(i);
+            if (bucket != null) {
+                counts[i] = bucket.sum();
+            }
+        }
+        return new Snapshot(counts);
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Returns the highest value that maps to the bucket with the specified index.
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = ((long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1)))) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * An immutable snapshot of a {@link LatencyHistogram}.
+     */
+    public static class Snapshot {
+        private final long[] counts;
+        private final long count;
+
+        Snapshot(long[] counts) {
+            this.counts = counts;
+            long count = 0;
+            for (long bucketCount : counts) {
+                count += bucketCount;
+            }
+            this.count = count;
+        }
+
+        /**
+         * Returns the number of recorded values.
+         * @return the number of recorded values
+         */
+        public long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Returns the value below which the specified percentage of recorded values fall.
+         * @param percentile a percentile between 0 and 100
+         * @return the value at the specified percentile, or 0 if no values were recorded.
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (this.count == 0) return 0;
+            long rank = Math.max(1L, (long) Math.ceil(this.count * Math.min(Math.max(percentile, 0d), 100d) / 100d));
+            long total = 0;
+            for (int i = 0; i < this.counts.length; ++i) {
+                total += this.counts[i];
+                if (total >= rank) {
+                    return highestEquivalentValue(i);
+                }
+            }
+            return highestEquivalentValue(this.counts.length - 1);
+        }
+    }
+}
@@ -50,11 +50,15 @@ public class StrictMaxPoolConfigService implements Service<StrictMaxPoolConfig>
 
 
     public StrictMaxPoolConfigService(final Consumer<StrictMaxPoolConfig> configConsumer, final Supplier<Integer> maxThreadsSupplier, final String poolName, int declaredMaxSize, Derive derive, long timeout, TimeUnit timeUnit) {
+        this(configConsumer, maxThreadsSupplier, poolName, declaredMaxSize, derive, timeout, timeUnit, StrictMaxPoolConfig.DEFAULT_STRIPED);
+    }
+
+    public StrictMaxPoolConfigService(final Consumer<StrictMaxPoolConfig> configConsumer, final Supplier<Integer> maxThreadsSupplier, final String poolName, int declaredMaxSize, Derive derive, long timeout, TimeUnit timeUnit, boolean striped) {
         this.configConsumer = configConsumer;
         this.maxThreadsSupplier = maxThreadsSupplier;
         this.declaredMaxSize = declaredMaxSize;
         this.derive = derive;
-        this.poolConfig = new StrictMaxPoolConfig(poolName, declaredMaxSize, timeout, timeUnit);
+        this.poolConfig = new StrictMaxPoolConfig(poolName, declaredMaxSize, timeout, timeUnit, striped);
     }
 
     @Override
@@ -119,4 +123,8 @@ public class StrictMaxPoolConfigService implements Service<StrictMaxPoolConfig>
     public void setTimeoutUnit(TimeUnit timeUnit) {
         poolConfig.setTimeoutUnit(timeUnit);
     }
+
+    public void setStriped(boolean striped) {
+        poolConfig.setStriped(striped);
+    }
 }
@@ -57,6 +57,30 @@ public interface StatefulSessionBeanCache<K, V extends StatefulSessionBeanInstan
         return true;
     }
 
+    /**
+     * Returns the number of beans activated by this cache.
+     * @return a number of activations
+     */
+    default long getActivationCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of beans passivated by this cache.
+     * @return a number of passivations
+     */
+    default long getPassivationCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of bytes of local memory retained by passivated beans.
+     * @return a number of bytes
+     */
+    default long getPassivatedMemorySize() {
+        return 0;
+    }
+
     /**
      * Returns the identifier factory of this cache.
      * @return an identifier factory
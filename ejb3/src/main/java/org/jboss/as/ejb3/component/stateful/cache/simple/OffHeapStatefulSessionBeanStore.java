@@ -0,0 +1,215 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local store of passivated stateful session beans, whose marshalled state is retained off-heap.
+ * Rather than allocating a direct buffer per bean, whose allocation is costly and whose release awaits garbage collection,
+ * marshalled state is copied into fixed size chunks of direct memory slabs, which are allocated on demand and pooled for reuse by subsequently passivated beans.
+ * The total size of the allocated slabs is bounded, so that passivation cannot exhaust direct memory.
+ * @author agent
+ * @param <K> the bean identifier type
+ */
+public class OffHeapStatefulSessionBeanStore<K> {
+
+    static final int CHUNK_SIZE = 1024;
+    private static final int CHUNKS_PER_SLAB = 1024;
+
+    private final Map<K, Entry> entries = new ConcurrentHashMap<>();
+    private final long maxChunks;
+    // Allocated slabs, and the indexes of their free chunks, guarded by this store
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private int[] freeChunks = new int[0];
+    private int freeCount = 0;
+    private long usedChunks = 0L;
+
+    /**
+     * Creates a store of passivated beans.
+     * @param maxMemorySize the maximum number of bytes of off-heap memory retained by this store
+     */
+    public OffHeapStatefulSessionBeanStore(long maxMemorySize) {
+        this.maxChunks = Math.min(maxMemorySize / CHUNK_SIZE, (long) Integer.MAX_VALUE);
+    }
+
+    /**
+     * Stores the specified marshalled bean state, copying it to off-heap memory, unless this would exceed the maximum memory size of this store.
+     * @param id a bean identifier
+     * @param buffer the marshalled state of a bean
+     * @return true, if the bean state was stored, false if this store lacks sufficient capacity
+     */
+    public boolean put(K id, ByteBuffer buffer) {
+        int size = buffer.remaining();
+        int[] chunks = this.allocate((size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        if (chunks == null) return false;
+        // Chunks are exclusively owned until freed, so copy without holding the lock of this store
+        ByteBuffer source = buffer.duplicate();
+        for (int chunk : chunks) {
+            int length = Math.min(source.remaining(), CHUNK_SIZE);
+            ByteBuffer target = this.chunk(chunk);
+            ByteBuffer slice = source.duplicate();
+            slice.limit(slice.position() + length);
+            target.put(slice);
+            source.position(source.position() + length);
+        }
+        Entry previous = this.entries.put(id, new Entry(chunks, size));
+        if (previous != null) {
+            this.free(previous.chunks);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the marshalled state of the specified bean, copied to a heap buffer.
+     * The state is retained by this store until {@link #discard(Object) discarded}.
+     * @param id a bean identifier
+     * @return the marshalled state of the bean, or null, if no such bean was passivated
+     */
+    public ByteBuffer get(K id) {
+        Entry entry = this.entries.get(id);
+        if (entry == null) return null;
+        byte[] bytes = new byte[entry.size];
+        int offset = 0;
+        for (int chunk : entry.chunks) {
+            int length = Math.min(entry.size - offset, CHUNK_SIZE);
+            this.chunk(chunk).get(bytes, offset, length);
+            offset += length;
+        }
+        // Chunks are only freed once their entry is removed, so the copy is valid if the entry remains
+        return (this.entries.get(id) == entry) ? ByteBuffer.wrap(bytes) : null;
+    }
+
+    /**
+     * Discards the marshalled state of all passivated beans, and releases the off-heap memory of this store.
+     */
+    public void clear() {
+        this.entries.keySet().forEach(this::discard);
+        synchronized (this) {
+            if (this.usedChunks == 0L) {
+                this.slabs.clear();
+                this.freeChunks = new int[0];
+                this.freeCount = 0;
+            }
+        }
+    }
+
+    /**
+     * Discards the marshalled state of the specified bean.
+     * @param id a bean identifier
+     */
+    public void discard(K id) {
+        Entry entry = this.entries.remove(id);
+        if (entry != null) {
+            this.free(entry.chunks);
+        }
+    }
+
+    /**
+     * Returns the number of passivated beans.
+     * @return a number of beans
+     */
+    public int getCount() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the number of bytes of off-heap memory retained by passivated beans.
+     * @return a number of bytes
+     */
+    public synchronized long getMemorySize() {
+        return this.usedChunks * CHUNK_SIZE;
+    }
+
+    /**
+     * Allocates the specified number of chunks, allocating additional slabs as necessary.
+     * @return the indexes of the allocated chunks, or null, if this store lacks sufficient capacity
+     */
+    private synchronized int[] allocate(int count) {
+        if (this.usedChunks + count > this.maxChunks) return null;
+        while (this.freeCount < count) {
+            long allocatedChunks = (long) this.slabs.size() * CHUNKS_PER_SLAB;
+            int slabChunks = (int) Math.min(this.maxChunks - allocatedChunks, CHUNKS_PER_SLAB);
+            ByteBuffer slab;
+            try {
+                slab = ByteBuffer.allocateDirect(slabChunks * CHUNK_SIZE);
+            } catch (OutOfMemoryError e) {
+                // Direct memory of the JVM is exhausted
+                return null;
+            }
+            int first = this.slabs.size() * CHUNKS_PER_SLAB;
+            this.slabs.add(slab);
+            // Free list must accommodate every allocated chunk
+            if (this.freeChunks.length < allocatedChunks + slabChunks) {
+                int[] freeChunks = new int[(int) allocatedChunks + slabChunks];
+                System.arraycopy(this.freeChunks, 0, freeChunks, 0, this.freeCount);
+                this.freeChunks = freeChunks;
+            }
+            // Push in descending order, so that chunks are allocated in ascending order
+            for (int i = slabChunks - 1; i >= 0; --i) {
+                this.freeChunks[this.freeCount++] = first + i;
+            }
+        }
+        int[] chunks = new int[count];
+        for (int i = 0; i < count; ++i) {
+            chunks[i] = this.freeChunks[--this.freeCount];
+        }
+        this.usedChunks += count;
+        return chunks;
+    }
+
+    private synchronized void free(int[] chunks) {
+        for (int chunk : chunks) {
+            this.freeChunks[this.freeCount++] = chunk;
+        }
+        this.usedChunks -= chunks.length;
+    }
+
+    /**
+     * Returns a buffer spanning the specified chunk.
+     */
+    private ByteBuffer chunk(int chunk) {
+        ByteBuffer slab;
+        synchronized (this) {
+            slab = this.slabs.get(chunk / CHUNKS_PER_SLAB);
+        }
+        ByteBuffer buffer = slab.duplicate();
+        int offset = (chunk % CHUNKS_PER_SLAB) * CHUNK_SIZE;
+        buffer.limit(offset + CHUNK_SIZE).position(offset);
+        return buffer;
+    }
+
+    private static class Entry {
+        final int[] chunks;
+        final int size;
+
+        Entry(int[] chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+    }
+}
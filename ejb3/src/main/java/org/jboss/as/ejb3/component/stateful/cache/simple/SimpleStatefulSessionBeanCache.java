@@ -19,13 +19,20 @@
  * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
  * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
  */
-
 package org.jboss.as.ejb3.component.stateful.cache.simple;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -40,10 +47,14 @@ import org.jboss.ejb.client.NodeAffinity;
 import org.wildfly.clustering.ee.Scheduler;
 import org.wildfly.clustering.ee.cache.scheduler.LinkedScheduledEntries;
 import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 
 /**
  * A simple stateful session bean cache implementation.
  * Bean instances are stored in memory and are lost on undeploy, shutdown, or server crash.
+ * If configured with a marshaller, idle bean instances are passivated to an {@link OffHeapStatefulSessionBeanStore}
+ * once the cache exceeds its maximum size, or once they exceed the idle threshold, and are activated on demand.
+ * Passivation is performed by scheduler threads, and never by the invoking thread.
  * @author Paul Ferraro
  * @param <K> the bean identifier type
  * @param <V> the bean instance type
@@ -51,24 +62,45 @@ import org.wildfly.clustering.ee.cache.scheduler.LocalScheduler;
 public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInstance<K>> implements StatefulSessionBeanCache<K, V>, Predicate<K>, Consumer<StatefulSessionBean<K, V>> {
 
     private final Map<K, V> instances = new ConcurrentHashMap<>();
-    private final Consumer<K> remover = this.instances::remove;
+    private final Consumer<K> remover = this::evict;
     private final StatefulSessionBeanInstanceFactory<V> factory;
     private final Supplier<K> identifierFactory;
     private final Duration timeout;
     private final Affinity strongAffinity;
+    private final String componentName;
+    private final Integer maxSize;
+    private final Duration idleThreshold;
+    private final ByteBufferMarshaller marshaller;
+    private final OffHeapStatefulSessionBeanStore<K> store;
+    // Number of concurrent references to each active bean, only tracked if passivation is enabled
+    private final Map<K, Integer> references = new ConcurrentHashMap<>();
+    // Active beans with no references, in least recently used order
+    private final Set<K> idle = new LinkedHashSet<>();
+    private final LongAdder activations = new LongAdder();
+    private final LongAdder passivations = new LongAdder();
 
     private volatile Scheduler<K, Instant> scheduler;
+    private volatile Scheduler<K, Instant> passivationScheduler;
+    // Passivates beans in excess of the maximum size, so that marshalling never delays the invoking thread
+    private volatile Scheduler<K, Instant> excessPassivationScheduler;
 
     public SimpleStatefulSessionBeanCache(SimpleStatefulSessionBeanCacheConfiguration<K, V> configuration) {
         this.factory = configuration.getInstanceFactory();
         this.identifierFactory = configuration.getIdentifierFactory();
         this.timeout = configuration.getTimeout();
         this.strongAffinity = new NodeAffinity(configuration.getEnvironment().getNodeName());
+        this.componentName = configuration.getComponentName();
+        this.maxSize = configuration.getMaxSize();
+        this.idleThreshold = configuration.getIdleThreshold();
+        this.marshaller = configuration.getMarshaller();
+        this.store = new OffHeapStatefulSessionBeanStore<>(configuration.getMaxPassivatedMemorySize());
     }
 
     @Override
     public void start() {
         this.scheduler = (this.timeout != null) && !this.timeout.isZero() ? new LocalScheduler<>(new LinkedScheduledEntries<>(), this, Duration.ZERO) : null;
+        this.passivationScheduler = (this.marshaller != null) && (this.idleThreshold != null) ? new LocalScheduler<>(new LinkedScheduledEntries<>(), this::passivate, Duration.ZERO) : null;
+        this.excessPassivationScheduler = (this.marshaller != null) && (this.maxSize != null) ? new LocalScheduler<>(new LinkedScheduledEntries<>(), this::passivate, Duration.ZERO) : null;
     }
 
     @Override
@@ -76,10 +108,22 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
         if (this.scheduler != null) {
             this.scheduler.close();
         }
+        if (this.passivationScheduler != null) {
+            this.passivationScheduler.close();
+        }
+        if (this.excessPassivationScheduler != null) {
+            this.excessPassivationScheduler.close();
+        }
         for (V instance : this.instances.values()) {
             instance.removed();
         }
         this.instances.clear();
+        this.references.clear();
+        synchronized (this.idle) {
+            this.idle.clear();
+        }
+        // Passivated beans are discarded without activation
+        this.store.clear();
     }
 
     @Override
@@ -94,21 +138,27 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
 
     @Override
     public void accept(StatefulSessionBean<K, V> bean) {
+        K id = bean.getId();
         if (this.timeout != null) {
-            K id = bean.getId();
             if (this.scheduler != null) {
                 // Timeout > 0, schedule bean to expire
                 this.scheduler.schedule(id, Instant.now().plus(this.timeout));
             } else {
                 // Timeout = 0, remove bean immediately
                 this.test(id);
+                return;
             }
         }
+        if (this.marshaller != null) {
+            this.instances.computeIfPresent(id, this::release);
+            this.passivateExcess();
+        }
     }
 
     @Override
     public boolean test(K id) {
-        V instance = this.instances.remove(id);
+        V instance = this.evict(id);
+        // Per the EJB specification, timed out beans in the passive state are not destroyed
         if (instance != null) {
             instance.removed();
         }
@@ -124,16 +174,31 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
         V instance = this.factory.createInstance();
         K id = instance.getId();
         this.instances.put(id, instance);
+        if (this.marshaller != null) {
+            synchronized (this.idle) {
+                this.idle.add(id);
+            }
+            if (this.passivationScheduler != null) {
+                this.passivationScheduler.schedule(id, Instant.now().plus(this.idleThreshold));
+            }
+            this.passivateExcess();
+        }
         return id;
     }
 
     @Override
     public StatefulSessionBean<K, V> findStatefulSessionBean(K id) {
-        V instance = this.instances.get(id);
+        V instance = (this.marshaller != null) ? this.instances.compute(id, this::acquire) : this.instances.get(id);
         if (instance == null) return null;
         if (this.scheduler != null) {
             this.scheduler.cancel(id);
         }
+        if (this.passivationScheduler != null) {
+            this.passivationScheduler.cancel(id);
+        }
+        if (this.excessPassivationScheduler != null) {
+            this.excessPassivationScheduler.cancel(id);
+        }
         return new SimpleStatefulSessionBean<>(instance, this.remover, this);
     }
 
@@ -144,11 +209,163 @@ public class SimpleStatefulSessionBeanCache<K, V extends StatefulSessionBeanInst
 
     @Override
     public int getPassiveCount() {
-        return 0;
+        return this.store.getCount();
+    }
+
+    @Override
+    public long getActivationCount() {
+        return this.activations.sum();
+    }
+
+    @Override
+    public long getPassivationCount() {
+        return this.passivations.sum();
+    }
+
+    @Override
+    public long getPassivatedMemorySize() {
+        return this.store.getMemorySize();
     }
 
     @Override
     public Supplier<K> getIdentifierFactory() {
         return this.identifierFactory;
     }
+
+    /**
+     * Removes the specified bean from this cache.
+     * @param id a bean identifier
+     * @return the removed bean instance, or null, if the bean was passivated or did not exist.
+     */
+    private V evict(K id) {
+        if (this.passivationScheduler != null) {
+            this.passivationScheduler.cancel(id);
+        }
+        if (this.excessPassivationScheduler != null) {
+            this.excessPassivationScheduler.cancel(id);
+        }
+        V instance = this.instances.remove(id);
+        if (this.marshaller != null) {
+            this.references.remove(id);
+            synchronized (this.idle) {
+                this.idle.remove(id);
+            }
+            if (instance == null) {
+                this.store.discard(id);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * References the specified bean, activating it if necessary.
+     * Invoked while holding the lock for the specified identifier.
+     */
+    private V acquire(K id, V active) {
+        V instance = (active != null) ? active : this.activate(id);
+        if (instance != null) {
+            this.references.merge(id, 1, Integer::sum);
+            synchronized (this.idle) {
+                this.idle.remove(id);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Dereferences the specified bean, scheduling its passivation if it is no longer referenced.
+     * Invoked while holding the lock for the specified identifier.
+     */
+    private V release(K id, V instance) {
+        if (this.references.computeIfPresent(id, (key, count) -> (count > 1) ? count - 1 : null) == null) {
+            synchronized (this.idle) {
+                this.idle.add(id);
+            }
+            if (this.passivationScheduler != null) {
+                this.passivationScheduler.schedule(id, Instant.now().plus(this.idleThreshold));
+            }
+        }
+        return instance;
+    }
+
+    private V activate(K id) {
+        ByteBuffer buffer = this.store.get(id);
+        if (buffer == null) return null;
+        try {
+            @SuppressWarnings("unchecked")
+            V instance = (V) this.marshaller.read(buffer);
+            instance.postActivate();
+            // Retain passivated state until activation succeeds, so that a failed activation can be retried
+            this.store.discard(id);
+            this.activations.increment();
+            return instance;
+        } catch (IOException e) {
+            throw EjbLogger.ROOT_LOGGER.activationFailed(e, id);
+        }
+    }
+
+    private boolean passivate(K id) {
+        this.instances.computeIfPresent(id, this::passivate);
+        return true;
+    }
+
+    /**
+     * Passivates the specified bean, if it is idle.
+     * Invoked while holding the lock for the specified identifier.
+     */
+    private V passivate(K id, V instance) {
+        synchronized (this.idle) {
+            if (!this.idle.remove(id)) return instance;
+        }
+        try {
+            instance.prePassivate();
+        } catch (RuntimeException e) {
+            // Bean will remain active, and will not be considered for passivation until it is next released
+            EjbLogger.ROOT_LOGGER.failedToPassivateBean(id, this.componentName, e);
+            return instance;
+        }
+        try {
+            if (this.store.put(id, this.marshaller.write(instance))) {
+                this.passivations.increment();
+                return null;
+            }
+            EjbLogger.ROOT_LOGGER.debugf("Insufficient capacity to passivate stateful session bean %s of component %s", id, this.componentName);
+        } catch (IOException | RuntimeException e) {
+            EjbLogger.ROOT_LOGGER.failedToPassivateBean(id, this.componentName, e);
+        }
+        // Bean will remain active, and will not be considered for passivation until it is next released
+        try {
+            instance.postActivate();
+        } catch (RuntimeException e) {
+            EjbLogger.ROOT_LOGGER.failedToPassivateBean(id, this.componentName, e);
+        }
+        return instance;
+    }
+
+    /**
+     * Schedules the immediate passivation of the least recently used idle beans, such that this cache will no longer exceed its maximum size.
+     * Beans are passivated by the thread of the excess passivation scheduler, rather than by the invoking thread.
+     */
+    private void passivateExcess() {
+        Scheduler<K, Instant> scheduler = this.excessPassivationScheduler;
+        if (scheduler != null) {
+            int excess = this.instances.size() - this.maxSize;
+            if (excess <= 0) return;
+            // Bounded by the initial excess, since idle beans may be concurrently referenced
+            // Least recently used beans already scheduled for passivation, but not yet passivated, count towards the excess
+            List<K> ids = new ArrayList<>(excess);
+            synchronized (this.idle) {
+                Iterator<K> idle = this.idle.iterator();
+                while (idle.hasNext() && (ids.size() < excess)) {
+                    ids.add(idle.next());
+                }
+            }
+            Instant now = Instant.now();
+            for (K id : ids) {
+                if (!scheduler.contains(id)) {
+                    scheduler.schedule(id, now);
+                }
+            }
+        }
+    }
 }
@@ -22,9 +22,12 @@
 
 package org.jboss.as.ejb3.component.stateful.cache.simple;
 
+import java.time.Duration;
+
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheConfiguration;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
 import org.jboss.as.server.ServerEnvironment;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 
 /**
  * Configuration of a simple stateful session bean cache.
@@ -35,4 +38,29 @@ import org.jboss.as.server.ServerEnvironment;
 public interface SimpleStatefulSessionBeanCacheConfiguration<K, V extends StatefulSessionBeanInstance<K>> extends StatefulSessionBeanCacheConfiguration<K, V> {
 
     ServerEnvironment getEnvironment();
+
+    /**
+     * Returns the maximum number of active beans, beyond which idle beans will be passivated.
+     * @return a maximum number of beans, or null, if unbounded.
+     */
+    Integer getMaxSize();
+
+    /**
+     * Returns the duration of inactivity after which an idle bean will be passivated.
+     * @return a duration, or null, if idle beans should not be passivated.
+     */
+    Duration getIdleThreshold();
+
+    /**
+     * Returns the marshaller used to passivate beans.
+     * @return a marshaller, or null, if passivation is disabled.
+     */
+    ByteBufferMarshaller getMarshaller();
+
+    /**
+     * Returns the maximum number of bytes of local off-heap memory retained by passivated beans.
+     * Once reached, idle beans remain active.
+     * @return a number of bytes
+     */
+    long getMaxPassivatedMemorySize();
 }
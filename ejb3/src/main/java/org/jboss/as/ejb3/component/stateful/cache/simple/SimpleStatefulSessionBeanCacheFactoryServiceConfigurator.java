@@ -39,6 +39,7 @@ import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 import org.wildfly.clustering.service.ServiceSupplierDependency;
 import org.wildfly.clustering.service.SimpleServiceNameProvider;
 import org.wildfly.clustering.service.SupplierDependency;
@@ -54,8 +55,17 @@ public class SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<K, V exten
 
     private final SupplierDependency<ServerEnvironment> environment = new ServiceSupplierDependency<>(ServerEnvironmentService.SERVICE_NAME);
 
-    public SimpleStatefulSessionBeanCacheFactoryServiceConfigurator(StatefulComponentDescription description) {
+    private final Integer maxSize;
+    private final Duration idleThreshold;
+    private final long maxPassivatedMemorySize;
+    private final ByteBufferMarshaller marshaller;
+
+    public SimpleStatefulSessionBeanCacheFactoryServiceConfigurator(StatefulComponentDescription description, Integer maxSize, Duration idleThreshold, long maxPassivatedMemorySize, ByteBufferMarshaller marshaller) {
         super(description.getCacheFactoryServiceName());
+        this.maxSize = maxSize;
+        this.idleThreshold = idleThreshold;
+        this.maxPassivatedMemorySize = maxPassivatedMemorySize;
+        this.marshaller = marshaller;
     }
 
     @Override
@@ -70,6 +80,10 @@ public class SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<K, V exten
     @Override
     public StatefulSessionBeanCache<K, V> createStatefulBeanCache(StatefulSessionBeanCacheConfiguration<K, V> configuration) {
         ServerEnvironment environment = this.environment.get();
+        Integer maxSize = this.maxSize;
+        Duration idleThreshold = this.idleThreshold;
+        long maxPassivatedMemorySize = this.maxPassivatedMemorySize;
+        ByteBufferMarshaller marshaller = this.marshaller;
         return new SimpleStatefulSessionBeanCache<>(new SimpleStatefulSessionBeanCacheConfiguration<>() {
             @Override
             public StatefulSessionBeanInstanceFactory<V> getInstanceFactory() {
@@ -95,6 +109,26 @@ public class SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<K, V exten
             public String getComponentName() {
                 return configuration.getComponentName();
             }
+
+            @Override
+            public Integer getMaxSize() {
+                return maxSize;
+            }
+
+            @Override
+            public Duration getIdleThreshold() {
+                return idleThreshold;
+            }
+
+            @Override
+            public ByteBufferMarshaller getMarshaller() {
+                return marshaller;
+            }
+
+            @Override
+            public long getMaxPassivatedMemorySize() {
+                return maxPassivatedMemorySize;
+            }
         });
     }
 }
@@ -22,11 +22,16 @@
 
 package org.jboss.as.ejb3.component.stateful.cache.simple;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.jboss.as.clustering.controller.CapabilityServiceConfigurator;
 import org.jboss.as.clustering.controller.ResourceServiceConfigurator;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.ee.component.ComponentConfiguration;
 import org.jboss.as.ee.component.EEModuleConfiguration;
@@ -34,11 +39,24 @@ import org.jboss.as.ejb3.component.stateful.StatefulComponentDescription;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheProvider;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCacheProviderServiceNameProvider;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
+import org.jboss.as.ejb3.subsystem.SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute;
+import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.dmr.ModelNode;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.ModularClassResolver;
+import org.jboss.modules.Module;
 import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.marshalling.jboss.DynamicClassTable;
+import org.wildfly.clustering.marshalling.jboss.DynamicExternalizerObjectTable;
+import org.wildfly.clustering.marshalling.jboss.JBossByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.jboss.SimpleMarshallingConfigurationRepository;
+import org.wildfly.clustering.marshalling.jboss.SimpleSerializabilityChecker;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+import org.wildfly.clustering.service.ServiceConfigurator;
 
 /**
  * Configures a service that provides a simple stateful session bean cache provider.
@@ -48,10 +66,24 @@ import org.jboss.msc.service.ServiceTarget;
  */
 public class SimpleStatefulSessionBeanCacheProviderServiceConfigurator<K, V extends StatefulSessionBeanInstance<K>> extends StatefulSessionBeanCacheProviderServiceNameProvider implements ResourceServiceConfigurator, StatefulSessionBeanCacheProvider<K, V> {
 
+    private volatile Integer maxSize;
+    private volatile Duration idleThreshold;
+    private volatile long maxPassivatedMemorySize;
+
     public SimpleStatefulSessionBeanCacheProviderServiceConfigurator(PathAddress address) {
         super(address.getLastElement().getValue());
     }
 
+    @Override
+    public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
+        ModelNode maxSize = Attribute.MAX_SIZE.resolveModelAttribute(context, model);
+        this.maxSize = maxSize.isDefined() ? maxSize.asInt() : null;
+        ModelNode idleThreshold = Attribute.IDLE_THRESHOLD.resolveModelAttribute(context, model);
+        this.idleThreshold = idleThreshold.isDefined() ? Duration.ofMillis(idleThreshold.asLong()) : null;
+        this.maxPassivatedMemorySize = Attribute.MAX_PASSIVATED_MEMORY_SIZE.resolveModelAttribute(context, model).asLong();
+        return this;
+    }
+
     @Override
     public ServiceBuilder<?> build(ServiceTarget target) {
         ServiceName name = this.getServiceName();
@@ -68,11 +100,29 @@ public class SimpleStatefulSessionBeanCacheProviderServiceConfigurator<K, V exte
 
     @Override
     public CapabilityServiceConfigurator getStatefulBeanCacheFactoryServiceConfigurator(DeploymentUnit unit, StatefulComponentDescription description, ComponentConfiguration configuration) {
-        return new SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<>(description);
+        // Only passivate beans if bounded by size or idle time, and if passivation is enabled for the component
+        boolean passivation = this.supportsPassivation() && description.isPassivationApplicable();
+        ByteBufferMarshaller marshaller = passivation ? createMarshaller(unit.getAttachment(Attachments.MODULE), configuration.getComponentClass()) : null;
+        return new SimpleStatefulSessionBeanCacheFactoryServiceConfigurator<>(description, this.maxSize, this.idleThreshold, this.maxPassivatedMemorySize, marshaller);
     }
 
     @Override
     public boolean supportsPassivation() {
-        return false;
+        return (this.maxSize != null) || (this.idleThreshold != null);
+    }
+
+    private static ByteBufferMarshaller createMarshaller(Module module, Class<?> componentClass) {
+        Set<Class<?>> beanClasses = Collections.newSetFromMap(new IdentityHashMap<>());
+        Class<?> beanClass = componentClass;
+        while (beanClass != Object.class) {
+            beanClasses.add(beanClass);
+            beanClass = beanClass.getSuperclass();
+        }
+        MarshallingConfiguration config = new MarshallingConfiguration();
+        config.setClassResolver(ModularClassResolver.getInstance(module.getModuleLoader()));
+        config.setSerializabilityChecker(new SimpleSerializabilityChecker(beanClasses));
+        config.setClassTable(new DynamicClassTable(module.getClassLoader()));
+        config.setObjectTable(new DynamicExternalizerObjectTable(module.getClassLoader()));
+        return new JBossByteBufferMarshaller(new SimpleMarshallingConfigurationRepository(config), module.getClassLoader());
     }
 }
@@ -27,9 +27,12 @@ import static org.wildfly.common.Assert.checkNotNullParam;
 import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.iiop.EjbIIOPService;
+import org.jboss.as.ejb3.remote.LocalInvocationCloneTable;
 import org.jboss.msc.value.InjectedValue;
 
+import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -52,6 +55,7 @@ public class EjbDeploymentInformation {
 
     private final InjectedValue<EjbIIOPService> iorFactory;
     private final Set<String> remoteViewClassNames = new HashSet<String>();
+    private volatile Set<Method> shareableMethods = Collections.emptySet();
 
     /**
      * @param ejbName               The EJB name
@@ -130,4 +134,30 @@ public class EjbDeploymentInformation {
     public boolean isRemoteView(final String viewClassName) {
         return this.remoteViewClassNames.contains(viewClassName);
     }
+
+    /**
+     * Returns true if the parameters and return value of the passed remote view method never need to be cloned for a local invocation.
+     *
+     * @param method A method of a remote view
+     * @return
+     */
+    public boolean isShareable(final Method method) {
+        return this.shareableMethods.contains(method);
+    }
+
+    /**
+     * Determines which methods of the remote views of this component never need their parameters and return value cloned.
+     * Must be invoked once the component views are available.
+     */
+    void resolveShareableMethods() {
+        final Set<Method> methods = new HashSet<Method>();
+        for (String viewClassName : this.remoteViewClassNames) {
+            for (Method method : this.getView(viewClassName).getViewMethods()) {
+                if (LocalInvocationCloneTable.isShareable(method, this.deploymentClassLoader)) {
+                    methods.add(method);
+                }
+            }
+        }
+        this.shareableMethods = methods;
+    }
 }
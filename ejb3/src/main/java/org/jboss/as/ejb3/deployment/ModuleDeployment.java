@@ -67,6 +67,9 @@ public class ModuleDeployment implements Service<ModuleDeployment> {
 
     @Override
     public void start(StartContext context) throws StartException {
+        for (EjbDeploymentInformation ejb : ejbs.values()) {
+            ejb.resolveShareableMethods();
+        }
         deploymentRepository.getValue().add(identifier, ModuleDeployment.this);
     }
 
@@ -3261,4 +3261,35 @@ public interface EjbLogger extends BasicLogger {
     @LogMessage(level = WARN)
     @Message(id = 532, value = "Database detected from configuration is: '%s'. If this is incorrect, please specify the correct database.")
     void unknownDatabaseName(String name);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 533, value = "Cannot add LAST_MODIFIED column to timer persistence table; the table must be migrated manually")
+    void couldNotAddLastModifiedColumn(@Cause SQLException e);
+
+    @LogMessage(level = WARN)
+    @Message(id = 534, value = "Timer journal %s is corrupt or incomplete beyond position %d; discarding trailing records")
+    void timerJournalTruncated(File file, long position);
+
+    @LogMessage(level = ERROR)
+    @Message(id = 535, value = "Failed to compact timer journal %s")
+    void failToCompactTimerJournal(File file, @Cause Throwable e);
+
+    @LogMessage(level = INFO)
+    @Message(id = 536, value = "Migrated %d persistent timers of %s from %s to timer journal")
+    void timersMigratedToJournal(int count, String timedObjectId, File directory);
+
+    @LogMessage(level = WARN)
+    @Message(id = 537, value = "Failed to passivate stateful session bean %s of component %s")
+    void failedToPassivateBean(Object id, String componentName, @Cause Throwable cause);
+
+    @LogMessage(level = WARN)
+    @Message(id = 538, value = "Virtual threads are not supported by this runtime; remote invocations will execute using the configured thread pool")
+    void virtualThreadsNotSupported();
+
+    @Message(id = 539, value = "Timer store file %s is corrupt at position %d; it must be restored or removed before persistent timers can be loaded")
+    IOException timerStoreCorrupt(File file, long position);
+
+    @LogMessage(level = WARN)
+    @Message(id = 540, value = "Timeout of timer %s was rejected by the executor of the timer service")
+    void timeoutRejected(String timerId, @Cause Throwable cause);
 }
@@ -0,0 +1,260 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.AbstractPool;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+
+/**
+ * A pool with a maximum size, whose permits and idle instances are partitioned into stripes.
+ * Each thread is associated with a stripe, from which it acquires permits and instances, and to which it returns them.
+ * Only once its own stripe is exhausted does a thread consult the other stripes, and only once all stripes are exhausted does it block.
+ * Consequently, uncontended invocations never touch a shared counter, while the total number of permits, and thus active instances, never exceeds the maximum size.
+ *
+ * @author agent
+ */
+public class StripedStrictMaxPool<T> extends AbstractPool<T> {
+
+    private final int maxSize;
+    private final long timeout;
+    private final TimeUnit timeUnit;
+    private final Stripe<T>[] stripes;
+    private final int mask;
+    /**
+     * Permits released while threads were waiting are handed off via this semaphore.
+     */
+    private final Semaphore handoff = new Semaphore(0, false);
+    private final AtomicInteger waiters = new AtomicInteger(0);
+
+    public StripedStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit) {
+        this(factory, maxSize, timeout, timeUnit, Runtime.getRuntime().availableProcessors());
+    }
+
+    @SuppressWarnings("unchecked")
+    public StripedStrictMaxPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit, int concurrency) {
+        super(factory);
+        this.maxSize = maxSize;
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+        // Use a power of 2 number of stripes, such that each stripe has at least 1 permit
+        int stripes = Integer.highestOneBit(Math.max(1, Math.min(concurrency, maxSize)));
+        if (stripes < concurrency && (stripes << 1) <= maxSize) {
+            stripes <<= 1;
+        }
+        this.mask = stripes - 1;
+        this.stripes = new Stripe[stripes];
+        for (int i = 0; i < stripes; ++i) {
+            // Distribute any remainder across the leading stripes
+            this.stripes[i] = new Stripe<>((maxSize / stripes) + ((i < (maxSize % stripes)) ? 1 : 0));
+        }
+    }
+
+    @Override
+    public void discard(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Discard instance %s#%s", this, ctx);
+        }
+
+        this.releasePermit(this.getStripe());
+
+        super.doRemove(ctx);
+    }
+
+    @Override
+    public int getCurrentSize() {
+        return this.getCreateCount() - this.getRemoveCount();
+    }
+
+    @Override
+    public int getAvailableCount() {
+        int available = this.handoff.availablePermits();
+        for (Stripe<T> stripe : this.stripes) {
+            available += stripe.permits.get();
+        }
+        return available;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    @Override
+    public void setMaxSize(int maxSize) {
+        throw EjbLogger.ROOT_LOGGER.methodNotImplemented();
+    }
+
+    @Override
+    public T get() {
+        Stripe<T> stripe = this.getStripe();
+
+        this.acquirePermit(stripe);
+
+        T bean = this.poll(stripe);
+
+        if (bean != null) {
+            return bean;
+        }
+
+        try {
+            // All stripes are empty, create an instance
+            bean = this.create();
+        } finally {
+            if (bean == null) {
+                this.releasePermit(stripe);
+            }
+        }
+        return bean;
+    }
+
+    @Override
+    public void release(T obj) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("%s/%s Free instance: %s", this.getAvailableCount(), this.maxSize, this);
+        }
+
+        Stripe<T> stripe = this.getStripe();
+
+        // Instance must be visible before its permit
+        stripe.instances.add(obj);
+
+        this.releasePermit(stripe);
+    }
+
+    @Override
+    @Deprecated
+    public void remove(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Removing instance: %s#%s", this, ctx);
+        }
+
+        this.releasePermit(this.getStripe());
+
+        super.doRemove(ctx);
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void stop() {
+        for (Stripe<T> stripe : this.stripes) {
+            for (T obj = stripe.instances.poll(); obj != null; obj = stripe.instances.poll()) {
+                this.destroy(obj);
+            }
+        }
+    }
+
+    private Stripe<T> getStripe() {
+        int hash = Thread.currentThread().hashCode();
+        return this.stripes[(hash ^ (hash >>> 16)) & this.mask];
+    }
+
+    private T poll(Stripe<T> stripe) {
+        T bean = stripe.instances.poll();
+        if (bean == null) {
+            for (Stripe<T> other : this.stripes) {
+                if (other != stripe) {
+                    bean = other.instances.poll();
+                    if (bean != null) break;
+                }
+            }
+        }
+        return bean;
+    }
+
+    private boolean tryAcquirePermit(Stripe<T> stripe) {
+        return this.tryAcquireStripePermit(stripe) || this.handoff.tryAcquire();
+    }
+
+    private boolean tryAcquireStripePermit(Stripe<T> stripe) {
+        if (stripe.tryAcquire()) return true;
+        for (Stripe<T> other : this.stripes) {
+            if ((other != stripe) && other.tryAcquire()) return true;
+        }
+        return false;
+    }
+
+    private void acquirePermit(Stripe<T> stripe) {
+        if (this.tryAcquirePermit(stripe)) return;
+
+        this.waiters.incrementAndGet();
+        try {
+            // Re-check, in case a permit was released to a stripe before our registration as a waiter was visible
+            if (this.tryAcquirePermit(stripe)) return;
+            if (!this.handoff.tryAcquire(this.timeout, this.timeUnit)) {
+                throw EjbLogger.ROOT_LOGGER.failedToAcquirePermit(this.timeout, this.timeUnit);
+            }
+        } catch (InterruptedException e) {
+            throw EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted();
+        } finally {
+            // Any permit handed off after we gave up remains available via tryAcquirePermit(...)
+            this.waiters.decrementAndGet();
+        }
+    }
+
+    private void releasePermit(Stripe<T> stripe) {
+        if (this.waiters.get() > 0) {
+            this.handoff.release();
+        } else {
+            stripe.permits.incrementAndGet();
+            // A thread may have registered as a waiter, and re-checked the stripes, before our permit was visible
+            // If so, move a permit to the handoff semaphore, otherwise that thread would wait for a permit that is already available
+            if ((this.waiters.get() > 0) && this.tryAcquireStripePermit(stripe)) {
+                this.handoff.release();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(max-size=%d, stripes=%d)", this.getClass().getSimpleName(), this.maxSize, this.stripes.length);
+    }
+
+    private static class Stripe<T> {
+        final AtomicInteger permits;
+        final Queue<T> instances = new ConcurrentLinkedQueue<>();
+
+        Stripe(int permits) {
+            this.permits = new AtomicInteger(permits);
+        }
+
+        boolean tryAcquire() {
+            int current = this.permits.get();
+            while (current > 0) {
+                if (this.permits.compareAndSet(current, current - 1)) return true;
+                current = this.permits.get();
+            }
+            return false;
+        }
+    }
+}
@@ -40,6 +40,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import jakarta.ejb.EJBException;
 
 import org.jboss.as.ee.component.Component;
@@ -102,6 +103,9 @@ final class AssociationImpl implements Association, AutoCloseable {
     private final DeploymentRepository deploymentRepository;
     private final Map<Integer, ClusterTopologyRegistrar> clusterTopologyRegistrars;
     private volatile Executor executor;
+    private volatile Executor virtualThreadExecutor;
+    private final AtomicInteger inFlightInvocations = new AtomicInteger();
+    private final AtomicInteger peakInFlightInvocations = new AtomicInteger();
 
     AssociationImpl(final DeploymentRepository deploymentRepository, final List<Map.Entry<ProtocolSocketBinding, Registry<String, List<ClientMapping>>>> clientMappingRegistries) {
         this.deploymentRepository = deploymentRepository;
@@ -313,12 +317,28 @@ final class AssociationImpl implements Association, AutoCloseable {
         if (request.getProtocol().equals("local") && ! isAsync) {
             task.run();
         } else {
-            if(executor != null) {
-                executor.execute(task);
-            } else if(isAsync || alwaysDispatch){
-                request.getRequestExecutor().execute(task);
+            final int inFlight = inFlightInvocations.incrementAndGet();
+            // Only contend on the peak if it might increase
+            if (peakInFlightInvocations.get() < inFlight) {
+                peakInFlightInvocations.accumulateAndGet(inFlight, Math::max);
+            }
+            final Runnable trackedTask = () -> {
+                try {
+                    task.run();
+                } finally {
+                    inFlightInvocations.decrementAndGet();
+                }
+            };
+            final Executor dispatcher = (virtualThreadExecutor != null) ? virtualThreadExecutor : (executor != null) ? executor : (isAsync || alwaysDispatch) ? request.getRequestExecutor() : null;
+            if (dispatcher != null) {
+                try {
+                    dispatcher.execute(trackedTask);
+                } catch (RuntimeException | Error e) {
+                    inFlightInvocations.decrementAndGet();
+                    throw e;
+                }
             } else {
-                task.run();
+                trackedTask.run();
             }
         }
     }
@@ -709,6 +729,22 @@ final class AssociationImpl implements Association, AutoCloseable {
         this.executor = executor;
     }
 
+    /**
+     * Sets the executor that runs each non-local invocation in a new virtual thread, taking precedence over any other executor.
+     * @param virtualThreadExecutor a virtual thread executor, or null, if invocations should not execute in virtual threads
+     */
+    void setVirtualThreadExecutor(Executor virtualThreadExecutor) {
+        this.virtualThreadExecutor = virtualThreadExecutor;
+    }
+
+    int getInFlightInvocations() {
+        return inFlightInvocations.get();
+    }
+
+    int getPeakInFlightInvocations() {
+        return peakInFlightInvocations.get();
+    }
+
     /**
      * Checks if this node is the last node in the cluster and sends a topology update to all connected clients if this is so
      * This should only be called when the node is known to be shutting down (and not just suspending)
@@ -32,8 +32,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.jboss.as.ejb3.deployment.DeploymentRepository;
+import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.network.ClientMapping;
 import org.jboss.as.network.ProtocolSocketBinding;
 import org.jboss.as.server.ServerEnvironment;
@@ -82,6 +85,7 @@ public final class AssociationService implements Service<AssociationService> {
     private final MutableDiscoveryProvider mutableDiscoveryProvider = new MutableDiscoveryProvider();
 
     private volatile AssociationImpl value;
+    private volatile ExecutorService virtualThreadExecutor;
     private volatile ListenerHandle moduleAvailabilityListener;
 
     @Override
@@ -163,6 +167,11 @@ public final class AssociationService implements Service<AssociationService> {
     public void stop(final StopContext context) {
         value.close();
         value = null;
+        if (virtualThreadExecutor != null) {
+            // Pending invocations will run to completion
+            virtualThreadExecutor.shutdown();
+            virtualThreadExecutor = null;
+        }
         moduleAvailabilityListener.close();
         moduleAvailabilityListener = null;
         mutableDiscoveryProvider.setDiscoveryProvider(DiscoveryProvider.EMPTY);
@@ -208,6 +217,51 @@ public final class AssociationService implements Service<AssociationService> {
         this.value.setExecutor(executor);
     }
 
+    /**
+     * Indicates whether non-local invocations should execute in a new virtual thread, if supported by the runtime.
+     * @param executeInVirtualThread true, if invocations should execute in virtual threads, false otherwise
+     */
+    void setExecuteInVirtualThread(boolean executeInVirtualThread) {
+        ExecutorService executor = executeInVirtualThread ? createVirtualThreadExecutor() : null;
+        if (executeInVirtualThread && (executor == null)) {
+            EjbLogger.REMOTE_LOGGER.virtualThreadsNotSupported();
+        }
+        this.value.setVirtualThreadExecutor(executor);
+        ExecutorService previous = this.virtualThreadExecutor;
+        this.virtualThreadExecutor = executor;
+        if (previous != null) {
+            // Pending invocations will run to completion
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * Returns the number of non-local invocations currently executing.
+     * @return a number of invocations
+     */
+    public int getInFlightInvocations() {
+        AssociationImpl association = this.value;
+        return (association != null) ? association.getInFlightInvocations() : 0;
+    }
+
+    /**
+     * Returns the highest number of non-local invocations that executed concurrently.
+     * @return a number of invocations
+     */
+    public int getPeakInFlightInvocations() {
+        AssociationImpl association = this.value;
+        return (association != null) ? association.getPeakInFlightInvocations() : 0;
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        // Virtual threads require Java 21, or Java 19+ with preview features enabled
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
     void sendTopologyUpdateIfLastNodeToLeave() {
         this.value.sendTopologyUpdateIfLastNodeToLeave();
     }
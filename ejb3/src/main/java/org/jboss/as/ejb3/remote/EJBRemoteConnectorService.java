@@ -53,6 +53,7 @@ public class EJBRemoteConnectorService implements Service {
     private final Consumer<EJBRemoteConnectorService> serviceConsumer;
     private final Supplier<Endpoint> endpointSupplier;
     private final Supplier<ExecutorService> executorServiceSupplier;
+    private final boolean executeInVirtualThread;
     private final Supplier<AssociationService> associationServiceSupplier;
     private final Supplier<RemotingTransactionService> remotingTransactionServiceSupplier;
     private volatile Registration registration;
@@ -61,11 +62,12 @@ public class EJBRemoteConnectorService implements Service {
 
     public EJBRemoteConnectorService(
             final Consumer<EJBRemoteConnectorService> serviceConsumer, final Supplier<Endpoint> endpointSupplier, final Supplier<ExecutorService> executorServiceSupplier,
-            final Supplier<AssociationService> associationServiceSupplier, final Supplier<RemotingTransactionService> remotingTransactionServiceSupplier,
+            final boolean executeInVirtualThread, final Supplier<AssociationService> associationServiceSupplier, final Supplier<RemotingTransactionService> remotingTransactionServiceSupplier,
             final OptionMap channelCreationOptions, final Function<String, Boolean> classResolverFilter) {
         this.serviceConsumer = serviceConsumer;
         this.endpointSupplier = endpointSupplier;
         this.executorServiceSupplier = executorServiceSupplier;
+        this.executeInVirtualThread = executeInVirtualThread;
         this.associationServiceSupplier = associationServiceSupplier;
         this.remotingTransactionServiceSupplier = remotingTransactionServiceSupplier;
         this.channelCreationOptions = channelCreationOptions;
@@ -80,6 +82,9 @@ public class EJBRemoteConnectorService implements Service {
         if (executor != null) {
             associationService.setExecutor(executor);
         }
+        if (executeInVirtualThread) {
+            associationService.setExecuteInVirtualThread(true);
+        }
         RemoteEJBService remoteEJBService = RemoteEJBService.create(
             associationService.getAssociation(),
             remotingTransactionServiceSupplier.get(),
@@ -103,6 +108,7 @@ public class EJBRemoteConnectorService implements Service {
         final AssociationService associationService = associationServiceSupplier.get();
         associationService.sendTopologyUpdateIfLastNodeToLeave();
         associationService.setExecutor(null);
+        associationService.setExecuteInVirtualThread(false);
         registration.close();
     }
 
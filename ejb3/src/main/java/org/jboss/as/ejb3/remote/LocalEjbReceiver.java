@@ -60,6 +60,7 @@ import org.jboss.ejb.client.StatelessEJBLocator;
 import org.jboss.ejb.client.TransactionID;
 import org.jboss.invocation.InterceptorContext;
 import org.jboss.marshalling.cloner.ClassLoaderClassCloner;
+import org.jboss.marshalling.cloner.CloneTable;
 import org.jboss.marshalling.cloner.ClonerConfiguration;
 import org.jboss.marshalling.cloner.ObjectCloner;
 import org.jboss.marshalling.cloner.ObjectCloners;
@@ -77,6 +78,8 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 public class LocalEjbReceiver extends EJBReceiver {
     private static final EJBReceiverInvocationContext.ResultProducer.Immediate NULL_RESULT = new EJBReceiverInvocationContext.ResultProducer.Immediate(null);
     private static final AttachmentKey<CancellationFlag> CANCELLATION_FLAG_ATTACHMENT_KEY = new AttachmentKey<>();
+    // Passes immutable JDK value objects by reference, rather than serializing them
+    private static final CloneTable CLONE_TABLE = new LocalInvocationCloneTable();
 
     private final DeploymentRepository deploymentRepository;
 
@@ -103,23 +106,35 @@ public class LocalEjbReceiver extends EJBReceiver {
         if (!ejb.isRemoteView(viewClass.getName())) {
             throw EjbLogger.ROOT_LOGGER.viewNotFound(viewClass.getName(), ejb.getEjbName());
         }
-        final ClonerConfiguration paramConfig = new ClonerConfiguration();
-        paramConfig.setClassCloner(new ClassLoaderClassCloner(ejb.getDeploymentClassLoader()));
-        final ObjectCloner parameterCloner = createCloner(paramConfig);
         //TODO: this is not very efficient
         final Method method = view.getMethod(invocation.getInvokedMethod().getName(), DescriptorUtils.methodDescriptor(invocation.getInvokedMethod()));
+        // Methods whose parameter and return types are all shareable need no cloners, except to clone exceptions
+        final boolean shareable = ejb.isShareable(method);
 
         final boolean async = view.isAsynchronous(method) || invocation.isClientAsync();
 
         final Object[] parameters;
+        boolean cloned = false;
         if (invocation.getParameters() == null) {
             parameters = EMPTY_STRING_ARRAY;
+        } else if (shareable) {
+            parameters = invocation.getParameters().clone();
         } else {
-            parameters = new Object[invocation.getParameters().length];
+            final ClonerConfiguration paramConfig = new ClonerConfiguration();
+            paramConfig.setClassCloner(new ClassLoaderClassCloner(ejb.getDeploymentClassLoader()));
+            paramConfig.setCloneTable(CLONE_TABLE);
+            final ObjectCloner parameterCloner = createCloner(paramConfig);
+            final Object[] originalParameters = invocation.getParameters();
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            parameters = new Object[originalParameters.length];
             for (int i = 0; i < parameters.length; ++i) {
-                parameters[i] = clone(method.getParameterTypes()[i], parameterCloner, invocation.getParameters()[i], allowPassByReference);
+                parameters[i] = clone(parameterTypes[i], parameterCloner, originalParameters[i], allowPassByReference);
+                cloned |= parameters[i] != originalParameters[i];
             }
         }
+        if (ejbComponent.isStatisticsEnabled()) {
+            ejbComponent.getInvocationMetrics().recordParameterCloning(method, cloned);
+        }
 
         final InterceptorContext interceptorContext = new InterceptorContext();
         interceptorContext.setParameters(parameters);
@@ -163,9 +178,7 @@ public class LocalEjbReceiver extends EJBReceiver {
             throw EjbLogger.ROOT_LOGGER.ejbNotFoundInDeployment(locator);
         }
 
-        final ClonerConfiguration config = new ClonerConfiguration();
-        config.setClassCloner(new LocalInvocationClassCloner(WildFlySecurityManager.getClassLoaderPrivileged(invocation.getInvokedProxy().getClass())));
-        final ObjectCloner resultCloner = createCloner(config);
+        final ObjectCloner resultCloner = shareable ? null : createResultCloner(invocation);
         if (async) {
             if (ejbComponent instanceof SessionBeanComponent) {
                 final CancellationFlag flag = new CancellationFlag();
@@ -196,7 +209,7 @@ public class LocalEjbReceiver extends EJBReceiver {
                             result = view.invoke(interceptorContext);
                         } catch (Exception e) {
                             // WFLY-4331 - clone the exception of an async task
-                            receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e, allowPassByReference));
+                            receiverContext.resultReady(createExceptionProducer(invocation, resultCloner, e));
                             return;
                         }
                         // if the result is null, there is no cloning needed
@@ -217,7 +230,7 @@ public class LocalEjbReceiver extends EJBReceiver {
                                     intr = true;
                                 } catch (ExecutionException e) {
                                     // WFLY-4331 - clone the exception of an async task
-                                    receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e, allowPassByReference));
+                                    receiverContext.resultReady(createExceptionProducer(invocation, resultCloner, e));
                                     return;
                                 }
                             } finally {
@@ -228,10 +241,10 @@ public class LocalEjbReceiver extends EJBReceiver {
                                 receiverContext.resultReady(NULL_RESULT);
                                 return;
                             }
-                            receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, asyncValue, allowPassByReference));
+                            receiverContext.resultReady(createResultProducer(invocation, resultCloner, asyncValue));
                             return;
                         }
-                        receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, result, allowPassByReference));
+                        receiverContext.resultReady(createResultProducer(invocation, resultCloner, result));
                     } finally {
                         StartupCountdown.restore(null);
                     }
@@ -258,10 +271,10 @@ public class LocalEjbReceiver extends EJBReceiver {
             } catch (Exception e) {
                 //we even have to clone the exception type
                 //to make sure it matches
-                receiverContext.resultReady(new CloningExceptionProducer(resultCloner, e, allowPassByReference));
+                receiverContext.resultReady(createExceptionProducer(invocation, resultCloner, e));
                 return;
             }
-            receiverContext.resultReady(new CloningResultProducer(invocation, resultCloner, result, allowPassByReference));
+            receiverContext.resultReady(createResultProducer(invocation, resultCloner, result));
 
             for(Map.Entry<String, Object> entry : interceptorContext.getContextData().entrySet()) {
                 if (entry.getValue() instanceof Serializable) {
@@ -318,6 +331,23 @@ public class LocalEjbReceiver extends EJBReceiver {
 
 
 
+    private ObjectCloner createResultCloner(final EJBClientInvocationContext invocation) {
+        final ClonerConfiguration config = new ClonerConfiguration();
+        config.setClassCloner(new LocalInvocationClassCloner(WildFlySecurityManager.getClassLoaderPrivileged(invocation.getInvokedProxy().getClass())));
+        config.setCloneTable(CLONE_TABLE);
+        return createCloner(config);
+    }
+
+    private EJBReceiverInvocationContext.ResultProducer createResultProducer(final EJBClientInvocationContext invocation, final ObjectCloner resultCloner, final Object result) {
+        // a null cloner indicates that the result is shareable
+        return (resultCloner != null) ? new CloningResultProducer(invocation, resultCloner, result, allowPassByReference) : new EJBReceiverInvocationContext.ResultProducer.Immediate(result);
+    }
+
+    private EJBReceiverInvocationContext.ResultProducer createExceptionProducer(final EJBClientInvocationContext invocation, final ObjectCloner resultCloner, final Exception exception) {
+        // exceptions are always cloned, even for methods whose result is shareable
+        return new CloningExceptionProducer((resultCloner != null) ? resultCloner : this.createResultCloner(invocation), exception, allowPassByReference);
+    }
+
     private ObjectCloner createCloner(final ClonerConfiguration paramConfig) {
         ObjectCloner parameterCloner;
         if(WildFlySecurityManager.isChecking()) {
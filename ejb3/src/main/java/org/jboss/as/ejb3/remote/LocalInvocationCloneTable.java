@@ -0,0 +1,142 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import org.jboss.marshalling.cloner.ClassCloner;
+import org.jboss.marshalling.cloner.CloneTable;
+import org.jboss.marshalling.cloner.ObjectCloner;
+
+/**
+ * {@link CloneTable} that passes instances of a fixed set of immutable JDK value types by reference.
+ * Consequently, these objects are never serialized, even when referenced by a mutable object graph.
+ * Only the exact classes listed are shared, since subclasses (e.g. of {@link BigInteger}) may be mutable, and since other JDK types
+ * (e.g. {@link Class}, {@link java.util.TimeZone}, {@link java.security.Permission}) and enums of the application must never be shared across class loaders.
+ *
+ * @author agent
+ */
+public class LocalInvocationCloneTable implements CloneTable {
+
+    private static final Set<Class<?>> IMMUTABLE_CLASSES = Set.of(
+            String.class,
+            Boolean.class,
+            Byte.class,
+            Character.class,
+            Double.class,
+            Float.class,
+            Integer.class,
+            Long.class,
+            Short.class,
+            BigDecimal.class,
+            BigInteger.class,
+            DayOfWeek.class,
+            Duration.class,
+            Instant.class,
+            LocalDate.class,
+            LocalDateTime.class,
+            LocalTime.class,
+            Month.class,
+            MonthDay.class,
+            OffsetDateTime.class,
+            OffsetTime.class,
+            Period.class,
+            Year.class,
+            YearMonth.class,
+            ZonedDateTime.class,
+            ZoneOffset.class,
+            URI.class,
+            UUID.class);
+
+    /**
+     * Indicates whether the specified object may be passed by reference between class loaders.
+     * @param object a non-null object
+     * @return true, if the specified object may be passed by reference, false otherwise.
+     */
+    static boolean isShareable(final Object object) {
+        return IMMUTABLE_CLASSES.contains(object.getClass());
+    }
+
+    /**
+     * Indicates whether the parameters and return value of the specified method may always be passed by reference between class loaders,
+     * such that invocations of this method need not create a cloner at all.
+     * This is the case if every parameter type and the return type is either primitive, or a final immutable type that resolves to the same class via the specified class loader.
+     * Since the listed types all reside in {@code java.*} packages, which only the platform may define, they also resolve to the same class via the class loader of any caller.
+     * @param method a method of a view
+     * @param loader the class loader of the deployment exposing the view
+     * @return true, if no parameter or return value of the specified method ever needs to be cloned, false otherwise.
+     */
+    public static boolean isShareable(final Method method, final ClassLoader loader) {
+        if (!isShareable(method.getReturnType(), loader)) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isShareable(parameterType, loader)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isShareable(final Class<?> type, final ClassLoader loader) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        // Non-final types (e.g. BigInteger) may be passed a mutable subclass, which must be cloned
+        if (!IMMUTABLE_CLASSES.contains(type) || !Modifier.isFinal(type.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, loader) == type;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Object clone(final Object original, final ObjectCloner objectCloner, final ClassCloner classCloner) throws IOException, ClassNotFoundException {
+        return isShareable(original) ? original : null;
+    }
+}
@@ -20,9 +20,10 @@ public enum EJB3Model {
     VERSION_8_0_0(8, 0, 0),
     VERSION_9_0_0(9, 0, 0),
     VERSION_10_0_0(10, 0, 0),
+    VERSION_11_0_0(11, 0, 0),
     ;
 
-    static final EJB3Model CURRENT = VERSION_10_0_0;
+    static final EJB3Model CURRENT = VERSION_11_0_0;
 
     private final ModelVersion version;
 
@@ -24,6 +24,7 @@ package org.jboss.as.ejb3.subsystem;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -40,10 +41,13 @@ import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
+import org.jboss.as.ejb3.remote.AssociationService;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceController;
 
 import java.util.List;
+import java.util.function.ToIntFunction;
 
 /**
  * A {@link org.jboss.as.controller.ResourceDefinition} for the EJB remote service
@@ -112,7 +116,24 @@ public class EJB3RemoteResourceDefinition extends SimpleResourceDefinition {
                     .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
                     .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { CLIENT_MAPPINGS_CLUSTER_NAME, CONNECTORS, THREAD_POOL_NAME, EXECUTE_IN_WORKER };
+    static final SimpleAttributeDefinition EXECUTE_IN_VIRTUAL_THREAD =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.EXECUTE_IN_VIRTUAL_THREAD, ModelType.BOOLEAN, true)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final AttributeDefinition IN_FLIGHT_INVOCATIONS = new SimpleAttributeDefinitionBuilder("in-flight-invocations", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    static final AttributeDefinition PEAK_IN_FLIGHT_INVOCATIONS = new SimpleAttributeDefinitionBuilder("peak-in-flight-invocations", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { CLIENT_MAPPINGS_CLUSTER_NAME, CONNECTORS, THREAD_POOL_NAME, EXECUTE_IN_WORKER, EXECUTE_IN_VIRTUAL_THREAD };
 
     static final EJB3RemoteServiceAdd ADD_HANDLER = new EJB3RemoteServiceAdd(ATTRIBUTES);
 
@@ -133,6 +154,9 @@ public class EJB3RemoteResourceDefinition extends SimpleResourceDefinition {
 
         // register custom handlers for deprecated attribute connector-ref
         resourceRegistration.registerReadWriteAttribute(CONNECTOR_REF, new RemoteConnectorRefReadAttributeHandler(), new RemoteConnectorRefWriteAttributeHandler());
+
+        resourceRegistration.registerMetric(IN_FLIGHT_INVOCATIONS, new AssociationMetricHandler(AssociationService::getInFlightInvocations));
+        resourceRegistration.registerMetric(PEAK_IN_FLIGHT_INVOCATIONS, new AssociationMetricHandler(AssociationService::getPeakInFlightInvocations));
     }
 
     @Override
@@ -141,6 +165,24 @@ public class EJB3RemoteResourceDefinition extends SimpleResourceDefinition {
         resourceRegistration.registerSubModel(new RemoteConnectorChannelCreationOptionResource());
     }
 
+    /**
+     * Metric handler for the invocations dispatched by the server association.
+     */
+    static class AssociationMetricHandler extends AbstractRuntimeOnlyHandler {
+        private final ToIntFunction<AssociationService> metric;
+
+        AssociationMetricHandler(ToIntFunction<AssociationService> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            ServiceController<?> controller = context.getServiceRegistry(false).getService(AssociationService.SERVICE_NAME);
+            AssociationService service = (controller != null) && (controller.getState() == ServiceController.State.UP) ? (AssociationService) controller.getValue() : null;
+            context.getResult().set((service != null) ? this.metric.applyAsInt(service) : 0);
+        }
+    }
+
     /**
      * read-attribute handler for deprecated attribute connector-ref:
      * - read the first connector from CONNECTORS and return that as the result
@@ -111,6 +111,7 @@ public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
         final List<ModelNode> connectorNameNodes = EJB3RemoteResourceDefinition.CONNECTORS.resolveModelAttribute(context, model).asList();
         final String threadPoolName = EJB3RemoteResourceDefinition.THREAD_POOL_NAME.resolveModelAttribute(context, model).asString();
         final boolean executeInWorker = EJB3RemoteResourceDefinition.EXECUTE_IN_WORKER.resolveModelAttribute(context, model).asBoolean();
+        final boolean executeInVirtualThread = EJB3RemoteResourceDefinition.EXECUTE_IN_VIRTUAL_THREAD.resolveModelAttribute(context, model).asBoolean();
 
         final ServiceTarget target = context.getServiceTarget();
         final CapabilityServiceSupport support = context.getCapabilityServiceSupport();
@@ -158,7 +159,7 @@ public class EJB3RemoteServiceAdd extends AbstractBoottimeAddStepHandler {
         final Supplier<AssociationService> associationServiceSupplier = builder.requires(AssociationService.SERVICE_NAME);
         final Supplier<RemotingTransactionService> remotingTransactionServiceSupplier = builder.requiresCapability(EJB3RemoteResourceDefinition.REMOTE_TRANSACTION_SERVICE_CAPABILITY_NAME, RemotingTransactionService.class);
         builder.addAliases(EJBRemoteConnectorService.SERVICE_NAME).setInitialMode(ServiceController.Mode.LAZY);
-        final EJBRemoteConnectorService ejbRemoteConnectorService = new EJBRemoteConnectorService(serviceConsumer, endpointSupplier, executorServiceSupplier, associationServiceSupplier, remotingTransactionServiceSupplier, channelCreationOptions,
+        final EJBRemoteConnectorService ejbRemoteConnectorService = new EJBRemoteConnectorService(serviceConsumer, endpointSupplier, executorServiceSupplier, executeInVirtualThread, associationServiceSupplier, remotingTransactionServiceSupplier, channelCreationOptions,
                 FilterSpecClassResolverFilter.getFilterForOperationContext(context));
         builder.setInstance(ejbRemoteConnectorService);
         builder.install();
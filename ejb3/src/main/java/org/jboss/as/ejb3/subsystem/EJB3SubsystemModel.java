@@ -68,6 +68,7 @@ public interface EJB3SubsystemModel {
 
     String ENABLE_STATISTICS = "enable-statistics";
     String STATISTICS_ENABLED = "statistics-enabled";
+    String STATISTICS_HISTOGRAMS_ENABLED = "statistics-histograms-enabled";
 
     String FILE_DATA_STORE = "file-data-store";
 
@@ -76,12 +77,14 @@ public interface EJB3SubsystemModel {
     String DERIVED_SIZE = "derived-size";
 
     String STRICT_MAX_BEAN_INSTANCE_POOL = "strict-max-bean-instance-pool";
+    String STRIPED = "striped";
 
     String MAX_THREADS = "max-threads";
     String KEEPALIVE_TIME = "keepalive-time";
 
     String RELATIVE_TO = "relative-to";
     String PATH = "path";
+    String FORMAT = "format";
 
     String DEFAULT_SINGLETON_BEAN_ACCESS_TIMEOUT = "default-singleton-bean-access-timeout";
     String DEFAULT_STATEFUL_BEAN_ACCESS_TIMEOUT = "default-stateful-bean-access-timeout";
@@ -124,6 +127,8 @@ public interface EJB3SubsystemModel {
     @Deprecated String IDLE_TIMEOUT = "idle-timeout";
     @Deprecated String IDLE_TIMEOUT_UNIT = "idle-timeout-unit";
     String MAX_SIZE = "max-size";
+    String IDLE_THRESHOLD = "idle-threshold";
+    String MAX_PASSIVATED_MEMORY_SIZE = "max-passivated-memory-size";
     @Deprecated String GROUPS_PATH = "groups-path";
     @Deprecated String SESSIONS_PATH = "sessions-path";
     @Deprecated String SUBDIRECTORY_COUNT = "subdirectory-count";
@@ -163,6 +168,7 @@ public interface EJB3SubsystemModel {
     String BASE_EJB_THREAD_POOL_NAME = "ejb3";
     ServiceName BASE_THREAD_POOL_SERVICE_NAME = ThreadsServices.EXECUTOR.append(BASE_EJB_THREAD_POOL_NAME);
     String EXECUTE_IN_WORKER = "execute-in-worker";
+    String EXECUTE_IN_VIRTUAL_THREAD = "execute-in-virtual-thread";
 
     // Elytron integration
     String APPLICATION_SECURITY_DOMAIN = "application-security-domain";
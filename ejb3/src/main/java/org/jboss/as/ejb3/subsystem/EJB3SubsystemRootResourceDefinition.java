@@ -159,6 +159,13 @@ public class EJB3SubsystemRootResourceDefinition extends SimpleResourceDefinitio
                     .setDefaultValue(ModelNode.FALSE)
                     .build();
 
+    static final SimpleAttributeDefinition STATISTICS_HISTOGRAMS_ENABLED =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.STATISTICS_HISTOGRAMS_ENABLED, ModelType.BOOLEAN, true)
+                    .setXmlName(EJB3SubsystemXMLAttribute.HISTOGRAMS_ENABLED.getLocalName())
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .build();
+
     static final SimpleAttributeDefinition DEFAULT_DISTINCT_NAME =
             new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.DEFAULT_DISTINCT_NAME, ModelType.STRING, true)
                     .setAllowExpression(true)
@@ -307,6 +314,7 @@ public class EJB3SubsystemRootResourceDefinition extends SimpleResourceDefinitio
             DEFAULT_STATEFUL_BEAN_ACCESS_TIMEOUT,
             DEFAULT_STATEFUL_BEAN_SESSION_TIMEOUT,
             STATISTICS_ENABLED,
+            STATISTICS_HISTOGRAMS_ENABLED,
             ENABLE_STATISTICS,
             PASS_BY_VALUE,
             DEFAULT_DISTINCT_NAME,
@@ -344,6 +352,7 @@ public class EJB3SubsystemRootResourceDefinition extends SimpleResourceDefinitio
             context.addStep(aliasOp, WriteAttributeHandler.INSTANCE, OperationContext.Stage.MODEL, true);
         });
         resourceRegistration.registerReadWriteAttribute(STATISTICS_ENABLED, null, StatisticsEnabledWriteHandler.INSTANCE);
+        resourceRegistration.registerReadWriteAttribute(STATISTICS_HISTOGRAMS_ENABLED, null, StatisticsEnabledWriteHandler.INSTANCE);
         resourceRegistration.registerReadWriteAttribute(PASS_BY_VALUE, null, EJBRemoteInvocationPassByValueWriteHandler.INSTANCE);
         resourceRegistration.registerReadWriteAttribute(DEFAULT_DISTINCT_NAME, null, EJBDefaultDistinctNameWriteHandler.INSTANCE);
         resourceRegistration.registerReadWriteAttribute(LOG_EJB_EXCEPTIONS, null, ExceptionLoggingWriteHandler.INSTANCE);
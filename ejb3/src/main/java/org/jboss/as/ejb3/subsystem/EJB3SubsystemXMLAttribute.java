@@ -60,8 +60,11 @@ public enum EJB3SubsystemXMLAttribute {
     ENABLE_BY_DEFAULT("enable-by-default"),
     EXCLUDE_LOCAL_RECEIVER("exclude-local-receiver"),
 
+    FORMAT("format"),
+
     @Deprecated GROUPS_PATH("groups-path"),
 
+    IDLE_THRESHOLD("idle-threshold"),
     @Deprecated IDLE_TIMEOUT("idle-timeout"),
     @Deprecated IDLE_TIMEOUT_UNIT("idle-timeout-unit"),
     INSTANCE_ACQUISITION_TIMEOUT("instance-acquisition-timeout"),
@@ -71,6 +74,7 @@ public enum EJB3SubsystemXMLAttribute {
 
     LOCAL_RECEIVER_PASS_BY_VALUE("local-receiver-pass-by-value"),
 
+    MAX_PASSIVATED_MEMORY_SIZE("max-passivated-memory-size"),
     MAX_POOL_SIZE("max-pool-size"),
     MAX_SIZE("max-size"),
     DERIVE_SIZE("derive-size"),
@@ -94,6 +98,7 @@ public enum EJB3SubsystemXMLAttribute {
 
     @Deprecated SESSIONS_PATH("sessions-path"),
     STATIC_URLS("static-urls"),
+    STRIPED("striped"),
     @Deprecated SUBDIRECTORY_COUNT("subdirectory-count"),
 
     THREAD_POOL_NAME("thread-pool-name"),
@@ -107,6 +112,10 @@ public enum EJB3SubsystemXMLAttribute {
 
     EXECUTE_IN_WORKER("execute-in-worker"),
 
+    EXECUTE_IN_VIRTUAL_THREAD("execute-in-virtual-thread"),
+
+    HISTOGRAMS_ENABLED("histograms-enabled"),
+
     // Elytron integration
     OUTFLOW_SECURITY_DOMAINS("outflow-security-domains"),
     SECURITY_DOMAIN("security-domain"),
@@ -29,6 +29,7 @@ public final class EJBStatistics {
 
     private static final EJBStatistics INSTANCE = new EJBStatistics();
     private volatile boolean enabled;
+    private volatile boolean histogramsEnabled;
 
     private EJBStatistics() {}
 
@@ -40,6 +41,18 @@ public final class EJBStatistics {
         this.enabled = enabled;
     }
 
+    /**
+     * Indicates whether execution time histograms should be recorded, in addition to the invocation statistics.
+     * @return true, if histograms should be recorded, false otherwise
+     */
+    public boolean isHistogramsEnabled() {
+        return histogramsEnabled;
+    }
+
+    void setHistogramsEnabled(final boolean histogramsEnabled) {
+        this.histogramsEnabled = histogramsEnabled;
+    }
+
     public static EJBStatistics getInstance() {
         return INSTANCE;
     }
@@ -22,8 +22,10 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_10_0_0;
 import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_9_0_0;
 
+import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
 import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
@@ -55,11 +57,47 @@ public class EJBTransformers implements ExtensionTransformerRegistration {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(currentModel);
 
         // register the transformations required for each legacy version after 9.0.0
-        registerTransformers_9_0_0(chainedBuilder.createBuilder(currentModel, VERSION_9_0_0.getVersion()));
+        registerTransformers_10_0_0(chainedBuilder.createBuilder(currentModel, VERSION_10_0_0.getVersion()));
+        registerTransformers_9_0_0(chainedBuilder.createBuilder(VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion()));
 
         // create the chained builder which incorporates all transformations
         chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[] {
-                VERSION_9_0_0.getVersion() });
+                VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion() });
+    }
+
+    /*
+     * Transformers for changes in model version 11.0.0
+     */
+    private static void registerTransformers_10_0_0(ResourceTransformationDescriptionBuilder subsystemBuilder) {
+        // Discard statistics-histograms-enabled attribute if set to its default, otherwise reject
+        subsystemBuilder.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, EJB3SubsystemRootResourceDefinition.STATISTICS_HISTOGRAMS_ENABLED)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EJB3SubsystemRootResourceDefinition.STATISTICS_HISTOGRAMS_ENABLED)
+                .end();
+        // Discard striped attribute of ejb3/strict-max-bean-instance-pool if set to its default, otherwise reject
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.STRICT_MAX_BEAN_INSTANCE_POOL_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, StrictMaxPoolResourceDefinition.STRIPED)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, StrictMaxPoolResourceDefinition.STRIPED)
+                .end();
+        // Discard format attribute of ejb3/service=timer-service/file-data-store if set to its default, otherwise reject
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.TIMER_SERVICE_PATH).addChildResource(EJB3SubsystemModel.FILE_DATA_STORE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, FileDataStoreResourceDefinition.FORMAT)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, FileDataStoreResourceDefinition.FORMAT)
+                .end();
+        // Discard execute-in-virtual-thread attribute of ejb3/service=remote if set to its default, otherwise reject
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.REMOTE_SERVICE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, EJB3RemoteResourceDefinition.EXECUTE_IN_VIRTUAL_THREAD)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, EJB3RemoteResourceDefinition.EXECUTE_IN_VIRTUAL_THREAD)
+                .end();
+        // Discard max-size and idle-threshold attributes of ejb3/simple-cache if undefined, otherwise reject
+        AttributeDefinition maxSize = SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.MAX_SIZE.getDefinition();
+        AttributeDefinition idleThreshold = SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.IDLE_THRESHOLD.getDefinition();
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.SIMPLE_CACHE_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, maxSize, idleThreshold)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, maxSize, idleThreshold)
+                // Only relevant if passivation is enabled via either of the above
+                .setDiscard(DiscardAttributeChecker.ALWAYS, SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.MAX_PASSIVATED_MEMORY_SIZE.getDefinition())
+                .end();
     }
 
     /*
@@ -21,20 +21,53 @@
  */
 package org.jboss.as.ejb3.subsystem;
 
-import java.util.function.UnaryOperator;
-
+import org.jboss.as.clustering.controller.SimpleResourceDescriptorConfigurator;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
+import org.jboss.as.controller.operations.validation.ParameterValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.ejb3.component.stateful.cache.simple.SimpleStatefulSessionBeanCacheProviderServiceConfigurator;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 
 /**
  * Defines a CacheFactoryBuilder instance which, during deployment, is used to configure, build and install a CacheFactory for the SFSB being deployed.
- * The CacheFactory resource instances defined here produce bean caches which are non distributed and do not have passivation-enabled.
+ * The CacheFactory resource instances defined here produce bean caches which are non distributed.
+ * Passivation is enabled only if the cache is bounded by size or by idle time, in which case idle beans are passivated to local off-heap memory.
  *
  * @author Paul Ferraro
  * @author Richard Achmatowicz
  */
 public class SimpleStatefulSessionBeanCacheProviderResourceDefinition extends StatefulSessionBeanCacheProviderResourceDefinition {
 
+    public enum Attribute implements org.jboss.as.clustering.controller.Attribute {
+        MAX_SIZE(EJB3SubsystemModel.MAX_SIZE, ModelType.INT, MeasurementUnit.NONE, new IntRangeValidator(0, Integer.MAX_VALUE, true, true), null),
+        IDLE_THRESHOLD(EJB3SubsystemModel.IDLE_THRESHOLD, ModelType.LONG, MeasurementUnit.MILLISECONDS, new LongRangeValidator(0, Long.MAX_VALUE, true, true), null),
+        MAX_PASSIVATED_MEMORY_SIZE(EJB3SubsystemModel.MAX_PASSIVATED_MEMORY_SIZE, ModelType.LONG, MeasurementUnit.BYTES, new LongRangeValidator(0, Long.MAX_VALUE, true, true), new ModelNode(64L * 1024 * 1024)),
+        ;
+        private final AttributeDefinition definition;
+
+        Attribute(String name, ModelType type, MeasurementUnit unit, ParameterValidator validator, ModelNode defaultValue) {
+            this.definition = new SimpleAttributeDefinitionBuilder(name, type)
+                    .setAllowExpression(true)
+                    .setRequired(false)
+                    .setDefaultValue(defaultValue)
+                    .setMeasurementUnit(unit)
+                    .setValidator(validator)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .build();
+        }
+
+        @Override
+        public AttributeDefinition getDefinition() {
+            return this.definition;
+        }
+    }
+
     public SimpleStatefulSessionBeanCacheProviderResourceDefinition() {
-        super(EJB3SubsystemModel.SIMPLE_CACHE_PATH, UnaryOperator.identity(), SimpleStatefulSessionBeanCacheProviderServiceConfigurator::new);
+        super(EJB3SubsystemModel.SIMPLE_CACHE_PATH, new SimpleResourceDescriptorConfigurator<>(Attribute.class), SimpleStatefulSessionBeanCacheProviderServiceConfigurator::new);
     }
 }
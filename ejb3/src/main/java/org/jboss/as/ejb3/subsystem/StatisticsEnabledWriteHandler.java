@@ -28,6 +28,7 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.dmr.ModelNode;
 
 import static org.jboss.as.ejb3.subsystem.EJB3SubsystemRootResourceDefinition.STATISTICS_ENABLED;
+import static org.jboss.as.ejb3.subsystem.EJB3SubsystemRootResourceDefinition.STATISTICS_HISTOGRAMS_ENABLED;
 
 /**
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
@@ -37,7 +38,7 @@ class StatisticsEnabledWriteHandler extends AbstractWriteAttributeHandler<Void>
     static StatisticsEnabledWriteHandler INSTANCE = new StatisticsEnabledWriteHandler();
 
     StatisticsEnabledWriteHandler(){
-        super(STATISTICS_ENABLED);
+        super(STATISTICS_ENABLED, STATISTICS_HISTOGRAMS_ENABLED);
     }
 
     @Override
@@ -56,6 +57,8 @@ class StatisticsEnabledWriteHandler extends AbstractWriteAttributeHandler<Void>
 
     void updateToRuntime(final OperationContext context, final ModelNode model) throws OperationFailedException {
         final boolean statisticsEnabled = STATISTICS_ENABLED.resolveModelAttribute(context, model).asBoolean();
+        final boolean histogramsEnabled = STATISTICS_HISTOGRAMS_ENABLED.resolveModelAttribute(context, model).asBoolean();
         EJBStatistics.getInstance().setEnabled(statisticsEnabled);
+        EJBStatistics.getInstance().setHistogramsEnabled(histogramsEnabled);
     }
 }
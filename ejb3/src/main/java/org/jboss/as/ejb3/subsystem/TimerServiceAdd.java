@@ -24,8 +24,6 @@ package org.jboss.as.ejb3.subsystem;
 
 import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 
-import java.util.Timer;
-
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
@@ -33,6 +31,7 @@ import org.jboss.as.ejb3.deployment.processors.AroundTimeoutAnnotationParsingPro
 import org.jboss.as.ejb3.deployment.processors.TimerServiceDeploymentProcessor;
 import org.jboss.as.ejb3.deployment.processors.annotation.TimerServiceAnnotationProcessor;
 import org.jboss.as.ejb3.deployment.processors.merging.TimerMethodMergingProcessor;
+import org.jboss.as.ejb3.timerservice.TimerScheduler;
 import org.jboss.as.ejb3.timerservice.TimerServiceMetaData;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
@@ -79,28 +78,28 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
         }, OperationContext.Stage.RUNTIME);
 
         if (threadPoolName != null) {
-            context.getCapabilityServiceTarget().addCapability(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY).setInstance(new TimerValueService()).install();
+            context.getCapabilityServiceTarget().addCapability(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY).setInstance(new TimerSchedulerService()).install();
         }
     }
 
-    private static final class TimerValueService implements Service<Timer> {
+    private static final class TimerSchedulerService implements Service<TimerScheduler> {
 
-        private Timer timer;
+        private TimerScheduler scheduler;
 
         @Override
         public synchronized void start(final StartContext context) throws StartException {
-            timer = new Timer();
+            scheduler = new TimerScheduler();
         }
 
         @Override
         public synchronized void stop(final StopContext context) {
-            timer.cancel();
-            timer = null;
+            scheduler.close();
+            scheduler = null;
         }
 
         @Override
-        public synchronized Timer getValue() throws IllegalStateException, IllegalArgumentException {
-            return timer;
+        public synchronized TimerScheduler getValue() throws IllegalStateException, IllegalArgumentException {
+            return scheduler;
         }
     }
 }
@@ -22,6 +22,7 @@
 
 package org.jboss.as.ejb3.subsystem.deployment;
 
+import java.util.List;
 import java.util.Map;
 
 import org.jboss.as.controller.AttributeDefinition;
@@ -33,15 +34,18 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
+import org.jboss.as.ejb3.component.invocationmetrics.LatencyHistogram;
 import org.jboss.as.ejb3.component.stateful.StatefulSessionComponent;
 import org.jboss.as.ejb3.component.stateful.StatefulSessionComponentInstance;
 import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCache;
 import org.jboss.as.ejb3.subsystem.EJB3Extension;
+import org.jboss.as.ejb3.timerservice.spi.ManagedTimerService;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.ejb.client.SessionID;
@@ -106,9 +110,41 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
             .build();
 
+    // Execution time percentiles, only defined if histograms are enabled
+    private static final AttributeDefinition EXECUTION_TIME_P50 = new SimpleAttributeDefinitionBuilder("execution-time-p50", ModelType.LONG, true)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+            .build();
+
+    private static final AttributeDefinition EXECUTION_TIME_P95 = new SimpleAttributeDefinitionBuilder("execution-time-p95", ModelType.LONG, true)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+            .build();
+
+    private static final AttributeDefinition EXECUTION_TIME_P99 = new SimpleAttributeDefinitionBuilder("execution-time-p99", ModelType.LONG, true)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+            .build();
+
+    // In-VM invocations via a remote view, by whether their parameters were cloned
+    private static final AttributeDefinition CLONED_INVOCATIONS = new SimpleAttributeDefinitionBuilder("cloned-invocations", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final AttributeDefinition PASS_BY_REFERENCE_INVOCATIONS = new SimpleAttributeDefinitionBuilder("pass-by-reference-invocations", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final List<Map.Entry<AttributeDefinition, Double>> EXECUTION_TIME_PERCENTILES = List.of(Map.entry(EXECUTION_TIME_P50, 50d), Map.entry(EXECUTION_TIME_P95, 95d), Map.entry(EXECUTION_TIME_P99, 99d));
+
     private static final AttributeDefinition METHODS = ObjectMapAttributeDefinition.Builder.of(
             "methods",
-            ObjectTypeAttributeDefinition.Builder.of("complex", EXECUTION_TIME, INVOCATIONS, WAIT_TIME)
+            ObjectTypeAttributeDefinition.Builder.of("complex", EXECUTION_TIME, INVOCATIONS, WAIT_TIME, EXECUTION_TIME_P50, EXECUTION_TIME_P95, EXECUTION_TIME_P99, CLONED_INVOCATIONS, PASS_BY_REFERENCE_INVOCATIONS)
             .build())
             .setRequired(false)
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
@@ -141,6 +177,41 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    private static final AttributeDefinition ACTIVATION_COUNT = new SimpleAttributeDefinitionBuilder("activation-count", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final AttributeDefinition PASSIVATION_COUNT = new SimpleAttributeDefinitionBuilder("passivation-count", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final AttributeDefinition PASSIVATED_MEMORY_SIZE = new SimpleAttributeDefinitionBuilder("passivated-memory-size", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.BYTES)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    // Timer attributes
+
+    private static final AttributeDefinition TIMER_TIMEOUT_COUNT = new SimpleAttributeDefinitionBuilder("timer-timeout-count", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final AttributeDefinition TIMER_AVERAGE_LATENESS = new SimpleAttributeDefinitionBuilder("timer-average-lateness", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final AttributeDefinition TIMER_MAX_LATENESS = new SimpleAttributeDefinitionBuilder("timer-max-lateness", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
     // Pool attributes
 
     public static final SimpleAttributeDefinition POOL_AVAILABLE_COUNT = new SimpleAttributeDefinitionBuilder("pool-available-count", ModelType.INT, false)
@@ -217,6 +288,52 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                     context.getResult().set(cache.getActiveCount() + cache.getPassiveCount());
                 }
             });
+            resourceRegistration.registerMetric(ACTIVATION_COUNT, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    StatefulSessionBeanCache<SessionID, StatefulSessionComponentInstance> cache = ((StatefulSessionComponent) component).getCache();
+                    context.getResult().set(cache.getActivationCount());
+                }
+            });
+            resourceRegistration.registerMetric(PASSIVATION_COUNT, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    StatefulSessionBeanCache<SessionID, StatefulSessionComponentInstance> cache = ((StatefulSessionComponent) component).getCache();
+                    context.getResult().set(cache.getPassivationCount());
+                }
+            });
+            resourceRegistration.registerMetric(PASSIVATED_MEMORY_SIZE, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    StatefulSessionBeanCache<SessionID, StatefulSessionComponentInstance> cache = ((StatefulSessionComponent) component).getCache();
+                    context.getResult().set(cache.getPassivatedMemorySize());
+                }
+            });
+        }
+
+        if (componentType.hasTimer()) {
+            resourceRegistration.registerMetric(TIMER_TIMEOUT_COUNT, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    ManagedTimerService timerService = component.getTimerService();
+                    context.getResult().set((timerService != null) ? timerService.getTimeoutCount() : 0L);
+                }
+            });
+            resourceRegistration.registerMetric(TIMER_AVERAGE_LATENESS, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    ManagedTimerService timerService = component.getTimerService();
+                    long count = (timerService != null) ? timerService.getTimeoutCount() : 0L;
+                    context.getResult().set((count > 0) ? timerService.getTotalTimeoutLateness() / count : 0L);
+                }
+            });
+            resourceRegistration.registerMetric(TIMER_MAX_LATENESS, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    ManagedTimerService timerService = component.getTimerService();
+                    context.getResult().set((timerService != null) ? timerService.getMaxTimeoutLateness() : 0L);
+                }
+            });
         }
 
         resourceRegistration.registerMetric(EXECUTION_TIME, new AbstractRuntimeMetricsHandler() {
@@ -243,6 +360,18 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                 context.getResult().set(component.getInvocationMetrics().getWaitTime());
             }
         });
+        for (Map.Entry<AttributeDefinition, Double> entry : EXECUTION_TIME_PERCENTILES) {
+            double percentile = entry.getValue();
+            resourceRegistration.registerMetric(entry.getKey(), new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    LatencyHistogram.Snapshot histogram = component.getInvocationMetrics().getExecutionTimeHistogram();
+                    if (histogram != null) {
+                        context.getResult().set(histogram.getValueAtPercentile(percentile));
+                    }
+                }
+            });
+        }
         resourceRegistration.registerMetric(METHODS, new AbstractRuntimeMetricsHandler() {
             @Override
             protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
@@ -253,6 +382,14 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                     result.get("execution-time").set(values.getExecutionTime());
                     result.get("invocations").set(values.getInvocations());
                     result.get("wait-time").set(values.getWaitTime());
+                    result.get(CLONED_INVOCATIONS.getName()).set(values.getClonedInvocations());
+                    result.get(PASS_BY_REFERENCE_INVOCATIONS.getName()).set(values.getPassByReferenceInvocations());
+                    final LatencyHistogram.Snapshot histogram = values.getExecutionTimeHistogram();
+                    if (histogram != null) {
+                        for (Map.Entry<AttributeDefinition, Double> percentile : EXECUTION_TIME_PERCENTILES) {
+                            result.get(percentile.getKey().getName()).set(histogram.getValueAtPercentile(percentile.getValue()));
+                        }
+                    }
                     context.getResult().get(entry.getKey()).set(result);
                 }
             }
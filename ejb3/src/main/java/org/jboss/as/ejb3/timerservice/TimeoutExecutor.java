@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor of the timeouts of a single timer service, which limits the number of timeouts concurrently submitted to an executor shared with other timer services.
+ * Timeouts exceeding this limit are queued, in order of expiration, until a previously submitted timeout completes.
+ * This prevents a timer service with a large number of simultaneous expirations from starving the timeouts of other timer services.
+ * A timeout rejected by the shared executor is never dropped: it is returned to the head of the queue, to be resubmitted once a previously submitted timeout completes,
+ * or, if no previously submitted timeout remains to do so, run by the calling thread.
+ * @author agent
+ */
+public class TimeoutExecutor implements Executor {
+
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final Deque<Runnable> pending = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger submitted = new AtomicInteger();
+
+    public TimeoutExecutor(Executor executor, int maxConcurrency) {
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.pending.add(task);
+        this.submitPending();
+    }
+
+    /**
+     * Returns the number of timeouts waiting to be submitted to the shared executor.
+     * @return a number of timeouts
+     */
+    public int getPendingCount() {
+        return this.pending.size();
+    }
+
+    private void submitPending() {
+        while (!this.pending.isEmpty()) {
+            int submitted = this.submitted.get();
+            if (submitted >= this.maxConcurrency) return;
+            if (!this.submitted.compareAndSet(submitted, submitted + 1)) continue;
+            Runnable task = this.pending.poll();
+            if (task == null) {
+                // Lost race with a concurrent submission, recheck
+                this.submitted.decrementAndGet();
+                continue;
+            }
+            try {
+                this.executor.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        this.submitted.decrementAndGet();
+                        this.submitPending();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                Runnable rejected = task;
+                if (this.submitted.decrementAndGet() > 0) {
+                    // Resubmit upon completion of a previously submitted timeout
+                    this.pending.addFirst(rejected);
+                    // Recheck, in case previously submitted timeouts completed concurrently
+                    if (this.submitted.get() > 0) return;
+                    rejected = this.pending.pollFirst();
+                    if (rejected == null) return;
+                }
+                // No previously submitted timeout remains to resubmit this timeout
+                rejected.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Server-wide scheduler of timer expirations, shared by all timer services.
+ * Pending expirations are maintained by a single thread in a delay queue, from which cancelled expirations are removed immediately.
+ * Scheduled tasks run on the scheduler thread, and must therefore never block, but instead dispatch any timeout or persistence work to an executor.
+ * @author agent
+ */
+public class TimerScheduler {
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    public TimerScheduler() {
+        // The scheduler thread is created lazily, by whichever deployment first schedules a task
+        // Create it using the access control context of this module, and without a context class loader, lest it pin that deployment's class loader
+        ThreadFactory factory = AccessController.doPrivileged(new PrivilegedAction<ThreadFactory>() {
+            @Override
+            public ThreadFactory run() {
+                return new JBossThreadFactory(new ThreadGroup("EJB timer scheduler"), Boolean.TRUE, null, "%G - %t", null, null);
+            }
+        });
+        this.executor = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = factory.newThread(task);
+            if (WildFlySecurityManager.isChecking()) {
+                AccessController.doPrivileged(new PrivilegedAction<Void>() {
+                    @Override
+                    public Void run() {
+                        thread.setContextClassLoader(null);
+                        return null;
+                    }
+                });
+            } else {
+                thread.setContextClassLoader(null);
+            }
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.executor.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Schedules the specified non-blocking task to run once after the specified delay.
+     * @param task a non-blocking task
+     * @param delay a delay in milliseconds, where a negative delay is treated as zero
+     * @return a future with which the task can be cancelled
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long delay) {
+        return this.executor.schedule(task, Math.max(delay, 0L), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules the specified non-blocking task to run periodically, at a fixed rate.
+     * @param task a non-blocking task
+     * @param initialDelay the delay of the first execution in milliseconds, where a negative delay is treated as zero
+     * @param period the period between successive executions in milliseconds
+     * @return a future with which the task can be cancelled
+     */
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long initialDelay, long period) {
+        return this.executor.scheduleAtFixedRate(task, Math.max(initialDelay, 0L), period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the number of pending expirations.
+     * @return a number of scheduled tasks
+     */
+    public int getPendingCount() {
+        return this.executor.getQueue().size();
+    }
+
+    /**
+     * Discards all pending expirations and terminates the scheduler thread.
+     */
+    public void close() {
+        this.executor.shutdownNow();
+    }
+}
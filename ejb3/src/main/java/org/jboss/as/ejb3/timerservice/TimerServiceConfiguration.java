@@ -22,7 +22,6 @@
 
 package org.jboss.as.ejb3.timerservice;
 
-import java.util.Timer;
 import java.util.concurrent.ExecutorService;
 
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
@@ -35,7 +34,7 @@ public interface TimerServiceConfiguration extends ManagedTimerServiceConfigurat
 
     ExecutorService getExecutor();
 
-    Timer getTimer();
+    TimerScheduler getTimerScheduler();
 
     TimerPersistence getTimerPersistence();
 }
@@ -22,7 +22,6 @@
 
 package org.jboss.as.ejb3.timerservice;
 
-import java.util.Timer;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -65,7 +64,7 @@ public class TimerServiceFactoryServiceConfigurator extends SimpleServiceNamePro
     private final String store;
     private final TimedObjectInvokerFactory invokerFactory;
 
-    private volatile SupplierDependency<Timer> timer;
+    private volatile SupplierDependency<TimerScheduler> scheduler;
     private volatile SupplierDependency<ExecutorService> executor;
     private volatile SupplierDependency<TimerPersistence> persistence;
     private volatile Predicate<TimerConfig> timerFilter = TimerFilter.ALL;
@@ -86,7 +85,7 @@ public class TimerServiceFactoryServiceConfigurator extends SimpleServiceNamePro
 
     @Override
     public ServiceConfigurator configure(CapabilityServiceSupport support) {
-        this.timer = new ServiceSupplierDependency<>(support.getCapabilityServiceName(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY_NAME));
+        this.scheduler = new ServiceSupplierDependency<>(support.getCapabilityServiceName(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY_NAME));
         this.executor = new ServiceSupplierDependency<>(support.getCapabilityServiceName(TimerServiceResourceDefinition.THREAD_POOL_CAPABILITY_NAME, this.threadPoolName));
         this.persistence = (this.store != null) ? new ServiceSupplierDependency<>(support.getCapabilityServiceName(TimerServiceResourceDefinition.TIMER_PERSISTENCE_CAPABILITY_NAME, this.store)) : null;
         return this;
@@ -96,7 +95,7 @@ public class TimerServiceFactoryServiceConfigurator extends SimpleServiceNamePro
     public ServiceBuilder<?> build(ServiceTarget target) {
         ServiceName name = this.getServiceName();
         ServiceBuilder<?> builder = target.addService(name);
-        Consumer<ManagedTimerServiceFactory> factory = new CompositeDependency(this.timer, this.executor, this.persistence).register(builder).provides(name);
+        Consumer<ManagedTimerServiceFactory> factory = new CompositeDependency(this.scheduler, this.executor, this.persistence).register(builder).provides(name);
         return builder.setInstance(Service.newInstance(factory, this)).setInitialMode(ServiceController.Mode.ON_DEMAND);
     }
 
@@ -106,7 +105,7 @@ public class TimerServiceFactoryServiceConfigurator extends SimpleServiceNamePro
         TimerServiceRegistry registry = this.registry;
         TimerListener listener = this.listener;
         ExecutorService executor = this.executor.get();
-        Timer timer = this.timer.get();
+        TimerScheduler scheduler = this.scheduler.get();
         TimerPersistence persistence = (this.persistence != null) ? this.persistence.get() : null;
         Predicate<TimerConfig> timerFilter = this.timerFilter;
         return new TimerServiceImpl(new TimerServiceConfiguration() {
@@ -131,8 +130,8 @@ public class TimerServiceFactoryServiceConfigurator extends SimpleServiceNamePro
             }
 
             @Override
-            public Timer getTimer() {
-                return timer;
+            public TimerScheduler getTimerScheduler() {
+                return scheduler;
             }
 
             @Override
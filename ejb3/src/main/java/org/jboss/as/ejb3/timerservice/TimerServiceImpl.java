@@ -39,6 +39,10 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 
 import jakarta.ejb.EJBException;
@@ -89,7 +93,7 @@ public class TimerServiceImpl implements ManagedTimerService {
     /**
      * Holds the {@link java.util.concurrent.Future} of each of the timer tasks that have been scheduled
      */
-    private final ConcurrentMap<String, java.util.TimerTask> scheduledTimerFutures = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Task> scheduledTimerFutures = new ConcurrentHashMap<>();
 
     /**
      * Key that is used to store timers that are waiting on transaction completion in the transaction local
@@ -97,7 +101,8 @@ public class TimerServiceImpl implements ManagedTimerService {
     private final Object waitingOnTxCompletionKey = new Object();
 
     private final ExecutorService executor;
-    private final java.util.Timer timer;
+    private final TimeoutExecutor timeoutExecutor;
+    private final TimerScheduler scheduler;
     private final TimedObjectInvoker invoker;
     private final TimerPersistence persistence;
     private final TimerServiceRegistry timerServiceRegistry;
@@ -108,8 +113,18 @@ public class TimerServiceImpl implements ManagedTimerService {
 
     private volatile boolean started = false;
 
+    // Lateness of each timeout, i.e. the duration between its scheduled and actual start time
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalLateness = new LongAdder();
+    private final LongAccumulator maxLateness = new LongAccumulator(Math::max, 0L);
+
     private static final Integer MAX_RETRY = Integer.getInteger("jboss.timer.TaskPostPersist.maxRetry", 10);
 
+    /**
+     * The maximum number of timeouts of a single timer service that may be concurrently submitted to its executor.
+     */
+    private static final int MAX_CONCURRENT_TIMEOUTS = Integer.getInteger("jboss.timer.service.maxConcurrentTimeouts", Runtime.getRuntime().availableProcessors());
+
     /**
      * Creates a {@link TimerServiceImpl}.
      * @param configuration the configuration of this timer service
@@ -117,7 +132,8 @@ public class TimerServiceImpl implements ManagedTimerService {
     public TimerServiceImpl(TimerServiceConfiguration configuration) {
         this.invoker = configuration.getInvoker();
         this.executor = configuration.getExecutor();
-        this.timer = configuration.getTimer();
+        this.timeoutExecutor = (this.executor != null) ? new TimeoutExecutor(this.executor, MAX_CONCURRENT_TIMEOUTS) : null;
+        this.scheduler = configuration.getTimerScheduler();
         this.persistence = configuration.getTimerPersistence();
         this.timerServiceRegistry = configuration.getTimerServiceRegistry();
         this.timerListener = configuration.getTimerListener();
@@ -172,7 +188,21 @@ public class TimerServiceImpl implements ManagedTimerService {
         started = false;
         safeClose(listenerHandle);
         listenerHandle = null;
-        this.timer.purge(); //WFLY-3823
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return this.timeouts.sum();
+    }
+
+    @Override
+    public long getTotalTimeoutLateness() {
+        return this.totalLateness.sum();
+    }
+
+    @Override
+    public long getMaxTimeoutLateness() {
+        return this.maxLateness.get();
     }
 
     @Override
@@ -666,7 +696,7 @@ public class TimerServiceImpl implements ManagedTimerService {
         final long currentTime = System.currentTimeMillis();
         long delay = nextExpiration.getTime() - currentTime;
         long intervalDuration = timer.getInterval();
-        final Task task = new Task(timerTask, this.invoker.getComponent().getControlPoint());
+        final Task task = new Task(timerTask, this.invoker.getComponent().getControlPoint(), intervalDuration);
 
         // maintain it in timerservice for future use (like cancellation)
         scheduledTimerFutures.compute(timer.getId(), (k, v) -> timer.isCanceled() ? null : task);
@@ -679,7 +709,8 @@ public class TimerServiceImpl implements ManagedTimerService {
             if (delay < 0) {
                 delay = 0;
             }
-            this.timer.scheduleAtFixedRate(task, delay, intervalDuration);
+            task.setExpiration(currentTime + delay);
+            task.setFuture(this.scheduler.scheduleAtFixedRate(task, delay, intervalDuration));
         } else {
             EJB3_TIMER_LOGGER.debugv("Scheduling a single action timer {0} starting at {1} milliseconds from now", timer, delay);
             // if in past, then trigger immediately; if overdue by 5 minutes, set next expiration to current time
@@ -689,7 +720,8 @@ public class TimerServiceImpl implements ManagedTimerService {
                 }
                 delay = 0;
             }
-            this.timer.schedule(task, delay);
+            task.setExpiration(currentTime + delay);
+            task.setFuture(this.scheduler.schedule(task, delay));
         }
     }
 
@@ -929,7 +961,7 @@ public class TimerServiceImpl implements ManagedTimerService {
         }
     }
 
-    private class TaskPostPersist extends java.util.TimerTask {
+    private class TaskPostPersist implements Runnable {
         private final TimerImpl timer;
         private long delta = 0;
         private long nextExpirationPristine = 0;
@@ -971,7 +1003,7 @@ public class TimerServiceImpl implements ManagedTimerService {
                     if (delta == 0L) {
                         delta = nextExpirationDelay / (1L + MAX_RETRY.longValue());
                     }
-                    TimerServiceImpl.this.timer.schedule(new TaskPostPersist(timer, delta, nextExpirationPristine), delta);
+                    TimerServiceImpl.this.scheduler.schedule(new TaskPostPersist(timer, delta, nextExpirationPristine), delta);
                 } else {
                     EJB3_TIMER_LOGGER.exceptionPersistPostTimerState(timer, e);
                 }
@@ -979,45 +1011,82 @@ public class TimerServiceImpl implements ManagedTimerService {
         }
     }
 
-    private class Task extends java.util.TimerTask {
+    private class Task implements Runnable {
 
         private final TimerTask delegate;
         private final ControlPoint controlPoint;
+        private final long interval;
         /**
          * This is true if a task is queued up to be run by the request controller,
          * used to stop timer tasks banking up when the container is suspended.
          */
         private volatile boolean queued = false;
+        private volatile boolean canceled = false;
+        private volatile ScheduledFuture<?> future;
+        // The time at which the next timeout is scheduled to start
+        private volatile long expiration;
 
-        public Task(final TimerTask delegate, ControlPoint controlPoint) {
+        Task(final TimerTask delegate, ControlPoint controlPoint, long interval) {
             this.delegate = delegate;
             this.controlPoint = controlPoint;
+            this.interval = interval;
+        }
+
+        void setExpiration(long expiration) {
+            this.expiration = expiration;
+        }
+
+        void setFuture(ScheduledFuture<?> future) {
+            this.future = future;
+            // Handle cancellation prior to scheduling
+            if (this.canceled) {
+                future.cancel(false);
+            }
         }
 
         @Override
         public void run() {
-            if (executor != null) {
+            if (timeoutExecutor != null) {
+                long expiration = this.expiration;
+                if (this.interval > 0) {
+                    this.expiration = expiration + this.interval;
+                }
+                Runnable timeout = () -> {
+                    long lateness = Math.max(System.currentTimeMillis() - expiration, 0L);
+                    timeouts.increment();
+                    totalLateness.add(lateness);
+                    maxLateness.accumulate(lateness);
+                    delegate.run();
+                };
                 if (controlPoint == null) {
-                    executor.submit(delegate);
+                    try {
+                        timeoutExecutor.execute(timeout);
+                    } catch (RejectedExecutionException e) {
+                        // Do not propagate to the scheduler, which would cancel an interval timer
+                        EjbLogger.EJB3_TIMER_LOGGER.timeoutRejected(delegate.timerId, e);
+                    }
                 } else if (!queued) {
                     queued = true;
                     controlPoint.queueTask(new Runnable() {
                         @Override
                         public void run() {
                             queued = false;
-                            delegate.run();
+                            timeout.run();
                         }
-                    }, executor, -1, null, false);
+                    }, timeoutExecutor, -1, null, false);
                 } else {
                     EjbLogger.EJB3_TIMER_LOGGER.debug("Skipping timer invocation as existing request is already queued.");
                 }
             }
         }
 
-        @Override
-        public boolean cancel() {
-            delegate.cancel();
-            return super.cancel();
+        void cancel() {
+            this.canceled = true;
+            this.delegate.cancel();
+            ScheduledFuture<?> future = this.future;
+            if (future != null) {
+                future.cancel(false);
+            }
         }
     }
 
@@ -139,6 +139,21 @@ public class CompositeTimerService implements ManagedTimerService {
         return timer;
     }
 
+    @Override
+    public long getTimeoutCount() {
+        return this.transientTimerService.getTimeoutCount() + this.persistentTimerService.getTimeoutCount();
+    }
+
+    @Override
+    public long getTotalTimeoutLateness() {
+        return this.transientTimerService.getTotalTimeoutLateness() + this.persistentTimerService.getTotalTimeoutLateness();
+    }
+
+    @Override
+    public long getMaxTimeoutLateness() {
+        return Math.max(this.transientTimerService.getMaxTimeoutLateness(), this.persistentTimerService.getMaxTimeoutLateness());
+    }
+
     @Override
     public String toString() {
         return String.format("%s(%s)", this.getClass().getSimpleName(), this.invoker.getTimedObjectId());
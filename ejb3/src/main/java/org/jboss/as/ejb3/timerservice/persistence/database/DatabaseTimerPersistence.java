@@ -55,10 +55,16 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Queue;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -69,11 +75,14 @@ import jakarta.transaction.HeuristicMixedException;
 import jakarta.transaction.HeuristicRollbackException;
 import jakarta.transaction.NotSupportedException;
 import jakarta.transaction.RollbackException;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
 import jakarta.transaction.SystemException;
 
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.timerservice.CalendarTimer;
 import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerScheduler;
 import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
 import org.jboss.as.ejb3.timerservice.TimerState;
 import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
@@ -95,6 +104,7 @@ import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.wildfly.security.manager.WildFlySecurityManager;
 import org.wildfly.transaction.client.ContextTransactionManager;
+import org.wildfly.transaction.client.ContextTransactionSynchronizationRegistry;
 
 /**
  * <p>
@@ -109,11 +119,18 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final Consumer<DatabaseTimerPersistence> dbConsumer;
     private final Supplier<ManagedReferenceFactory> dataSourceSupplier;
     private final Supplier<ModuleLoader> moduleLoaderSupplier;
-    private final Supplier<Timer> timerSupplier;
+    private final Supplier<TimerScheduler> schedulerSupplier;
     private final Map<String, TimerChangeListener> changeListeners = Collections.synchronizedMap(new HashMap<String, TimerChangeListener>());
 
 
     private final Map<String, Set<String>> knownTimerIds = new HashMap<>();
+    /** The time of the last refresh of each timed object, guarded by this instance */
+    private final Map<String, Long> refreshWatermarks = new HashMap<>();
+    /** Claims of expiring timers awaiting a transaction */
+    private final Queue<TimerClaim> pendingClaims = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean claiming = new AtomicBoolean();
+    /** Key of the timer write batch of the current transaction */
+    private final Object writeBatchKey = new Object();
 
     /** Identifier for the database dialect to be used for the timer-sql.properties */
     private String database;
@@ -131,6 +148,9 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private MarshallerFactory factory;
     private MarshallingConfiguration configuration;
     private RefreshTask refreshTask;
+    /** Runs refresh queries, which must never block the shared timer scheduler */
+    private ExecutorService refreshExecutor;
+    private ScheduledFuture<?> refreshFuture;
 
     /** database values */
     private static final String POSTGRES = "postgres";
@@ -157,6 +177,13 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private static final String DELETE_TIMER = "delete-timer";
     private static final String UPDATE_RUNNING = "update-running";
     private static final String GET_TIMER_INFO = "get-timer-info";
+    private static final String LOAD_CHANGED_TIMERS = "load-changed-timers";
+    private static final String LOAD_TIMER_IDS = "load-timer-ids";
+    private static final String COUNT_TIMERS = "count-timers";
+    private static final String ADD_LAST_MODIFIED = "add-last-modified";
+    private static final String CLAIM_TIMERS = "claim-timers";
+    /** Maximum number of statements per JDBC batch, and of timers claimed per transaction */
+    private static final int MAX_BATCH_SIZE = 100;
     /** The format for scheduler start and end date*/
     private static final String SCHEDULER_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
     /** Pattern to pickout MSSQL */
@@ -184,15 +211,40 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final long clearTimerInfoCacheBeyond = TimeUnit.MINUTES.toMillis(Long.parseLong(
             WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.clearTimerInfoCacheBeyond", "15")));
 
+    /**
+     * System property {@code jboss.ejb.timer.database.refreshOverlap}
+     * to configure the period (in seconds) by which consecutive refreshes overlap
+     * when database is used as the data store for the ejb timer service.
+     * The default value is 60 seconds.
+     * <p>
+     * A refresh only loads those timers modified since the previous refresh, less this period,
+     * which compensates for clock skew between nodes and for transactions that committed late.
+     * <p>
+     * Nodes of a previous release never set LAST_MODIFIED, thus, within a mixed cluster, updates to existing timers made by such nodes
+     * are not visible to the refresh of newer nodes until the cluster is fully upgraded.
+     * Timers created or removed by such nodes are still detected, since they change the number of timers.
+     */
+    private final long refreshOverlap = TimeUnit.SECONDS.toMillis(Long.parseLong(
+            WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.refreshOverlap", "60")));
+
+    /**
+     * System property {@code jboss.ejb.timer.database.claimTimeout}
+     * to configure the maximum period (in seconds) to wait for the claim of an expiring timer
+     * when database is used as the data store for the ejb timer service.
+     * The default value is 300 seconds, i.e. the default transaction timeout.
+     */
+    private final long claimTimeout = TimeUnit.SECONDS.toMillis(Long.parseLong(
+            WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.claimTimeout", "300")));
+
     public DatabaseTimerPersistence(final Consumer<DatabaseTimerPersistence> dbConsumer,
                                     final Supplier<ManagedReferenceFactory> dataSourceSupplier,
                                     final Supplier<ModuleLoader> moduleLoaderSupplier,
-                                    final Supplier<Timer> timerSupplier,
+                                    final Supplier<TimerScheduler> schedulerSupplier,
                                     final String database, String partition, String nodeName, int refreshInterval, boolean allowExecution) {
         this.dbConsumer = dbConsumer;
         this.dataSourceSupplier = dataSourceSupplier;
         this.moduleLoaderSupplier = moduleLoaderSupplier;
-        this.timerSupplier = timerSupplier;
+        this.schedulerSupplier = schedulerSupplier;
         this.database = database;
         this.partition = partition;
         this.nodeName = nodeName;
@@ -212,17 +264,33 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         investigateDialect();
         loadSqlProperties();
         checkDatabase();
+        checkLastModifiedColumn();
+        checkClaimStatement();
         refreshTask = new RefreshTask();
         if (refreshInterval > 0) {
-            timerSupplier.get().schedule(refreshTask, refreshInterval, refreshInterval);
+            ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "EJB timer refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            refreshExecutor = executor;
+            refreshFuture = schedulerSupplier.get().scheduleAtFixedRate(() -> executor.execute(refreshTask), refreshInterval, refreshInterval);
         }
     }
 
     @Override
     public synchronized void stop(final StopContext context) {
         dbConsumer.accept(null);
-        refreshTask.cancel();
+        if (refreshFuture != null) {
+            refreshFuture.cancel(false);
+            refreshFuture = null;
+        }
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+            refreshExecutor = null;
+        }
         knownTimerIds.clear();
+        refreshWatermarks.clear();
         managedReference.release();
         managedReference = null;
         dataSource = null;
@@ -420,6 +488,99 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    /**
+     * Checks whether the timer table contains the LAST_MODIFIED column required for incremental refresh,
+     * and adds it, along with the index used by incremental refresh, to a table created by a previous release if necessary.
+     */
+    private void checkLastModifiedColumn() {
+        Connection connection = null;
+        Statement statement = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+        try {
+            connection = dataSource.getConnection();
+            preparedStatement = connection.prepareStatement(sql.getProperty(LOAD_CHANGED_TIMERS));
+            preparedStatement.setString(1, "NON-EXISTENT");
+            preparedStatement.setString(2, "NON-EXISTENT");
+            preparedStatement.setLong(3, Long.MAX_VALUE);
+            resultSet = preparedStatement.executeQuery();
+        } catch (SQLException e) {
+            if ((connection != null) && isUndefinedColumn(e)) {
+                try {
+                    String[] statements = sql.getProperty(ADD_LAST_MODIFIED).split(";");
+                    for (final String sql : statements) {
+                        try {
+                            statement = connection.createStatement();
+                            statement.executeUpdate(sql);
+                        } finally {
+                            safeClose(statement);
+                        }
+                    }
+                } catch (SQLException e1) {
+                    EjbLogger.EJB3_TIMER_LOGGER.couldNotAddLastModifiedColumn(e1);
+                }
+            } else {
+                EjbLogger.EJB3_TIMER_LOGGER.couldNotAddLastModifiedColumn(e);
+            }
+        } finally {
+            safeClose(resultSet);
+            safeClose(preparedStatement);
+            safeClose(statement);
+            safeClose(connection);
+        }
+    }
+
+    /**
+     * Indicates whether the specified exception was caused by a reference to a column that does not exist.
+     */
+    static boolean isUndefinedColumn(SQLException e) {
+        String state = e.getSQLState();
+        if (state == null) {
+            return false;
+        }
+        switch (state) {
+            // SQL:2003 (H2, MySQL, MariaDB, SQL Server), PostgreSQL and DB2, Sybase respectively
+            case "42S22":
+            case "42703":
+            case "S0022":
+                return true;
+            // Oracle reports ORA-00904 (invalid identifier) using a generic syntax error state
+            case "42000":
+                return e.getErrorCode() == 904;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Checks whether the database supports the statement, if any, used to lock multiple timers while skipping those already locked.
+     * If not, timers are claimed using individual updates.
+     */
+    private void checkClaimStatement() {
+        String claimTimers = sql.getProperty(CLAIM_TIMERS);
+        if (claimTimers == null) {
+            return;
+        }
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            connection = dataSource.getConnection();
+            statement = connection.prepareStatement(String.format(claimTimers, "?"));
+            statement.setString(1, TimerState.IN_TIMEOUT.name());
+            statement.setString(2, TimerState.RETRY_TIMEOUT.name());
+            statement.setString(3, "NON-EXISTENT");
+            resultSet = statement.executeQuery();
+        } catch (SQLException e) {
+            EjbLogger.EJB3_TIMER_LOGGER.debugf(e, "Database does not support '%s', timers will be claimed individually", claimTimers);
+            sql.remove(CLAIM_TIMERS);
+        } finally {
+            safeClose(resultSet);
+            safeClose(statement);
+            safeClose(connection);
+        }
+    }
+
     /**
      * Loads a timer from database by its id and timed object id.
      *
@@ -472,98 +633,221 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             return;
         }
 
-        String createTimer = sql.getProperty(CREATE_TIMER);
-        Connection connection = null;
-        PreparedStatement statement = null;
+        synchronized (this) {
+            knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
+        }
+        // Serialize the timer info now, in case it is modified before the transaction completes
+        final String info;
         try {
-            synchronized (this) {
-                knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
+            info = serialize(timerEntity.getTimerInfo());
+        } catch (RuntimeException e) {
+            timerEntity.setCachedTimerInfo(null);
+            throw e;
+        }
+        write(new TimerWrite(CREATE_TIMER) {
+            @Override
+            void setParameters(PreparedStatement statement, long lastModified) throws SQLException {
+                statementParameters(timerEntity, info, statement);
+                statement.setLong(27, lastModified);
             }
-            connection = dataSource.getConnection();
-            statement = connection.prepareStatement(createTimer);
-            statementParameters(timerEntity, statement);
-            statement.execute();
 
-            if (isClearTimerInfoCache(timerEntity)) {
-                timerEntity.setCachedTimerInfo(Object.class);
-                EjbLogger.EJB3_TIMER_LOGGER.debugf("Cleared timer info for timer: %s", timerEntity.getId());
+            @Override
+            void committed() {
+                if (isClearTimerInfoCache(timerEntity)) {
+                    timerEntity.setCachedTimerInfo(Object.class);
+                    EjbLogger.EJB3_TIMER_LOGGER.debugf("Cleared timer info for timer: %s", timerEntity.getId());
+                }
             }
-        } catch (SQLException e) {
-            timerEntity.setCachedTimerInfo(null);
-            throw new RuntimeException(e);
-        } finally {
-            safeClose(statement);
-            safeClose(connection);
-        }
+
+            @Override
+            void failed() {
+                timerEntity.setCachedTimerInfo(null);
+            }
+        });
     }
 
     @Override
     public void persistTimer(final TimerImpl timerEntity) {
-        Connection connection = null;
-        PreparedStatement statement = null;
+        final String timedObjectId = timerEntity.getTimedObjectId();
+        final String timerId = timerEntity.getId();
+        final TimerState state = timerEntity.getState();
+        if (state == TimerState.CANCELED || state == TimerState.EXPIRED) {
+            write(new TimerWrite(DELETE_TIMER) {
+                @Override
+                void setParameters(PreparedStatement statement, long lastModified) throws SQLException {
+                    statement.setString(1, timedObjectId);
+                    statement.setString(2, timerId);
+                    statement.setString(3, partition);
+                }
+
+                @Override
+                void committed() {
+                    synchronized (DatabaseTimerPersistence.this) {
+                        Set<String> timerIds = knownTimerIds.get(timedObjectId);
+                        if (timerIds != null) {
+                            timerIds.remove(timerId);
+                        }
+                    }
+                }
+            });
+        } else {
+            final Timestamp nextDate = timestamp(timerEntity.getNextExpiration());
+            final Timestamp previousRun = timestamp(timerEntity.getPreviousRun());
+            write(new TimerWrite(UPDATE_TIMER) {
+                @Override
+                void setParameters(PreparedStatement statement, long lastModified) throws SQLException {
+                    statement.setTimestamp(1, nextDate);
+                    statement.setTimestamp(2, previousRun);
+                    statement.setString(3, state.name());
+                    setNodeName(state, statement, 4);
+                    statement.setLong(5, lastModified);
+                    // WHERE CLAUSE
+                    statement.setString(6, timedObjectId);
+                    statement.setString(7, timerId);
+                    statement.setString(8, partition);
+                    statement.setString(9, nodeName);   // only persist if this node or empty
+                }
+
+                @Override
+                void committed() {
+                    synchronized (DatabaseTimerPersistence.this) {
+                        Set<String> timerIds = knownTimerIds.get(timedObjectId);
+                        if (timerIds != null) {
+                            timerIds.add(timerId);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Adds the specified write to the batch of the current transaction, if there is one, otherwise executes it immediately.
+     * A transaction's batch uses a connection obtained within that transaction, and is executed just before the transaction completes.
+     */
+    private void write(TimerWrite write) {
+        ContextTransactionSynchronizationRegistry registry = ContextTransactionSynchronizationRegistry.getInstance();
         try {
-            connection = dataSource.getConnection();
-            if (timerEntity.getState() == TimerState.CANCELED ||
-                    timerEntity.getState() == TimerState.EXPIRED) {
-                String deleteTimer = sql.getProperty(DELETE_TIMER);
-                statement = connection.prepareStatement(deleteTimer);
-                statement.setString(1, timerEntity.getTimedObjectId());
-                statement.setString(2, timerEntity.getId());
-                statement.setString(3, partition);
-                statement.execute();
-                synchronized (this) {
-                    knownTimerIds.get(timerEntity.getTimedObjectId()).remove(timerEntity.getId());
+            if (registry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+                TimerWriteBatch batch = (TimerWriteBatch) registry.getResource(writeBatchKey);
+                if (batch == null) {
+                    batch = new TimerWriteBatch(dataSource.getConnection());
+                    registry.putResource(writeBatchKey, batch);
+                    registry.registerInterposedSynchronization(batch);
                 }
+                batch.add(write);
             } else {
-                synchronized (this) {
-                    knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
+                Connection connection = null;
+                try {
+                    connection = dataSource.getConnection();
+                    execute(connection, Collections.singletonList(write));
+                } catch (SQLException e) {
+                    write.failed();
+                    throw e;
+                } finally {
+                    safeClose(connection);
                 }
-                String updateTimer = sql.getProperty(UPDATE_TIMER);
-                statement = connection.prepareStatement(updateTimer);
-                statement.setTimestamp(1, timestamp(timerEntity.getNextExpiration()));
-                statement.setTimestamp(2, timestamp(timerEntity.getPreviousRun()));
-                statement.setString(3, timerEntity.getState().name());
-                setNodeName(timerEntity.getState(), statement, 4);
-                // WHERE CLAUSE
-                statement.setString(5, timerEntity.getTimedObjectId());
-                statement.setString(6, timerEntity.getId());
-                statement.setString(7, partition);
-                statement.setString(8, nodeName);   // only persist if this node or empty
-                statement.execute();
+                write.committed();
             }
         } catch (SQLException e) {
             throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Executes the specified writes, in order, using the specified connection, batching consecutive writes that use the same statement.
+     */
+    void execute(Connection connection, List<TimerWrite> writes) throws SQLException {
+        long lastModified = System.currentTimeMillis();
+        PreparedStatement statement = null;
+        try {
+            String statementKey = null;
+            int batchSize = 0;
+            for (TimerWrite write : writes) {
+                if (statement != null && (!write.statementKey.equals(statementKey) || batchSize == MAX_BATCH_SIZE)) {
+                    statement.executeBatch();
+                    batchSize = 0;
+                    if (!write.statementKey.equals(statementKey)) {
+                        safeClose(statement);
+                        statement = null;
+                    }
+                }
+                if (statement == null) {
+                    statementKey = write.statementKey;
+                    statement = connection.prepareStatement(sql.getProperty(statementKey));
+                }
+                write.setParameters(statement, lastModified);
+                statement.addBatch();
+                batchSize += 1;
+            }
+            if (statement != null) {
+                statement.executeBatch();
+            }
         } finally {
             safeClose(statement);
-            safeClose(connection);
         }
     }
 
     @Override
     public boolean shouldRun(TimerImpl timer) {
-        final ContextTransactionManager tm = ContextTransactionManager.getInstance();
         if (!allowExecution) {
             //timers never execute on this node
             return false;
         }
-        String loadTimer = sql.getProperty(UPDATE_RUNNING);
+        TimerClaim claim = new TimerClaim(timer);
+        pendingClaims.add(claim);
+        // Claims of concurrently expiring timers are made within a single transaction, by whichever thread gets here first
+        while (!pendingClaims.isEmpty() && claiming.compareAndSet(false, true)) {
+            try {
+                List<TimerClaim> claims = drainClaims();
+                while (!claims.isEmpty()) {
+                    claimTimers(claims);
+                    claims = drainClaims();
+                }
+            } finally {
+                claiming.set(false);
+            }
+        }
+        try {
+            return claim.result.get(claimTimeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Abandon our claim, unless it was completed concurrently
+            if (claim.result.complete(Boolean.FALSE)) {
+                EjbLogger.EJB3_TIMER_LOGGER.debugf("Timer %s not running, claim did not complete within %d ms", timer, claimTimeout);
+            }
+            return claim.result.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            claim.result.complete(Boolean.FALSE);
+            return claim.result.join();
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    private List<TimerClaim> drainClaims() {
+        List<TimerClaim> claims = new ArrayList<>();
+        TimerClaim claim;
+        while (claims.size() < MAX_BATCH_SIZE && (claim = pendingClaims.poll()) != null) {
+            claims.add(claim);
+        }
+        return claims;
+    }
+
+    /**
+     * Attempts to claim the specified timers for execution by this node, within a single transaction.
+     */
+    private void claimTimers(List<TimerClaim> claims) {
+        final ContextTransactionManager tm = ContextTransactionManager.getInstance();
+        Set<String> claimed = Collections.emptySet();
         Connection connection = null;
-        PreparedStatement statement = null;
         try {
             tm.begin();
+            Set<String> updated;
             try {
                 connection = dataSource.getConnection();
-                statement = connection.prepareStatement(loadTimer);
-                statement.setString(1, TimerState.IN_TIMEOUT.name());
-                setNodeName(TimerState.IN_TIMEOUT, statement, 2);
-                statement.setString(3, timer.getId());
-                statement.setString(4, TimerState.IN_TIMEOUT.name());
-                statement.setString(5, TimerState.RETRY_TIMEOUT.name());
-                if (timer.getNextExpiration() == null) {
-                    statement.setTimestamp(6, null);
-                } else {
-                    statement.setTimestamp(6, timestamp(timer.getNextExpiration()));
-                }
+                String claimTimers = sql.getProperty(CLAIM_TIMERS);
+                updated = (claimTimers != null) ? updateLockedTimers(connection, claimTimers, claims) : updateTimers(connection, claims);
             } catch (SQLException e) {
                 try {
                     tm.rollback();
@@ -571,35 +855,128 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                     EjbLogger.EJB3_TIMER_LOGGER.timerUpdateFailedAndRollbackNotPossible(ee);
                 }
                 // fix for WFLY-10130
-                EjbLogger.EJB3_TIMER_LOGGER.exceptionCheckingIfTimerShouldRun(timer, e);
-                return false;
+                for (TimerClaim claim : claims) {
+                    EjbLogger.EJB3_TIMER_LOGGER.exceptionCheckingIfTimerShouldRun(claim.timer, e);
+                }
+                return;
             }
-
-            int affected = statement.executeUpdate();
             tm.commit();
-            return affected == 1;
-        } catch (SQLException | SystemException | SecurityException | IllegalStateException | RollbackException | HeuristicMixedException | HeuristicRollbackException e) {
+            claimed = updated;
+        } catch (SystemException | SecurityException | IllegalStateException | RollbackException | HeuristicMixedException | HeuristicRollbackException e) {
             // failed to update the DB
             try {
                 tm.rollback();
             } catch (IllegalStateException | SecurityException | SystemException rbe) {
                 EjbLogger.EJB3_TIMER_LOGGER.timerUpdateFailedAndRollbackNotPossible(rbe);
             }
-            EjbLogger.EJB3_TIMER_LOGGER.debugf(e, "Timer %s not running due to exception ", timer);
-            return false;
+            EjbLogger.EJB3_TIMER_LOGGER.debugf(e, "Timers %s not running due to exception ", claims);
         } catch (NotSupportedException e) {
             // happen from tm.begin, no rollback necessary
-            EjbLogger.EJB3_TIMER_LOGGER.timerNotRunning(e, timer);
-            return false;
+            for (TimerClaim claim : claims) {
+                EjbLogger.EJB3_TIMER_LOGGER.timerNotRunning(e, claim.timer);
+            }
         } finally {
-            safeClose(statement);
             safeClose(connection);
+            for (TimerClaim claim : claims) {
+                claim.result.complete(claimed.contains(claim.timer.getId()));
+            }
+        }
+    }
+
+    /**
+     * Updates the state of each of the specified timers to running, if not already running, using individual updates.
+     * @return the identifiers of the updated timers
+     */
+    private Set<String> updateTimers(Connection connection, List<TimerClaim> claims) throws SQLException {
+        Set<String> updated = new HashSet<>();
+        long lastModified = System.currentTimeMillis();
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement(sql.getProperty(UPDATE_RUNNING));
+            for (TimerClaim claim : claims) {
+                setRunningParameters(claim.timer, statement, lastModified);
+                if (statement.executeUpdate() == 1) {
+                    updated.add(claim.timer.getId());
+                }
+            }
+        } finally {
+            safeClose(statement);
         }
+        return updated;
+    }
+
+    /**
+     * Locks those of the specified timers that are not already running, skipping any timers locked by another node,
+     * and updates the state of the locked timers to running via a single batch.
+     * @return the identifiers of the updated timers
+     */
+    private Set<String> updateLockedTimers(Connection connection, String claimTimers, List<TimerClaim> claims) throws SQLException {
+        Map<String, Timestamp> nextDates = new HashMap<>();
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = connection.prepareStatement(String.format(claimTimers, String.join(", ", Collections.nCopies(claims.size(), "?"))));
+            statement.setString(1, TimerState.IN_TIMEOUT.name());
+            statement.setString(2, TimerState.RETRY_TIMEOUT.name());
+            int index = 3;
+            for (TimerClaim claim : claims) {
+                statement.setString(index++, claim.timer.getId());
+            }
+            resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                nextDates.put(resultSet.getString(1), resultSet.getTimestamp(2));
+            }
+        } finally {
+            safeClose(resultSet);
+            safeClose(statement);
+        }
+        // Skip timers whose next expiration was already advanced by another node
+        List<TimerImpl> timers = new ArrayList<>(nextDates.size());
+        for (TimerClaim claim : claims) {
+            Timestamp nextDate = nextDates.get(claim.timer.getId());
+            Timestamp expected = timestamp(claim.timer.getNextExpiration());
+            if (nextDate != null && expected != null && !nextDate.after(expected)) {
+                timers.add(claim.timer);
+            }
+        }
+        Set<String> updated = new HashSet<>();
+        if (timers.isEmpty()) {
+            return updated;
+        }
+        long lastModified = System.currentTimeMillis();
+        try {
+            statement = connection.prepareStatement(sql.getProperty(UPDATE_RUNNING));
+            for (TimerImpl timer : timers) {
+                setRunningParameters(timer, statement, lastModified);
+                statement.addBatch();
+            }
+            int[] counts = statement.executeBatch();
+            for (int i = 0; i < counts.length; ++i) {
+                // These rows are locked by our transaction, so an unknown update count implies success
+                if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                    updated.add(timers.get(i).getId());
+                }
+            }
+        } finally {
+            safeClose(statement);
+        }
+        return updated;
+    }
+
+    private void setRunningParameters(final TimerImpl timer, final PreparedStatement statement, final long lastModified) throws SQLException {
+        statement.setString(1, TimerState.IN_TIMEOUT.name());
+        setNodeName(TimerState.IN_TIMEOUT, statement, 2);
+        statement.setLong(3, lastModified);
+        statement.setString(4, timer.getId());
+        statement.setString(5, TimerState.IN_TIMEOUT.name());
+        statement.setString(6, TimerState.RETRY_TIMEOUT.name());
+        statement.setTimestamp(7, timestamp(timer.getNextExpiration()));
     }
 
     @Override
     public synchronized void timerUndeployed(final String timedObjectId) {
         knownTimerIds.remove(timedObjectId);
+        refreshWatermarks.remove(timedObjectId);
     }
 
     @Override
@@ -618,6 +995,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
+        final long loaded = System.currentTimeMillis();
         try {
             connection = dataSource.getConnection();
             statement = connection.prepareStatement(loadTimer);
@@ -651,6 +1029,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                 for (Holder timer : timers) {
                     ids.add(timer.timer.getId());
                 }
+                refreshWatermarks.put(timedObjectId, loaded);
 
                 for(Holder timer : timers) {
                     if(timer.requiresReset) {
@@ -778,7 +1157,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         return new Holder(ret, requiresReset);
     }
 
-    private void statementParameters(final TimerImpl timerEntity, final PreparedStatement statement) throws SQLException {
+    private void statementParameters(final TimerImpl timerEntity, final String info, final PreparedStatement statement) throws SQLException {
         statement.setString(1, timerEntity.getId());
         statement.setString(2, timerEntity.getTimedObjectId());
         statement.setTimestamp(3, timestamp(timerEntity.getInitialExpiration()));
@@ -786,7 +1165,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         statement.setTimestamp(5, timestamp(timerEntity.getNextExpiration()));
         statement.setTimestamp(6, timestamp(timerEntity.getPreviousRun()));
         statement.setString(7, null);
-        statement.setString(8, serialize(timerEntity.getTimerInfo()));
+        statement.setString(8, info);
         statement.setString(9, timerEntity.getState().name());
 
         if (timerEntity instanceof CalendarTimer) {
@@ -867,33 +1246,34 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             statement.setString(18, timeoutMethodParam);
             statement.setBoolean(19, true);
             statement.setString(20, partition);
+            statement.setLong(21, System.currentTimeMillis());
 
             // where clause
-            statement.setString(21, timer.getTimedObjectId());
-            statement.setString(22, exp.getSecond());
-            statement.setString(23, exp.getMinute());
-            statement.setString(24, exp.getHour());
-            statement.setString(25, exp.getDayOfWeek());
-            statement.setString(26, exp.getDayOfMonth());
-            statement.setString(27, exp.getMonth());
-            statement.setString(28, exp.getYear());
-
-            statement.setString(29, startDateString);
+            statement.setString(22, timer.getTimedObjectId());
+            statement.setString(23, exp.getSecond());
+            statement.setString(24, exp.getMinute());
+            statement.setString(25, exp.getHour());
+            statement.setString(26, exp.getDayOfWeek());
+            statement.setString(27, exp.getDayOfMonth());
+            statement.setString(28, exp.getMonth());
+            statement.setString(29, exp.getYear());
+
             statement.setString(30, startDateString);
+            statement.setString(31, startDateString);
 
-            statement.setString(31, endDateString);
             statement.setString(32, endDateString);
+            statement.setString(33, endDateString);
 
-            statement.setString(33, exp.getTimezone());
             statement.setString(34, exp.getTimezone());
+            statement.setString(35, exp.getTimezone());
 
-            statement.setString(35, timeoutMethodClassName);
-            statement.setString(36, timeoutMethod.getName());
+            statement.setString(36, timeoutMethodClassName);
+            statement.setString(37, timeoutMethod.getName());
 
-            statement.setString(37, timeoutMethodParam);
             statement.setString(38, timeoutMethodParam);
+            statement.setString(39, timeoutMethodParam);
 
-            statement.setString(39, partition);
+            statement.setString(40, partition);
 
             int affectedRows = statement.executeUpdate();
             if (affectedRows < 1) {
@@ -1049,7 +1429,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
-    private class RefreshTask extends TimerTask {
+    private class RefreshTask implements Runnable {
 
         private volatile AtomicBoolean running = new AtomicBoolean();
 
@@ -1067,66 +1447,102 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                             continue;
                         }
                         final Set<String> existing;
+                        final Long watermark;
                         synchronized (DatabaseTimerPersistence.this) {
                             existing = new HashSet<>(knownTimerIds.get(timedObjectId));
+                            watermark = refreshWatermarks.get(timedObjectId);
                         }
-                        String loadTimer = sql.getProperty(LOAD_ALL_TIMERS);
+                        final long refreshed = System.currentTimeMillis();
                         Connection connection = null;
                         PreparedStatement statement = null;
                         ResultSet resultSet = null;
                         try {
                             connection = dataSource.getConnection();
-                            statement = connection.prepareStatement(loadTimer);
+                            final TimerServiceImpl timerService = listener.getTimerService();
+
+                            // Load only those timers modified since the previous refresh
+                            final Set<String> changed = new HashSet<>();
+                            statement = connection.prepareStatement(sql.getProperty(LOAD_CHANGED_TIMERS));
                             statement.setString(1, timedObjectId);
                             statement.setString(2, partition);
+                            statement.setLong(3, (watermark != null) ? watermark - refreshOverlap : 0L);
                             resultSet = statement.executeQuery();
-                            final TimerServiceImpl timerService = listener.getTimerService();
                             while (resultSet.next()) {
-                                String id = null;
-                                try {
-                                    id = resultSet.getString(1);
-                                    if (!existing.remove(id)) {
-                                        final Holder holder = timerFromResult(resultSet, timerService, id, null);
-                                        if(holder != null) {
-                                            synchronized (DatabaseTimerPersistence.this) {
-                                                knownTimerIds.get(timedObjectId).add(id);
-                                                listener.timerAdded(holder.timer);
-                                            }
-                                        }
+                                String id = resultSet.getString(1);
+                                changed.add(id);
+                                refreshTimer(resultSet, id, existing.contains(id), timedObjectId, listener);
+                            }
+                            safeClose(resultSet);
+                            safeClose(statement);
+
+                            // Identifiers of all timers, used to detect removed timers
+                            // Any timer added by another node records LAST_MODIFIED, so unless a timer was removed, we already know every identifier
+                            final Set<String> ids = new HashSet<>(existing);
+                            ids.addAll(changed);
+                            statement = connection.prepareStatement(sql.getProperty(COUNT_TIMERS));
+                            statement.setString(1, timedObjectId);
+                            statement.setString(2, partition);
+                            resultSet = statement.executeQuery();
+                            final long count = resultSet.next() ? resultSet.getLong(1) : 0L;
+                            safeClose(resultSet);
+                            safeClose(statement);
+
+                            if (count != ids.size()) {
+                                // Timers were removed, or were added without a LAST_MODIFIED value, so load all identifiers
+                                ids.clear();
+                                statement = connection.prepareStatement(sql.getProperty(LOAD_TIMER_IDS));
+                                statement.setString(1, timedObjectId);
+                                statement.setString(2, partition);
+                                resultSet = statement.executeQuery();
+                                while (resultSet.next()) {
+                                    ids.add(resultSet.getString(1));
+                                }
+                                safeClose(resultSet);
+                                safeClose(statement);
+                            }
+
+                            // Load any unmodified timers that are unknown, e.g. those without a LAST_MODIFIED value,
+                            // or that are known, but no longer valid in memory
+                            final List<String> unsynchronized = new ArrayList<>();
+                            for (String id : ids) {
+                                if (!changed.contains(id)) {
+                                    if (!existing.contains(id)) {
+                                        unsynchronized.add(id);
                                     } else {
-                                        TimerImpl oldTimer = timerService.getTimer(id);
-                                        // if it is already in memory but it is not in sync we have a problem
-                                        // remove and add -> the probable cause is db glitch
-                                        boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
-
-                                        // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
-                                        if (invalidMemoryTimer) {
-                                            TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
-                                            boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
-                                            if (validDBTimer) {
-                                                final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
-                                                if (holder != null) {
-                                                    synchronized (DatabaseTimerPersistence.this) {
-                                                        knownTimerIds.get(timedObjectId).add(id);
-                                                        listener.timerSync(oldTimer, holder.timer);
-                                                    }
-                                                }
-                                            }
+                                        TimerImpl timer = timerService.getTimer(id);
+                                        if (timer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(timer.getState())) {
+                                            unsynchronized.add(id);
                                         }
                                     }
-                                } catch (Exception e) {
-                                    EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), id, e);
                                 }
                             }
+                            if (!unsynchronized.isEmpty()) {
+                                statement = connection.prepareStatement(sql.getProperty(LOAD_TIMER));
+                                for (String id : unsynchronized) {
+                                    statement.setString(1, timedObjectId);
+                                    statement.setString(2, id);
+                                    statement.setString(3, partition);
+                                    resultSet = statement.executeQuery();
+                                    if (resultSet.next()) {
+                                        refreshTimer(resultSet, id, existing.contains(id), timedObjectId, listener);
+                                    }
+                                    safeClose(resultSet);
+                                }
+                                safeClose(statement);
+                            }
 
                             synchronized (DatabaseTimerPersistence.this) {
                                 Set<String> timers = knownTimerIds.get(timedObjectId);
-                                for (String timer : existing) {
-                                    TimerImpl timer1 = timerService.getTimer(timer);
-                                    if (timer1 != null && timer1.getState() != TimerState.CREATED) {
-                                        timers.remove(timer);
-                                        listener.timerRemoved(timer);
+                                if (timers != null) {
+                                    existing.removeAll(ids);
+                                    for (String timer : existing) {
+                                        TimerImpl timer1 = timerService.getTimer(timer);
+                                        if (timer1 != null && timer1.getState() != TimerState.CREATED) {
+                                            timers.remove(timer);
+                                            listener.timerRemoved(timer);
+                                        }
                                     }
+                                    refreshWatermarks.put(timedObjectId, refreshed);
                                 }
                             }
                         } catch (SQLException e) {
@@ -1143,8 +1559,128 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             }
 
         }
+
+        /**
+         * Adds the timer from the current row of the specified result set, if unknown,
+         * otherwise synchronizes it with the timer in memory, if the latter is no longer valid.
+         */
+        private void refreshTimer(ResultSet resultSet, String id, boolean known, String timedObjectId, TimerChangeListener listener) throws SQLException {
+            final TimerServiceImpl timerService = listener.getTimerService();
+            try {
+                if (!known) {
+                    final Holder holder = timerFromResult(resultSet, timerService, id, null);
+                    if(holder != null) {
+                        synchronized (DatabaseTimerPersistence.this) {
+                            knownTimerIds.get(timedObjectId).add(id);
+                            listener.timerAdded(holder.timer);
+                        }
+                    }
+                } else {
+                    TimerImpl oldTimer = timerService.getTimer(id);
+                    // if it is already in memory but it is not in sync we have a problem
+                    // remove and add -> the probable cause is db glitch
+                    boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
+
+                    // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
+                    if (invalidMemoryTimer) {
+                        TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
+                        boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
+                        if (validDBTimer) {
+                            final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
+                            if (holder != null) {
+                                synchronized (DatabaseTimerPersistence.this) {
+                                    knownTimerIds.get(timedObjectId).add(id);
+                                    listener.timerSync(oldTimer, holder.timer);
+                                }
+                            }
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), id, e);
+            }
+        }
+    }
+
+    /**
+     * A pending write of a timer.
+     */
+    abstract static class TimerWrite {
+        final String statementKey;
+
+        TimerWrite(String statementKey) {
+            this.statementKey = statementKey;
+        }
+
+        /**
+         * Sets the parameters of the specified statement for this write.
+         */
+        abstract void setParameters(PreparedStatement statement, long lastModified) throws SQLException;
+
+        /**
+         * Invoked after this write was committed.
+         */
+        void committed() {
+        }
+
+        /**
+         * Invoked if this write failed, or its transaction did not commit.
+         */
+        void failed() {
+        }
+    }
+
+    /**
+     * The timer writes of a transaction, executed just before the transaction completes,
+     * using a connection obtained within, and thus enlisted in, that transaction.
+     */
+    class TimerWriteBatch implements Synchronization {
+        private final Connection connection;
+        private final List<TimerWrite> writes = new ArrayList<>();
+
+        TimerWriteBatch(Connection connection) {
+            this.connection = connection;
+        }
+
+        void add(TimerWrite write) {
+            this.writes.add(write);
+        }
+
+        @Override
+        public void beforeCompletion() {
+            try {
+                execute(this.connection, this.writes);
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            safeClose(this.connection);
+            for (TimerWrite write : this.writes) {
+                if (status == Status.STATUS_COMMITTED) {
+                    write.committed();
+                } else {
+                    write.failed();
+                }
+            }
+        }
     }
 
+    static final class TimerClaim {
+        final TimerImpl timer;
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        TimerClaim(TimerImpl timer) {
+            this.timer = timer;
+        }
+
+        @Override
+        public String toString() {
+            return this.timer.getId();
+        }
+    }
 
     static final class Holder {
         final TimerImpl timer;
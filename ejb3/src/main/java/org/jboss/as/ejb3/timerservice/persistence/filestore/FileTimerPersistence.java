@@ -220,15 +220,12 @@ public class FileTimerPersistence implements TimerPersistence, Service {
             if (status == Status.STATUS_NO_TRANSACTION ||
                     status == Status.STATUS_UNKNOWN || isBeforeCompletion()
                     || status == Status.STATUS_COMMITTED) {
-                Map<String, TimerImpl> map = getTimers(timer.getTimedObjectId(), timer.getTimerService());
                 if (timer.getState() == TimerState.CANCELED ||
                         timer.getState() == TimerState.EXPIRED) {
-                    map.remove(timer.getId());
                     writeFile(timer);
-                } else if (newTimer || map.containsKey(timer.getId())) {
-                    //if it is not a new timer and is not in the map then it has
+                } else if (newTimer || containsTimer(timer)) {
+                    //if it is not a new timer and is not persisted then it has
                     //been removed by another thread.
-                    map.put(timer.getId(), timer);
                     writeFile(timer);
                 }
             } else {
@@ -341,7 +338,17 @@ public class FileTimerPersistence implements TimerPersistence, Service {
         return loadTimersFromFile(timedObjectId, timerService);
     }
 
-    private Map<String, TimerImpl> loadTimersFromFile(String timedObjectId, TimerServiceImpl timerService) {
+    /**
+     * Indicates whether the specified timer is currently persisted. Should be called under lock
+     *
+     * @param timer a timer
+     * @return true, if the timer is persisted, false otherwise
+     */
+    protected boolean containsTimer(final TimerImpl timer) {
+        return getTimers(timer.getTimedObjectId(), timer.getTimerService()).containsKey(timer.getId());
+    }
+
+    protected Map<String, TimerImpl> loadTimersFromFile(String timedObjectId, TimerServiceImpl timerService) {
         Map<String, TimerImpl> timers = new HashMap<>();
         String directory = getDirectory(timedObjectId);
 
@@ -465,17 +472,13 @@ public class FileTimerPersistence implements TimerPersistence, Service {
                     try {
                         lock.lock();
                         if (status == Status.STATUS_COMMITTED) {
-                            final Map<String, TimerImpl> map = getTimers(timer.getTimedObjectId(), timer.getTimerService());
                             if (timer.getState() == TimerState.CANCELED ||
                                     timer.getState() == TimerState.EXPIRED) {
-                                map.remove(timer.getId());
-                            } else {
-                                if (newTimer || map.containsKey(timer.getId())) {
-                                    //if an existing timer is not in the map it has been cancelled by another thread
-                                    map.put(timer.getId(), timer);
-                                }
+                                writeFile(timer);
+                            } else if (newTimer || containsTimer(timer)) {
+                                //if an existing timer is not persisted it has been cancelled by another thread
+                                writeFile(timer);
                             }
-                            writeFile(timer);
                         }
                     } finally {
                         lock.unlock();
@@ -488,7 +491,7 @@ public class FileTimerPersistence implements TimerPersistence, Service {
 
     }
 
-    private void writeFile(TimerImpl timer) {
+    protected void writeFile(TimerImpl timer) {
         final File file = fileName(timer.getTimedObjectId(), timer.getId());
 
         //if the timer is expired or cancelled delete the file
@@ -516,6 +519,18 @@ public class FileTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    protected File getBaseDir() {
+        return baseDir;
+    }
+
+    protected MarshallerFactory getMarshallerFactory() {
+        return factory;
+    }
+
+    protected MarshallingConfiguration getMarshallingConfiguration() {
+        return configuration;
+    }
+
     private void setIfSupported(final XMLInputFactory inputFactory, final String property, final Object value) {
         if (inputFactory.isPropertySupported(property)) {
             inputFactory.setProperty(property, value);
@@ -0,0 +1,319 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.security.PrivilegedAction;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.ejb.ScheduleExpression;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.ejb3.timerservice.CalendarTimer;
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
+import org.jboss.marshalling.InputStreamByteInput;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.OutputStreamByteOutput;
+import org.jboss.marshalling.Unmarshaller;
+import org.jboss.modules.ModuleLoader;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * File based persistent timer store that records all timers in a single append-only {@link TimerJournal}, rather than in one XML file per timer.
+ * <p/>
+ * Timers persisted by {@link FileTimerPersistence} (or its legacy predecessor) are migrated into the journal when their timed object is first deployed,
+ * after which their directory is renamed with a {@value #MIGRATED_SUFFIX} suffix.
+ *
+ * @author agent
+ */
+public class JournalFileTimerPersistence extends FileTimerPersistence {
+
+    static final String MIGRATED_SUFFIX = ".migrated";
+
+    /**
+     * System property {@code jboss.ejb.timer.file.journal.compactionThreshold}
+     * specifying the minimum number of journal records that trigger compaction of the journal into a new checkpoint.
+     */
+    private final int compactionThreshold = Integer.parseInt(
+            WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.file.journal.compactionThreshold", Integer.toString(TimerJournal.DEFAULT_COMPACTION_THRESHOLD)));
+
+    private volatile TimerJournal journal;
+
+    public JournalFileTimerPersistence(final Consumer<FileTimerPersistence> consumer,
+                                       final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier,
+                                       final Supplier<ModuleLoader> moduleLoaderSupplier,
+                                       final Supplier<PathManager> pathManagerSupplier,
+                                       final boolean createIfNotExists, final String path, final String pathRelativeTo) {
+        super(consumer, txnRegistrySupplier, moduleLoaderSupplier, pathManagerSupplier, createIfNotExists, path, pathRelativeTo);
+    }
+
+    @Override
+    public void start(final StartContext context) {
+        super.start(context);
+        TimerJournal journal = new TimerJournal(getBaseDir(), compactionThreshold);
+        try {
+            if (WildFlySecurityManager.isChecking()) {
+                WildFlySecurityManager.doUnchecked(new PrivilegedAction<Void>() {
+                    @Override
+                    public Void run() {
+                        try {
+                            journal.open();
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                        return null;
+                    }
+                });
+            } else {
+                journal.open();
+            }
+        } catch (IOException | RuntimeException e) {
+            super.stop(null);
+            throw new IllegalStateException(e);
+        }
+        this.journal = journal;
+    }
+
+    @Override
+    public void stop(final StopContext context) {
+        TimerJournal journal = this.journal;
+        this.journal = null;
+        try {
+            journal.close();
+        } catch (IOException e) {
+            EJB3_TIMER_LOGGER.failToCloseFile(e);
+        }
+        super.stop(context);
+    }
+
+    @Override
+    protected boolean containsTimer(final TimerImpl timer) {
+        return journal.contains(timer.getTimedObjectId(), timer.getId());
+    }
+
+    @Override
+    protected Map<String, TimerImpl> loadTimersFromFile(final String timedObjectId, final TimerServiceImpl timerService) {
+        migrate(timedObjectId, timerService);
+        final Map<String, TimerImpl> timers = new HashMap<>();
+        final ClassLoader classLoader = timerService.getInvoker().getClassLoader();
+        for (Map.Entry<String, byte[]> entry : journal.get(timedObjectId).entrySet()) {
+            try {
+                final TimerImpl timer = readTimer(timedObjectId, entry.getKey(), entry.getValue(), timerService, classLoader);
+                if (timer != null) {
+                    timers.put(timer.getId(), timer);
+                } else {
+                    // Timeout method no longer exists
+                    EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, entry.getKey(), null);
+                    journal.remove(timedObjectId, entry.getKey());
+                }
+            } catch (Exception e) {
+                EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, entry.getKey(), e);
+            }
+        }
+        return timers;
+    }
+
+    @Override
+    protected void writeFile(final TimerImpl timer) {
+        try {
+            if (timer.getState() == TimerState.CANCELED ||
+                    timer.getState() == TimerState.EXPIRED) {
+                journal.remove(timer.getTimedObjectId(), timer.getId());
+            } else {
+                journal.put(timer.getTimedObjectId(), timer.getId(), writeTimer(timer));
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Imports any timers of the specified timed object persisted using the directory layout into the journal.
+     */
+    private void migrate(final String timedObjectId, final TimerServiceImpl timerService) {
+        final File directory = new File(getBaseDir(), timedObjectId.replace(File.separator, "-"));
+        if (!directory.isDirectory()) {
+            return;
+        }
+        // Legacy timers are written to the journal by the parent implementation
+        final Map<String, TimerImpl> timers = super.loadTimersFromFile(timedObjectId, timerService);
+        try {
+            for (TimerImpl timer : timers.values()) {
+                journal.put(timedObjectId, timer.getId(), writeTimer(timer));
+            }
+            journal.flush();
+        } catch (IOException e) {
+            // Leave directory intact, so that migration is reattempted on next deployment
+            EJB3_TIMER_LOGGER.failToRestoreTimersForObjectId(timedObjectId, e);
+            return;
+        }
+        final File migrated = new File(directory.getParentFile(), directory.getName() + MIGRATED_SUFFIX);
+        if (!directory.renameTo(migrated)) {
+            EJB3_TIMER_LOGGER.failToRestoreTimers(directory);
+        }
+        EJB3_TIMER_LOGGER.timersMigratedToJournal(timers.size(), timedObjectId, directory);
+    }
+
+    private byte[] writeTimer(final TimerImpl timer) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        final boolean calendar = timer instanceof CalendarTimer;
+        output.writeBoolean(calendar);
+        writeDate(output, timer.getInitialExpiration());
+        output.writeLong(timer.getInterval());
+        writeDate(output, timer.getNextExpiration());
+        writeDate(output, timer.getPreviousRun());
+        output.writeUTF(timer.getState().name());
+        if (calendar) {
+            final CalendarTimer calendarTimer = (CalendarTimer) timer;
+            final ScheduleExpression schedule = calendarTimer.getScheduleExpression();
+            output.writeUTF(schedule.getSecond());
+            output.writeUTF(schedule.getMinute());
+            output.writeUTF(schedule.getHour());
+            output.writeUTF(schedule.getDayOfWeek());
+            output.writeUTF(schedule.getDayOfMonth());
+            output.writeUTF(schedule.getMonth());
+            output.writeUTF(schedule.getYear());
+            writeDate(output, schedule.getStart());
+            writeDate(output, schedule.getEnd());
+            writeString(output, schedule.getTimezone());
+            output.writeBoolean(calendarTimer.isAutoTimer());
+            if (calendarTimer.isAutoTimer()) {
+                final Method method = calendarTimer.getTimeoutMethod();
+                output.writeUTF(method.getDeclaringClass().getName());
+                output.writeUTF(method.getName());
+                final Class<?>[] parameterTypes = method.getParameterTypes();
+                output.writeInt(parameterTypes.length);
+                for (Class<?> parameterType : parameterTypes) {
+                    output.writeUTF(parameterType.getName());
+                }
+            }
+        }
+        // Timer info is written last, since it is the only variable-length binary field
+        final Serializable info = timer.getTimerInfo();
+        output.writeBoolean(info != null);
+        output.flush();
+        if (info != null) {
+            try (final Marshaller marshaller = getMarshallerFactory().createMarshaller(getMarshallingConfiguration())) {
+                marshaller.start(new OutputStreamByteOutput(bytes));
+                marshaller.writeObject(info);
+                marshaller.finish();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private TimerImpl readTimer(final String timedObjectId, final String timerId, final byte[] bytes, final TimerServiceImpl timerService, final ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        final ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+        final DataInputStream input = new DataInputStream(in);
+        final boolean calendar = input.readBoolean();
+        final CalendarTimer.Builder calendarBuilder = calendar ? CalendarTimer.builder() : null;
+        final TimerImpl.Builder builder = calendar ? calendarBuilder : TimerImpl.builder();
+        builder.setId(timerId)
+                .setTimedObjectId(timedObjectId)
+                .setInitialDate(readDate(input))
+                .setRepeatInterval(input.readLong())
+                .setNextDate(readDate(input))
+                .setPreviousRun(readDate(input))
+                .setTimerState(TimerState.valueOf(input.readUTF()))
+                .setPersistent(true);
+        if (calendar) {
+            final ScheduleExpression schedule = new ScheduleExpression()
+                    .second(input.readUTF())
+                    .minute(input.readUTF())
+                    .hour(input.readUTF())
+                    .dayOfWeek(input.readUTF())
+                    .dayOfMonth(input.readUTF())
+                    .month(input.readUTF())
+                    .year(input.readUTF())
+                    .start(readDate(input))
+                    .end(readDate(input))
+                    .timezone(readString(input));
+            calendarBuilder.setScheduleExpression(schedule);
+            final boolean autoTimer = input.readBoolean();
+            calendarBuilder.setAutoTimer(autoTimer);
+            if (autoTimer) {
+                final String declaringClass = input.readUTF();
+                final String methodName = input.readUTF();
+                final String[] parameters = new String[input.readInt()];
+                for (int i = 0; i < parameters.length; ++i) {
+                    parameters[i] = input.readUTF();
+                }
+                final Method timeoutMethod = CalendarTimer.getTimeoutMethod(new TimeoutMethod(declaringClass, methodName, parameters), classLoader);
+                if (timeoutMethod == null) {
+                    return null;
+                }
+                calendarBuilder.setTimeoutMethod(timeoutMethod);
+            }
+        }
+        if (input.readBoolean()) {
+            try (final Unmarshaller unmarshaller = getMarshallerFactory().createUnmarshaller(getMarshallingConfiguration())) {
+                unmarshaller.start(new InputStreamByteInput(in));
+                builder.setInfo((Serializable) unmarshaller.readObject());
+                unmarshaller.finish();
+            }
+        }
+        return builder.build(timerService);
+    }
+
+    private static void writeDate(final DataOutputStream output, final Date date) throws IOException {
+        output.writeBoolean(date != null);
+        if (date != null) {
+            output.writeLong(date.getTime());
+        }
+    }
+
+    private static Date readDate(final DataInputStream input) throws IOException {
+        return input.readBoolean() ? new Date(input.readLong()) : null;
+    }
+
+    private static void writeString(final DataOutputStream output, final String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readString(final DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of serialized timers, keyed by timed object and timer identifier.
+ * <p/>
+ * Each mutation appends a single checksummed record to the journal file.
+ * The current state of all timers is kept in memory, and is periodically written to a checkpoint file, after which the journal is truncated.
+ * On {@link #open()}, the checkpoint is loaded, and the journal is replayed on top of it.
+ * Any incomplete or corrupt records at the tail of the journal (e.g. due to a crash mid-write) are discarded.
+ * Since a checkpoint is only ever replaced atomically, a corrupt checkpoint (or a journal with an unrecognized header) cannot be the result of a crash,
+ * and instead fails {@link #open()}, leaving both files intact.
+ *
+ * @author agent
+ */
+class TimerJournal implements Closeable {
+
+    static final String JOURNAL = "timers.journal";
+    static final String CHECKPOINT = "timers.checkpoint";
+    static final int DEFAULT_COMPACTION_THRESHOLD = 1024;
+
+    private static final int MAGIC = 0x454A4254; // EJBT
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    private final File journalFile;
+    private final File checkpointFile;
+    private final int compactionThreshold;
+    private final Map<String, Map<String, byte[]>> entries = new ConcurrentHashMap<>();
+
+    // The following are guarded by this
+    private FileChannel channel;
+    private long position;
+    private int records;
+    private int count;
+
+    /**
+     * Creates a journal within the specified directory.
+     * @param directory the directory containing the journal and checkpoint files
+     * @param compactionThreshold the minimum number of journal records that trigger a checkpoint
+     */
+    TimerJournal(File directory, int compactionThreshold) {
+        this.journalFile = new File(directory, JOURNAL);
+        this.checkpointFile = new File(directory, CHECKPOINT);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Loads the checkpoint, replays the journal, and prepares the journal for writing.
+     * @throws IOException if the journal could not be opened
+     */
+    synchronized void open() throws IOException {
+        this.entries.clear();
+        this.count = 0;
+        if (this.checkpointFile.exists()) {
+            this.replay(this.checkpointFile, true);
+        }
+        long end = HEADER_SIZE;
+        this.records = 0;
+        if (this.journalFile.exists()) {
+            end = this.replay(this.journalFile, false);
+        }
+        this.channel = FileChannel.open(this.journalFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (end == HEADER_SIZE) {
+            // New or corrupt journal, (re)write header
+            this.channel.truncate(0);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+            header.flip();
+            this.write(header, 0);
+            this.channel.force(true);
+        } else if (this.channel.size() > end) {
+            this.channel.truncate(end);
+        }
+        this.position = end;
+        if (this.records > 0) {
+            // Start with an empty journal
+            this.checkpoint();
+        }
+    }
+
+    /**
+     * Returns the serialized timers for the specified timed object.
+     * @param timedObjectId a timed object identifier
+     * @return an unmodifiable map of serialized timer, keyed by timer identifier
+     */
+    Map<String, byte[]> get(String timedObjectId) {
+        Map<String, byte[]> timers = this.entries.get(timedObjectId);
+        return (timers != null) ? Collections.unmodifiableMap(new HashMap<>(timers)) : Collections.emptyMap();
+    }
+
+    /**
+     * Indicates whether this journal contains the specified timer.
+     * @param timedObjectId a timed object identifier
+     * @param timerId a timer identifier
+     * @return true, if this journal contains the specified timer, false otherwise
+     */
+    boolean contains(String timedObjectId, String timerId) {
+        Map<String, byte[]> timers = this.entries.get(timedObjectId);
+        return (timers != null) && timers.containsKey(timerId);
+    }
+
+    /**
+     * Records the specified serialized timer.
+     * @param timedObjectId a timed object identifier
+     * @param timerId a timer identifier
+     * @param timer a serialized timer
+     * @throws IOException if the record could not be appended to the journal
+     */
+    synchronized void put(String timedObjectId, String timerId, byte[] timer) throws IOException {
+        this.append(PUT, timedObjectId, timerId, timer);
+        this.apply(PUT, timedObjectId, timerId, timer);
+        this.compactIfNecessary();
+    }
+
+    /**
+     * Records the removal of the specified timer.
+     * @param timedObjectId a timed object identifier
+     * @param timerId a timer identifier
+     * @throws IOException if the record could not be appended to the journal
+     */
+    synchronized void remove(String timedObjectId, String timerId) throws IOException {
+        // Avoid journaling removal of timers we never recorded
+        if (this.contains(timedObjectId, timerId)) {
+            this.append(REMOVE, timedObjectId, timerId, null);
+            this.apply(REMOVE, timedObjectId, timerId, null);
+            this.compactIfNecessary();
+        }
+    }
+
+    /**
+     * Forces any appended records to the storage device.
+     * @throws IOException if the journal could not be forced
+     */
+    synchronized void flush() throws IOException {
+        this.channel.force(false);
+    }
+
+    /**
+     * Writes the current state of all timers to the checkpoint file, and truncates the journal.
+     * The new checkpoint atomically replaces any previous checkpoint.
+     * Should a crash occur before the journal is truncated, replaying the stale journal on top of the new checkpoint yields the same state.
+     * @throws IOException if the checkpoint could not be written
+     */
+    synchronized void checkpoint() throws IOException {
+        File file = new File(this.checkpointFile.getParentFile(), CHECKPOINT + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(out));
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            for (Map.Entry<String, Map<String, byte[]>> entry : this.entries.entrySet()) {
+                for (Map.Entry<String, byte[]> timer : entry.getValue().entrySet()) {
+                    ByteBuffer record = record(PUT, entry.getKey(), timer.getKey(), timer.getValue());
+                    output.write(record.array(), record.arrayOffset(), record.remaining());
+                }
+            }
+            output.flush();
+            out.getFD().sync();
+        }
+        Files.move(file.toPath(), this.checkpointFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        this.channel.truncate(HEADER_SIZE);
+        this.channel.force(true);
+        this.position = HEADER_SIZE;
+        this.records = 0;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.channel != null) {
+            try {
+                if (this.records > 0) {
+                    this.checkpoint();
+                }
+            } finally {
+                this.channel.close();
+                this.channel = null;
+                this.entries.clear();
+            }
+        }
+    }
+
+    private void compactIfNecessary() {
+        // Compact once the journal outgrows the live timers it describes, amortizing the cost of a checkpoint across the records it discards
+        if (this.records >= Math.max(this.compactionThreshold, this.count)) {
+            try {
+                this.checkpoint();
+            } catch (IOException e) {
+                // Journal remains intact, we'll retry on the next mutation
+                EJB3_TIMER_LOGGER.failToCompactTimerJournal(this.journalFile, e);
+            }
+        }
+    }
+
+    private void append(byte operation, String timedObjectId, String timerId, byte[] timer) throws IOException {
+        ByteBuffer record = record(operation, timedObjectId, timerId, timer);
+        int length = record.remaining();
+        try {
+            this.write(record, this.position);
+        } catch (IOException e) {
+            // Discard any partially written record
+            this.channel.truncate(this.position);
+            throw e;
+        }
+        this.position += length;
+        this.records += 1;
+    }
+
+    private void write(ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += this.channel.write(buffer, offset);
+        }
+    }
+
+    private void apply(byte operation, String timedObjectId, String timerId, byte[] timer) {
+        if (operation == PUT) {
+            if (this.entries.computeIfAbsent(timedObjectId, key -> new ConcurrentHashMap<>()).put(timerId, timer) == null) {
+                this.count += 1;
+            }
+        } else {
+            Map<String, byte[]> timers = this.entries.get(timedObjectId);
+            if ((timers != null) && (timers.remove(timerId) != null)) {
+                this.count -= 1;
+                if (timers.isEmpty()) {
+                    this.entries.remove(timedObjectId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the records of the specified file.
+     * @param file a checkpoint or journal file
+     * @param checkpoint indicates whether the specified file is a checkpoint, in which case any corruption is fatal
+     * @return the position following the last valid record
+     * @throws IOException if the file could not be read, or if it is corrupt beyond what a crash could cause
+     */
+    private long replay(File file, boolean checkpoint) throws IOException {
+        long position = 0;
+        try (InputStream in = new FileInputStream(file)) {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(in));
+            long length = file.length();
+            try {
+                if ((input.readInt() != MAGIC) || (input.readInt() != VERSION)) {
+                    throw EJB3_TIMER_LOGGER.timerStoreCorrupt(file, position);
+                }
+            } catch (EOFException e) {
+                // A journal lacks a complete header only if we crashed while creating it
+                if (checkpoint) {
+                    throw EJB3_TIMER_LOGGER.timerStoreCorrupt(file, position);
+                }
+                return HEADER_SIZE;
+            }
+            position = HEADER_SIZE;
+            while (position < length) {
+                if (length - position < RECORD_HEADER_SIZE) {
+                    discard(file, position, checkpoint);
+                    break;
+                }
+                int size = input.readInt();
+                int checksum = input.readInt();
+                if ((size <= 0) || (size > length - position - RECORD_HEADER_SIZE)) {
+                    discard(file, position, checkpoint);
+                    break;
+                }
+                byte[] payload = new byte[size];
+                input.readFully(payload);
+                CRC32 crc = new CRC32();
+                crc.update(payload, 0, size);
+                if ((int) crc.getValue() != checksum) {
+                    discard(file, position, checkpoint);
+                    break;
+                }
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+                byte operation = record.readByte();
+                String timedObjectId = record.readUTF();
+                String timerId = record.readUTF();
+                byte[] timer = null;
+                if (operation == PUT) {
+                    timer = new byte[record.available()];
+                    record.readFully(timer);
+                }
+                this.apply(operation, timedObjectId, timerId, timer);
+                this.records += 1;
+                position += RECORD_HEADER_SIZE + size;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Handles a corrupt or incomplete record of the specified file.
+     * Trailing records of a journal are expected to be incomplete following a crash, and are discarded, whereas a checkpoint must be complete.
+     */
+    private static void discard(File file, long position, boolean checkpoint) throws IOException {
+        if (checkpoint) {
+            throw EJB3_TIMER_LOGGER.timerStoreCorrupt(file, position);
+        }
+        EJB3_TIMER_LOGGER.timerJournalTruncated(file, position);
+    }
+
+    private static ByteBuffer record(byte operation, String timedObjectId, String timerId, byte[] timer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(RECORD_HEADER_SIZE + ((timer != null) ? timer.length : 0) + 64);
+        DataOutputStream output = new DataOutputStream(bytes);
+        // Reserve space for record header
+        output.writeInt(0);
+        output.writeInt(0);
+        output.writeByte(operation);
+        output.writeUTF(timedObjectId);
+        output.writeUTF(timerId);
+        if (timer != null) {
+            output.write(timer);
+        }
+        output.flush();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        int size = buffer.remaining() - RECORD_HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), RECORD_HEADER_SIZE, size);
+        buffer.putInt(0, size);
+        buffer.putInt(Integer.BYTES, (int) crc.getValue());
+        return buffer;
+    }
+}
@@ -50,6 +50,8 @@ import org.jboss.as.ejb3.timerservice.schedule.value.ScheduleExpressionType;
  */
 public class CalendarBasedTimeout {
     private static final TimeZone DEFAULT_TIMEZONE = TimeZone.getDefault();
+    // Indicates whether timeouts should be computed via a CompiledScheduleExpression
+    private static final boolean COMPILED = Boolean.getBoolean("jboss.ejb.timer.schedule.compiled");
 
     /**
      * The {@link jakarta.ejb.ScheduleExpression} from which this {@link CalendarBasedTimeout}
@@ -106,6 +108,11 @@ public class CalendarBasedTimeout {
     private final Date start;
     private final Date end;
 
+    /**
+     * The compiled form of this schedule, if enabled
+     */
+    private final CompiledScheduleExpression compiledExpression;
+
     /**
      * Creates a {@link CalendarBasedTimeout} from the passed <code>schedule</code>.
      * <p>
@@ -147,6 +154,7 @@ public class CalendarBasedTimeout {
         this.timezone = timezone;
         this.start = start;
         this.end = end;
+        this.compiledExpression = COMPILED ? new CompiledScheduleExpression(second, minute, hour, dayOfMonth, month, dayOfWeek, year, timezone.toZoneId(), start, end) : null;
 
         // Now that we have parsed the values from the ScheduleExpression,
         // determine and set the first timeout (relative to the current time)
@@ -218,6 +226,16 @@ public class CalendarBasedTimeout {
     }
 
     private Calendar getNextTimeout(Calendar currentCal, boolean increment) {
+        if (this.compiledExpression != null) {
+            long timeout = this.compiledExpression.getNextTimeout(currentCal.getTimeInMillis(), increment);
+            if (timeout == CompiledScheduleExpression.NO_TIMEOUT) {
+                return null;
+            }
+            Calendar nextCal = new GregorianCalendar(this.timezone);
+            nextCal.setFirstDayOfWeek(Calendar.SUNDAY);
+            nextCal.setTimeInMillis(timeout);
+            return nextCal;
+        }
         if (this.noMoreTimeouts(currentCal)) {
             return null;
         }
@@ -354,6 +372,10 @@ public class CalendarBasedTimeout {
 
         if (nextCal.get(Calendar.MONTH) != currentMonth) {
             nextCal = computeNextMonth(nextCal);
+            // if we advanced to a subsequent month, its first day may not be an eligible day-of-week
+            if (nextCal != null) {
+                nextCal = computeNextDayOfWeek(nextCal);
+            }
         }
         return nextCal;
     }
@@ -0,0 +1,287 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.timerservice.schedule;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.chrono.IsoChronology;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.Date;
+
+import org.jboss.as.ejb3.timerservice.schedule.attribute.DayOfMonth;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.DayOfWeek;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Hour;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Minute;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Month;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Second;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Year;
+import org.jboss.as.ejb3.timerservice.schedule.value.ScheduleExpressionType;
+
+/**
+ * A schedule expression compiled into bit masks, from which the next timeout is computed using primitive arithmetic,
+ * rather than by repeatedly cloning and adjusting a {@link Calendar}.
+ * The eligible days of a month depend only upon its length and the day of the week of its first day,
+ * so the day-of-month and day-of-week attributes are combined into one precomputed mask per month shape.
+ * Computes the same timeouts as {@link CalendarBasedTimeout}, except across a daylight saving time transition,
+ * where the timeout is always consistent with the local time of the schedule.
+ * @author agent
+ */
+public class CompiledScheduleExpression {
+
+    /** Indicates that a schedule has no more timeouts */
+    public static final long NO_TIMEOUT = Long.MIN_VALUE;
+
+    private static final int MIN_LENGTH_OF_MONTH = 28;
+    private static final int[] LENGTHS_OF_MONTH = { 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+    private static final int[] DAY_OF_WEEK_MONTH_OFFSETS = { 0, 3, 2, 5, 0, 3, 5, 1, 4, 6, 2, 4 };
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long months;
+    // Eligible days, indexed by (length of month - 28) * 7 + day of week of the first of the month
+    private final long[] days = new long[4 * 7];
+    // null, if all years are eligible
+    private final BitSet years;
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private final long start;
+    private final long end;
+    private final int firstSecond;
+    private final int firstMinute;
+
+    public CompiledScheduleExpression(Second second, Minute minute, Hour hour, DayOfMonth dayOfMonth, Month month, DayOfWeek dayOfWeek, Year year, ZoneId zone, Date start, Date end) {
+        this.seconds = toMask(second.getAbsoluteValues());
+        this.minutes = toMask(minute.getAbsoluteValues());
+        this.hours = toMask(hour.getAbsoluteValues());
+        this.months = toMask(month.getAbsoluteValues());
+        this.years = (year.getType() != ScheduleExpressionType.WILDCARD) ? year.getAbsoluteValues() : null;
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.start = (start != null) ? start.getTime() : NO_TIMEOUT;
+        this.end = (end != null) ? end.getTime() : Long.MAX_VALUE;
+        this.firstSecond = Long.numberOfTrailingZeros(this.seconds);
+        this.firstMinute = Long.numberOfTrailingZeros(this.minutes);
+
+        boolean dayOfMonthWildcard = dayOfMonth.getType() == ScheduleExpressionType.WILDCARD;
+        boolean dayOfWeekWildcard = dayOfWeek.getType() == ScheduleExpressionType.WILDCARD;
+        // Days of the week are zero-based, starting with Sunday
+        long daysOfWeek = toMask(dayOfWeek.getAbsoluteValues());
+        for (int length = MIN_LENGTH_OF_MONTH; length <= DayOfMonth.MAX_DAY_OF_MONTH; ++length) {
+            for (int firstDayOfWeek = 0; firstDayOfWeek < 7; ++firstDayOfWeek) {
+                long daysOfMonth = dayOfMonth.getDaysOfMonth(length, firstDayOfWeek + Calendar.SUNDAY);
+                long daysMatchingDayOfWeek = 0;
+                for (int day = 1; day <= length; ++day) {
+                    if ((daysOfWeek & (1L << ((firstDayOfWeek + day - 1) % 7))) != 0) {
+                        daysMatchingDayOfWeek |= 1L << day;
+                    }
+                }
+                // If both attributes are specified, a day matching either is eligible
+                this.days[(length - MIN_LENGTH_OF_MONTH) * 7 + firstDayOfWeek] = dayOfMonthWildcard ? daysMatchingDayOfWeek : dayOfWeekWildcard ? daysOfMonth : daysOfMonth | daysMatchingDayOfWeek;
+            }
+        }
+    }
+
+    /**
+     * Returns the time zone in which this schedule is evaluated.
+     * @return a time zone
+     */
+    public ZoneId getZone() {
+        return this.zone;
+    }
+
+    /**
+     * Returns the first timeout following the specified time.
+     * @param currentTime a time in milliseconds since the epoch
+     * @return the time of the next timeout in milliseconds since the epoch, or {@link #NO_TIMEOUT} if this schedule has no more timeouts.
+     */
+    public long getNextTimeout(long currentTime) {
+        return this.getNextTimeout(currentTime, true);
+    }
+
+    /**
+     * Returns the first timeout at, or following (if incrementing), the specified time.
+     * @param currentTime a time in milliseconds since the epoch
+     * @param increment indicates whether the specified time itself is ineligible
+     * @return the time of the next timeout in milliseconds since the epoch, or {@link #NO_TIMEOUT} if this schedule has no more timeouts.
+     */
+    long getNextTimeout(long currentTime, boolean increment) {
+        if (currentTime > this.end) {
+            return NO_TIMEOUT;
+        }
+        long time = currentTime;
+        if ((this.start == NO_TIMEOUT) || (currentTime >= this.start)) {
+            if (increment) {
+                time += 1000L;
+            }
+            time -= Math.floorMod(time, 1000L);
+        } else {
+            // Retain any milliseconds of the start time
+            time = this.start;
+        }
+        Instant instant = Instant.ofEpochMilli(time);
+        ZoneOffset offset = this.rules.getOffset(instant);
+        LocalDateTime local = LocalDateTime.ofEpochSecond(Math.floorDiv(time, 1000L), 0, offset);
+        LocalDateTime next = this.getNextLocalTimeout(local);
+        if (next == null) {
+            return NO_TIMEOUT;
+        }
+        // While no transition intervenes, the current offset applies, even if the local time is repeated by an overlap
+        long timeout = next.toEpochSecond(offset);
+        ZoneOffsetTransition transition = this.rules.nextTransition(instant);
+        if ((transition != null) && (timeout >= transition.toEpochSecond())) {
+            // On the current day, a schedule continues in real time through the local times repeated by an overlap (e.g. at the end of daylight saving time)
+            // Otherwise, a local time within a gap is shifted by the length of the gap
+            if (!transition.isOverlap() || !next.toLocalDate().equals(local.toLocalDate()) || (timeout >= transition.toEpochSecond() - transition.getDuration().getSeconds())) {
+                timeout = ZonedDateTime.of(next, this.zone).toEpochSecond();
+            }
+        }
+        timeout *= 1000L;
+        timeout += Math.floorMod(time, 1000L);
+        return (timeout <= this.end) ? timeout : NO_TIMEOUT;
+    }
+
+    /**
+     * Returns the first local time matching this schedule, not preceding the specified local time.
+     * @param local a local time, truncated to seconds
+     * @return a local time, or null, if this schedule has no more timeouts
+     */
+    private LocalDateTime getNextLocalTimeout(LocalDateTime local) {
+        int year = local.getYear();
+        int month = local.getMonthValue();
+        int day = local.getDayOfMonth();
+        int secondOfDay = local.toLocalTime().toSecondOfDay();
+        while (true) {
+            if (year > Year.MAX_YEAR) {
+                return null;
+            }
+            if ((this.years != null) && !this.years.get(year)) {
+                int nextYear = this.years.nextSetBit(year);
+                if (nextYear < 0) {
+                    return null;
+                }
+                year = nextYear;
+                month = 1;
+                day = 1;
+                secondOfDay = 0;
+                continue;
+            }
+            int nextMonth = nextSetBit(this.months, month);
+            if (nextMonth < 0) {
+                year += 1;
+                month = 1;
+                day = 1;
+                secondOfDay = 0;
+                continue;
+            }
+            if (nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                secondOfDay = 0;
+            }
+            int length = lengthOfMonth(year, month);
+            int nextDay = nextSetBit(this.days[(length - MIN_LENGTH_OF_MONTH) * 7 + dayOfWeek(year, month, 1)], day);
+            if (nextDay < 0) {
+                month += 1;
+                day = 1;
+                secondOfDay = 0;
+                continue;
+            }
+            if (nextDay != day) {
+                day = nextDay;
+                secondOfDay = 0;
+            }
+            int nextSecondOfDay = this.nextSecondOfDay(secondOfDay);
+            if (nextSecondOfDay < 0) {
+                day += 1;
+                secondOfDay = 0;
+                continue;
+            }
+            return LocalDateTime.of(year, month, day, nextSecondOfDay / 3600, (nextSecondOfDay / 60) % 60, nextSecondOfDay % 60);
+        }
+    }
+
+    /**
+     * Returns the first eligible second of the day not preceding the specified second of the day.
+     * @param secondOfDay a second of the day
+     * @return a second of the day, or -1 if no eligible time remains in the day
+     */
+    private int nextSecondOfDay(int secondOfDay) {
+        int hour = secondOfDay / 3600;
+        int minute = (secondOfDay / 60) % 60;
+        int second = secondOfDay % 60;
+        int nextHour = nextSetBit(this.hours, hour);
+        if (nextHour < 0) {
+            return -1;
+        }
+        if (nextHour == hour) {
+            int nextMinute = nextSetBit(this.minutes, minute);
+            if (nextMinute == minute) {
+                int nextSecond = nextSetBit(this.seconds, second);
+                if (nextSecond >= 0) {
+                    return hour * 3600 + minute * 60 + nextSecond;
+                }
+                nextMinute = nextSetBit(this.minutes, minute + 1);
+            }
+            if (nextMinute >= 0) {
+                return hour * 3600 + nextMinute * 60 + this.firstSecond;
+            }
+            nextHour = nextSetBit(this.hours, hour + 1);
+            if (nextHour < 0) {
+                return -1;
+            }
+        }
+        return nextHour * 3600 + this.firstMinute * 60 + this.firstSecond;
+    }
+
+    private static long toMask(BitSet values) {
+        long[] words = values.toLongArray();
+        return (words.length > 0) ? words[0] : 0L;
+    }
+
+    private static int nextSetBit(long mask, int index) {
+        if (index >= Long.SIZE) {
+            return -1;
+        }
+        long remaining = mask & (-1L << index);
+        return (remaining != 0) ? Long.numberOfTrailingZeros(remaining) : -1;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return ((month == 2) && IsoChronology.INSTANCE.isLeapYear(year)) ? 29 : LENGTHS_OF_MONTH[month - 1];
+    }
+
+    /**
+     * Returns the zero-based day of the week, starting with Sunday, of the specified date.
+     */
+    private static int dayOfWeek(int year, int month, int day) {
+        int y = (month < 3) ? year - 1 : year;
+        return (y + y / 4 - y / 100 + y / 400 + DAY_OF_WEEK_MONTH_OFFSETS[month - 1] + day) % 7;
+    }
+}
@@ -281,6 +281,73 @@ public class DayOfMonth extends IntegerBasedExpression {
         throw EjbLogger.EJB3_TIMER_LOGGER.invalidScheduleValue(DayOfMonth.class.getSimpleName(), trimmedRelativeDayOfMonth);
     }
 
+    /**
+     * Returns the days matched by this expression within a month of the specified shape, as a bit mask in which bit n represents day n.
+     * Since relative values depend only upon the length of a month and the day of the week of its first day,
+     * the result can be computed once for each possible month shape.
+     * @param lengthOfMonth the number of days in the month
+     * @param firstDayOfWeek the {@link Calendar} day of the week of the first day of the month
+     * @return a bit mask of matching days of the month
+     */
+    public long getDaysOfMonth(int lengthOfMonth, int firstDayOfWeek) {
+        long lengthMask = ((1L << (lengthOfMonth + 1)) - 1) & ~1L;
+        if (this.scheduleExpressionType == ScheduleExpressionType.WILDCARD) {
+            return lengthMask;
+        }
+        long days = 0;
+        for (Integer day : this.absoluteValues) {
+            if (day > 0) {
+                days |= 1L << day;
+            }
+        }
+        for (ScheduleValue relativeValue : this.relativeValues) {
+            if (relativeValue instanceof SingleValue) {
+                int day = this.getAbsoluteDayOfMonth(lengthOfMonth, firstDayOfWeek, ((SingleValue) relativeValue).getValue());
+                days |= 1L << day;
+            } else if (relativeValue instanceof RangeValue) {
+                RangeValue range = (RangeValue) relativeValue;
+                String start = range.getStart();
+                String end = range.getEnd();
+                int rangeStart = this.isRelativeValue(start) ? this.getAbsoluteDayOfMonth(lengthOfMonth, firstDayOfWeek, start) : this.parseInt(start);
+                int rangeEnd = this.isRelativeValue(end) ? this.getAbsoluteDayOfMonth(lengthOfMonth, firstDayOfWeek, end) : this.parseInt(end);
+                this.assertValid(rangeStart);
+                this.assertValid(rangeEnd);
+                // Range "x-y", where x > y, is equivalent to "x-max, min-y"
+                for (int day = Math.max(rangeStart, 1); day <= ((rangeStart <= rangeEnd) ? rangeEnd : this.getMaxValue()); ++day) {
+                    days |= 1L << day;
+                }
+                if (rangeStart > rangeEnd) {
+                    for (int day = 1; day <= rangeEnd; ++day) {
+                        days |= 1L << day;
+                    }
+                }
+            }
+        }
+        return days & lengthMask;
+    }
+
+    private int getAbsoluteDayOfMonth(int lengthOfMonth, int firstDayOfWeek, String relativeDayOfMonth) {
+        String value = relativeDayOfMonth.trim().toLowerCase(Locale.ROOT);
+        if (value.equals("last")) {
+            return lengthOfMonth;
+        }
+        if (this.isValidNegativeDayOfMonth(value)) {
+            return lengthOfMonth + Integer.parseInt(value);
+        }
+        String[] parts = splitDayOfWeekBased(value);
+        if (parts == null) {
+            throw EjbLogger.EJB3_TIMER_LOGGER.invalidScheduleValue(DayOfMonth.class.getSimpleName(), relativeDayOfMonth);
+        }
+        int dayOfWeek = DayOfWeek.DAY_OF_WEEK_ALIAS.get(parts[1]) + 1;
+        int firstDate = 1 + Math.floorMod(dayOfWeek - firstDayOfWeek, 7);
+        if (parts[0].equals("last")) {
+            return firstDate + ((lengthOfMonth - firstDate) / 7) * 7;
+        }
+        int date = firstDate + (ORDINAL_TO_WEEK_NUMBER_MAPPING.get(parts[0]) - 1) * 7;
+        // Consistent with getAbsoluteDayOfMonth(Calendar, String), a non-existent nth day of week matches the last day of the month
+        return (date <= lengthOfMonth) ? date : lengthOfMonth;
+    }
+
     private boolean isValidNegativeDayOfMonth(String dayOfMonth) {
         try {
             int val = Integer.parseInt(dayOfMonth.trim());
@@ -21,6 +21,7 @@
  */
 package org.jboss.as.ejb3.timerservice.schedule.attribute;
 
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.SortedSet;
@@ -220,4 +221,23 @@ public abstract class IntegerBasedExpression {
     public ScheduleExpressionType getType() {
         return this.scheduleExpressionType;
     }
+
+    /**
+     * Returns the non-negative absolute values of this expression as a bit set.
+     * A wildcard matches every value between the minimum and maximum value of this attribute.
+     * @return a bit set, indexed by value
+     */
+    public BitSet getAbsoluteValues() {
+        BitSet values = new BitSet(this.getMaxValue() + 1);
+        if (this.scheduleExpressionType == ScheduleExpressionType.WILDCARD) {
+            values.set(Math.max(this.getMinValue(), 0), this.getMaxValue() + 1);
+        } else {
+            for (Integer value : this.absoluteValues) {
+                if (value >= 0) {
+                    values.set(value);
+                }
+            }
+        }
+        return values;
+    }
 }
@@ -63,6 +63,30 @@ public interface ManagedTimerService extends TimerService, Restartable {
      */
     TimedObjectInvoker getInvoker();
 
+    /**
+     * Returns the number of timeouts dispatched by this timer service.
+     * @return a number of timeouts
+     */
+    default long getTimeoutCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the cumulative lateness of all timeouts dispatched by this timer service, i.e. the sum of the delays between the scheduled expiration and the start of the timeout.
+     * @return a duration in milliseconds
+     */
+    default long getTotalTimeoutLateness() {
+        return 0;
+    }
+
+    /**
+     * Returns the maximum lateness of any timeout dispatched by this timer service.
+     * @return a duration in milliseconds
+     */
+    default long getMaxTimeoutLateness() {
+        return 0;
+    }
+
     @Override
     default Timer createCalendarTimer(ScheduleExpression schedule) {
         return this.createCalendarTimer(schedule, new TimerConfig());
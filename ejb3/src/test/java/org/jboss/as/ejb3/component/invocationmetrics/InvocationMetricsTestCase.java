@@ -0,0 +1,189 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.component.invocationmetrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link InvocationMetrics} and {@link LatencyHistogram}.
+ * @author agent
+ */
+public class InvocationMetricsTestCase {
+
+    @Test
+    public void metrics() throws Exception {
+        Method toString = Object.class.getMethod("toString");
+        Method hashCode = Object.class.getMethod("hashCode");
+        InvocationMetrics metrics = new InvocationMetrics();
+
+        metrics.startInvocation();
+        metrics.startInvocation();
+        assertEquals(2, metrics.getConcurrent());
+        metrics.finishInvocation(toString, 1, 10);
+        metrics.finishInvocation(hashCode, 2, 20);
+        metrics.startInvocation();
+        metrics.finishInvocation(toString, 3, 30);
+
+        assertEquals(0, metrics.getConcurrent());
+        assertEquals(2, metrics.getPeakConcurrent());
+        assertEquals(3, metrics.getInvocations());
+        assertEquals(6, metrics.getWaitTime());
+        assertEquals(60, metrics.getExecutionTime());
+        assertNull(metrics.getExecutionTimeHistogram());
+
+        Map<String, InvocationMetrics.Values> methods = metrics.getMethods();
+        assertEquals(2, methods.size());
+        InvocationMetrics.Values values = methods.get("toString");
+        assertEquals(2, values.getInvocations());
+        assertEquals(4, values.getWaitTime());
+        assertEquals(40, values.getExecutionTime());
+        assertNull(values.getExecutionTimeHistogram());
+    }
+
+    @Test
+    public void parameterCloning() throws Exception {
+        Method toString = Object.class.getMethod("toString");
+        InvocationMetrics metrics = new InvocationMetrics();
+
+        metrics.recordParameterCloning(toString, true);
+        metrics.recordParameterCloning(toString, false);
+        metrics.recordParameterCloning(toString, false);
+
+        InvocationMetrics.Values values = metrics.getMethods().get("toString");
+        assertEquals(1, values.getClonedInvocations());
+        assertEquals(2, values.getPassByReferenceInvocations());
+        // Cloning is recorded independently of invocations
+        assertEquals(0, values.getInvocations());
+    }
+
+    @Test
+    public void histogram() throws Exception {
+        Method method = Object.class.getMethod("toString");
+        InvocationMetrics metrics = new InvocationMetrics(() -> true);
+
+        for (int i = 1; i <= 100; ++i) {
+            metrics.startInvocation();
+            metrics.finishInvocation(method, 0, i);
+        }
+
+        LatencyHistogram.Snapshot histogram = metrics.getExecutionTimeHistogram();
+        assertNotNull(histogram);
+        assertEquals(100, histogram.getCount());
+        assertPercentile(50, histogram.getValueAtPercentile(50));
+        assertPercentile(95, histogram.getValueAtPercentile(95));
+        assertPercentile(99, histogram.getValueAtPercentile(99));
+        assertPercentile(100, histogram.getValueAtPercentile(100));
+
+        LatencyHistogram.Snapshot methodHistogram = metrics.getMethods().get("toString").getExecutionTimeHistogram();
+        assertNotNull(methodHistogram);
+        assertEquals(100, methodHistogram.getCount());
+        assertEquals(histogram.getValueAtPercentile(50), methodHistogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void buckets() {
+        // Small values are exact
+        for (int i = 0; i < LatencyHistogram.SUB_BUCKETS; ++i) {
+            assertEquals(i, LatencyHistogram.index(i));
+            assertEquals(i, LatencyHistogram.highestEquivalentValue(i));
+        }
+        // Every value maps to a bucket whose bounds contain it
+        int previous = LatencyHistogram.index(0);
+        for (long value = 1; value < 100_000; ++value) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(index >= previous);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+            assertTrue(index == 0 || LatencyHistogram.highestEquivalentValue(index - 1) < value);
+            previous = index;
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.index(LatencyHistogram.MAX_VALUE));
+        assertEquals(LatencyHistogram.MAX_VALUE, LatencyHistogram.highestEquivalentValue(LatencyHistogram.BUCKETS - 1));
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getSnapshot().getValueAtPercentile(99));
+        // Out of range values are clamped
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getSnapshot().getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.MAX_VALUE, histogram.getSnapshot().getValueAtPercentile(100));
+    }
+
+    @Test
+    public void concurrent() throws Exception {
+        Method method = Object.class.getMethod("toString");
+        InvocationMetrics metrics = new InvocationMetrics(() -> true);
+        int threads = 8;
+        int iterations = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; ++i) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < iterations; ++j) {
+                        metrics.startInvocation();
+                        metrics.finishInvocation(method, 1, 2);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long invocations = threads * iterations;
+        assertEquals(0, metrics.getConcurrent());
+        assertTrue(metrics.getPeakConcurrent() >= 1);
+        assertTrue(metrics.getPeakConcurrent() <= threads);
+        assertEquals(invocations, metrics.getInvocations());
+        assertEquals(invocations, metrics.getWaitTime());
+        assertEquals(2 * invocations, metrics.getExecutionTime());
+        assertEquals(invocations, metrics.getExecutionTimeHistogram().getCount());
+        assertEquals(invocations, metrics.getMethods().get("toString").getInvocations());
+    }
+
+    private static void assertPercentile(long expected, long actual) {
+        // Reported value is the upper bound of its bucket, within the relative error of the histogram
+        assertTrue(actual + " < " + expected, actual >= expected);
+        assertTrue(actual + " > " + expected, actual <= expected + (expected / LatencyHistogram.SUB_BUCKETS));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link OffHeapStatefulSessionBeanStore}.
+ * @author agent
+ */
+public class OffHeapStatefulSessionBeanStoreTestCase {
+
+    private static final int CHUNK_SIZE = OffHeapStatefulSessionBeanStore.CHUNK_SIZE;
+
+    @Test
+    public void putGetDiscard() {
+        OffHeapStatefulSessionBeanStore<String> store = new OffHeapStatefulSessionBeanStore<>(Long.MAX_VALUE);
+        byte[] small = createBytes(10);
+        byte[] large = createBytes(CHUNK_SIZE * 3 + 1);
+
+        assertTrue(store.put("small", ByteBuffer.wrap(small)));
+        assertTrue(store.put("large", ByteBuffer.wrap(large)));
+        assertEquals(2, store.getCount());
+        assertEquals(CHUNK_SIZE * 5L, store.getMemorySize());
+
+        assertEquals(ByteBuffer.wrap(small), store.get("small"));
+        assertEquals(ByteBuffer.wrap(large), store.get("large"));
+        assertNull(store.get("missing"));
+
+        // Replaced state frees its chunks
+        assertTrue(store.put("large", ByteBuffer.wrap(small)));
+        assertEquals(CHUNK_SIZE * 2L, store.getMemorySize());
+        assertEquals(ByteBuffer.wrap(small), store.get("large"));
+
+        store.discard("small");
+        assertNull(store.get("small"));
+        assertEquals(1, store.getCount());
+        assertEquals(CHUNK_SIZE, store.getMemorySize());
+
+        store.clear();
+        assertEquals(0, store.getCount());
+        assertEquals(0L, store.getMemorySize());
+    }
+
+    @Test
+    public void reuse() {
+        // Capacity of a single slab
+        OffHeapStatefulSessionBeanStore<Integer> store = new OffHeapStatefulSessionBeanStore<>(CHUNK_SIZE * 4L);
+        for (int i = 0; i < 4; ++i) {
+            assertTrue(store.put(i, ByteBuffer.wrap(createBytes(CHUNK_SIZE))));
+        }
+        // Insufficient capacity
+        assertFalse(store.put(4, ByteBuffer.wrap(createBytes(1))));
+        assertEquals(CHUNK_SIZE * 4L, store.getMemorySize());
+
+        // Freed chunks are reused, and may be non-contiguous
+        store.discard(0);
+        store.discard(2);
+        byte[] bytes = createBytes(CHUNK_SIZE * 2);
+        assertTrue(store.put(4, ByteBuffer.wrap(bytes)));
+        assertEquals(ByteBuffer.wrap(bytes), store.get(4));
+        assertEquals(CHUNK_SIZE * 4L, store.getMemorySize());
+    }
+
+    @Test
+    public void insufficientCapacity() {
+        OffHeapStatefulSessionBeanStore<String> store = new OffHeapStatefulSessionBeanStore<>(CHUNK_SIZE - 1);
+
+        assertFalse(store.put("bean", ByteBuffer.wrap(createBytes(1))));
+        assertEquals(0, store.getCount());
+        assertEquals(0L, store.getMemorySize());
+    }
+
+    private static byte[] createBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
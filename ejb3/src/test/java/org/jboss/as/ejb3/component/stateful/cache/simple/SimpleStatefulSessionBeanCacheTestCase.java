@@ -0,0 +1,255 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.component.stateful.cache.simple;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBean;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanCache;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstance;
+import org.jboss.as.ejb3.component.stateful.cache.StatefulSessionBeanInstanceFactory;
+import org.jboss.as.server.ServerEnvironment;
+import org.junit.After;
+import org.junit.Test;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
+
+/**
+ * Unit test for passivation and activation by {@link SimpleStatefulSessionBeanCache}.
+ * @author agent
+ */
+public class SimpleStatefulSessionBeanCacheTestCase {
+
+    private final StatefulSessionBeanInstanceFactory<StatefulSessionBeanInstance<UUID>> factory = mock(StatefulSessionBeanInstanceFactory.class);
+    private final ByteBufferMarshaller marshaller = mock(ByteBufferMarshaller.class);
+
+    private StatefulSessionBeanCache<UUID, StatefulSessionBeanInstance<UUID>> cache;
+
+    @After
+    public void destroy() {
+        if (this.cache != null) {
+            this.cache.stop();
+        }
+    }
+
+    @Test
+    public void lruPassivation() throws IOException, InterruptedException {
+        this.cache = this.createCache(2, null, Long.MAX_VALUE);
+
+        StatefulSessionBeanInstance<UUID> instance1 = this.createInstance();
+        StatefulSessionBeanInstance<UUID> instance2 = this.createInstance();
+        StatefulSessionBeanInstance<UUID> instance3 = this.createInstance();
+        StatefulSessionBeanInstance<UUID> instance4 = this.createInstance();
+        StatefulSessionBeanInstance<UUID> instance5 = this.createInstance();
+        when(this.factory.createInstance()).thenReturn(instance1, instance2, instance3, instance4, instance5);
+        when(this.marshaller.write(any())).thenReturn(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+
+        this.cache.createStatefulSessionBean();
+        UUID id2 = this.cache.createStatefulSessionBean();
+
+        assertEquals(2, this.cache.getActiveCount());
+        assertEquals(0, this.cache.getPassiveCount());
+
+        this.cache.createStatefulSessionBean();
+
+        // Least recently used bean is passivated
+        this.awaitPassiveCount(1);
+        verify(instance1).prePassivate();
+        verify(this.marshaller).write(instance1);
+        assertEquals(2, this.cache.getActiveCount());
+        assertEquals(1, this.cache.getPassiveCount());
+        assertEquals(1, this.cache.getPassivationCount());
+        assertEquals(OffHeapStatefulSessionBeanStore.CHUNK_SIZE, this.cache.getPassivatedMemorySize());
+
+        // A referenced bean is never passivated, even if least recently used
+        try (StatefulSessionBean<UUID, StatefulSessionBeanInstance<UUID>> bean = this.cache.findStatefulSessionBean(id2)) {
+            assertSame(instance2, bean.getInstance());
+
+            this.cache.createStatefulSessionBean();
+
+            this.awaitPassiveCount(2);
+            verify(instance2, never()).prePassivate();
+            verify(instance3).prePassivate();
+            assertEquals(2, this.cache.getPassiveCount());
+        }
+        // Released bean is now the most recently used
+        assertEquals(2, this.cache.getActiveCount());
+        assertEquals(2, this.cache.getPassiveCount());
+
+        this.cache.createStatefulSessionBean();
+
+        this.awaitPassiveCount(3);
+        verify(instance4).prePassivate();
+        verify(instance2, never()).prePassivate();
+        verify(instance5, never()).prePassivate();
+        assertEquals(3, this.cache.getPassiveCount());
+    }
+
+    @Test
+    public void idlePassivation() throws IOException, InterruptedException {
+        this.cache = this.createCache(null, Duration.ofMillis(10), Long.MAX_VALUE);
+
+        StatefulSessionBeanInstance<UUID> instance = this.createInstance();
+        when(this.factory.createInstance()).thenReturn(instance);
+        when(this.marshaller.write(any())).thenReturn(ByteBuffer.wrap(new byte[] { 1 }));
+
+        UUID id = this.cache.createStatefulSessionBean();
+
+        this.cache.findStatefulSessionBean(id).close();
+
+        // Wait for bean to exceed its idle threshold
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((this.cache.getPassiveCount() == 0) && (System.nanoTime() < deadline)) {
+            Thread.sleep(10);
+        }
+
+        verify(instance).prePassivate();
+        assertEquals(0, this.cache.getActiveCount());
+        assertEquals(1, this.cache.getPassiveCount());
+    }
+
+    @Test
+    public void activation() throws IOException, InterruptedException {
+        this.cache = this.createCache(1, null, Long.MAX_VALUE);
+
+        StatefulSessionBeanInstance<UUID> instance1 = this.createInstance();
+        StatefulSessionBeanInstance<UUID> instance2 = this.createInstance();
+        UUID id1 = instance1.getId();
+        StatefulSessionBeanInstance<UUID> activated = mock(StatefulSessionBeanInstance.class);
+        when(activated.getId()).thenReturn(id1);
+        when(this.factory.createInstance()).thenReturn(instance1, instance2);
+        when(this.marshaller.write(any())).thenReturn(ByteBuffer.wrap(new byte[] { 1 }));
+
+        this.cache.createStatefulSessionBean();
+        this.cache.createStatefulSessionBean();
+
+        this.awaitPassiveCount(1);
+
+        // Failed activation retains passivated bean
+        IOException exception = new IOException();
+        when(this.marshaller.read(any())).thenThrow(exception).thenReturn(activated);
+        try {
+            this.cache.findStatefulSessionBean(id1);
+            fail();
+        } catch (RuntimeException e) {
+            assertSame(exception, e.getCause());
+        }
+        assertEquals(1, this.cache.getPassiveCount());
+        assertEquals(0, this.cache.getActivationCount());
+
+        // Subsequent activation succeeds
+        try (StatefulSessionBean<UUID, StatefulSessionBeanInstance<UUID>> bean = this.cache.findStatefulSessionBean(id1)) {
+            assertSame(activated, bean.getInstance());
+            verify(activated).postActivate();
+            assertEquals(0, this.cache.getPassiveCount());
+            assertEquals(1, this.cache.getActivationCount());
+            assertEquals(0, this.cache.getPassivatedMemorySize());
+        }
+        // Releasing activated bean exceeds max size, passivating the other bean
+        this.awaitPassiveCount(1);
+        verify(instance2).prePassivate();
+        assertEquals(1, this.cache.getActiveCount());
+    }
+
+    @Test
+    public void failedPassivation() throws IOException {
+        this.cache = this.createCache(1, null, Long.MAX_VALUE);
+
+        StatefulSessionBeanInstance<UUID> instance1 = this.createInstance();
+        StatefulSessionBeanInstance<UUID> instance2 = this.createInstance();
+        when(this.factory.createInstance()).thenReturn(instance1, instance2);
+        when(this.marshaller.write(any())).thenThrow(new IOException());
+
+        this.cache.createStatefulSessionBean();
+        this.cache.createStatefulSessionBean();
+
+        // Bean remains active, and its passivation is reverted
+        verify(instance1, timeout(TimeUnit.SECONDS.toMillis(10))).postActivate();
+        verify(instance1).prePassivate();
+        assertEquals(2, this.cache.getActiveCount());
+        assertEquals(0, this.cache.getPassiveCount());
+        assertEquals(0, this.cache.getPassivationCount());
+    }
+
+    @Test
+    public void insufficientCapacity() throws IOException {
+        this.cache = this.createCache(1, null, 2);
+
+        StatefulSessionBeanInstance<UUID> instance1 = this.createInstance();
+        StatefulSessionBeanInstance<UUID> instance2 = this.createInstance();
+        when(this.factory.createInstance()).thenReturn(instance1, instance2);
+        when(this.marshaller.write(any())).thenReturn(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+
+        this.cache.createStatefulSessionBean();
+        this.cache.createStatefulSessionBean();
+
+        // Bean remains active, and its passivation is reverted
+        verify(instance1, timeout(TimeUnit.SECONDS.toMillis(10))).postActivate();
+        verify(instance1).prePassivate();
+        assertEquals(2, this.cache.getActiveCount());
+        assertEquals(0, this.cache.getPassiveCount());
+        assertEquals(0, this.cache.getPassivatedMemorySize());
+    }
+
+    private void awaitPassiveCount(int count) throws InterruptedException {
+        // Excess beans are passivated asynchronously
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((this.cache.getPassiveCount() != count) && (System.nanoTime() < deadline)) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, this.cache.getPassiveCount());
+    }
+
+    private StatefulSessionBeanInstance<UUID> createInstance() {
+        StatefulSessionBeanInstance<UUID> instance = mock(StatefulSessionBeanInstance.class);
+        when(instance.getId()).thenReturn(UUID.randomUUID());
+        return instance;
+    }
+
+    private StatefulSessionBeanCache<UUID, StatefulSessionBeanInstance<UUID>> createCache(Integer maxSize, Duration idleThreshold, long maxPassivatedMemorySize) {
+        SimpleStatefulSessionBeanCacheConfiguration<UUID, StatefulSessionBeanInstance<UUID>> configuration = mock(SimpleStatefulSessionBeanCacheConfiguration.class);
+        ServerEnvironment environment = mock(ServerEnvironment.class);
+
+        when(environment.getNodeName()).thenReturn("node");
+        when(configuration.getEnvironment()).thenReturn(environment);
+        when(configuration.getInstanceFactory()).thenReturn(this.factory);
+        when(configuration.getIdentifierFactory()).thenReturn(UUID::randomUUID);
+        when(configuration.getTimeout()).thenReturn(null);
+        when(configuration.getComponentName()).thenReturn("component");
+        when(configuration.getMaxSize()).thenReturn(maxSize);
+        when(configuration.getIdleThreshold()).thenReturn(idleThreshold);
+        when(configuration.getMarshaller()).thenReturn(this.marshaller);
+        when(configuration.getMaxPassivatedMemorySize()).thenReturn(maxPassivatedMemorySize);
+
+        StatefulSessionBeanCache<UUID, StatefulSessionBeanInstance<UUID>> cache = new SimpleStatefulSessionBeanCache<>(configuration);
+        cache.start();
+        return cache;
+    }
+}
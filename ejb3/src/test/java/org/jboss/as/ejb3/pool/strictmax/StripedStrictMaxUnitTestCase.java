@@ -0,0 +1,239 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.pool.strictmax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.Pool;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+import org.jboss.as.ejb3.pool.common.MockBean;
+import org.jboss.as.ejb3.pool.common.MockFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StripedStrictMaxPool}.
+ * @author agent
+ */
+public class StripedStrictMaxUnitTestCase {
+
+    @Test
+    public void test() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StripedStrictMaxPool<>(factory, 10, 1, TimeUnit.SECONDS, 4);
+        pool.start();
+
+        assertEquals(10, pool.getAvailableCount());
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+
+        assertEquals(0, pool.getAvailableCount());
+        assertEquals(10, pool.getCurrentSize());
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+
+        assertEquals(10, pool.getAvailableCount());
+
+        // Released instances should be reused
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+        }
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testTooMany() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StripedStrictMaxPool<>(factory, 10, 1, TimeUnit.SECONDS, 4);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+
+        try {
+            pool.get();
+            fail("should have thrown an exception");
+        } catch (Exception e) {
+            assertEquals(EjbLogger.ROOT_LOGGER.failedToAcquirePermit(1, TimeUnit.SECONDS).getMessage(), e.getMessage());
+        }
+
+        // A discarded instance should free a permit
+        pool.discard(beans[0]);
+        beans[0] = pool.get();
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+
+        pool.stop();
+
+        assertEquals(11, MockBean.getPostConstructs());
+        assertEquals(11, MockBean.getPreDestroys());
+    }
+
+    /**
+     * More threads than the pool size, releasing instances to different stripes than those from which they were acquired.
+     */
+    @Test
+    public void testMultiThread() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        int maxSize = 10;
+        Pool<MockBean> pool = new StripedStrictMaxPool<>(factory, maxSize, 60, TimeUnit.SECONDS, 8);
+        pool.start();
+
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        int iterations = 1000;
+
+        Callable<Void> task = new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                start.await();
+                for (int i = 0; i < iterations; ++i) {
+                    MockBean bean = pool.get();
+                    int count = active.incrementAndGet();
+                    maxActive.accumulateAndGet(count, Math::max);
+                    Thread.yield();
+                    active.decrementAndGet();
+                    pool.release(bean);
+                }
+                return null;
+            }
+        };
+
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        try {
+            List<Future<Void>> results = new ArrayList<>(20);
+            for (int i = 0; i < 20; i++) {
+                results.add(service.submit(task));
+            }
+            start.countDown();
+
+            for (Future<Void> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            service.shutdown();
+        }
+
+        assertTrue(maxActive.get() <= maxSize);
+        assertEquals(maxSize, pool.getAvailableCount());
+        assertTrue(MockBean.getPostConstructs() <= maxSize);
+
+        pool.stop();
+
+        assertEquals(MockBean.getPostConstructs(), MockBean.getPreDestroys());
+        assertEquals(0, pool.getCurrentSize());
+    }
+
+    /**
+     * Two threads contending for a single permit, such that each acquisition races with a concurrent release.
+     * A release that misses a registering waiter would leave that waiter blocked until it times out.
+     */
+    @Test
+    public void testContention() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StripedStrictMaxPool<>(factory, 1, 5, TimeUnit.SECONDS, 1);
+        pool.start();
+
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        int iterations = 10000;
+        MockBean[] holder = new MockBean[] { pool.get() };
+
+        class ContendingTask implements Callable<Void> {
+            private final boolean initialHolder;
+
+            ContendingTask(boolean initialHolder) {
+                this.initialHolder = initialHolder;
+            }
+
+            @Override
+            public Void call() throws Exception {
+                for (int i = 0; i < iterations; ++i) {
+                    // Alternate between releasing the held instance, and acquiring it
+                    boolean holding = this.initialHolder == ((i % 2) == 0);
+                    barrier.await(10, TimeUnit.SECONDS);
+                    if (holding) {
+                        pool.release(holder[0]);
+                    } else {
+                        holder[0] = pool.get();
+                    }
+                    barrier.await(10, TimeUnit.SECONDS);
+                }
+                return null;
+            }
+        }
+
+        ExecutorService service = Executors.newFixedThreadPool(2);
+        try {
+            Future<Void> first = service.submit(new ContendingTask(true));
+            Future<Void> second = service.submit(new ContendingTask(false));
+            first.get(60, TimeUnit.SECONDS);
+            second.get(60, TimeUnit.SECONDS);
+        } finally {
+            service.shutdown();
+        }
+
+        assertEquals(0, pool.getAvailableCount());
+        pool.release(holder[0]);
+        assertEquals(1, pool.getAvailableCount());
+        assertEquals(1, MockBean.getPostConstructs());
+
+        pool.stop();
+
+        assertEquals(1, MockBean.getPreDestroys());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FilePermission;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+
+import org.jboss.marshalling.cloner.ClassLoaderClassCloner;
+import org.jboss.marshalling.cloner.ClonerConfiguration;
+import org.jboss.marshalling.cloner.ObjectCloner;
+import org.jboss.marshalling.cloner.ObjectCloners;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LocalInvocationCloneTable}.
+ * @author agent
+ */
+public class LocalInvocationCloneTableTestCase {
+
+    private final ObjectCloner cloner = createCloner();
+
+    private static ObjectCloner createCloner() {
+        ClonerConfiguration config = new ClonerConfiguration();
+        config.setClassCloner(new ClassLoaderClassCloner(LocalInvocationCloneTableTestCase.class.getClassLoader()));
+        config.setCloneTable(new LocalInvocationCloneTable());
+        return ObjectCloners.getSerializingObjectClonerFactory().createCloner(config);
+    }
+
+    @Test
+    public void immutable() throws Exception {
+        for (Object object : List.of("foo", 1, 'a', true, BigDecimal.TEN, BigInteger.ONE, LocalDate.now(), Duration.ZERO, ZoneOffset.UTC, UUID.randomUUID())) {
+            assertTrue(object.toString(), LocalInvocationCloneTable.isShareable(object));
+            assertSame(object, this.cloner.clone(object));
+        }
+    }
+
+    @Test
+    public void notShareable() {
+        // Immutable, but not a value type
+        assertFalse(LocalInvocationCloneTable.isShareable(String.class));
+        assertFalse(LocalInvocationCloneTable.isShareable(TimeZone.getDefault()));
+        assertFalse(LocalInvocationCloneTable.isShareable(new FilePermission("foo", "read")));
+        // Enums are not shared, even if loaded by the bootstrap class loader
+        assertFalse(LocalInvocationCloneTable.isShareable(Thread.State.NEW));
+        assertFalse(LocalInvocationCloneTable.isShareable(TestEnum.TEST));
+        // Subclasses of immutable value types may be mutable
+        assertFalse(LocalInvocationCloneTable.isShareable(new BigInteger("1") { }));
+    }
+
+    @Test
+    public void mutable() throws Exception {
+        Date date = new Date();
+        Object clone = this.cloner.clone(date);
+        assertNotSame(date, clone);
+        assertEquals(date, clone);
+
+        // Unmodifiable views are not immutable
+        List<String> list = new ArrayList<>(List.of("foo", "bar"));
+        List<String> view = Collections.unmodifiableList(list);
+        assertNotSame(view, this.cloner.clone(view));
+    }
+
+    @Test
+    public void graph() throws Exception {
+        String element = "foo";
+        List<String> list = new ArrayList<>(List.of(element));
+        @SuppressWarnings("unchecked")
+        List<String> clone = (List<String>) this.cloner.clone(list);
+        assertNotSame(list, clone);
+        assertEquals(list, clone);
+        // Immutable elements of a mutable object are shared
+        assertSame(element, clone.get(0));
+    }
+
+    @Test
+    public void methods() throws Exception {
+        ClassLoader loader = LocalInvocationCloneTableTestCase.class.getClassLoader();
+        assertTrue(LocalInvocationCloneTable.isShareable(TestView.class.getMethod("voidMethod"), loader));
+        assertTrue(LocalInvocationCloneTable.isShareable(TestView.class.getMethod("shareable", String.class, int.class, Long.class), loader));
+        assertTrue(LocalInvocationCloneTable.isShareable(TestView.class.getMethod("temporal", Duration.class, UUID.class), loader));
+        // A single parameter or return type that is not shareable requires cloning
+        assertFalse(LocalInvocationCloneTable.isShareable(TestView.class.getMethod("mutableParameter", String.class, Date.class), loader));
+        assertFalse(LocalInvocationCloneTable.isShareable(TestView.class.getMethod("mutableResult", String.class), loader));
+        // Non-final types may be passed a mutable subclass
+        assertFalse(LocalInvocationCloneTable.isShareable(TestView.class.getMethod("nonFinal", BigInteger.class), loader));
+        assertFalse(LocalInvocationCloneTable.isShareable(TestView.class.getMethod("enumParameter", TestEnum.class), loader));
+    }
+
+    enum TestEnum {
+        TEST;
+    }
+
+    interface TestView {
+        void voidMethod();
+
+        String shareable(String value, int primitive, Long wrapper);
+
+        LocalDate temporal(Duration duration, UUID id);
+
+        String mutableParameter(String value, Date date);
+
+        List<String> mutableResult(String value);
+
+        BigInteger nonFinal(BigInteger value);
+
+        void enumParameter(TestEnum value);
+    }
+}
@@ -84,7 +84,7 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     @Test
@@ -131,6 +131,34 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
 
     }
 
+    @Test
+    public void testExecuteInVirtualThread() throws Exception {
+        final KernelServices ks = createKernelServicesBuilder(AdditionalInitialization.MANAGEMENT).setSubsystemXml(getSubsystemXml()).build();
+        assertTrue("Subsystem boot failed!", ks.isSuccessfulBoot());
+
+        PathAddress remoteAddress = PathAddress.pathAddress(EJB3Extension.SUBSYSTEM_PATH, EJB3SubsystemModel.REMOTE_SERVICE_PATH);
+        String attributeName = EJB3SubsystemModel.EXECUTE_IN_VIRTUAL_THREAD;
+
+        // parsed from xml as an expression
+        ModelNode response = ks.executeOperation(Util.getReadAttributeOperation(remoteAddress, attributeName));
+        assertEquals(response.toString(), "success", response.get("outcome").asString());
+        assertTrue(response.get("result").resolve().asBoolean());
+
+        ModelNode writeAttributeOperation = Util.getWriteAttributeOperation(remoteAddress, attributeName, false);
+        response = ks.executeOperation(writeAttributeOperation);
+        assertEquals(response.toString(), "success", response.get("outcome").asString());
+        response = ks.executeOperation(Util.getReadAttributeOperation(remoteAddress, attributeName));
+        assertFalse(response.get("result").asBoolean());
+
+        // undefined attribute resolves to its default
+        response = ks.executeOperation(Util.getUndefineAttributeOperation(remoteAddress, attributeName));
+        assertEquals(response.toString(), "success", response.get("outcome").asString());
+        response = ks.executeOperation(Util.getReadAttributeOperation(remoteAddress, attributeName));
+        assertFalse(response.get("result").asBoolean());
+
+        ks.executeForFailure(Util.getWriteAttributeOperation(remoteAddress, attributeName, "foo"));
+    }
+
     @Test
     public void testDefaultPools() throws Exception {
         final String subsystemXml = readResource("subsystem-pools.xml");
@@ -17,6 +17,7 @@ import org.jboss.as.subsystem.test.KernelServices;
 import org.jboss.as.subsystem.test.KernelServicesBuilder;
 import org.jboss.dmr.ModelNode;
 import org.junit.Assert;
+import org.junit.Test;
 
 /**
  * Test cases for transformers used in the EJB3 subsystem.
@@ -64,7 +65,7 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     /*
@@ -139,10 +140,33 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
         ModelTestUtils.checkFailedTransformedBootOperations(services, model, operations, createFailedOperationTransformationConfig(services, model));
     }
 
+    /**
+     * Tests rejection of the attributes and resources of the current model that cannot be represented by EAP 7.4.
+     */
+    @Test
+    public void testRejectingTransformersEAP740() throws Exception {
+        ModelTestControllerVersion controller = ModelTestControllerVersion.EAP_7_4_0;
+        this.testRejections(EJB3Model.VERSION_9_0_0.getVersion(), controller, formatEAPSubsystemArtifact(controller));
+    }
+
     private static FailedOperationTransformationConfig createFailedOperationTransformationConfig(KernelServices services, ModelVersion version) {
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
         PathAddress subsystemAddress = PathAddress.pathAddress(EJB3Extension.SUBSYSTEM_PATH);
 
+        // need to include all changes from current to 10.0.0
+        if (EJB3Model.VERSION_10_0_0.requiresTransformation(version)) {
+            // reject the statistics-histograms-enabled attribute of /subsystem=ejb3, if enabled
+            config.addFailedAttribute(subsystemAddress, new FailedOperationTransformationConfig.NewAttributesConfig(EJB3SubsystemRootResourceDefinition.STATISTICS_HISTOGRAMS_ENABLED));
+            // reject the striped attribute of /subsystem=ejb3/strict-max-bean-instance-pool, if enabled
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.STRICT_MAX_BEAN_INSTANCE_POOL, "mdb-strict-max-pool"), new FailedOperationTransformationConfig.NewAttributesConfig(StrictMaxPoolResourceDefinition.STRIPED));
+            // reject the format attribute of /subsystem=ejb3/service=timer-service/file-data-store, if not the default
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH).append(EJB3SubsystemModel.FILE_DATA_STORE, "file-data-store"), new FailedOperationTransformationConfig.NewAttributesConfig(FileDataStoreResourceDefinition.FORMAT));
+            // reject the max-size and idle-threshold attributes of /subsystem=ejb3/simple-cache, if defined
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.SIMPLE_CACHE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.MAX_SIZE.getDefinition(), SimpleStatefulSessionBeanCacheProviderResourceDefinition.Attribute.IDLE_THRESHOLD.getDefinition()));
+            // reject the execute-in-virtual-thread attribute of /subsystem=ejb3/service=remote, if enabled
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.REMOTE_SERVICE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(EJB3RemoteResourceDefinition.EXECUTE_IN_VIRTUAL_THREAD));
+        }
+
         // need to include all changes from current to 9.0.0
         if (EJB3Model.VERSION_9_0_0.requiresTransformation(version)) {
             // reject the resource /subsystem=ejb3/simple-cache
@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimeoutExecutor}.
+ * @author agent
+ */
+public class TimeoutExecutorTestCase {
+
+    private final List<Runnable> submitted = new ArrayList<>();
+    private final AtomicBoolean reject = new AtomicBoolean();
+    private final Executor executor = task -> {
+        if (this.reject.get()) {
+            throw new RejectedExecutionException();
+        }
+        this.submitted.add(task);
+    };
+
+    @Test
+    public void maxConcurrency() {
+        TimeoutExecutor subject = new TimeoutExecutor(this.executor, 1);
+        AtomicInteger timeouts = new AtomicInteger();
+
+        subject.execute(timeouts::incrementAndGet);
+        subject.execute(timeouts::incrementAndGet);
+        assertEquals(1, this.submitted.size());
+        assertEquals(1, subject.getPendingCount());
+
+        // Completion of a submitted timeout submits the next pending timeout
+        this.submitted.remove(0).run();
+        assertEquals(1, timeouts.get());
+        assertEquals(1, this.submitted.size());
+        assertEquals(0, subject.getPendingCount());
+
+        this.submitted.remove(0).run();
+        assertEquals(2, timeouts.get());
+    }
+
+    @Test
+    public void rejectedWhileIdle() {
+        TimeoutExecutor subject = new TimeoutExecutor(this.executor, 2);
+        AtomicInteger timeouts = new AtomicInteger();
+
+        // A rejected timeout with no previously submitted timeout to resubmit it is run by the caller
+        this.reject.set(true);
+        subject.execute(timeouts::incrementAndGet);
+        assertEquals(1, timeouts.get());
+        assertEquals(0, subject.getPendingCount());
+    }
+
+    @Test
+    public void rejectedWhileBusy() {
+        TimeoutExecutor subject = new TimeoutExecutor(this.executor, 2);
+        AtomicInteger timeouts = new AtomicInteger();
+
+        subject.execute(timeouts::incrementAndGet);
+        assertEquals(1, this.submitted.size());
+
+        // A rejected timeout is requeued, rather than dropped
+        this.reject.set(true);
+        subject.execute(timeouts::incrementAndGet);
+        assertEquals(0, timeouts.get());
+        assertEquals(1, subject.getPendingCount());
+
+        // ... and resubmitted upon completion of a previously submitted timeout
+        this.reject.set(false);
+        this.submitted.remove(0).run();
+        assertEquals(1, timeouts.get());
+        assertEquals(0, subject.getPendingCount());
+        assertEquals(1, this.submitted.size());
+
+        this.submitted.remove(0).run();
+        assertEquals(2, timeouts.get());
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.timerservice;
+
+import static org.junit.Assert.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimerScheduler}.
+ * @author agent
+ */
+public class TimerSchedulerTestCase {
+
+    private final TimerScheduler scheduler = new TimerScheduler();
+
+    @After
+    public void destroy() {
+        this.scheduler.close();
+    }
+
+    @Test
+    public void schedule() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        ScheduledFuture<?> future = this.scheduler.schedule(latch::countDown, 50);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+        assertTrue(future.isDone());
+        assertEquals(0, this.scheduler.getPendingCount());
+    }
+
+    @Test
+    public void scheduleNegativeDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        this.scheduler.schedule(latch::countDown, -1000);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cancel() {
+        ScheduledFuture<?> future1 = this.scheduler.schedule(() -> fail(), TimeUnit.HOURS.toMillis(1));
+        ScheduledFuture<?> future2 = this.scheduler.schedule(() -> fail(), TimeUnit.HOURS.toMillis(1));
+
+        assertEquals(2, this.scheduler.getPendingCount());
+
+        // Cancelled expirations must not linger until their expiration time
+        assertTrue(future1.cancel(false));
+
+        assertEquals(1, this.scheduler.getPendingCount());
+
+        assertTrue(future2.cancel(false));
+
+        assertEquals(0, this.scheduler.getPendingCount());
+    }
+
+    @Test
+    public void scheduleAtFixedRate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        AtomicInteger count = new AtomicInteger();
+
+        ScheduledFuture<?> future = this.scheduler.scheduleAtFixedRate(() -> {
+            count.incrementAndGet();
+            latch.countDown();
+        }, -1, 10);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(future.cancel(false));
+        assertEquals(0, this.scheduler.getPendingCount());
+
+        int executions = count.get();
+        Thread.sleep(50);
+        assertEquals(executions, count.get());
+    }
+
+    @Test
+    public void order() throws InterruptedException {
+        List<Integer> results = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        this.scheduler.schedule(() -> {
+            results.add(3);
+            latch.countDown();
+        }, 150);
+        this.scheduler.schedule(() -> {
+            results.add(1);
+            latch.countDown();
+        }, 50);
+        this.scheduler.schedule(() -> {
+            results.add(2);
+            latch.countDown();
+        }, 100);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(1, 2, 3), results);
+    }
+
+    @Test
+    public void thread() throws InterruptedException {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+
+        for (int i = 0; i < 2; ++i) {
+            this.scheduler.schedule(() -> {
+                threads.add(Thread.currentThread());
+                latch.countDown();
+            }, 0);
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        // All expirations are handled by a single daemon thread
+        assertSame(threads.get(0), threads.get(1));
+        assertTrue(threads.get(0).isDaemon());
+        assertNotSame(Thread.currentThread(), threads.get(0));
+    }
+
+    @Test
+    public void contextClassLoader() throws InterruptedException {
+        List<ClassLoader> loaders = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        ClassLoader deploymentLoader = new URLClassLoader(new URL[0]);
+        ClassLoader originalLoader = Thread.currentThread().getContextClassLoader();
+
+        // The scheduler thread, created by the first scheduled task, must not inherit the context class loader of the scheduling thread
+        Thread.currentThread().setContextClassLoader(deploymentLoader);
+        try {
+            this.scheduler.schedule(() -> {
+                loaders.add(Thread.currentThread().getContextClassLoader());
+                latch.countDown();
+            }, 0);
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalLoader);
+        }
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNull(loaders.get(0));
+    }
+
+    @Test
+    public void close() {
+        this.scheduler.schedule(() -> fail(), TimeUnit.HOURS.toMillis(1));
+        this.scheduler.scheduleAtFixedRate(() -> fail(), TimeUnit.HOURS.toMillis(1), TimeUnit.HOURS.toMillis(1));
+
+        this.scheduler.close();
+
+        assertEquals(0, this.scheduler.getPendingCount());
+
+        try {
+            this.scheduler.schedule(() -> fail(), 0);
+            fail();
+        } catch (RejectedExecutionException e) {
+            // Expected
+        }
+    }
+}
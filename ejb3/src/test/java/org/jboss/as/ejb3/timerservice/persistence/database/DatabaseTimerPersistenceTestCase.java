@@ -1,10 +1,29 @@
 package org.jboss.as.ejb3.timerservice.persistence.database;
 
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
 
+import jakarta.transaction.Status;
+
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -163,4 +182,155 @@ public class DatabaseTimerPersistenceTestCase {
         Assert.assertEquals("sybase", field.get(object));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void undefinedColumnTest() {
+        Assert.assertTrue(DatabaseTimerPersistence.isUndefinedColumn(new SQLException("", "42S22")));
+        Assert.assertTrue(DatabaseTimerPersistence.isUndefinedColumn(new SQLException("", "42703")));
+        Assert.assertTrue(DatabaseTimerPersistence.isUndefinedColumn(new SQLException("", "42000", 904)));
+        Assert.assertFalse(DatabaseTimerPersistence.isUndefinedColumn(new SQLException("", "42000", 942)));
+        // Connection failure
+        Assert.assertFalse(DatabaseTimerPersistence.isUndefinedColumn(new SQLException("", "08001")));
+        Assert.assertFalse(DatabaseTimerPersistence.isUndefinedColumn(new SQLException()));
+    }
+
+    @Test
+    public void addLastModifiedColumnTest() throws Exception {
+        this.sql().setProperty("load-changed-timers", "select...");
+        this.sql().setProperty("add-last-modified", "alter...");
+        method = object.getClass().getDeclaredMethod("checkLastModifiedColumn");
+        method.setAccessible(true);
+
+        // Column is missing
+        Connection connection = this.connection();
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException("", "42S22"));
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        method.invoke(object);
+        verify(statement).executeUpdate("alter...");
+
+        // Query failed for some other reason
+        connection = this.connection();
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException("", "08S01"));
+        method.invoke(object);
+        verify(connection, never()).createStatement();
+    }
+
+    @Test
+    public void writeBatchTest() throws Exception {
+        this.sql().setProperty("update-timer", "update...");
+        this.sql().setProperty("delete-timer", "delete...");
+        Connection connection = mock(Connection.class);
+        PreparedStatement updateStatement = mock(PreparedStatement.class);
+        PreparedStatement deleteStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("update...")).thenReturn(updateStatement);
+        when(connection.prepareStatement("delete...")).thenReturn(deleteStatement);
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        DatabaseTimerPersistence.TimerWriteBatch batch = object.new TimerWriteBatch(connection);
+        for (String statementKey : List.of("update-timer", "update-timer", "delete-timer")) {
+            batch.add(new DatabaseTimerPersistence.TimerWrite(statementKey) {
+                @Override
+                void setParameters(PreparedStatement statement, long lastModified) {
+                }
+
+                @Override
+                void committed() {
+                    committed.incrementAndGet();
+                }
+
+                @Override
+                void failed() {
+                    failed.incrementAndGet();
+                }
+            });
+        }
+
+        // Verify consecutive writes of the same statement are batched using the connection of the transaction
+        batch.beforeCompletion();
+        verify(updateStatement, times(2)).addBatch();
+        verify(updateStatement).executeBatch();
+        verify(deleteStatement).addBatch();
+        verify(deleteStatement).executeBatch();
+        verify(connection, never()).close();
+        Assert.assertEquals(0, committed.get());
+
+        // Verify no write is committed if the transaction rolled back
+        batch.afterCompletion(Status.STATUS_ROLLEDBACK);
+        verify(connection).close();
+        Assert.assertEquals(0, committed.get());
+        Assert.assertEquals(3, failed.get());
+    }
+
+    @Test
+    public void persistTimerTest() throws Exception {
+        this.sql().setProperty("delete-timer", "delete...");
+        Set<String> timerIds = new HashSet<>(Set.of("timer"));
+        this.knownTimerIds().put("timed-object", timerIds);
+        TimerImpl timer = mock(TimerImpl.class);
+        when(timer.getTimedObjectId()).thenReturn("timed-object");
+        when(timer.getId()).thenReturn("timer");
+        when(timer.getState()).thenReturn(TimerState.CANCELED);
+
+        // Verify a failed delete does not forget the timer
+        Connection connection = this.connection();
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("delete...")).thenReturn(statement);
+        when(statement.executeBatch()).thenThrow(new SQLException());
+        try {
+            object.persistTimer(timer);
+            Assert.fail("Expected failure");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getCause() instanceof SQLException);
+        }
+        Assert.assertTrue(timerIds.contains("timer"));
+        verify(connection).close();
+
+        // Verify a successful delete, outside of a transaction, forgets the timer
+        connection = this.connection();
+        statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("delete...")).thenReturn(statement);
+        when(statement.executeBatch()).thenReturn(new int[] { 1 });
+        object.persistTimer(timer);
+        Assert.assertFalse(timerIds.contains("timer"));
+    }
+
+    @Test
+    public void claimTimeoutTest() throws Exception {
+        System.setProperty("jboss.ejb.timer.database.claimTimeout", "1");
+        try {
+            DatabaseTimerPersistence persistence = new DatabaseTimerPersistence(null, null, null, null, "", "part", "nodeA", 1000000, true);
+            // Simulate a claim by another thread that never completes
+            Field claimingField = DatabaseTimerPersistence.class.getDeclaredField("claiming");
+            claimingField.setAccessible(true);
+            ((AtomicBoolean) claimingField.get(persistence)).set(true);
+
+            Assert.assertFalse(persistence.shouldRun(mock(TimerImpl.class)));
+        } finally {
+            System.clearProperty("jboss.ejb.timer.database.claimTimeout");
+        }
+    }
+
+    private Properties sql() throws ReflectiveOperationException {
+        Field sqlField = object.getClass().getDeclaredField("sql");
+        sqlField.setAccessible(true);
+        return (Properties) sqlField.get(object);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Set<String>> knownTimerIds() throws ReflectiveOperationException {
+        Field knownTimerIdsField = object.getClass().getDeclaredField("knownTimerIds");
+        knownTimerIdsField.setAccessible(true);
+        return (Map<String, Set<String>>) knownTimerIdsField.get(object);
+    }
+
+    private Connection connection() throws ReflectiveOperationException, SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        Field dataSourceField = object.getClass().getDeclaredField("dataSource");
+        dataSourceField.setAccessible(true);
+        dataSourceField.set(object, dataSource);
+        return connection;
+    }
+}
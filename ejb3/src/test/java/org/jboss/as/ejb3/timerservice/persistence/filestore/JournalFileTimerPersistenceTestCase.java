@@ -0,0 +1,265 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.Date;
+import java.util.Map;
+
+import jakarta.ejb.ScheduleExpression;
+import jakarta.ejb.Timer;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.as.ejb3.timerservice.CalendarTimer;
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.spi.TimedObjectInvoker;
+import org.jboss.modules.ModuleLoader;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link JournalFileTimerPersistence}.
+ * @author agent
+ */
+public class JournalFileTimerPersistenceTestCase {
+
+    private static final String TIMED_OBJECT_ID = "timed-object";
+    private static final String PATH = "timers";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final TimedObjectInvoker invoker = mock(TimedObjectInvoker.class);
+    private final TimerServiceImpl timerService = mock(TimerServiceImpl.class);
+    private final PathManager pathManager = mock(PathManager.class);
+    private final ModuleLoader moduleLoader = mock(ModuleLoader.class);
+
+    @Before
+    public void init() {
+        when(this.invoker.getTimedObjectId()).thenReturn(TIMED_OBJECT_ID);
+        when(this.invoker.getClassLoader()).thenReturn(this.getClass().getClassLoader());
+        when(this.timerService.getInvoker()).thenReturn(this.invoker);
+        when(this.pathManager.resolveRelativePathEntry(PATH, null)).thenReturn(this.folder.getRoot().getAbsolutePath());
+    }
+
+    @Test
+    public void intervalTimer() {
+        TimerImpl timer = this.intervalTimer("interval");
+        assertTimer(timer, this.roundTrip(timer));
+    }
+
+    @Test
+    public void calendarTimer() {
+        CalendarTimer timer = this.calendarTimer("calendar", false);
+        CalendarTimer result = (CalendarTimer) this.roundTrip(timer);
+        assertTimer(timer, result);
+        Assert.assertFalse(result.isAutoTimer());
+    }
+
+    @Test
+    public void autoTimer() throws NoSuchMethodException {
+        CalendarTimer timer = this.calendarTimer("auto", true);
+        CalendarTimer result = (CalendarTimer) this.roundTrip(timer);
+        assertTimer(timer, result);
+        Assert.assertTrue(result.isAutoTimer());
+        Assert.assertEquals(TimedObject.class.getMethod("timeout", Timer.class), result.getTimeoutMethod());
+    }
+
+    @Test
+    public void remove() {
+        TimerImpl timer = this.intervalTimer("interval");
+        JournalFileTimerPersistence persistence = this.start();
+        persistence.writeFile(timer);
+        timer.setTimerState(TimerState.CANCELED, null);
+        persistence.writeFile(timer);
+        persistence.stop(null);
+
+        persistence = this.start();
+        try {
+            Assert.assertTrue(persistence.loadTimersFromFile(TIMED_OBJECT_ID, this.timerService).isEmpty());
+        } finally {
+            persistence.stop(null);
+        }
+    }
+
+    @Test
+    public void migrate() {
+        TimerImpl intervalTimer = this.intervalTimer("interval");
+        CalendarTimer autoTimer = this.calendarTimer("auto", true);
+        // Persist timers using the per-timer XML layout
+        FileTimerPersistence legacy = new FileTimerPersistence(p -> { }, null, () -> this.moduleLoader, () -> this.pathManager, true, PATH, null);
+        Map<String, TimerImpl> legacyTimers;
+        legacy.start(null);
+        try {
+            legacy.writeFile(intervalTimer);
+            legacy.writeFile(autoTimer);
+            // The XML layout does not retain every timer property, e.g. its previous run
+            legacyTimers = legacy.loadTimersFromFile(TIMED_OBJECT_ID, this.timerService);
+        } finally {
+            legacy.stop(null);
+        }
+        Assert.assertEquals(2, legacyTimers.size());
+        File directory = new File(this.folder.getRoot(), TIMED_OBJECT_ID);
+        Assert.assertTrue(directory.isDirectory());
+
+        JournalFileTimerPersistence persistence = this.start();
+        try {
+            Map<String, TimerImpl> timers = persistence.loadTimersFromFile(TIMED_OBJECT_ID, this.timerService);
+            Assert.assertEquals(2, timers.size());
+            for (TimerImpl timer : legacyTimers.values()) {
+                assertTimer(timer, timers.get(timer.getId()));
+            }
+        } finally {
+            persistence.stop(null);
+        }
+        // Verify that the migrated directory will not be reimported
+        Assert.assertFalse(directory.exists());
+        Assert.assertTrue(new File(this.folder.getRoot(), TIMED_OBJECT_ID + JournalFileTimerPersistence.MIGRATED_SUFFIX).isDirectory());
+
+        persistence = this.start();
+        try {
+            Map<String, TimerImpl> timers = persistence.loadTimersFromFile(TIMED_OBJECT_ID, this.timerService);
+            Assert.assertEquals(2, timers.size());
+            for (TimerImpl timer : legacyTimers.values()) {
+                assertTimer(timer, timers.get(timer.getId()));
+            }
+        } finally {
+            persistence.stop(null);
+        }
+    }
+
+    /**
+     * Writes the specified timer, and reads it back following a restart.
+     */
+    private TimerImpl roundTrip(TimerImpl timer) {
+        JournalFileTimerPersistence persistence = this.start();
+        try {
+            persistence.writeFile(timer);
+        } finally {
+            persistence.stop(null);
+        }
+        persistence = this.start();
+        try {
+            Map<String, TimerImpl> timers = persistence.loadTimersFromFile(TIMED_OBJECT_ID, this.timerService);
+            Assert.assertEquals(1, timers.size());
+            return timers.get(timer.getId());
+        } finally {
+            persistence.stop(null);
+        }
+    }
+
+    private JournalFileTimerPersistence start() {
+        JournalFileTimerPersistence persistence = new JournalFileTimerPersistence(p -> { }, null, () -> this.moduleLoader, () -> this.pathManager, true, PATH, null);
+        persistence.start(null);
+        return persistence;
+    }
+
+    private TimerImpl intervalTimer(String id) {
+        long now = System.currentTimeMillis();
+        return TimerImpl.builder()
+                .setId(id)
+                .setTimedObjectId(TIMED_OBJECT_ID)
+                .setInitialDate(new Date(now - 60000))
+                .setRepeatInterval(10000)
+                .setNextDate(new Date(now + 10000))
+                .setPreviousRun(new Date(now))
+                .setInfo("info")
+                .setTimerState(TimerState.ACTIVE)
+                .setPersistent(true)
+                .build(this.timerService);
+    }
+
+    private CalendarTimer calendarTimer(String id, boolean autoTimer) {
+        long now = System.currentTimeMillis();
+        ScheduleExpression schedule = new ScheduleExpression()
+                .second("0")
+                .minute("*/5")
+                .hour("8-17")
+                .dayOfWeek("Mon-Fri")
+                .dayOfMonth("*")
+                .month("*")
+                .year("*")
+                .start(new Date(now - 60000))
+                .timezone("UTC");
+        CalendarTimer.Builder builder = CalendarTimer.builder()
+                .setScheduleExpression(schedule)
+                .setAutoTimer(autoTimer);
+        if (autoTimer) {
+            try {
+                builder.setTimeoutMethod(TimedObject.class.getMethod("timeout", Timer.class));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        } else {
+            builder.setInfo("info");
+        }
+        builder.setId(id)
+                .setTimedObjectId(TIMED_OBJECT_ID)
+                .setInitialDate(new Date(now - 60000))
+                .setNextDate(new Date(now + 60000))
+                .setTimerState(TimerState.ACTIVE)
+                .setPersistent(true);
+        return builder.build(this.timerService);
+    }
+
+    private static void assertTimer(TimerImpl expected, TimerImpl result) {
+        Assert.assertNotNull(result);
+        Assert.assertSame(expected.getClass(), result.getClass());
+        Assert.assertEquals(expected.getId(), result.getId());
+        Assert.assertEquals(expected.getTimedObjectId(), result.getTimedObjectId());
+        Assert.assertEquals(expected.getInitialExpiration(), result.getInitialExpiration());
+        Assert.assertEquals(expected.getInterval(), result.getInterval());
+        Assert.assertEquals(expected.getNextExpiration(), result.getNextExpiration());
+        Assert.assertEquals(expected.getPreviousRun(), result.getPreviousRun());
+        Assert.assertEquals(expected.getState(), result.getState());
+        Assert.assertEquals(expected.getTimerInfo(), result.getTimerInfo());
+        Assert.assertTrue(result.isPersistent());
+        if (expected instanceof CalendarTimer) {
+            ScheduleExpression expectedSchedule = ((CalendarTimer) expected).getScheduleExpression();
+            ScheduleExpression schedule = ((CalendarTimer) result).getScheduleExpression();
+            Assert.assertEquals(expectedSchedule.getSecond(), schedule.getSecond());
+            Assert.assertEquals(expectedSchedule.getMinute(), schedule.getMinute());
+            Assert.assertEquals(expectedSchedule.getHour(), schedule.getHour());
+            Assert.assertEquals(expectedSchedule.getDayOfWeek(), schedule.getDayOfWeek());
+            Assert.assertEquals(expectedSchedule.getDayOfMonth(), schedule.getDayOfMonth());
+            Assert.assertEquals(expectedSchedule.getMonth(), schedule.getMonth());
+            Assert.assertEquals(expectedSchedule.getYear(), schedule.getYear());
+            Assert.assertEquals(expectedSchedule.getStart(), schedule.getStart());
+            Assert.assertEquals(expectedSchedule.getEnd(), schedule.getEnd());
+            Assert.assertEquals(expectedSchedule.getTimezone(), schedule.getTimezone());
+            Assert.assertEquals(((CalendarTimer) expected).isAutoTimer(), ((CalendarTimer) result).isAutoTimer());
+        }
+    }
+
+    public static class TimedObject {
+        public void timeout(Timer timer) {
+        }
+    }
+}
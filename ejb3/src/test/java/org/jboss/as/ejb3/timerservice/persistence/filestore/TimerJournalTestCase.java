@@ -0,0 +1,255 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link TimerJournal}.
+ * @author agent
+ */
+public class TimerJournalTestCase {
+
+    private static final String TIMED_OBJECT_ID = "timed-object";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replay() throws IOException {
+        File directory = this.folder.getRoot();
+        TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_COMPACTION_THRESHOLD);
+        journal.open();
+        journal.put(TIMED_OBJECT_ID, "1", bytes("a"));
+        journal.put(TIMED_OBJECT_ID, "2", bytes("b"));
+        journal.put(TIMED_OBJECT_ID, "1", bytes("c"));
+        journal.remove(TIMED_OBJECT_ID, "2");
+        journal.put("other", "3", bytes("d"));
+        journal.flush();
+        // Nothing checkpointed yet
+        Assert.assertFalse(new File(directory, TimerJournal.CHECKPOINT).exists());
+
+        // Simulate a crash, i.e. recover the journal as it was prior to close
+        directory = this.crash(directory);
+        journal.close();
+
+        try (TimerJournal recovered = new TimerJournal(directory, TimerJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            recovered.open();
+            Map<String, byte[]> timers = recovered.get(TIMED_OBJECT_ID);
+            Assert.assertEquals(1, timers.size());
+            Assert.assertArrayEquals(bytes("c"), timers.get("1"));
+            Assert.assertFalse(recovered.contains(TIMED_OBJECT_ID, "2"));
+            Assert.assertArrayEquals(bytes("d"), recovered.get("other").get("3"));
+            // Verify replayed journal was compacted into a checkpoint
+            Assert.assertTrue(new File(directory, TimerJournal.CHECKPOINT).exists());
+            Assert.assertEquals(Integer.BYTES * 2, new File(directory, TimerJournal.JOURNAL).length());
+        }
+    }
+
+    @Test
+    public void compaction() throws IOException {
+        File directory = this.folder.getRoot();
+        File journalFile = new File(directory, TimerJournal.JOURNAL);
+        File checkpointFile = new File(directory, TimerJournal.CHECKPOINT);
+        try (TimerJournal journal = new TimerJournal(directory, 4)) {
+            journal.open();
+            for (int i = 0; i < 3; ++i) {
+                journal.put(TIMED_OBJECT_ID, Integer.toString(i), bytes(Integer.toString(i)));
+            }
+            Assert.assertFalse(checkpointFile.exists());
+            long length = journalFile.length();
+
+            // Threshold reached
+            journal.remove(TIMED_OBJECT_ID, "0");
+            Assert.assertTrue(checkpointFile.exists());
+            Assert.assertEquals(Integer.BYTES * 2, journalFile.length());
+            Assert.assertTrue(checkpointFile.length() < length);
+
+            // Verify journal remains usable following compaction
+            journal.put(TIMED_OBJECT_ID, "3", bytes("3"));
+            Assert.assertEquals(3, journal.get(TIMED_OBJECT_ID).size());
+        }
+
+        try (TimerJournal journal = new TimerJournal(directory, 4)) {
+            journal.open();
+            Map<String, byte[]> timers = journal.get(TIMED_OBJECT_ID);
+            Assert.assertEquals(3, timers.size());
+            Assert.assertFalse(timers.containsKey("0"));
+            for (String id : new String[] { "1", "2", "3" }) {
+                Assert.assertArrayEquals(bytes(id), timers.get(id));
+            }
+        }
+    }
+
+    @Test
+    public void truncatedRecord() throws IOException {
+        File directory = this.folder.getRoot();
+        File journalFile = new File(directory, TimerJournal.JOURNAL);
+        TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_COMPACTION_THRESHOLD);
+        journal.open();
+        journal.put(TIMED_OBJECT_ID, "1", bytes("a"));
+        journal.put(TIMED_OBJECT_ID, "2", bytes("b"));
+        long length = journalFile.length();
+        journal.put(TIMED_OBJECT_ID, "3", bytes("c"));
+        journal.flush();
+
+        // Simulate a crash while writing the last record
+        directory = this.crash(directory);
+        journal.close();
+        journalFile = new File(directory, TimerJournal.JOURNAL);
+        try (RandomAccessFile file = new RandomAccessFile(journalFile, "rw")) {
+            file.setLength(journalFile.length() - 1);
+        }
+
+        try (TimerJournal recovered = new TimerJournal(directory, TimerJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            recovered.open();
+            Map<String, byte[]> timers = recovered.get(TIMED_OBJECT_ID);
+            Assert.assertEquals(2, timers.size());
+            Assert.assertArrayEquals(bytes("a"), timers.get("1"));
+            Assert.assertArrayEquals(bytes("b"), timers.get("2"));
+            Assert.assertFalse(timers.containsKey("3"));
+            Assert.assertTrue(journalFile.length() < length);
+
+            // Verify the journal accepts records following the discarded record
+            recovered.put(TIMED_OBJECT_ID, "3", bytes("d"));
+        }
+
+        try (TimerJournal reopened = new TimerJournal(directory, TimerJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            reopened.open();
+            Assert.assertEquals(3, reopened.get(TIMED_OBJECT_ID).size());
+            Assert.assertArrayEquals(bytes("d"), reopened.get(TIMED_OBJECT_ID).get("3"));
+        }
+    }
+
+    @Test
+    public void corruptRecord() throws IOException {
+        File directory = this.folder.getRoot();
+        File journalFile = new File(directory, TimerJournal.JOURNAL);
+        TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_COMPACTION_THRESHOLD);
+        journal.open();
+        journal.put(TIMED_OBJECT_ID, "1", bytes("a"));
+        journal.put(TIMED_OBJECT_ID, "2", bytes("b"));
+        journal.flush();
+
+        directory = this.crash(directory);
+        journal.close();
+        journalFile = new File(directory, TimerJournal.JOURNAL);
+        // Flip the last byte of the last record, invalidating its checksum
+        try (RandomAccessFile file = new RandomAccessFile(journalFile, "rw")) {
+            file.seek(file.length() - 1);
+            int value = file.read();
+            file.seek(file.length() - 1);
+            file.write(value ^ 0xFF);
+        }
+
+        try (TimerJournal recovered = new TimerJournal(directory, TimerJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            recovered.open();
+            Assert.assertTrue(recovered.contains(TIMED_OBJECT_ID, "1"));
+            Assert.assertFalse(recovered.contains(TIMED_OBJECT_ID, "2"));
+        }
+    }
+
+    @Test
+    public void corruptCheckpointHeader() throws IOException {
+        File directory = this.folder.getRoot();
+        File journalFile = new File(directory, TimerJournal.JOURNAL);
+        File checkpointFile = new File(directory, TimerJournal.CHECKPOINT);
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            journal.open();
+            journal.put(TIMED_OBJECT_ID, "1", bytes("a"));
+            journal.checkpoint();
+            journal.put(TIMED_OBJECT_ID, "2", bytes("b"));
+        }
+        // Overwrite the magic number of the checkpoint
+        try (RandomAccessFile file = new RandomAccessFile(checkpointFile, "rw")) {
+            file.writeInt(0);
+        }
+        byte[] checkpoint = Files.readAllBytes(checkpointFile.toPath());
+        byte[] records = Files.readAllBytes(journalFile.toPath());
+
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            journal.open();
+            Assert.fail("Corrupt checkpoint should fail to open");
+        } catch (IOException e) {
+            // Expected
+        }
+        // Verify that neither file was rewritten
+        Assert.assertArrayEquals(checkpoint, Files.readAllBytes(checkpointFile.toPath()));
+        Assert.assertArrayEquals(records, Files.readAllBytes(journalFile.toPath()));
+    }
+
+    @Test
+    public void corruptCheckpointRecord() throws IOException {
+        File directory = this.folder.getRoot();
+        File journalFile = new File(directory, TimerJournal.JOURNAL);
+        File checkpointFile = new File(directory, TimerJournal.CHECKPOINT);
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            journal.open();
+            journal.put(TIMED_OBJECT_ID, "1", bytes("a"));
+            journal.put(TIMED_OBJECT_ID, "2", bytes("b"));
+            journal.checkpoint();
+        }
+        // Unlike the journal, a truncated checkpoint cannot be the result of an interrupted write
+        try (RandomAccessFile file = new RandomAccessFile(checkpointFile, "rw")) {
+            file.setLength(checkpointFile.length() - 1);
+        }
+        byte[] checkpoint = Files.readAllBytes(checkpointFile.toPath());
+        byte[] records = Files.readAllBytes(journalFile.toPath());
+
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            journal.open();
+            Assert.fail("Corrupt checkpoint should fail to open");
+        } catch (IOException e) {
+            // Expected
+        }
+        Assert.assertArrayEquals(checkpoint, Files.readAllBytes(checkpointFile.toPath()));
+        Assert.assertArrayEquals(records, Files.readAllBytes(journalFile.toPath()));
+    }
+
+    /**
+     * Copies the journal and checkpoint files of the specified directory, as they would be found following a crash.
+     */
+    private File crash(File directory) throws IOException {
+        File copy = this.folder.newFolder();
+        for (String name : new String[] { TimerJournal.JOURNAL, TimerJournal.CHECKPOINT }) {
+            File file = new File(directory, name);
+            if (file.exists()) {
+                Files.copy(file.toPath(), new File(copy, name).toPath());
+            }
+        }
+        return copy;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -109,6 +109,33 @@ public class CalendarBasedTimeoutTestCase {
         Assert.assertEquals(29, firstTimeout.get(Calendar.DAY_OF_MONTH));
     }
 
+    /**
+     * Verifies that advancing to the next eligible month re-evaluates the day-of-week.
+     * Uses expression month=Dec dayOfWeek=Sat-Sun hour=5 minute=17 second=3.
+     */
+    @Test
+    public void testNextDayOfWeekInNextMonth() {
+        ScheduleExpression expression = new ScheduleExpression();
+        expression.month("Dec");
+        expression.dayOfWeek("Sat-Sun");
+        expression.hour("5");
+        expression.minute("17");
+        expression.second("3");
+        expression.timezone("UTC");
+        CalendarBasedTimeout calendarTimeout = new CalendarBasedTimeout(expression);
+        Calendar current = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        // SUN 2030-12-29 5:17:03, has to advance to the first SAT of December 2031, rather than to MON 2031-12-01
+        current.clear();
+        current.set(2030, Calendar.DECEMBER, 29, 5, 17, 3);
+        Calendar nextTimeout = calendarTimeout.getNextTimeout(current);
+        Assert.assertNotNull(nextTimeout);
+        Assert.assertEquals(2031, nextTimeout.get(Calendar.YEAR));
+        Assert.assertEquals(Calendar.DECEMBER, nextTimeout.get(Calendar.MONTH));
+        Assert.assertEquals(6, nextTimeout.get(Calendar.DAY_OF_MONTH));
+        Assert.assertEquals(Calendar.SATURDAY, nextTimeout.get(Calendar.DAY_OF_WEEK));
+        Assert.assertEquals(5, nextTimeout.get(Calendar.HOUR_OF_DAY));
+    }
+
     @Test
     public void testCalendarBasedTimeout() {
         for (TimeZone tz : getTimezones()) {
@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.ejb3.timerservice.schedule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import jakarta.ejb.ScheduleExpression;
+
+import org.jboss.as.ejb3.timerservice.schedule.attribute.DayOfMonth;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.DayOfWeek;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Hour;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Minute;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Month;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Second;
+import org.jboss.as.ejb3.timerservice.schedule.attribute.Year;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Cross-validates the timeouts computed by {@link CompiledScheduleExpression} against those computed by {@link CalendarBasedTimeout}, using randomly generated schedules.
+ * @author agent
+ */
+public class CompiledScheduleExpressionTestCase {
+
+    // Excludes time zones with daylight saving time, since CalendarBasedTimeout may apply the offset of the wrong side of a transition on the day of the transition
+    private static final String[] TIME_ZONES = { "UTC", "Etc/GMT+5", "Etc/GMT-9", "Asia/Kolkata" };
+    private static final String[] DAYS_OF_WEEK = { "Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat" };
+    private static final String[] MONTHS = { "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec" };
+    private static final String[] ORDINALS = { "1st", "2nd", "3rd", "4th", "5th", "Last" };
+    private static final int SCHEDULES = 2000;
+    private static final int TIMEOUTS = 20;
+
+    @Test
+    public void test() {
+        // Use a fixed seed, so that failures are reproducible
+        Random random = new Random(20231018L);
+        for (int i = 0; i < SCHEDULES; ++i) {
+            ScheduleExpression expression = new ScheduleExpression()
+                    .second(randomTimeValue(random, 59))
+                    .minute(randomTimeValue(random, 59))
+                    .hour(randomTimeValue(random, 23))
+                    .dayOfMonth(randomDayOfMonth(random))
+                    .month(randomMonth(random))
+                    .dayOfWeek(randomDayOfWeek(random))
+                    .year(random.nextInt(10) == 0 ? Integer.toString(2024 + random.nextInt(10)) : "*")
+                    .timezone(TIME_ZONES[random.nextInt(TIME_ZONES.length)]);
+            // Anywhere between 2020 and 2030
+            long currentTime = 1577836800000L + (long) (random.nextDouble() * 315569520000L);
+            if (random.nextInt(4) == 0) {
+                expression.start(new Date(currentTime + random.nextInt(Integer.MAX_VALUE)));
+            }
+            if (random.nextInt(4) == 0) {
+                expression.end(new Date(currentTime + random.nextInt(Integer.MAX_VALUE) * 10L));
+            }
+            TimeZone zone = TimeZone.getTimeZone(expression.getTimezone());
+            CalendarBasedTimeout timeout = new CalendarBasedTimeout(expression);
+            CompiledScheduleExpression compiled = new CompiledScheduleExpression(new Second(expression.getSecond()), new Minute(expression.getMinute()), new Hour(expression.getHour()),
+                    new DayOfMonth(expression.getDayOfMonth()), new Month(expression.getMonth()), new DayOfWeek(expression.getDayOfWeek()), new Year(expression.getYear()),
+                    zone.toZoneId(), expression.getStart(), expression.getEnd());
+
+            Calendar current = new GregorianCalendar(zone);
+            current.setTimeInMillis(currentTime);
+            for (int j = 0; j < TIMEOUTS; ++j) {
+                Calendar expected = timeout.getNextTimeout(current);
+                long result = compiled.getNextTimeout(current.getTimeInMillis());
+                String message = String.format("%s, following %s", expression, current.getTime());
+                if (expected == null) {
+                    Assert.assertEquals(message, CompiledScheduleExpression.NO_TIMEOUT, result);
+                    break;
+                }
+                Assert.assertEquals(message, expected.getTimeInMillis(), result);
+                current = expected;
+            }
+        }
+    }
+
+    @Test
+    public void testRepeatedLocalTime() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        CompiledScheduleExpression expression = new CompiledScheduleExpression(new Second("0"), new Minute("30"), new Hour("1"), new DayOfMonth("*"), new Month("*"), new DayOfWeek("*"), new Year("*"), zone, null, null);
+        // Daylight saving time ends at 2am on 4 Nov 2029, whereupon 1:30 occurs twice, but should only timeout once
+        long first = expression.getNextTimeout(ZonedDateTime.of(2029, 11, 4, 0, 0, 0, 0, zone).toInstant().toEpochMilli());
+        Assert.assertEquals(ZonedDateTime.of(LocalDateTime.of(2029, 11, 4, 1, 30), zone).withEarlierOffsetAtOverlap().toInstant().toEpochMilli(), first);
+        long second = expression.getNextTimeout(first);
+        Assert.assertEquals(ZonedDateTime.of(2029, 11, 5, 1, 30, 0, 0, zone).toInstant().toEpochMilli(), second);
+    }
+
+    private static String randomTimeValue(Random random, int max) {
+        switch (random.nextInt(6)) {
+            case 0:
+                return "*";
+            case 1:
+                return Integer.toString(random.nextInt(max + 1));
+            case 2:
+                return String.format("%d,%d,%d", random.nextInt(max + 1), random.nextInt(max + 1), random.nextInt(max + 1));
+            case 3:
+                return String.format("%d-%d", random.nextInt(max + 1), random.nextInt(max + 1));
+            case 4:
+                return String.format("*/%d", 1 + random.nextInt(max / 2));
+            default:
+                return String.format("%d/%d", random.nextInt(max + 1), 1 + random.nextInt(max / 2));
+        }
+    }
+
+    private static String randomDayOfMonth(Random random) {
+        switch (random.nextInt(8)) {
+            case 0:
+            case 1:
+                return "*";
+            case 2:
+                return Integer.toString(1 + random.nextInt(31));
+            case 3:
+                return String.format("%d,%d", 1 + random.nextInt(31), 1 + random.nextInt(31));
+            case 4:
+                int start = 1 + random.nextInt(31);
+                return String.format("%d-%d", start, start + random.nextInt(32 - start));
+            case 5:
+                return random.nextBoolean() ? "Last" : Integer.toString(-1 - random.nextInt(7));
+            case 6:
+                return String.format("%s %s", ORDINALS[random.nextInt(ORDINALS.length)], DAYS_OF_WEEK[random.nextInt(DAYS_OF_WEEK.length)]);
+            default:
+                return String.format("%d-Last", 1 + random.nextInt(28));
+        }
+    }
+
+    private static String randomMonth(Random random) {
+        switch (random.nextInt(4)) {
+            case 0:
+            case 1:
+                return "*";
+            case 2:
+                return MONTHS[random.nextInt(MONTHS.length)];
+            default:
+                return String.format("%d-%d", 1 + random.nextInt(12), 1 + random.nextInt(12));
+        }
+    }
+
+    private static String randomDayOfWeek(Random random) {
+        switch (random.nextInt(4)) {
+            case 0:
+            case 1:
+                return "*";
+            case 2:
+                return Integer.toString(random.nextInt(8));
+            default:
+                return String.format("%s-%s", DAYS_OF_WEEK[random.nextInt(DAYS_OF_WEEK.length)], DAYS_OF_WEEK[random.nextInt(DAYS_OF_WEEK.length)]);
+        }
+    }
+}
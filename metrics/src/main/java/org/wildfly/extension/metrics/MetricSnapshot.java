@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.metrics;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An immutable snapshot of the values of all registered metrics, collected in a single pass.
+ * Metrics whose value could not be computed are excluded.
+ * @author agent
+ */
+public class MetricSnapshot implements Iterable<MetricSnapshot.Entry> {
+
+    private final long timestamp;
+    private final List<Entry> entries;
+
+    MetricSnapshot(long timestamp, List<Entry> entries) {
+        this.timestamp = timestamp;
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the value of {@link System#nanoTime()} at which collection of this snapshot began.
+     * @return a timestamp in nanoseconds
+     */
+    long getTimestamp() {
+        return this.timestamp;
+    }
+
+    @Override
+    public Iterator<Entry> iterator() {
+        return this.entries.iterator();
+    }
+
+    public static class Entry {
+        private final MetricID id;
+        private final MetricMetadata metadata;
+        private final double value;
+
+        Entry(MetricID id, MetricMetadata metadata, double value) {
+            this.id = id;
+            this.metadata = metadata;
+            this.value = value;
+        }
+
+        public MetricID getMetricID() {
+            return this.id;
+        }
+
+        public MetricMetadata getMetadata() {
+            return this.metadata;
+        }
+
+        public double getValue() {
+            return this.value;
+        }
+    }
+}
@@ -27,11 +27,19 @@ import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_H
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_HTTP_SECURITY_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRY_RUNTIME_CAPABILITY;
 
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HeaderMap;
+import io.undertow.util.Headers;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.server.mgmt.domain.ExtensibleHttpManagement;
 import org.jboss.msc.Service;
@@ -46,6 +54,8 @@ import org.jboss.msc.service.StopContext;
 public class MetricsContextService implements Service {
 
     private static final String CONTEXT_NAME = "/metrics";
+    private static final String GZIP = "gzip";
+    private static final int BUFFER_SIZE = 8192;
 
     private final Consumer<MetricsContextService> consumer;
     private final Supplier<ExtensibleHttpManagement> extensibleHttpManagement;
@@ -93,13 +103,23 @@ public class MetricsContextService implements Service {
                     return;
                 }
 
-                WildFlyMetricRegistry metricRegistry = wildflyMetricRegistry.get();
-                metricRegistry.readLock();
-                try {
-                    String wildFlyMetrics = prometheusExporter.export(metricRegistry);
-                    exchange.getResponseSender().send(wildFlyMetrics);
-                } finally {
-                    metricRegistry.unlock();
+                // Exposition may block on the registry and on the response stream
+                if (exchange.isInIoThread()) {
+                    exchange.dispatch(this);
+                    return;
+                }
+                exchange.startBlocking();
+                HeaderMap responseHeaders = exchange.getResponseHeaders();
+                responseHeaders.put(Headers.CONTENT_TYPE, PrometheusExporter.CONTENT_TYPE);
+                responseHeaders.add(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+                boolean gzip = acceptsGzip(exchange.getRequestHeaders().get(Headers.ACCEPT_ENCODING));
+                if (gzip) {
+                    responseHeaders.put(Headers.CONTENT_ENCODING, GZIP);
+                }
+                OutputStream output = exchange.getOutputStream();
+                // Stream series directly to the response, rather than rendering the entire exposition into memory first
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(gzip ? new GZIPOutputStream(output, BUFFER_SIZE) : output, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                    prometheusExporter.export(wildflyMetricRegistry.get(), writer);
                 }
             }
         });
@@ -115,4 +135,33 @@ public class MetricsContextService implements Service {
     public void setOverrideableMetricHandler(HttpHandler handler) {
         this.overrideableMetricHandler = handler;
     }
+
+    /**
+     * Indicates whether the specified Accept-Encoding header values permit a gzip encoded response.
+     * @param values the values of the Accept-Encoding request header, or null if absent
+     * @return true, if gzip is acceptable, false otherwise
+     */
+    static boolean acceptsGzip(Iterable<String> values) {
+        if (values != null) {
+            for (String value : values) {
+                for (String coding : value.split(",")) {
+                    String[] parameters = coding.split(";");
+                    if (parameters[0].trim().equalsIgnoreCase(GZIP)) {
+                        for (int i = 1; i < parameters.length; ++i) {
+                            String parameter = parameters[i].trim();
+                            if (parameter.startsWith("q=")) {
+                                try {
+                                    return Double.parseDouble(parameter.substring(2)) > 0;
+                                } catch (NumberFormatException e) {
+                                    return false;
+                                }
+                            }
+                        }
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
 }
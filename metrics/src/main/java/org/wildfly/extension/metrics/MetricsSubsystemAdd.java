@@ -32,6 +32,7 @@ import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_R
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.WILDFLY_COLLECTOR;
 import static org.wildfly.extension.metrics._private.MetricsLogger.LOGGER;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Function;
 
@@ -67,8 +68,9 @@ class MetricsSubsystemAdd extends AbstractBoottimeAddStepHandler {
         boolean exposeAnySubsystem = exposedSubsystems.remove("*");
         String prefix = MetricsSubsystemDefinition.PREFIX.resolveModelAttribute(context, model).asStringOrNull();
         boolean securityEnabled = MetricsSubsystemDefinition.SECURITY_ENABLED.resolveModelAttribute(context, model).asBoolean();
+        Duration snapshotMaxAge = Duration.ofMillis(MetricsSubsystemDefinition.SNAPSHOT_MAX_AGE.resolveModelAttribute(context, model).asLong());
 
-        WildFlyMetricRegistryService.install(context);
+        WildFlyMetricRegistryService.install(context, snapshotMaxAge);
         MetricsCollectorService.install(context);
         MetricsContextService.install(context, securityEnabled);
 
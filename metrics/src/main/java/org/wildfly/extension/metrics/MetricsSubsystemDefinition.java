@@ -32,6 +32,8 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.ServiceName;
@@ -81,7 +83,16 @@ public class MetricsSubsystemDefinition extends PersistentResourceDefinition {
             .setAllowExpression(true)
             .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = { SECURITY_ENABLED, EXPOSED_SUBSYSTEMS, PREFIX };
+    static final AttributeDefinition SNAPSHOT_MAX_AGE = SimpleAttributeDefinitionBuilder.create("snapshot-max-age", ModelType.LONG)
+            .setDefaultValue(ModelNode.ZERO_LONG)
+            .setRequired(false)
+            .setRestartAllServices()
+            .setAllowExpression(true)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setValidator(new LongRangeValidator(0, true))
+            .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = { SECURITY_ENABLED, EXPOSED_SUBSYSTEMS, PREFIX, SNAPSHOT_MAX_AGE };
 
     protected MetricsSubsystemDefinition() {
         super(new SimpleResourceDefinition.Parameters(MetricsExtension.SUBSYSTEM_PATH,
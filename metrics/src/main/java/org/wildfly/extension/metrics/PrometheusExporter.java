@@ -21,50 +21,102 @@
  */
 package org.wildfly.extension.metrics;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.OptionalDouble;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.wildfly.extension.metrics.MetricMetadata.MetricTag;
 
 public class PrometheusExporter {
 
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
     private static final String LF = "\n";
 
+    // Pre-rendered HELP and TYPE lines, keyed by metric name
+    private final Map<String, String> headers = new ConcurrentHashMap<>();
+    // Pre-rendered sample name and tags, including the trailing separator, keyed by metric id
+    private final Map<MetricID, String> samplePrefixes = new ConcurrentHashMap<>();
+
     public String export(WildFlyMetricRegistry registry) {
-        Set<String> alreadyExportedMetrics = new HashSet<String>();
+        StringWriter writer = new StringWriter();
+        try {
+            export(registry, writer);
+        } catch (IOException e) {
+            // StringWriter does not throw IOException
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
 
-        StringBuilder out = new StringBuilder();
+    /**
+     * Streams the current snapshot of the specified registry to the specified writer using the Prometheus text format.
+     * The caller is responsible for buffering, and for closing the writer.
+     *
+     * @param registry a metric registry
+     * @param writer the target of the exposition
+     * @throws IOException if the writer could not be written to
+     */
+    public void export(WildFlyMetricRegistry registry, Writer writer) throws IOException {
+        MetricSnapshot snapshot = registry.getSnapshot();
+        Set<String> alreadyExportedMetrics = new HashSet<String>();
+        int series = 0;
 
-        for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
-            MetricID metricID = entry.getKey();
-            String metricName = metricID.getMetricName();
-            MetricMetadata metadata = registry.getMetricMetadata().get(metricName);
-            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
-            OptionalDouble metricValue = entry.getValue().getValue();
-            // if the metric does not return a value, we skip printing the HELP and TYPE
-            if (!metricValue.isPresent()) {
-                continue;
+        // metrics that do not return a value are excluded from the snapshot, so we skip printing their HELP and TYPE
+        for (MetricSnapshot.Entry entry : snapshot) {
+            MetricID metricID = entry.getMetricID();
+            MetricMetadata metadata = entry.getMetadata();
+            if (alreadyExportedMetrics.add(metricID.getMetricName())) {
+                writer.write(getHeader(metricID, metadata));
             }
-            if (!alreadyExportedMetrics.contains(metricName)) {
-                out.append("# HELP " + prometheusMetricName + " " + metadata.getDescription());
-                out.append(LF);
-                out.append("# TYPE " + prometheusMetricName + " " + metadata.getType());
-                out.append(LF);
-                alreadyExportedMetrics.add(metricName);
+            writer.write(getSamplePrefix(metricID, metadata));
+            writer.write(Double.toString(scaleToBaseUnit(entry.getValue(), metadata.getMeasurementUnit())));
+            writer.write(LF);
+            series += 1;
+        }
+
+        // Discard renderings of metrics that were unregistered, or no longer return a value
+        if (samplePrefixes.size() > series) {
+            Set<MetricID> metricIDs = new HashSet<>();
+            for (MetricSnapshot.Entry entry : snapshot) {
+                metricIDs.add(entry.getMetricID());
             }
-            double scaledValue = scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit());
+            samplePrefixes.keySet().retainAll(metricIDs);
+        }
+        if (headers.size() > alreadyExportedMetrics.size()) {
+            headers.keySet().retainAll(alreadyExportedMetrics);
+        }
+    }
+
+    private String getHeader(MetricID metricID, MetricMetadata metadata) {
+        String header = headers.get(metricID.getMetricName());
+        if (header == null) {
+            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
+            header = "# HELP " + prometheusMetricName + " " + metadata.getDescription() + LF
+                    + "# TYPE " + prometheusMetricName + " " + metadata.getType() + LF;
+            headers.put(metricID.getMetricName(), header);
+        }
+        return header;
+    }
+
+    private String getSamplePrefix(MetricID metricID, MetricMetadata metadata) {
+        String prefix = samplePrefixes.get(metricID);
+        if (prefix == null) {
+            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
             // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
             if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
                 prometheusMetricName += "_" + metadata.getBaseMetricUnit();
             }
-            out.append(prometheusMetricName + getTagsAsAString(metricID) + " " + scaledValue);
-            out.append(LF);
+            prefix = prometheusMetricName + getTagsAsAString(metricID) + " ";
+            samplePrefixes.put(metricID, prefix);
         }
-
-        return out.toString();
+        return prefix;
     }
 
     private static double scaleToBaseUnit(double value, MeasurementUnit unit) {
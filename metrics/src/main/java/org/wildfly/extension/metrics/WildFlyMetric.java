@@ -55,6 +55,22 @@ public class WildFlyMetric implements Metric {
         this.attributeName = attributeName;
     }
 
+    /**
+     * Returns the address of the management resource whose attribute backs this metric.
+     * @return a resource address
+     */
+    public PathAddress getAddress() {
+        return address;
+    }
+
+    /**
+     * Returns the name of the management attribute that backs this metric.
+     * @return an attribute name
+     */
+    public String getAttributeName() {
+        return attributeName;
+    }
+
     @Override
     public OptionalDouble getValue() {
         ModelNode result = readAttributeValue(address, attributeName);
@@ -24,12 +24,22 @@ package org.wildfly.extension.metrics;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Closeable;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.jboss.as.controller.PathAddress;
+
 
 public class WildFlyMetricRegistry implements Closeable, MetricRegistry {
 
@@ -37,7 +47,24 @@ public class WildFlyMetricRegistry implements Closeable, MetricRegistry {
     private Map<String, MetricMetadata> metadataMap = new HashMap();
     private Map<MetricID, Metric> metricMap = new TreeMap<>();
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /* Direct suppliers of the values of management attributes, used in lieu of a read-attribute operation */
+    private final Map<Map.Entry<PathAddress, String>, Metric> suppliers = new ConcurrentHashMap<>();
+    private final long snapshotMaxAge;
+    // Serializes collection, so that concurrent scrapes share a single collection pass
+    private final Lock collectionLock = new ReentrantLock();
+    private volatile MetricSnapshot snapshot;
+
+    public WildFlyMetricRegistry() {
+        this(Duration.ZERO);
+    }
 
+    /**
+     * Creates a metric registry whose snapshots may be reused for the specified duration.
+     * @param snapshotMaxAge the maximum age of a snapshot returned by {@link #getSnapshot()}
+     */
+    public WildFlyMetricRegistry(Duration snapshotMaxAge) {
+        this.snapshotMaxAge = snapshotMaxAge.toNanos();
+    }
 
     @Override
     public void close() {
@@ -46,19 +73,13 @@ public class WildFlyMetricRegistry implements Closeable, MetricRegistry {
         try {
             metricMap.clear();
             metadataMap.clear();
+            suppliers.clear();
+            snapshot = null;
         } finally {
             lock.writeLock().unlock();
         }
     }
 
-    Map<MetricID, Metric> getMetrics() {
-        return metricMap;
-    }
-
-    Map<String, MetricMetadata> getMetricMetadata() {
-        return metadataMap;
-    }
-
     @Override
     public synchronized void registerMetric(Metric metric, MetricMetadata metadata) {
         requireNonNull(metadata);
@@ -86,6 +107,85 @@ public class WildFlyMetricRegistry implements Closeable, MetricRegistry {
         }
     }
 
+    /**
+     * Registers a direct supplier of the value of the specified management attribute.
+     * While registered, the supplier is used instead of a read-attribute operation to compute the value of the corresponding {@link WildFlyMetric}.
+     *
+     * @param address the address of the management resource. Cannot be {@code null}
+     * @param attributeName the name of the metric attribute. Cannot be {@code null}
+     * @param supplier the supplier of the attribute value. Cannot be {@code null}
+     */
+    public void registerMetricSupplier(PathAddress address, String attributeName, Metric supplier) {
+        suppliers.put(new AbstractMap.SimpleImmutableEntry<>(requireNonNull(address), requireNonNull(attributeName)), requireNonNull(supplier));
+    }
+
+    /**
+     * Unregisters the direct supplier of the value of the specified management attribute, if one is registered.
+     *
+     * @param address the address of the management resource. Cannot be {@code null}
+     * @param attributeName the name of the metric attribute. Cannot be {@code null}
+     */
+    public void unregisterMetricSupplier(PathAddress address, String attributeName) {
+        suppliers.remove(new AbstractMap.SimpleImmutableEntry<>(address, attributeName));
+    }
+
+    /**
+     * Returns a snapshot of the values of all registered metrics.
+     * A previously collected snapshot is returned if it is younger than the configured maximum age,
+     * or if its collection began after this method was invoked, i.e. while waiting for a concurrent collection.
+     *
+     * @return a snapshot of metric values
+     */
+    public MetricSnapshot getSnapshot() {
+        long now = System.nanoTime();
+        MetricSnapshot snapshot = this.snapshot;
+        if ((snapshot != null) && (now - snapshot.getTimestamp() <= snapshotMaxAge)) {
+            return snapshot;
+        }
+        collectionLock.lock();
+        try {
+            snapshot = this.snapshot;
+            if ((snapshot != null) && ((snapshot.getTimestamp() - now >= 0) || (System.nanoTime() - snapshot.getTimestamp() <= snapshotMaxAge))) {
+                return snapshot;
+            }
+            snapshot = collect();
+            this.snapshot = snapshot;
+            return snapshot;
+        } finally {
+            collectionLock.unlock();
+        }
+    }
+
+    private MetricSnapshot collect() {
+        long timestamp = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            List<MetricSnapshot.Entry> entries = new ArrayList<>(metricMap.size());
+            for (Map.Entry<MetricID, Metric> entry : metricMap.entrySet()) {
+                MetricID metricID = entry.getKey();
+                OptionalDouble value = getValue(entry.getValue());
+                if (value.isPresent()) {
+                    entries.add(new MetricSnapshot.Entry(metricID, metadataMap.get(metricID.getMetricName()), value.getAsDouble()));
+                }
+            }
+            return new MetricSnapshot(timestamp, entries);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private OptionalDouble getValue(Metric metric) {
+        if (metric instanceof WildFlyMetric && !suppliers.isEmpty()) {
+            WildFlyMetric wildFlyMetric = (WildFlyMetric) metric;
+            Metric supplier = suppliers.get(new AbstractMap.SimpleImmutableEntry<>(wildFlyMetric.getAddress(), wildFlyMetric.getAttributeName()));
+            if (supplier != null) {
+                return supplier.getValue();
+            }
+        }
+        // Fallback to read-attribute operation
+        return metric.getValue();
+    }
+
     @Override
     public void readLock() {
         lock.readLock().lock();
@@ -24,6 +24,7 @@ package org.wildfly.extension.metrics;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRY_RUNTIME_CAPABILITY;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.function.Consumer;
 
 import org.jboss.as.controller.OperationContext;
@@ -40,22 +41,24 @@ import org.wildfly.extension.metrics.jmx.JmxMetricCollector;
 public class WildFlyMetricRegistryService implements Service<WildFlyMetricRegistry> {
 
     private final Consumer<WildFlyMetricRegistry> consumer;
+    private final Duration snapshotMaxAge;
     private WildFlyMetricRegistry registry;
 
-    static void install(OperationContext context) {
+    static void install(OperationContext context, Duration snapshotMaxAge) {
         ServiceBuilder<?> serviceBuilder = context.getServiceTarget().addService(METRICS_REGISTRY_RUNTIME_CAPABILITY.getCapabilityServiceName());
 
         Consumer<WildFlyMetricRegistry> registry = serviceBuilder.provides(METRICS_REGISTRY_RUNTIME_CAPABILITY.getCapabilityServiceName());
-        serviceBuilder.setInstance(new WildFlyMetricRegistryService(registry)).install();
+        serviceBuilder.setInstance(new WildFlyMetricRegistryService(registry, snapshotMaxAge)).install();
     }
 
-    WildFlyMetricRegistryService(Consumer<WildFlyMetricRegistry> consumer) {
+    WildFlyMetricRegistryService(Consumer<WildFlyMetricRegistry> consumer, Duration snapshotMaxAge) {
         this.consumer = consumer;
+        this.snapshotMaxAge = snapshotMaxAge;
     }
 
     @Override
     public void start(StartContext context) {
-        registry = new WildFlyMetricRegistry();
+        registry = new WildFlyMetricRegistry(snapshotMaxAge);
 
         // register metrics from JMX MBeans for base metrics
         JmxMetricCollector jmxMetricCollector = new JmxMetricCollector(registry);
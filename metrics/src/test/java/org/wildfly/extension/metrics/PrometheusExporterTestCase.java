@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+
+package org.wildfly.extension.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.OptionalDouble;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PrometheusExporter}.
+ * @author agent
+ */
+public class PrometheusExporterTestCase {
+
+    @Test
+    public void export() {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        PathAddress address = PathAddress.pathAddress(PathElement.pathElement("subsystem", "undertow"), PathElement.pathElement("server", "default"));
+        registry.registerMetric(() -> OptionalDouble.of(2), new WildFlyMetricMetadata("request-count", address, "wildfly", "Requests", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER));
+        registry.registerMetric(() -> OptionalDouble.of(3000), new WildFlyMetricMetadata("processing-time", address, "wildfly", "Processing time", MeasurementUnit.MILLISECONDS, MetricMetadata.Type.COUNTER));
+        registry.registerMetric(() -> OptionalDouble.empty(), new WildFlyMetricMetadata("undefined", address, "wildfly", "Undefined", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE));
+
+        PrometheusExporter exporter = new PrometheusExporter();
+        String result = exporter.export(registry);
+        List<String> lines = List.of(result.split("\n"));
+        assertEquals(result, 6, lines.size());
+        assertTrue(result, lines.contains("# TYPE wildfly_undertow_request_count_total counter"));
+        assertTrue(result, lines.contains("wildfly_undertow_request_count_total{server=\"default\"} 2.0"));
+        // Counter values are converted to their base unit
+        assertTrue(result, lines.contains("wildfly_undertow_processing_time_total_seconds{server=\"default\"} 3.0"));
+        assertFalse(result, result.contains("undefined"));
+
+        // Cached renderings must not change the exposition
+        assertEquals(result, exporter.export(registry));
+    }
+
+    /**
+     * Exports a large registry repeatedly, as a coarse stand-in for a benchmark of the exposition format.
+     */
+    @Test
+    public void largeRegistry() throws IOException {
+        int series = 100_000;
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        for (int i = 0; i < series; ++i) {
+            PathAddress address = PathAddress.pathAddress(PathElement.pathElement("subsystem", "undertow"), PathElement.pathElement("deployment", "app" + (i % 100) + ".war"), PathElement.pathElement("servlet", "servlet" + i));
+            registry.registerMetric(() -> OptionalDouble.of(1), new WildFlyMetricMetadata("request-count", address, "wildfly", "Requests", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER));
+        }
+        PrometheusExporter exporter = new PrometheusExporter();
+        String expected = null;
+        for (int i = 0; i < 5; ++i) {
+            StringWriter writer = new StringWriter();
+            exporter.export(registry, writer);
+            String result = writer.toString();
+            if (expected == null) {
+                expected = result;
+                // One HELP and TYPE line, plus one line per series
+                assertEquals(series + 2, result.split("\n").length);
+            } else {
+                assertEquals(expected, result);
+            }
+        }
+    }
+}
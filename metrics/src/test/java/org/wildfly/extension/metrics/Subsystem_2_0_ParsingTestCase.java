@@ -0,0 +1,138 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.wildfly.extension.metrics.MetricsExtension.VERSION_1_0_0;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.transform.OperationTransformer;
+import org.jboss.as.model.test.FailedOperationTransformationConfig;
+import org.jboss.as.model.test.ModelTestControllerVersion;
+import org.jboss.as.model.test.ModelTestUtils;
+import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.as.subsystem.test.KernelServicesBuilder;
+import org.jboss.as.subsystem.test.LegacyKernelServicesInitializer;
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * @author agent
+ */
+public class Subsystem_2_0_ParsingTestCase extends AbstractSubsystemBaseTest {
+
+    public Subsystem_2_0_ParsingTestCase() {
+        super(MetricsExtension.SUBSYSTEM_NAME, new MetricsExtension());
+    }
+
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("subsystem_2_0.xml");
+    }
+
+    @Override
+    protected String getSubsystemXsdPath() throws IOException {
+        return "schema/wildfly-metrics_2_0.xsd";
+    }
+
+    @Test
+    public void testTransformers() throws Exception {
+        testTransformers(ModelTestControllerVersion.MASTER, VERSION_1_0_0);
+    }
+
+    @Test
+    public void testRejectingTransformers() throws Exception {
+        testRejectingTransformers(ModelTestControllerVersion.MASTER, VERSION_1_0_0);
+    }
+
+    @Test
+    public void testRejectingTransformersEAP_7_4_0() throws Exception {
+        testRejectingTransformers(ModelTestControllerVersion.EAP_7_4_0, VERSION_1_0_0);
+    }
+
+    private static String getMetricsGAV(ModelTestControllerVersion version) {
+        if (version.isEap()) {
+            return "org.jboss.eap:wildfly-metrics:" + version.getMavenGavVersion();
+        }
+        return "org.wildfly:wildfly-metrics:" + version.getMavenGavVersion();
+    }
+
+    private void testTransformers(ModelTestControllerVersion controllerVersion, ModelVersion metricsVersion) throws Exception {
+        KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization())
+                .setSubsystemXmlResource("subsystem_2_0_transform.xml");
+        builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), controllerVersion, metricsVersion)
+                .skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        assertTrue(mainServices.isSuccessfulBoot());
+        assertTrue(mainServices.getLegacyServices(metricsVersion).isSuccessfulBoot());
+
+        checkSubsystemModelTransformation(mainServices, metricsVersion);
+    }
+
+    private void testRejectingTransformers(ModelTestControllerVersion controllerVersion, ModelVersion metricsVersion) throws Exception {
+        KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization());
+        LegacyKernelServicesInitializer legacyBuilder = builder.createLegacyKernelServicesBuilder(createAdditionalInitialization(), controllerVersion, metricsVersion);
+        if (controllerVersion != ModelTestControllerVersion.MASTER) {
+            legacyBuilder.addMavenResourceURL(getMetricsGAV(controllerVersion));
+        }
+        legacyBuilder.skipReverseControllerCheck()
+                .dontPersistXml();
+
+        KernelServices mainServices = builder.build();
+        assertTrue(mainServices.isSuccessfulBoot());
+        assertTrue(mainServices.getLegacyServices(metricsVersion).isSuccessfulBoot());
+
+        List<ModelNode> ops = builder.parseXmlResource("subsystem_2_0_reject_transform.xml");
+        PathAddress subsystemAddress = PathAddress.pathAddress(MetricsExtension.SUBSYSTEM_PATH);
+        ModelNode result = new ModelNode();
+        result.get(OUTCOME).set(SUCCESS);
+
+        // A snapshot-max-age other than its default is rejected
+        assertTrue(mainServices.transformOperation(metricsVersion, ops.get(0)).rejectOperation(result));
+        ModelNode operation = Util.getWriteAttributeOperation(subsystemAddress, MetricsSubsystemDefinition.SNAPSHOT_MAX_AGE.getName(), new ModelNode(1000L));
+        assertTrue(mainServices.transformOperation(metricsVersion, operation).rejectOperation(result));
+
+        // The default snapshot-max-age is discarded
+        operation = Util.getWriteAttributeOperation(subsystemAddress, MetricsSubsystemDefinition.SNAPSHOT_MAX_AGE.getName(), ModelNode.ZERO_LONG);
+        OperationTransformer.TransformedOperation transformedOperation = mainServices.transformOperation(metricsVersion, operation);
+        assertFalse(transformedOperation.rejectOperation(result));
+        assertNull(transformedOperation.getTransformedOperation());
+
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig()
+                .addFailedAttribute(subsystemAddress, new FailedOperationTransformationConfig.NewAttributesConfig(MetricsSubsystemDefinition.SNAPSHOT_MAX_AGE));
+        ModelTestUtils.checkFailedTransformedBootOperations(mainServices, metricsVersion, ops, config);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link WildFlyMetricRegistry}.
+ * @author agent
+ */
+public class WildFlyMetricRegistryTestCase {
+
+    private static final PathAddress ADDRESS = PathAddress.pathAddress(PathElement.pathElement("subsystem", "undertow"));
+
+    @Test
+    public void supplier() {
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        AtomicInteger reads = new AtomicInteger();
+        WildFlyMetric metric = new WildFlyMetric(null, ADDRESS, "request-count") {
+            @Override
+            public OptionalDouble getValue() {
+                // Emulates the read-attribute fallback
+                reads.incrementAndGet();
+                return OptionalDouble.of(1);
+            }
+        };
+        registry.registerMetric(metric, new WildFlyMetricMetadata("request-count", ADDRESS, null, "Requests", MeasurementUnit.NONE, MetricMetadata.Type.COUNTER));
+        registry.registerMetric(() -> OptionalDouble.empty(), new WildFlyMetricMetadata("undefined", ADDRESS, null, "Undefined", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE));
+
+        assertEquals(List.of(1d), values(registry.getSnapshot()));
+        assertEquals(1, reads.get());
+
+        registry.registerMetricSupplier(ADDRESS, "request-count", () -> OptionalDouble.of(2));
+
+        assertEquals(List.of(2d), values(registry.getSnapshot()));
+        assertEquals(1, reads.get());
+
+        registry.unregisterMetricSupplier(ADDRESS, "request-count");
+
+        assertEquals(List.of(1d), values(registry.getSnapshot()));
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    public void snapshotMaxAge() {
+        AtomicInteger collections = new AtomicInteger();
+        Metric metric = () -> OptionalDouble.of(collections.incrementAndGet());
+        MetricMetadata metadata = new WildFlyMetricMetadata("active-sessions", ADDRESS, null, "Sessions", MeasurementUnit.NONE, MetricMetadata.Type.GAUGE);
+
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        registry.registerMetric(metric, metadata);
+        assertEquals(List.of(1d), values(registry.getSnapshot()));
+        assertEquals(List.of(2d), values(registry.getSnapshot()));
+
+        collections.set(0);
+        registry = new WildFlyMetricRegistry(Duration.ofHours(1));
+        registry.registerMetric(metric, metadata);
+        MetricSnapshot snapshot = registry.getSnapshot();
+        assertEquals(List.of(1d), values(snapshot));
+        assertSame(snapshot, registry.getSnapshot());
+        assertEquals(1, collections.get());
+
+        registry.close();
+        assertTrue(values(registry.getSnapshot()).isEmpty());
+    }
+
+    private static List<Double> values(MetricSnapshot snapshot) {
+        List<Double> values = new ArrayList<>();
+        for (MetricSnapshot.Entry entry : snapshot) {
+            values.add(entry.getValue());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.jboss.as.naming;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit/miss statistics of the lookup caches of all {@link ServiceBasedNamingStore} instances.
+ * @author agent
+ */
+public final class LookupCacheStatistics {
+
+    private static final LookupCacheStatistics INSTANCE = new LookupCacheStatistics();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private LookupCacheStatistics() {}
+
+    public static LookupCacheStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the number of lookups served from a lookup cache.
+     * @return a number of lookups
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that required resolution via the service registry.
+     * @return a number of lookups
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    void recordHit() {
+        this.hits.increment();
+    }
+
+    void recordMiss() {
+        this.misses.increment();
+    }
+}
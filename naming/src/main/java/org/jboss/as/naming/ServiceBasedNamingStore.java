@@ -28,8 +28,10 @@ import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 
 import javax.naming.Binding;
@@ -64,6 +66,8 @@ public class ServiceBasedNamingStore implements NamingStore {
     private final ServiceName serviceNameBase;
 
     private ConcurrentSkipListSet<ServiceName> boundServices = new ConcurrentSkipListSet<ServiceName>();
+    // Caches the values of bound services by name, replaced whenever a service is bound or unbound
+    private volatile Map<String, Object> lookupCache = new ConcurrentHashMap<String, Object>();
 
     public ServiceBasedNamingStore(final ServiceRegistry serviceRegistry, final ServiceName serviceNameBase) {
         this.serviceRegistry = serviceRegistry;
@@ -79,8 +83,24 @@ public class ServiceBasedNamingStore implements NamingStore {
         if (name.isEmpty()) {
             return new NamingContext(EMPTY_NAME, this, null);
         }
+        final String key = name.toString();
+        // Capture the cache before resolving, so that a value resolved prior to an unbind is never visible to subsequent lookups
+        final Map<String, Object> lookupCache = this.lookupCache;
+        final Object cached = lookupCache.get(key);
+        if (cached != null) {
+            LookupCacheStatistics.getInstance().recordHit();
+            return dereference(key, cached, dereference);
+        }
+        LookupCacheStatistics.getInstance().recordMiss();
         final ServiceName lookupName = buildServiceName(name);
-        Object obj = lookup(name.toString(), lookupName, dereference);
+        Object obj = lookup(key, lookupName, false);
+        if (obj != null) {
+            // Only cache explicit bindings, since only these are invalidated on unbind
+            if (boundServices.contains(lookupName)) {
+                lookupCache.put(key, obj);
+            }
+            obj = dereference(key, obj, dereference);
+        }
         if (obj == null) {
             final ServiceName lower = boundServices.lower(lookupName);
             if (lower != null && lower.isParentOf(lookupName)) {
@@ -126,27 +146,31 @@ public class ServiceBasedNamingStore implements NamingStore {
     private Object lookup(final String name, final ServiceName lookupName, boolean dereference) throws NamingException {
         try {
             final ServiceController<?> controller = serviceRegistry.getService(lookupName);
-            if (controller != null) {
-                final Object object = controller.getValue();
-                if (dereference && object instanceof ManagedReferenceFactory) {
-                    if(WildFlySecurityManager.isChecking()) {
-                        //WFLY-3487 JNDI lookups should be executed in a clean access control context
-                        return AccessController.doPrivileged(new PrivilegedAction<Object>() {
-                            @Override
-                            public Object run() {
-                                final ManagedReference managedReference = ManagedReferenceFactory.class.cast(object).getReference();
-                                return managedReference != null ? managedReference.getInstance() : null;
-                            }
-                        });
-                    } else {
+            return (controller != null) ? dereference(name, controller.getValue(), dereference) : null;
+        } catch (IllegalStateException e) {
+            NameNotFoundException n = new NameNotFoundException(name);
+            n.initCause(e);
+            throw n;
+        }
+    }
+
+    private static Object dereference(final String name, final Object object, boolean dereference) throws NamingException {
+        if (!dereference || !(object instanceof ManagedReferenceFactory)) {
+            return object;
+        }
+        try {
+            if(WildFlySecurityManager.isChecking()) {
+                //WFLY-3487 JNDI lookups should be executed in a clean access control context
+                return AccessController.doPrivileged(new PrivilegedAction<Object>() {
+                    @Override
+                    public Object run() {
                         final ManagedReference managedReference = ManagedReferenceFactory.class.cast(object).getReference();
                         return managedReference != null ? managedReference.getInstance() : null;
                     }
-                } else {
-                    return object;
-                }
+                });
             } else {
-                return null;
+                final ManagedReference managedReference = ManagedReferenceFactory.class.cast(object).getReference();
+                return managedReference != null ? managedReference.getInstance() : null;
             }
         } catch (IllegalStateException e) {
             NameNotFoundException n = new NameNotFoundException(name);
@@ -257,6 +281,7 @@ public class ServiceBasedNamingStore implements NamingStore {
 
     public void close() throws NamingException {
         boundServices.clear();
+        this.invalidateLookupCache();
     }
 
     public void addNamingListener(Name target, int scope, NamingListener listener) {
@@ -271,10 +296,17 @@ public class ServiceBasedNamingStore implements NamingStore {
             throw NamingLogger.ROOT_LOGGER.serviceAlreadyBound(serviceName);
         }
         boundServices.add(serviceName);
+        // A new binding cannot change the value of any cached binding, so cached values remain valid
     }
 
     public void remove(final ServiceName serviceName) {
         boundServices.remove(serviceName);
+        this.invalidateLookupCache();
+    }
+
+    private void invalidateLookupCache() {
+        // Replace, rather than clear, the cache, so that concurrent lookups cannot repopulate it with a stale value
+        this.lookupCache = new ConcurrentHashMap<String, Object>();
     }
 
     protected ServiceName buildServiceName(final Name name) {
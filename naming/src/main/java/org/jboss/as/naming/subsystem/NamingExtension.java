@@ -24,6 +24,8 @@ package org.jboss.as.naming.subsystem;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
 
+import java.util.EnumSet;
+
 import org.jboss.as.controller.Extension;
 import org.jboss.as.controller.ExtensionContext;
 import org.jboss.as.controller.ModelVersion;
@@ -92,6 +94,9 @@ public class NamingExtension implements Extension {
 
         if (context.isRuntimeOnlyRegistrationValid()) {
             registration.registerOperationHandler(NamingSubsystemRootResourceDefinition.JNDI_VIEW, JndiViewOperation.INSTANCE, false);
+            for (NamingSubsystemRootResourceDefinition.LookupCacheMetric metric : EnumSet.allOf(NamingSubsystemRootResourceDefinition.LookupCacheMetric.class)) {
+                registration.registerMetric(metric.getDefinition(), metric.getReadHandler());
+            }
         }
 
         subsystem.registerXMLElementWriter(NamingSubsystemXMLPersister.INSTANCE);
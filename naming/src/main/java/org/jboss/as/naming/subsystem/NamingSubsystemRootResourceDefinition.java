@@ -23,17 +23,25 @@
 package org.jboss.as.naming.subsystem;
 
 import java.util.EnumSet;
+import java.util.function.ToLongFunction;
 
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleOperationDefinition;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.naming.LookupCacheStatistics;
 import org.jboss.as.naming.NamingStore;
 import org.jboss.as.naming.management.JndiViewOperation;
 import org.jboss.as.naming.service.NamingService;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
 /**
@@ -65,6 +73,31 @@ public class NamingSubsystemRootResourceDefinition extends SimpleResourceDefinit
             .setReplyValueType(ModelType.STRING)
             .build();
 
+    enum LookupCacheMetric {
+        HITS(NamingSubsystemModel.LOOKUP_CACHE_HITS, LookupCacheStatistics::getHits),
+        MISSES(NamingSubsystemModel.LOOKUP_CACHE_MISSES, LookupCacheStatistics::getMisses),
+        ;
+        private final AttributeDefinition definition;
+        private final ToLongFunction<LookupCacheStatistics> function;
+
+        LookupCacheMetric(String name, ToLongFunction<LookupCacheStatistics> function) {
+            this.definition = new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .addFlag(AttributeAccess.Flag.COUNTER_METRIC)
+                    .build();
+            this.function = function;
+        }
+
+        AttributeDefinition getDefinition() {
+            return this.definition;
+        }
+
+        OperationStepHandler getReadHandler() {
+            return (OperationContext context, ModelNode operation) -> context.getResult().set(this.function.applyAsLong(LookupCacheStatistics.getInstance()));
+        }
+    }
+
     NamingSubsystemRootResourceDefinition() {
         super(PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, NamingExtension.SUBSYSTEM_NAME),
                 NamingExtension.getResourceDescriptionResolver(NamingExtension.SUBSYSTEM_NAME),
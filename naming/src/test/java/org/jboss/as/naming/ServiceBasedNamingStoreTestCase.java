@@ -97,6 +97,38 @@ public class ServiceBasedNamingStoreTestCase {
         assertEquals(value, obj);
     }
 
+    @Test
+    public void testLookupCache() throws Exception {
+        final ServiceName bindingName = ServiceName.JBOSS.append("foo", "cached");
+        final Object value = new Object();
+        bindObject(bindingName, value);
+
+        final LookupCacheStatistics statistics = LookupCacheStatistics.getInstance();
+        long hits = statistics.getHits();
+        long misses = statistics.getMisses();
+
+        assertEquals(value, store.lookup(new CompositeName("foo/cached")));
+        assertEquals(hits, statistics.getHits());
+        assertEquals(misses + 1, statistics.getMisses());
+
+        assertEquals(value, store.lookup(new CompositeName("foo/cached")));
+        assertEquals(hits + 1, statistics.getHits());
+        assertEquals(misses + 1, statistics.getMisses());
+
+        // Lookup without dereference should return the cached factory
+        assertTrue(store.lookup(new CompositeName("foo/cached"), false) instanceof ManagedReferenceFactory);
+        assertEquals(hits + 2, statistics.getHits());
+
+        // Unbind must invalidate the cache
+        store.remove(bindingName);
+        hits = statistics.getHits();
+        misses = statistics.getMisses();
+        store.lookup(new CompositeName("foo/cached"));
+        store.lookup(new CompositeName("foo/cached"));
+        assertEquals(hits, statistics.getHits());
+        assertEquals(misses + 2, statistics.getMisses());
+    }
+
     @Test
     public void testLookupParentContext() throws Exception {
         final ServiceName bindingName = ServiceName.JBOSS.append("foo", "bar");
@@ -57,6 +57,7 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.dmr.Property;
 import org.jboss.msc.service.ServiceController;
+import org.wildfly.clustering.web.container.DistributableSessionStatistics;
 import org.wildfly.extension.undertow.deployment.UndertowDeploymentService;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
 
@@ -363,6 +364,48 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
                             result.set((int) sms.getHighestSessionCount());
                         }
                         break;
+                    case REPLICATED_SESSION_ATTRIBUTES:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getReplicatedAttributeCount());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case SKIPPED_SESSION_ATTRIBUTE_REPLICATIONS:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getSkippedAttributeReplicationCount());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case NEAR_CACHE_HITS:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getNearCacheHitCount());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case NEAR_CACHE_MISSES:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getNearCacheMissCount());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case NEAR_CACHE_EVICTIONS:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getNearCacheEvictionCount());
+                        } else {
+                            result.set(0L);
+                        }
+                        break;
+                    case NEAR_CACHE_HIT_RATIO:
+                        if (sms instanceof DistributableSessionStatistics) {
+                            result.set(((DistributableSessionStatistics) sms).getNearCacheHitRatio());
+                        } else {
+                            result.set(0d);
+                        }
+                        break;
                     default:
                         throw new IllegalStateException(UndertowLogger.ROOT_LOGGER.unknownMetric(stat));
                 }
@@ -425,7 +468,36 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
         MAX_ACTIVE_SESSIONS(new SimpleAttributeDefinitionBuilder("max-active-sessions", ModelType.INT)
                 .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build()),
         HIGHEST_SESSION_COUNT(new SimpleAttributeDefinitionBuilder("highest-session-count", ModelType.INT)
-                .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build());
+                .setUndefinedMetricValue(ModelNode.ZERO).setStorageRuntime().build()),
+        REPLICATED_SESSION_ATTRIBUTES(new SimpleAttributeDefinitionBuilder("replicated-session-attributes", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        SKIPPED_SESSION_ATTRIBUTE_REPLICATIONS(new SimpleAttributeDefinitionBuilder("skipped-session-attribute-replications", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        NEAR_CACHE_HITS(new SimpleAttributeDefinitionBuilder("near-cache-hits", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        NEAR_CACHE_MISSES(new SimpleAttributeDefinitionBuilder("near-cache-misses", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        NEAR_CACHE_EVICTIONS(new SimpleAttributeDefinitionBuilder("near-cache-evictions", ModelType.LONG)
+                .setUndefinedMetricValue(ModelNode.ZERO)
+                .setFlags(COUNTER_METRIC)
+                .setStorageRuntime()
+                .build()),
+        NEAR_CACHE_HIT_RATIO(new SimpleAttributeDefinitionBuilder("near-cache-hit-ratio", ModelType.DOUBLE)
+                .setUndefinedMetricValue(new ModelNode(0d))
+                .setStorageRuntime()
+                .build());
 
         private static final Map<String, SessionStat> MAP = new HashMap<>();
 
@@ -0,0 +1,321 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.undertow;
+
+import io.undertow.servlet.UndertowServletLogger;
+import io.undertow.servlet.api.SessionPersistenceManager;
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.marshalling.ByteBufferInput;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.OutputStreamByteOutput;
+import org.jboss.marshalling.Unmarshaller;
+import org.jboss.modules.ModuleLoader;
+import org.wildfly.extension.undertow.logging.UndertowLogger;
+import org.xnio.IoUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Persistent session manager that streams sessions to an append-only, memory-mapped file of length-prefixed records.
+ * Unlike {@link DiskBasedModularPersistentSessionManager}, sessions are written one at a time, and the attributes of a restored session are not unmarshalled until first accessed.
+ *
+ * @author agent
+ */
+public class MappedFilePersistentSessionManager extends DiskBasedModularPersistentSessionManager {
+
+    private static final int MAGIC = 0x57465053;
+    private static final int VERSION = 1;
+    // The size of each mapped region of a session file being written
+    private static final int REGION_SIZE = 8 * 1024 * 1024;
+
+    MappedFilePersistentSessionManager(final Consumer<SessionPersistenceManager> serviceConsumer,
+                                       final Supplier<ModuleLoader> moduleLoader,
+                                       final Supplier<PathManager> pathManager,
+                                       final String path, final String pathRelativeTo) {
+        super(serviceConsumer, moduleLoader, pathManager, path, pathRelativeTo);
+    }
+
+    @Override
+    public void persistSessions(String deploymentName, Map<String, PersistentSession> sessionData) {
+        try {
+            final Path file = getBaseDir().toPath().resolve(deploymentName);
+            final Path tempFile = file.resolveSibling(deploymentName + ".tmp");
+            Marshaller marshaller = createMarshaller();
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final MappedOutput output = new MappedOutput(channel);
+                final RecordBuffer record = new RecordBuffer();
+                output.writeHeader();
+                for (Map.Entry<String, PersistentSession> sessionEntry : sessionData.entrySet()) {
+                    record.reset();
+                    record.writeString(sessionEntry.getKey());
+                    record.writeLong(sessionEntry.getValue().getExpiration().getTime());
+                    for (Map.Entry<String, Object> sessionAttribute : sessionEntry.getValue().getSessionData().entrySet()) {
+                        final int mark = record.size();
+                        try {
+                            record.writeString(sessionAttribute.getKey());
+                            final int start = record.size() + Integer.BYTES;
+                            // Reserve space for the length of the marshalled value
+                            record.writeInt(0);
+                            marshaller.start(new OutputStreamByteOutput(record));
+                            marshaller.writeObject(sessionAttribute.getValue());
+                            marshaller.finish();
+                            record.setInt(start - Integer.BYTES, record.size() - start);
+                        } catch (Exception e) {
+                            // Discard marshaller, since it may still hold a partially written value
+                            IoUtils.safeClose(marshaller);
+                            marshaller = createMarshaller();
+                            record.truncate(mark);
+                            UndertowLogger.ROOT_LOGGER.failedToPersistSessionAttribute(sessionAttribute.getKey(), sessionAttribute.getValue(), sessionEntry.getKey(), e);
+                        }
+                    }
+                    output.write(record);
+                }
+                output.close();
+            } finally {
+                marshaller.close();
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            UndertowServletLogger.ROOT_LOGGER.failedToPersistSessions(e);
+        }
+    }
+
+    @Override
+    public Map<String, PersistentSession> loadSessionAttributes(String deploymentName, final ClassLoader classLoader) {
+        try {
+            final Path file = getBaseDir().toPath().resolve(deploymentName);
+            if (!Files.exists(file)) {
+                return null;
+            }
+            final long time = System.currentTimeMillis();
+            final Map<String, PersistentSession> result = new HashMap<>();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final long size = channel.size();
+                // Mapped regions remain valid after the channel is closed
+                long offset = 0;
+                ByteBuffer region = map(channel, offset, size);
+                if ((region.remaining() < 2 * Integer.BYTES) || (region.getInt() != MAGIC) || (region.getInt() != VERSION)) {
+                    throw UndertowLogger.ROOT_LOGGER.invalidPersistentSessionFile(file);
+                }
+                while (true) {
+                    if (region.remaining() < Integer.BYTES) {
+                        offset += region.position();
+                        if (size - offset < Integer.BYTES) break;
+                        region = map(channel, offset, size);
+                    }
+                    final int length = region.getInt(region.position());
+                    // A zero length record marks the end of the file
+                    if (length == 0) break;
+                    if (region.remaining() < Integer.BYTES + length) {
+                        // Remap, starting from the current record
+                        offset += region.position();
+                        if (size - offset < Integer.BYTES + length) {
+                            throw UndertowLogger.ROOT_LOGGER.invalidPersistentSessionFile(file);
+                        }
+                        region = map(channel, offset, size);
+                    }
+                    region.position(region.position() + Integer.BYTES);
+                    final ByteBuffer record = slice(region, length);
+                    final String sessionId = readString(record);
+                    final long expiry = record.getLong();
+                    if (expiry > time) {
+                        result.put(sessionId, new PersistentSession(new Date(expiry), new LazySessionData(record.slice())));
+                    }
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            UndertowServletLogger.ROOT_LOGGER.failedtoLoadPersistentSessions(e);
+        }
+        return null;
+    }
+
+    private static ByteBuffer map(FileChannel channel, long offset, long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(size - offset, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Returns a slice of the specified length starting at the current position of the specified buffer, and advances its position past the slice.
+     */
+    private static ByteBuffer slice(ByteBuffer buffer, int length) {
+        final ByteBuffer slice = buffer.duplicate();
+        slice.limit(slice.position() + length);
+        buffer.position(buffer.position() + length);
+        return slice.slice();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Session attributes that are unmarshalled from their mapped record on first access.
+     */
+    private class LazySessionData extends AbstractMap<String, Object> {
+        private final ByteBuffer record;
+        private volatile Map<String, Object> data;
+
+        LazySessionData(ByteBuffer record) {
+            this.record = record;
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            Map<String, Object> data = this.data;
+            if (data == null) {
+                synchronized (this) {
+                    data = this.data;
+                    if (data == null) {
+                        data = this.load();
+                        this.data = data;
+                    }
+                }
+            }
+            return data.entrySet();
+        }
+
+        private Map<String, Object> load() {
+            final ByteBuffer buffer = this.record.duplicate();
+            final Map<String, Object> data = new HashMap<>();
+            try {
+                final Unmarshaller unmarshaller = createUnmarshaller();
+                try {
+                    while (buffer.hasRemaining()) {
+                        final String name = readString(buffer);
+                        final ByteBuffer value = slice(buffer, buffer.getInt());
+                        unmarshaller.start(new ByteBufferInput(value));
+                        data.put(name, unmarshaller.readObject());
+                        unmarshaller.finish();
+                    }
+                } finally {
+                    unmarshaller.close();
+                }
+            } catch (Exception e) {
+                UndertowServletLogger.ROOT_LOGGER.failedtoLoadPersistentSessions(e);
+            }
+            return Collections.unmodifiableMap(data);
+        }
+    }
+
+    /**
+     * Reusable buffer for a single session record.
+     */
+    private static class RecordBuffer extends ByteArrayOutputStream {
+
+        void writeInt(int value) {
+            this.write(value >>> 24);
+            this.write(value >>> 16);
+            this.write(value >>> 8);
+            this.write(value);
+        }
+
+        void writeLong(long value) {
+            this.writeInt((int) (value >>> 32));
+            this.writeInt((int) value);
+        }
+
+        void writeString(String value) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.writeInt(bytes.length);
+            this.write(bytes, 0, bytes.length);
+        }
+
+        void setInt(int index, int value) {
+            this.buf[index] = (byte) (value >>> 24);
+            this.buf[index + 1] = (byte) (value >>> 16);
+            this.buf[index + 2] = (byte) (value >>> 8);
+            this.buf[index + 3] = (byte) value;
+        }
+
+        void truncate(int size) {
+            this.count = size;
+        }
+
+        void writeTo(ByteBuffer buffer) {
+            buffer.put(this.buf, 0, this.count);
+        }
+    }
+
+    /**
+     * Appends length-prefixed records to a file via a sliding mapped region.
+     */
+    private static class MappedOutput {
+        private final FileChannel channel;
+        private long offset = 0;
+        private MappedByteBuffer region;
+
+        MappedOutput(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void writeHeader() throws IOException {
+            this.reserve(2 * Integer.BYTES);
+            this.region.putInt(MAGIC);
+            this.region.putInt(VERSION);
+        }
+
+        void write(RecordBuffer record) throws IOException {
+            this.reserve(Integer.BYTES + record.size());
+            this.region.putInt(record.size());
+            record.writeTo(this.region);
+        }
+
+        void close() throws IOException {
+            // Terminate with a zero length record, since the last region may extend beyond the last record
+            this.reserve(Integer.BYTES);
+            this.region.putInt(0);
+            this.region.force();
+            // Mapping a region extends the file to the end of that region, so discard the unused remainder of the last region
+            this.channel.truncate(this.offset + this.region.position());
+        }
+
+        private void reserve(int size) throws IOException {
+            if ((this.region == null) || (this.region.remaining() < size)) {
+                if (this.region != null) {
+                    this.region.force();
+                    this.offset += this.region.position();
+                }
+                this.region = this.channel.map(FileChannel.MapMode.READ_WRITE, this.offset, Math.max(size, REGION_SIZE));
+            }
+        }
+    }
+}
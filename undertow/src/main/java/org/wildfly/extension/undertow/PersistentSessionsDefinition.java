@@ -43,6 +43,7 @@ import org.jboss.dmr.ModelType;
 import org.jboss.modules.ModuleLoader;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceName;
+import org.wildfly.extension.undertow.logging.UndertowLogger;
 
 import java.util.Collection;
 import java.util.List;
@@ -70,7 +71,14 @@ class PersistentSessionsDefinition extends PersistentResourceDefinition {
                     .setAllowExpression(true)
                     .build();
 
-    static final Collection<AttributeDefinition> ATTRIBUTES = List.of(PATH, RELATIVE_TO);
+    protected static final SimpleAttributeDefinition MEMORY_MAPPED =
+            new SimpleAttributeDefinitionBuilder(Constants.MEMORY_MAPPED, ModelType.BOOLEAN, true)
+                    .setRestartAllServices()
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .build();
+
+    static final Collection<AttributeDefinition> ATTRIBUTES = List.of(PATH, RELATIVE_TO, MEMORY_MAPPED);
 
     PersistentSessionsDefinition() {
         super(new SimpleResourceDefinition.Parameters(PATH_ELEMENT, UndertowExtension.getResolver(PATH_ELEMENT.getKeyValuePair()))
@@ -116,6 +124,11 @@ class PersistentSessionsDefinition extends PersistentResourceDefinition {
         private void performRuntime(OperationContext context, ModelNode operation, ModelNode model) throws OperationFailedException {
             if (isEnabled(model)) {
                 final ModelNode pathValue = PATH.resolveModelAttribute(context, model);
+                final boolean memoryMapped = MEMORY_MAPPED.resolveModelAttribute(context, model).asBoolean();
+                // Sessions persisted in memory cannot be memory-mapped
+                if (memoryMapped && !pathValue.isDefined()) {
+                    throw UndertowLogger.ROOT_LOGGER.memoryMappedPersistentSessionsRequirePath();
+                }
                 final ServiceBuilder<?> sb = context.getServiceTarget().addService(AbstractPersistentSessionManager.SERVICE_NAME);
                 final Consumer<SessionPersistenceManager> sConsumer = sb.provides(AbstractPersistentSessionManager.SERVICE_NAME);
                 final Supplier<ModuleLoader> mlSupplier = sb.requires(Services.JBOSS_SERVICE_MODULE_LOADER);
@@ -124,7 +137,11 @@ class PersistentSessionsDefinition extends PersistentResourceDefinition {
                     final ModelNode relativeToValue = RELATIVE_TO.resolveModelAttribute(context, model);
                     final String relativeTo = relativeToValue.isDefined() ? relativeToValue.asString() : null;
                     final Supplier<PathManager> pmSupplier = sb.requires(PathManagerService.SERVICE_NAME);
-                    sb.setInstance(new DiskBasedModularPersistentSessionManager(sConsumer, mlSupplier, pmSupplier, path, relativeTo));
+                    if (memoryMapped) {
+                        sb.setInstance(new MappedFilePersistentSessionManager(sConsumer, mlSupplier, pmSupplier, path, relativeTo));
+                    } else {
+                        sb.setInstance(new DiskBasedModularPersistentSessionManager(sConsumer, mlSupplier, pmSupplier, path, relativeTo));
+                    }
                 } else {
                     sb.setInstance(new InMemoryModularPersistentSessionManager(sConsumer, mlSupplier));
                 }
@@ -73,6 +73,12 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
 
                 servletContainer.rejectChildResource(AffinityCookieDefinition.PATH_ELEMENT);
             }
+            if (UndertowModel.VERSION_14_0_0.requiresTransformation(version)) {
+                servletContainer.addChildResource(PersistentSessionsDefinition.PATH_ELEMENT).getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, PersistentSessionsDefinition.MEMORY_MAPPED)
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, PersistentSessionsDefinition.MEMORY_MAPPED)
+                    .end();
+            }
 
             TransformationDescription.Tools.register(subsystem.build(), registration, version);
         }
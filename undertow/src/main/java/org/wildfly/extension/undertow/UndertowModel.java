@@ -33,9 +33,10 @@ public enum UndertowModel implements Model {
 
     VERSION_11_0_0(11), // WildFly 23-26.x, EAP 7.4.x
     VERSION_12_0_0(12), // WildFly 27
-    VERSION_13_0_0(13), // WildFly 28-present
+    VERSION_13_0_0(13), // WildFly 28
+    VERSION_14_0_0(14), // WildFly 29-present
     ;
-    static final UndertowModel CURRENT = VERSION_13_0_0;
+    static final UndertowModel CURRENT = VERSION_14_0_0;
 
     private final ModelVersion version;
 
@@ -189,7 +189,11 @@ public enum UndertowPersistentResourceXMLDescriptionFactory implements Function<
         if (schema.since(UndertowSchema.VERSION_14_0)) {
             builder.addChild(builder(AffinityCookieDefinition.PATH_ELEMENT).addAttributes(AffinityCookieDefinition.ATTRIBUTES.stream()));
         }
-        builder.addChild(builder(PersistentSessionsDefinition.PATH_ELEMENT).addAttributes(PersistentSessionsDefinition.ATTRIBUTES.stream()));
+        Stream<AttributeDefinition> persistentSessionsAttributes = PersistentSessionsDefinition.ATTRIBUTES.stream();
+        if (!schema.since(UndertowSchema.VERSION_15_0)) {
+            persistentSessionsAttributes = persistentSessionsAttributes.filter(Predicate.isEqual(PersistentSessionsDefinition.MEMORY_MAPPED).negate());
+        }
+        builder.addChild(builder(PersistentSessionsDefinition.PATH_ELEMENT).addAttributes(persistentSessionsAttributes));
         builder.addChild(websocketsBuilder(schema));
         builder.addChild(builder(MimeMappingDefinition.PATH_ELEMENT).addAttributes(MimeMappingDefinition.ATTRIBUTES.stream()).setXmlWrapperElement("mime-mappings"));
         builder.addChild(builder(WelcomeFileDefinition.PATH_ELEMENT).setXmlWrapperElement("welcome-files"));
@@ -28,6 +28,7 @@ import static org.jboss.logging.Logger.Level.WARN;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StreamCorruptedException;
 import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
@@ -442,4 +443,10 @@ public interface UndertowLogger extends BasicLogger {
     @Message(id = 110, value = "The use of security realms at runtime is unsupported.")
     OperationFailedException runtimeSecurityRealmUnsupported();
 
+    @Message(id = 111, value = "Invalid persistent sessions file %s")
+    StreamCorruptedException invalidPersistentSessionFile(Path file);
+
+    @Message(id = 112, value = "Memory-mapped persistent sessions require a path")
+    OperationFailedException memoryMappedPersistentSessionsRequirePath();
+
 }
@@ -0,0 +1,166 @@
+/*
+ * JBoss, Home of Professional Open Source.
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * as indicated by the @author tags. See the copyright.txt file in the
+ * distribution for a full listing of individual contributors.
+ *
+ * This is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as
+ * published by the Free Software Foundation; either version 2.1 of
+ * the License, or (at your option) any later version.
+ *
+ * This software is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this software; if not, write to the Free
+ * Software Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA
+ * 02110-1301 USA, or see the FSF site: http://www.fsf.org.
+ */
+
+package org.wildfly.extension.undertow;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import io.undertow.servlet.api.SessionPersistenceManager.PersistentSession;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.services.path.PathManager;
+import org.jboss.modules.Module;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link MappedFilePersistentSessionManager}.
+ * @author agent
+ */
+public class MappedFilePersistentSessionManagerTestCase {
+
+    private static final String DEPLOYMENT = "test.war";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final PathManager pathManager = mock(PathManager.class);
+    private MappedFilePersistentSessionManager manager;
+
+    @Before
+    public void init() throws Exception {
+        when(this.pathManager.resolveRelativePathEntry("sessions", null)).thenReturn(this.folder.getRoot().getAbsolutePath());
+        this.manager = new MappedFilePersistentSessionManager(manager -> {}, Module::getBootModuleLoader, () -> this.pathManager, "sessions", null);
+        this.manager.start(null);
+    }
+
+    @After
+    public void destroy() {
+        this.manager.stop(null);
+    }
+
+    @Test
+    public void roundTrip() {
+        Date expiration = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        Map<String, PersistentSession> sessions = new HashMap<>();
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("string", "value");
+        attributes.put("integer", 42);
+        attributes.put("list", new ArrayList<>(List.of("a", "b")));
+        sessions.put("session1", new PersistentSession(expiration, attributes));
+        sessions.put("session2", new PersistentSession(expiration, Map.of()));
+        // Expired sessions are not restored
+        sessions.put("expired", new PersistentSession(new Date(System.currentTimeMillis() - 1), Map.of("string", "value")));
+
+        this.manager.persistSessions(DEPLOYMENT, sessions);
+
+        Map<String, PersistentSession> result = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+
+        assertNotNull(result);
+        assertEquals(2, result.size());
+        assertEquals(expiration, result.get("session1").getExpiration());
+        assertEquals(attributes, result.get("session1").getSessionData());
+        assertEquals(expiration, result.get("session2").getExpiration());
+        assertTrue(result.get("session2").getSessionData().isEmpty());
+    }
+
+    @Test
+    public void multipleRegions() throws IOException {
+        Date expiration = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        Map<String, PersistentSession> sessions = new HashMap<>();
+        // Sessions span several mapped regions, such that records straddle region boundaries
+        for (int i = 0; i < 10; ++i) {
+            byte[] value = new byte[3 * 1024 * 1024 + i];
+            value[i] = (byte) i;
+            sessions.put("session" + i, new PersistentSession(expiration, Map.of("value", value)));
+        }
+
+        this.manager.persistSessions(DEPLOYMENT, sessions);
+
+        Path file = this.folder.getRoot().toPath().resolve(DEPLOYMENT);
+        long size = Files.size(file);
+        // File must not retain the unused remainder of its last mapped region
+        assertTrue(size < 31L * 1024 * 1024 + 1024);
+
+        Map<String, PersistentSession> result = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+
+        assertNotNull(result);
+        assertEquals(sessions.keySet(), result.keySet());
+        for (int i = 0; i < 10; ++i) {
+            byte[] value = (byte[]) result.get("session" + i).getSessionData().get("value");
+            assertEquals(3 * 1024 * 1024 + i, value.length);
+            assertEquals((byte) i, value[i]);
+        }
+    }
+
+    @Test
+    public void truncatedFile() throws IOException {
+        Date expiration = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        this.manager.persistSessions(DEPLOYMENT, Map.of("session", new PersistentSession(expiration, Map.of("string", "value"))));
+
+        Path file = this.folder.getRoot().toPath().resolve(DEPLOYMENT);
+        // Cut the file in the middle of its only record
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 2 * Integer.BYTES);
+        }
+
+        assertNull(this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+
+        // Cut the file within its header
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Integer.BYTES);
+        }
+
+        assertNull(this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+    }
+
+    @Test
+    public void emptyStore() throws IOException {
+        // Nothing was persisted
+        assertNull(this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader()));
+
+        this.manager.persistSessions(DEPLOYMENT, Map.of());
+
+        // Header and terminating record only
+        assertEquals(3 * Integer.BYTES, Files.size(this.folder.getRoot().toPath().resolve(DEPLOYMENT)));
+
+        Map<String, PersistentSession> result = this.manager.loadSessionAttributes(DEPLOYMENT, this.getClass().getClassLoader());
+
+        assertNotNull(result);
+        assertTrue(result.isEmpty());
+    }
+}
@@ -145,12 +145,16 @@ public class UndertowSubsystemTransformerTestCase extends AbstractSubsystemTest
         PathAddress subsystemAddress = PathAddress.pathAddress(UndertowRootDefinition.PATH_ELEMENT);
         PathAddress servletContainerAddress = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "rejected-container"));
         PathAddress affinityCookiePath = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "affinity-cookie-container")).append(AffinityCookieDefinition.PATH_ELEMENT);
+        PathAddress persistentSessionsPath = subsystemAddress.append(PathElement.pathElement(ServletContainerDefinition.PATH_ELEMENT.getKey(), "memory-mapped-container")).append(PersistentSessionsDefinition.PATH_ELEMENT);
 
         if (UndertowModel.VERSION_13_0_0.requiresTransformation(this.modelVersion)) {
             config.addFailedAttribute(servletContainerAddress, new FailedOperationTransformationConfig.NewAttributesConfig(ServletContainerDefinition.ORPHAN_SESSION_ALLOWED));
 
             config.addFailedAttribute(affinityCookiePath, FailedOperationTransformationConfig.REJECTED_RESOURCE);
         }
+        if (UndertowModel.VERSION_14_0_0.requiresTransformation(this.modelVersion)) {
+            config.addFailedAttribute(persistentSessionsPath, new FailedOperationTransformationConfig.NewAttributesConfig(PersistentSessionsDefinition.MEMORY_MAPPED));
+        }
 
         List<ModelNode> operations = builder.parseXmlResource("undertow-transform-reject.xml");
         ModelTestUtils.checkFailedTransformedBootOperations(services, this.modelVersion, operations, config);